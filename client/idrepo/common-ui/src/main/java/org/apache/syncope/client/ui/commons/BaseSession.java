@@ -25,6 +25,7 @@ import java.util.Locale;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import org.apache.syncope.client.lib.SyncopeAnonymousClient;
+import org.apache.syncope.client.ui.commons.rest.ConditionalGetCache;
 import org.apache.syncope.common.lib.info.PlatformInfo;
 import org.apache.syncope.common.lib.types.Mfa;
 import org.apache.wicket.Session;
@@ -77,6 +78,8 @@ public interface BaseSession {
 
     <T> void resetClient(Class<T> serviceClass);
 
+    ConditionalGetCache getConditionalGetCache();
+
     DateOps.Format getDateFormat();
 
     /**
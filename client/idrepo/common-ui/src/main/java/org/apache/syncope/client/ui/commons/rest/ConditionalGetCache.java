@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.client.ui.commons.rest;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.cxf.jaxrs.client.Client;
+import org.apache.cxf.jaxrs.client.WebClient;
+
+/**
+ * Keeps the outcome of {@code GET} invocations alongside the {@code ETag} returned by Core: cached outcomes are
+ * revalidated via {@code If-None-Match}, hence Core only sends content when it has actually changed.
+ * A copy of the cached outcome is returned each time, so that callers are free to modify it.
+ * At most {@code maxEntries} outcomes are kept, the least recently used being discarded first.
+ */
+public class ConditionalGetCache implements Serializable {
+
+    private static final long serialVersionUID = -1512766284329713014L;
+
+    protected record Entry(String etag, boolean weak, Serializable value) implements Serializable {
+
+        EntityTag entityTag() {
+            return new EntityTag(etag, weak);
+        }
+    }
+
+    protected static class LRU extends LinkedHashMap<List<?>, Entry> {
+
+        private static final long serialVersionUID = 5281937486034520173L;
+
+        protected final int maxEntries;
+
+        public LRU(final int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<List<?>, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    @SuppressWarnings("unchecked")
+    protected static <T> T copy(final Serializable value) {
+        return (T) SerializationUtils.clone(value);
+    }
+
+    protected final Map<List<?>, Entry> entries;
+
+    public ConditionalGetCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ConditionalGetCache(final int maxEntries) {
+        this.entries = Collections.synchronizedMap(new LRU(maxEntries));
+    }
+
+    /**
+     * Invokes the given call on the given service, unless the outcome cached for the given key is still valid.
+     *
+     * @param <S> service type
+     * @param <T> outcome type
+     * @param service service instance
+     * @param key cache key, identifying the call and its arguments
+     * @param call call to invoke
+     * @return outcome of the call
+     */
+    public <S, T> T get(final S service, final List<?> key, final Function<S, T> call) {
+        Entry cached = entries.get(key);
+
+        Client client = WebClient.client(service);
+        if (cached != null) {
+            client.match(cached.entityTag(), true);
+        }
+        try {
+            T value = call.apply(service);
+
+            EntityTag etag = WebClient.client(service).getResponse().getEntityTag();
+            if (etag == null || !(value instanceof Serializable serializable)) {
+                entries.remove(key);
+                return value;
+            }
+
+            entries.put(key, new Entry(etag.getValue(), etag.isWeak(), serializable));
+            return copy(serializable);
+        } catch (WebApplicationException e) {
+            if (cached != null && e.getResponse() != null
+                    && e.getResponse().getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+
+                return copy(cached.value());
+            }
+            throw e;
+        } finally {
+            client.replaceHeader(HttpHeaders.IF_NONE_MATCH, null);
+        }
+    }
+
+    /**
+     * Removes all cached outcomes.
+     */
+    public void clear() {
+        entries.clear();
+    }
+}
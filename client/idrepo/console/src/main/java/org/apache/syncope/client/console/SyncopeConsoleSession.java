@@ -53,6 +53,7 @@ import org.apache.syncope.client.lib.batch.BatchRequest;
 import org.apache.syncope.client.ui.commons.BaseSession;
 import org.apache.syncope.client.ui.commons.Constants;
 import org.apache.syncope.client.ui.commons.DateOps;
+import org.apache.syncope.client.ui.commons.rest.ConditionalGetCache;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.info.PlatformInfo;
@@ -109,6 +110,8 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession implements Ba
 
     protected final Map<Class<?>, Object> services = Collections.synchronizedMap(new HashMap<>());
 
+    protected final ConditionalGetCache conditionalGetCache = new ConditionalGetCache();
+
     protected final SimpleAsyncTaskScheduler executor = new SimpleAsyncTaskScheduler();
 
     protected String domain;
@@ -334,6 +337,7 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession implements Ba
         self = null;
         delegatedBy = null;
         services.clear();
+        conditionalGetCache.clear();
     }
 
     @Override
@@ -495,6 +499,11 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession implements Ba
         WebClient.client(service).reset();
     }
 
+    @Override
+    public ConditionalGetCache getConditionalGetCache() {
+        return conditionalGetCache;
+    }
+
     @Override
     public DateOps.Format getDateFormat() {
         return new DateOps.Format(FastDateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, getLocale()));
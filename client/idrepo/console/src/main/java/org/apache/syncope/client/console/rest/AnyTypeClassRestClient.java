@@ -42,14 +42,14 @@ public class AnyTypeClassRestClient extends BaseRestClient {
     }
 
     public AnyTypeClassTO read(final String key) {
-        return getService(AnyTypeClassService.class).read(key);
+        return getCached(AnyTypeClassService.class, s -> s.read(key), "read", key);
     }
 
     public List<AnyTypeClassTO> list() {
         List<AnyTypeClassTO> types = List.of();
 
         try {
-            types = getService(AnyTypeClassService.class).list();
+            types = getCached(AnyTypeClassService.class, AnyTypeClassService::list, "list");
         } catch (SyncopeClientException e) {
             LOG.error("While reading all any type classes", e);
         }
@@ -21,7 +21,11 @@ package org.apache.syncope.client.console.rest;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.syncope.client.console.SyncopeConsoleSession;
 import org.apache.syncope.client.lib.SyncopeClient;
@@ -75,6 +79,23 @@ public abstract class BaseRestClient implements RestClient {
         SyncopeConsoleSession.get().resetClient(serviceClass);
     }
 
+    /**
+     * Invokes the given {@code GET} call, unless the outcome previously returned for the same key is still valid.
+     *
+     * @param <S> service type
+     * @param <T> outcome type
+     * @param serviceClass service class
+     * @param call call to invoke
+     * @param key call identifier and arguments
+     * @return outcome of the call
+     */
+    protected <S, T> T getCached(final Class<S> serviceClass, final Function<S, T> call, final Object... key) {
+        List<Object> cacheKey = new ArrayList<>();
+        cacheKey.add(serviceClass.getName());
+        cacheKey.addAll(Arrays.asList(key));
+        return SyncopeConsoleSession.get().getConditionalGetCache().get(getService(serviceClass), cacheKey, call);
+    }
+
     protected <E extends JAXRSService, T> T getObject(
             final E service, final URI location, final Class<T> resultClass) {
 
@@ -34,7 +34,7 @@ public class RealmRestClient extends BaseRestClient {
     private static final long serialVersionUID = -8549081557283519638L;
 
     public PagedResult<RealmTO> search(final RealmQuery query) {
-        return getService(RealmService.class).search(query);
+        return getCached(RealmService.class, s -> s.search(query), "search", query);
     }
 
     public ProvisioningResult<RealmTO> create(final String parentPath, final RealmTO realmTO) {
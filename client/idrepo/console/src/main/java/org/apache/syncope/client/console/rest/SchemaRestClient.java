@@ -45,11 +45,11 @@ public class SchemaRestClient extends BaseRestClient {
 
         switch (kind) {
             case USER, GROUP ->
-                Optional.ofNullable(getService(AnyTypeService.class).read(kind.name())).
+                Optional.ofNullable(getCached(AnyTypeService.class, s -> s.read(kind.name()), "read", kind.name())).
                         ifPresent(anyType -> classes.addAll(anyType.getClasses()));
 
             default ->
-                getService(AnyTypeService.class).list().stream().
+                getCached(AnyTypeService.class, AnyTypeService::list, "list").stream().
                         filter(anyType -> anyType.getKind() == AnyTypeKind.ANY_OBJECT).
                         forEach(anyType -> classes.addAll(anyType.getClasses()));
         }
@@ -68,9 +68,11 @@ public class SchemaRestClient extends BaseRestClient {
             builder.anyTypeClasses(anyTypeClasses);
         }
 
+        SchemaQuery query = builder.build();
+
         List<T> schemas = new ArrayList<>();
         try {
-            schemas.addAll(getService(SchemaService.class).search(builder.build()));
+            schemas.addAll(getCached(SchemaService.class, s -> s.<T>search(query), "search", query));
         } catch (SyncopeClientException e) {
             LOG.error("While getting all {} schemas for {}", schemaType, anyTypeClasses, e);
         }
@@ -91,7 +93,7 @@ public class SchemaRestClient extends BaseRestClient {
     }
 
     public <T extends SchemaTO> T read(final SchemaType schemaType, final String key) {
-        return getService(SchemaService.class).read(schemaType, key);
+        return getCached(SchemaService.class, s -> s.<T>read(schemaType, key), "read", schemaType, key);
     }
 
     public void create(final SchemaType schemaType, final SchemaTO modelObject) {
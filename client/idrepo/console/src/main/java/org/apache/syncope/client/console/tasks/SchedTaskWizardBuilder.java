@@ -293,6 +293,13 @@ public class SchedTaskWizardBuilder<T extends SchedTaskTO> extends BaseAjaxWizar
                 }
             });
 
+            pullTaskSpecifics.add(new AjaxNumberFieldPanel.Builder<Integer>().
+                    min(1).build(
+                    "commitBatchSize",
+                    "commitBatchSize",
+                    Integer.class,
+                    new PropertyModel<>(taskTO, "commitBatchSize")));
+
             pullTaskSpecifics.add(destinationRealm("pullDestinationRealm", taskTO, settings));
 
             pullTaskSpecifics.add(remediation("pullRemediation", taskTO));
@@ -48,6 +48,7 @@ import org.apache.syncope.client.lib.SyncopeClientFactoryBean;
 import org.apache.syncope.client.ui.commons.BaseSession;
 import org.apache.syncope.client.ui.commons.Constants;
 import org.apache.syncope.client.ui.commons.DateOps;
+import org.apache.syncope.client.ui.commons.rest.ConditionalGetCache;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.UserTO;
@@ -101,6 +102,8 @@ public class SyncopeEnduserSession extends AuthenticatedWebSession implements Ba
 
     protected final Map<Class<?>, Object> services = Collections.synchronizedMap(new HashMap<>());
 
+    protected final ConditionalGetCache conditionalGetCache = new ConditionalGetCache();
+
     protected String domain;
 
     protected SyncopeClient client;
@@ -301,6 +304,7 @@ public class SyncopeEnduserSession extends AuthenticatedWebSession implements Ba
         jwtExpiration = null;
         self = null;
         services.clear();
+        conditionalGetCache.clear();
     }
 
     @Override
@@ -378,6 +382,11 @@ public class SyncopeEnduserSession extends AuthenticatedWebSession implements Ba
         WebClient.client(service).reset();
     }
 
+    @Override
+    public ConditionalGetCache getConditionalGetCache() {
+        return conditionalGetCache;
+    }
+
     @Override
     public DateOps.Format getDateFormat() {
         return new DateOps.Format(FastDateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, getLocale()));
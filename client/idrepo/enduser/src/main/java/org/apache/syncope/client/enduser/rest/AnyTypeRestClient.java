@@ -91,7 +91,7 @@ public class AnyTypeRestClient extends BaseRestClient {
         AnyTypeTO type = null;
 
         try {
-            type = getService(AnyTypeService.class).read(key);
+            type = getCached(AnyTypeService.class, s -> s.read(key), "read", key);
         } catch (SyncopeClientException e) {
             LOG.error("While reading all any types", e);
         }
@@ -103,7 +103,7 @@ public class AnyTypeRestClient extends BaseRestClient {
         List<AnyTypeTO> types = List.of();
 
         try {
-            types = getService(AnyTypeService.class).list();
+            types = getCached(AnyTypeService.class, AnyTypeService::list, "list");
             types.sort(COMPARATOR);
         } catch (SyncopeClientException e) {
             LOG.error("While reading all any types", e);
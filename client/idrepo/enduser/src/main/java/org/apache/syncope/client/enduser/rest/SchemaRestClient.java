@@ -40,21 +40,19 @@ public class SchemaRestClient extends BaseRestClient {
     private static final long serialVersionUID = -2479730152700312373L;
 
     public <T extends SchemaTO> List<T> getSchemas(final SchemaType schemaType, final AnyTypeKind kind) {
-        final AnyTypeService client = getService(AnyTypeService.class);
-
         final List<String> classes = new ArrayList<>();
 
         switch (kind) {
             case USER:
             case GROUP:
-                final AnyTypeTO type = client.read(kind.name());
+                final AnyTypeTO type = getCached(AnyTypeService.class, s -> s.read(kind.name()), "read", kind.name());
                 if (type != null) {
                     classes.addAll(type.getClasses());
                 }
                 break;
 
             default:
-                getService(AnyTypeService.class).list().stream().filter(
+                getCached(AnyTypeService.class, AnyTypeService::list, "list").stream().filter(
                         anyTypeTO -> (anyTypeTO.getKind() != AnyTypeKind.USER
                         && anyTypeTO.getKind() != AnyTypeKind.GROUP)).
                         forEach((anyTypeTO) -> classes.addAll(anyTypeTO.getClasses()));
@@ -73,9 +71,11 @@ public class SchemaRestClient extends BaseRestClient {
             builder.anyTypeClasses(anyTypeClasses);
         }
 
+        SchemaQuery query = builder.build();
+
         List<T> schemas = new ArrayList<>();
         try {
-            schemas.addAll(getService(SchemaService.class).search(builder.build()));
+            schemas.addAll(getCached(SchemaService.class, s -> s.<T>search(query), "search", query));
         } catch (SyncopeClientException e) {
             LOG.error("While getting all {} schemas for {}", schemaType, anyTypeClasses, e);
         }
@@ -104,7 +104,7 @@ public class SchemaRestClient extends BaseRestClient {
     }
 
     public <T extends SchemaTO> T read(final SchemaType schemaType, final String key) {
-        return getService(SchemaService.class).read(schemaType, key);
+        return getCached(SchemaService.class, s -> s.<T>read(schemaType, key), "read", schemaType, key);
     }
 
     public List<String> getDropdownValues(final String key, final AnyTO anyTO) {
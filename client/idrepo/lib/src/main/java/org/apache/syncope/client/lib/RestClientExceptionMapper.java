@@ -22,6 +22,7 @@ import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotAuthorizedException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.RedirectionException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
@@ -47,6 +48,12 @@ public class RestClientExceptionMapper implements ResponseExceptionMapper<Except
     @Override
     public Exception fromResponse(final Response response) {
         int statusCode = response.getStatus();
+        if (statusCode == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            // not an actual error, but the outcome of a conditional request
+            LOG.debug("Not modified");
+            return new RedirectionException(Response.Status.NOT_MODIFIED, null);
+        }
+
         String message = response.getHeaderString(RESTHeaders.ERROR_INFO);
 
         Exception ex;
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.wa;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.common.lib.BaseBean;
+
+/**
+ * Delta between the client applications known by a WA instance - as described by their digests - and the ones
+ * currently defined on Core.
+ */
+public class WAClientAppSync implements BaseBean {
+
+    private static final long serialVersionUID = -2218466390185311934L;
+
+    private String version;
+
+    private boolean unchanged;
+
+    private final List<WAClientApp> changed = new ArrayList<>();
+
+    private final List<String> removed = new ArrayList<>();
+
+    private final Map<String, String> digests = new HashMap<>();
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+
+    /**
+     * Whether the version provided by the caller is still current, in which case nothing else is reported.
+     *
+     * @return whether the version provided by the caller is still current
+     */
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(final boolean unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public List<WAClientApp> getChanged() {
+        return changed;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public Map<String, String> getDigests() {
+        return digests;
+    }
+}
@@ -22,15 +22,19 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import java.util.List;
+import java.util.Map;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 
 /**
@@ -75,4 +79,20 @@ public interface WAClientAppService extends JAXRSService {
     @Path("byName/{name}")
     @Produces({ MediaType.APPLICATION_JSON })
     WAClientApp read(@NotNull @PathParam("name") String name, @QueryParam("type") ClientAppType type);
+
+    /**
+     * Returns the delta between the client applications known by the caller and the ones currently available:
+     * only client applications whose digest differs from the one provided are returned in full, alongside the keys
+     * of client applications no longer available.
+     * If the provided version is still current, the delta is reported as unchanged without further details.
+     *
+     * @param version version last received by the caller, if any
+     * @param digests digests of the client applications known by the caller, indexed by key
+     * @return delta between the client applications known by the caller and the ones currently available
+     */
+    @POST
+    @Path("sync")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ MediaType.APPLICATION_JSON })
+    WAClientAppSync sync(@QueryParam("version") String version, @NotNull Map<String, String> digests);
 }
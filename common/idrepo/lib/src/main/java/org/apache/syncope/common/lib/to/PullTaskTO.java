@@ -36,6 +36,8 @@ public class PullTaskTO extends InboundTaskTO implements TemplatableTO {
 
     private String reconFilterBuilder;
 
+    private Integer commitBatchSize;
+
     @JsonProperty("_class")
     @Schema(name = "_class", requiredMode = Schema.RequiredMode.REQUIRED,
             example = "org.apache.syncope.common.lib.to.PullTaskTO")
@@ -62,6 +64,23 @@ public class PullTaskTO extends InboundTaskTO implements TemplatableTO {
         this.reconFilterBuilder = reconFilterBuilder;
     }
 
+    /**
+     * Number of deltas to handle within a single transaction when not running concurrently; {@code null} or
+     * values lower than 2 mean one transaction per delta. When a batch cannot be committed, its deltas are
+     * handled again one by one, so that failures are reported per delta as usual.
+     * Propagation to other resources is not transactional: whatever was propagated while handling a batch which is
+     * then rolled back is propagated again when its deltas are handled one by one, hence at least once.
+     *
+     * @return number of deltas to commit together
+     */
+    public Integer getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    public void setCommitBatchSize(final Integer commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
     @Override
     public Map<String, AnyTO> getTemplates() {
         return templates;
@@ -73,6 +92,7 @@ public class PullTaskTO extends InboundTaskTO implements TemplatableTO {
                 appendSuper(super.hashCode()).
                 append(pullMode).
                 append(reconFilterBuilder).
+                append(commitBatchSize).
                 append(templates).
                 build();
     }
@@ -93,6 +113,7 @@ public class PullTaskTO extends InboundTaskTO implements TemplatableTO {
                 appendSuper(super.equals(obj)).
                 append(pullMode, other.pullMode).
                 append(reconFilterBuilder, other.reconFilterBuilder).
+                append(commitBatchSize, other.commitBatchSize).
                 append(templates, other.templates).
                 build();
     }
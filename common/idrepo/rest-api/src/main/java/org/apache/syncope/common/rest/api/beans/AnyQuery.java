@@ -20,9 +20,12 @@ package org.apache.syncope.common.rest.api.beans;
 
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -60,6 +63,16 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder fields(final String... fields) {
+            getInstance().getFields().addAll(List.of(fields));
+            return this;
+        }
+
+        public Builder attrs(final String... attrs) {
+            getInstance().getAttrs().addAll(List.of(attrs));
+            return this;
+        }
     }
 
     private String realm;
@@ -70,6 +83,10 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private List<String> fields = new ArrayList<>();
+
+    private List<String> attrs = new ArrayList<>();
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -126,6 +143,32 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_FIELDS, description = "fields to include in search results; when either "
+            + "fields or attrs are provided, only the key and the requested fields and plain attributes are returned; "
+            + "may be repeated", array =
+            @ArraySchema(schema = @Schema(implementation = String.class)))
+    public List<String> getFields() {
+        return fields;
+    }
+
+    @QueryParam(JAXRSService.PARAM_FIELDS)
+    public void setFields(final List<String> fields) {
+        this.fields = fields;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_ATTRS, description = "plain attributes to include in search results; when "
+            + "either fields or attrs are provided, only the key and the requested fields and plain attributes are "
+            + "returned; may be repeated", array =
+            @ArraySchema(schema = @Schema(implementation = String.class)))
+    public List<String> getAttrs() {
+        return attrs;
+    }
+
+    @QueryParam(JAXRSService.PARAM_ATTRS)
+    public void setAttrs(final List<String> attrs) {
+        this.attrs = attrs;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -143,6 +186,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(fields, other.fields).
+                append(attrs, other.attrs).
                 build();
     }
 
@@ -153,6 +198,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(fields).
+                append(attrs).
                 build();
     }
 }
@@ -132,4 +132,15 @@ public interface AuditService extends JAXRSService {
     @Path("auditEvents")
     @Consumes({ MediaType.APPLICATION_JSON })
     void create(@NotNull AuditEventTO auditEvent);
+
+    /**
+     * Persist the given audit events; the instant provided with WA events is retained, as long as not later than
+     * reception, while other events are stamped with the reception time.
+     *
+     * @param auditEvents audit events to persist.
+     */
+    @POST
+    @Path("auditEvents/bulk")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    void create(@NotNull List<AuditEventTO> auditEvents);
 }
@@ -18,22 +18,52 @@
  */
 package org.apache.syncope.core.logic.wa;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.core.persistence.api.dao.CASSPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.OIDCRPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.SAML2SPClientAppDAO;
 import org.apache.syncope.core.provisioning.api.data.wa.WAClientAppDataBinder;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
 public class WAClientAppLogic {
 
+    /**
+     * How long the version last computed for each domain is trusted to answer sync requests as unchanged, without
+     * computing the digests of all client applications again.
+     */
+    protected static final long VERSION_TTL = TimeUnit.SECONDS.toMillis(10);
+
+    protected record ComputedVersion(String version, long computedAt) {
+    }
+
+    protected static String digest(final String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     protected final WAClientAppDataBinder binder;
 
     protected final CASSPClientAppDAO casSPClientAppDAO;
@@ -42,6 +72,8 @@ public class WAClientAppLogic {
 
     protected final SAML2SPClientAppDAO saml2SPClientAppDAO;
 
+    protected final Map<String, ComputedVersion> versions = new ConcurrentHashMap<>();
+
     public WAClientAppLogic(
             final WAClientAppDataBinder binder,
             final CASSPClientAppDAO casSPClientAppDAO,
@@ -161,4 +193,38 @@ public class WAClientAppLogic {
         }
         return clientApp;
     }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
+    @Transactional(readOnly = true)
+    public WAClientAppSync sync(final String version, final Map<String, String> digests) {
+        WAClientAppSync sync = new WAClientAppSync();
+
+        ComputedVersion computed = versions.get(AuthContextUtils.getDomain());
+        if (version != null && computed != null && version.equals(computed.version())
+                && System.currentTimeMillis() - computed.computedAt() < VERSION_TTL) {
+
+            sync.setVersion(version);
+            sync.setUnchanged(true);
+            return sync;
+        }
+
+        Map<String, String> current = new TreeMap<>();
+        list().forEach(clientApp -> {
+            String key = clientApp.getClientAppTO().getKey();
+            String digest = digest(POJOHelper.serialize(clientApp));
+            current.put(key, digest);
+
+            if (!Objects.equals(digest, digests.get(key))) {
+                sync.getChanged().add(clientApp);
+            }
+        });
+
+        digests.keySet().stream().filter(key -> !current.containsKey(key)).forEach(sync.getRemoved()::add);
+
+        sync.getDigests().putAll(current);
+        sync.setVersion(digest(current.toString()));
+
+        versions.put(AuthContextUtils.getDomain(), new ComputedVersion(sync.getVersion(), System.currentTimeMillis()));
+        return sync;
+    }
 }
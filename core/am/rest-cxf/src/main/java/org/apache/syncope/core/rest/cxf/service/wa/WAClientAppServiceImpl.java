@@ -19,8 +19,10 @@
 package org.apache.syncope.core.rest.cxf.service.wa;
 
 import java.util.List;
+import java.util.Map;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.core.logic.wa.WAClientAppLogic;
 import org.apache.syncope.core.rest.cxf.service.AbstractService;
@@ -47,4 +49,9 @@ public class WAClientAppServiceImpl extends AbstractService implements WAClientA
     public WAClientApp read(final String name, final ClientAppType type) {
         return logic.read(name, type);
     }
+
+    @Override
+    public WAClientAppSync sync(final String version, final Map<String, String> digests) {
+        return logic.sync(version, digests);
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.benchmarks;
+
+import java.util.List;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Exposes the query building and result assembly steps of the JPA any search DAOs, so that they can be measured
+ * without any database.
+ */
+public interface BenchmarkAnySearchDAO {
+
+    /**
+     * Builds the native search query for the given condition, under the root realm.
+     *
+     * @param cond search condition
+     * @param orderBy ordering clauses
+     * @param kind any type kind
+     * @return native search query
+     */
+    String searchQuery(SearchCond cond, List<Sort.Order> orderBy, AnyTypeKind kind);
+
+    /**
+     * Assembles search result from the raw native query result.
+     *
+     * @param <T> any
+     * @param raw raw native query result
+     * @param kind any type kind
+     * @return search result
+     */
+    <T extends Any> List<T> result(List<Object> raw, AnyTypeKind kind);
+}
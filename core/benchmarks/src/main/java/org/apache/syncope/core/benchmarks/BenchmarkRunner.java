@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs the benchmarks and compares their scores with the recorded baseline, failing when any of them got slower
+ * than the configured threshold, or has no baseline score; alternatively, records the current scores as new baseline.
+ * Scores depend on the hardware, so the baseline has to be recorded on the machine where comparisons are run.
+ *
+ * Configured via system properties: {@code benchmarks.include} (regular expression selecting benchmarks),
+ * {@code benchmarks.result}, {@code benchmarks.baseline}, {@code benchmarks.threshold} (relative slowdown to
+ * report, e.g. {@code 0.1} for 10%) and {@code benchmarks.updateBaseline}.
+ */
+public final class BenchmarkRunner {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Reads JMH JSON results, as average time scores by benchmark and parameters.
+     *
+     * @param path JMH JSON results file
+     * @return scores by benchmark and parameters
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, Double> scores(final Path path) throws IOException {
+        Map<String, Double> scores = new TreeMap<>();
+        if (!Files.exists(path)) {
+            return scores;
+        }
+
+        for (JsonNode result : MAPPER.readTree(path.toFile())) {
+            String params = result.has("params")
+                    ? result.get("params").properties().stream().
+                            map(param -> param.getKey() + '=' + param.getValue().asString()).
+                            sorted().
+                            collect(Collectors.joining(",", "(", ")"))
+                    : "";
+            scores.put(
+                    result.get("benchmark").asString() + params,
+                    result.get("primaryMetric").get("score").asDouble());
+        }
+        return scores;
+    }
+
+    private static List<String> regressions(
+            final Map<String, Double> baseline,
+            final Map<String, Double> current,
+            final double threshold) {
+
+        List<String> regressions = new ArrayList<>();
+        current.forEach((benchmark, score) -> {
+            Double reference = baseline.get(benchmark);
+            if (reference == null) {
+                System.out.printf("%s: %.3f (NO BASELINE)%n", benchmark, score);
+                regressions.add(benchmark);
+            } else {
+                double delta = (score - reference) / reference;
+                System.out.printf("%s: %.3f vs %.3f (%+.1f%%)%n", benchmark, score, reference, delta * 100);
+                if (delta > threshold) {
+                    regressions.add(benchmark);
+                }
+            }
+        });
+        return regressions;
+    }
+
+    public static void main(final String[] args) throws RunnerException, IOException {
+        String include = System.getProperty("benchmarks.include", ".*");
+        Path result = Path.of(System.getProperty("benchmarks.result", "target/jmh-result.json")).toAbsolutePath();
+        Path baseline = Path.of(System.getProperty("benchmarks.baseline", "baseline.json")).toAbsolutePath();
+        double threshold = Double.parseDouble(System.getProperty("benchmarks.threshold", "0.1"));
+
+        Files.createDirectories(result.getParent());
+        new Runner(new OptionsBuilder().
+                include(BenchmarkRunner.class.getPackageName() + '.' + include).
+                resultFormat(ResultFormatType.JSON).
+                result(result.toString()).
+                build()).run();
+
+        if (Boolean.getBoolean("benchmarks.updateBaseline")) {
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+
+        Map<String, Double> reference = scores(baseline);
+        if (reference.isEmpty()) {
+            System.err.printf("No baseline scores found in %s: record them on this machine by running again with "
+                    + "-Dbenchmarks.updateBaseline=true%n", baseline);
+            System.exit(1);
+        }
+
+        List<String> regressions = regressions(reference, scores(result), threshold);
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d benchmark(s) slower than baseline by more than %.0f%%, or missing from baseline: "
+                    + "%s%n", regressions.size(), threshold * 100, regressions);
+            System.exit(1);
+        }
+    }
+
+    private BenchmarkRunner() {
+        // empty constructor for static utility class
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.benchmarks;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.persistence.common.attrvalue.DefaultPlainAttrValidationManager;
+import org.apache.syncope.core.persistence.common.entity.DefaultAnyUtils;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLBenchmarkAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.OracleBenchmarkAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.PGBenchmarkAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.entity.MySQLEntityFactory;
+import org.apache.syncope.core.persistence.jpa.entity.OracleEntityFactory;
+import org.apache.syncope.core.persistence.jpa.entity.PGEntityFactory;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+
+/**
+ * Builds the fixtures shared by benchmarks: search DAOs wired to in-memory stubs, search conditions and result sets.
+ */
+public final class BenchmarkSupport {
+
+    public enum Dialect {
+        PG,
+        MYSQL,
+        ORACLE
+
+    }
+
+    private static final String GROUP_KEY = "37d15e4c-cdc1-460b-a591-8505c8133806";
+
+    private static final List<String> PLAIN_SCHEMAS = List.of("firstname", "surname", "email");
+
+    /**
+     * Builds a FIQL expression with the given number of leaves, arranged as a conjunction of disjunctions of
+     * (at most) four leaves each: every disjunction mixes one field, two plain schema and one membership conditions.
+     *
+     * @param leaves number of leaves
+     * @return FIQL expression
+     */
+    public static String fiql(final int leaves) {
+        List<String> conds = IntStream.range(0, leaves).mapToObj(i -> switch (i % 4) {
+            case 0 ->
+                "username==user" + i + '*';
+            case 1 ->
+                "firstname==name" + i;
+            case 2 ->
+                "email=~*" + i + "@example.org";
+            default ->
+                "$groups==" + GROUP_KEY;
+        }).toList();
+
+        List<String> ors = new ArrayList<>();
+        for (int i = 0; i < conds.size(); i += 4) {
+            ors.add('(' + String.join(",", conds.subList(i, Math.min(i + 4, conds.size()))) + ')');
+        }
+        return String.join(";", ors);
+    }
+
+    public static SearchCond searchCond(final int leaves) {
+        return SearchCondConverter.convert(new AnySearchCondVisitor(), fiql(leaves));
+    }
+
+    public static List<String> keys(final int size) {
+        return IntStream.range(0, size).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+
+    /**
+     * Builds users with the given keys, in random order - as returned by {@code findByKeys}.
+     *
+     * @param keys user keys
+     * @return users with the given keys, shuffled
+     */
+    public static List<User> users(final List<String> keys) {
+        List<User> users = keys.stream().map(key -> {
+            JPAUser user = new JPAUser();
+            user.setKey(key);
+            user.setUsername("user" + key);
+            return (User) user;
+        }).collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(users, new Random(keys.size()));
+        return users;
+    }
+
+    private static EntityFactory entityFactory(final Dialect dialect) {
+        return switch (dialect) {
+            case MYSQL ->
+                new MySQLEntityFactory();
+            case ORACLE ->
+                new OracleEntityFactory();
+            default ->
+                new PGEntityFactory();
+        };
+    }
+
+    /**
+     * Builds a search DAO for the given dialect, backed by stubs: root realm only, plain schemas
+     * {@code firstname}, {@code surname} and {@code email}; the given users are returned by any lookup by keys.
+     *
+     * @param dialect database dialect
+     * @param users users to return upon {@code findByKeys}
+     * @return search DAO for the given dialect
+     */
+    public static BenchmarkAnySearchDAO anySearchDAO(final Dialect dialect, final List<User> users) {
+        EntityFactory entityFactory = entityFactory(dialect);
+
+        Realm root = mock(Realm.class);
+        when(root.getKey()).thenReturn(UUID.randomUUID().toString());
+        when(root.getFullPath()).thenReturn(SyncopeConstants.ROOT_REALM);
+        RealmSearchDAO realmSearchDAO = mock(RealmSearchDAO.class);
+        when(realmSearchDAO.findByFullPath(SyncopeConstants.ROOT_REALM)).thenReturn(Optional.of(root));
+        when(realmSearchDAO.findDescendants(SyncopeConstants.ROOT_REALM, SyncopeConstants.ROOT_REALM)).
+                thenReturn(List.of(root));
+
+        Map<String, PlainSchema> schemas = PLAIN_SCHEMAS.stream().collect(Collectors.toMap(key -> key, key -> {
+            PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+            schema.setKey(key);
+            schema.setType(AttrSchemaType.String);
+            return schema;
+        }));
+        PlainSchemaDAO plainSchemaDAO = mock(PlainSchemaDAO.class);
+        when(plainSchemaDAO.findById(anyString())).
+                thenAnswer(ic -> Optional.ofNullable(schemas.get(ic.getArgument(0, String.class))));
+
+        UserDAO userDAO = mock(UserDAO.class);
+        doReturn(users).when(userDAO).findByKeys(anyList());
+        GroupDAO groupDAO = mock(GroupDAO.class);
+        AnyObjectDAO anyObjectDAO = mock(AnyObjectDAO.class);
+
+        AnyUtilsFactory anyUtilsFactory = new AnyUtilsFactory(
+                new DefaultAnyUtils(
+                        userDAO, groupDAO, anyObjectDAO, plainSchemaDAO, entityFactory, AnyTypeKind.USER),
+                new DefaultAnyUtils(
+                        userDAO, groupDAO, anyObjectDAO, plainSchemaDAO, entityFactory, AnyTypeKind.GROUP),
+                new DefaultAnyUtils(
+                        userDAO, groupDAO, anyObjectDAO, plainSchemaDAO, entityFactory, AnyTypeKind.ANY_OBJECT));
+        PlainAttrValidationManager validator = new DefaultPlainAttrValidationManager();
+        EntityManager entityManager = mock(EntityManager.class);
+
+        return switch (dialect) {
+            case MYSQL ->
+                new MySQLBenchmarkAnySearchDAO(realmSearchDAO, userDAO, groupDAO, anyObjectDAO, plainSchemaDAO,
+                        entityFactory, anyUtilsFactory, validator, entityManager);
+            case ORACLE ->
+                new OracleBenchmarkAnySearchDAO(realmSearchDAO, userDAO, groupDAO, anyObjectDAO, plainSchemaDAO,
+                        entityFactory, anyUtilsFactory, validator, entityManager);
+            default ->
+                new PGBenchmarkAnySearchDAO(realmSearchDAO, userDAO, groupDAO, anyObjectDAO, plainSchemaDAO,
+                        entityFactory, anyUtilsFactory, validator, entityManager);
+        };
+    }
+
+    private BenchmarkSupport() {
+        // empty constructor for static utility class
+    }
+}
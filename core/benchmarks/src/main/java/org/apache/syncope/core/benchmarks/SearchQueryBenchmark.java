@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Measures native SQL generation for search conditions of growing complexity, for each supported dialect.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchQueryBenchmark {
+
+    @Param({ "PG", "MYSQL", "ORACLE" })
+    private BenchmarkSupport.Dialect dialect;
+
+    @Param({ "4", "16", "64" })
+    private int leaves;
+
+    private BenchmarkAnySearchDAO dao;
+
+    private SearchCond cond;
+
+    private List<Sort.Order> byField;
+
+    private List<Sort.Order> byPlainSchema;
+
+    @Setup
+    public void setup() {
+        dao = BenchmarkSupport.anySearchDAO(dialect, List.of());
+        cond = BenchmarkSupport.searchCond(leaves);
+        byField = List.of(Sort.Order.asc("username"));
+        byPlainSchema = List.of(Sort.Order.desc("surname"), Sort.Order.asc("username"));
+    }
+
+    @Benchmark
+    public String orderByField() {
+        return dao.searchQuery(cond, byField, AnyTypeKind.USER);
+    }
+
+    @Benchmark
+    public String orderByPlainSchema() {
+        return dao.searchQuery(cond, byPlainSchema, AnyTypeKind.USER);
+    }
+}
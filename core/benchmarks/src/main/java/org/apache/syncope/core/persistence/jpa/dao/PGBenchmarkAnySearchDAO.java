@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.benchmarks.BenchmarkAnySearchDAO;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.springframework.data.domain.Sort;
+
+public class PGBenchmarkAnySearchDAO extends PGJPAAnySearchDAO implements BenchmarkAnySearchDAO {
+
+    public PGBenchmarkAnySearchDAO(
+            final RealmSearchDAO realmSearchDAO,
+            final UserDAO userDAO,
+            final GroupDAO groupDAO,
+            final AnyObjectDAO anyObjectDAO,
+            final PlainSchemaDAO schemaDAO,
+            final EntityFactory entityFactory,
+            final AnyUtilsFactory anyUtilsFactory,
+            final PlainAttrValidationManager validator,
+            final EntityManager entityManager) {
+
+        super(
+                realmSearchDAO,
+                userDAO,
+                groupDAO,
+                anyObjectDAO,
+                schemaDAO,
+                entityFactory,
+                anyUtilsFactory,
+                validator,
+                entityManager);
+    }
+
+    @Override
+    public String searchQuery(final SearchCond cond, final List<Sort.Order> orderBy, final AnyTypeKind kind) {
+        List<Object> parameters = new ArrayList<>();
+
+        SearchSupport svs = new SearchViewSupport(kind);
+
+        AdminRealmsFilter<AnySearchNode.Leaf> filter = getAdminRealmsFilter(
+                realmSearchDAO.findByFullPath(SyncopeConstants.ROOT_REALM).orElseThrow(),
+                true,
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                parameters,
+                svs);
+
+        QueryInfo queryInfo = getQuery(buildEffectiveCond(cond, filter.managed(), kind), parameters, svs).
+                orElseThrow(() -> new IllegalArgumentException("Invalid search condition: " + cond));
+
+        return buildSearchQuery(queryInfo, filter.filter(), parameters, svs, orderBy);
+    }
+
+    @Override
+    public <T extends Any> List<T> result(final List<Object> raw, final AnyTypeKind kind) {
+        return buildResult(raw, kind);
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.common.l10n.CurrentLocale;
@@ -52,6 +53,8 @@ import org.identityconnectors.framework.api.ConfigurationProperties;
 import org.identityconnectors.framework.api.ConnectorKey;
 import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.identityconnectors.framework.common.objects.ObjectClassInfo;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -67,18 +70,22 @@ public class ConnectorLogic extends AbstractTransactionalLogic<ConnInstanceTO> {
 
     protected final ConnInstanceDataBinder binder;
 
+    protected final ApplicationEventPublisher publisher;
+
     public ConnectorLogic(
             final ConnIdBundleManager connIdBundleManager,
             final ConnectorManager connectorManager,
             final ExternalResourceDAO resourceDAO,
             final ConnInstanceDAO connInstanceDAO,
-            final ConnInstanceDataBinder binder) {
+            final ConnInstanceDataBinder binder,
+            final ApplicationEventPublisher publisher) {
 
         this.connIdBundleManager = connIdBundleManager;
         this.connectorManager = connectorManager;
         this.resourceDAO = resourceDAO;
         this.connInstanceDAO = connInstanceDAO;
         this.binder = binder;
+        this.publisher = publisher;
     }
 
     protected void securityChecks(final Set<String> realms, final String realm, final String key) {
@@ -149,6 +156,10 @@ public class ConnectorLogic extends AbstractTransactionalLogic<ConnInstanceTO> {
 
         ConnInstanceTO deleted = binder.getConnInstanceTO(connInstance);
         connInstanceDAO.deleteById(key);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, connInstance, AuthContextUtils.getDomain()));
+
         return deleted;
     }
 
@@ -38,6 +38,7 @@ import org.apache.syncope.core.provisioning.api.data.ResourceDataBinder;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,13 +65,16 @@ public class IdMLogicContext {
             final ExternalResourceDAO resourceDAO,
             final ConnInstanceDAO connInstanceDAO,
             final ConnInstanceDataBinder connInstanceDataBinder,
-            final ConnectorManager connectorManager) {
+            final ConnectorManager connectorManager,
+            final ApplicationEventPublisher publisher) {
+
         return new ConnectorLogic(
                 connIdBundleManager,
                 connectorManager,
                 resourceDAO,
                 connInstanceDAO,
-                connInstanceDataBinder);
+                connInstanceDataBinder,
+                publisher);
     }
 
     @ConditionalOnMissingBean
@@ -126,7 +130,8 @@ public class IdMLogicContext {
             final ConnInstanceDAO connInstanceDAO,
             final ConnectorManager connectorManager,
             final OutboundMatcher outboundMatcher,
-            final MappingManager mappingManager) {
+            final MappingManager mappingManager,
+            final ApplicationEventPublisher publisher) {
 
         return new ResourceLogic(
                 resourceDAO,
@@ -136,6 +141,7 @@ public class IdMLogicContext {
                 outboundMatcher,
                 mappingManager,
                 connectorManager,
-                anyUtilsFactory);
+                anyUtilsFactory,
+                publisher);
     }
 }
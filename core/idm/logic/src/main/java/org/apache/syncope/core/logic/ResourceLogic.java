@@ -49,6 +49,7 @@ import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.data.ResourceDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
@@ -58,8 +59,10 @@ import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.identityconnectors.framework.common.objects.filter.Filter;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
@@ -82,6 +85,8 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
 
     protected final AnyUtilsFactory anyUtilsFactory;
 
+    protected final ApplicationEventPublisher publisher;
+
     public ResourceLogic(
             final ExternalResourceDAO resourceDAO,
             final AnyTypeDAO anyTypeDAO,
@@ -90,7 +95,8 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
             final OutboundMatcher outboundMatcher,
             final MappingManager mappingManager,
             final ConnectorManager connectorManager,
-            final AnyUtilsFactory anyUtilsFactory) {
+            final AnyUtilsFactory anyUtilsFactory,
+            final ApplicationEventPublisher publisher) {
 
         this.resourceDAO = resourceDAO;
         this.anyTypeDAO = anyTypeDAO;
@@ -100,6 +106,7 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         this.mappingManager = mappingManager;
         this.connectorManager = connectorManager;
         this.anyUtilsFactory = anyUtilsFactory;
+        this.publisher = publisher;
     }
 
     protected ExternalResource doSave(final ExternalResource resource) {
@@ -143,7 +150,12 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
             throw new DuplicateException(resourceTO.getKey());
         }
 
-        return binder.getResourceTO(doSave(binder.create(resourceTO)));
+        ExternalResource resource = doSave(binder.create(resourceTO));
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.CREATE, resource, AuthContextUtils.getDomain()));
+
+        return binder.getResourceTO(resource);
     }
 
     @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_UPDATE + "')")
@@ -156,7 +168,12 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
                 resource.getConnector().getAdminRealm().getFullPath());
         securityChecks(effectiveRealms, resource.getConnector().getAdminRealm().getFullPath(), resource.getKey());
 
-        return binder.getResourceTO(doSave(binder.update(resource, resourceTO)));
+        resource = doSave(binder.update(resource, resourceTO));
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, resource, AuthContextUtils.getDomain()));
+
+        return binder.getResourceTO(resource);
     }
 
     @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_UPDATE + "')")
@@ -234,6 +251,10 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
 
         ResourceTO deleted = binder.getResourceTO(resource);
         resourceDAO.deleteById(key);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, resource, AuthContextUtils.getDomain()));
+
         return deleted;
     }
 
@@ -21,7 +21,9 @@ package org.apache.syncope.core.logic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
@@ -31,15 +33,25 @@ import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.logic.api.LogicActions;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.SyncopePage;
+import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U extends AnyUR> extends AbstractLogic<TO> {
 
@@ -84,6 +96,47 @@ abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U extends Any
         return result;
     }
 
+    /**
+     * Searches for matching entities, returning only the given projection of each.
+     *
+     * @param searchDAO search DAO
+     * @param searchCond search condition
+     * @param pageable paging information
+     * @param realm base realm full path
+     * @param recursive whether search should recursively include results from child realms
+     * @param projection fields and plain attributes to return
+     * @param entitlement search entitlement, to determine the realms the caller can search
+     * @param kind any type kind
+     * @param toTO builds TOs from projections
+     * @return page of projected TOs
+     */
+    protected Page<TO> doSearch(
+            final AnySearchDAO searchDAO,
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final AnyProjection projection,
+            final String entitlement,
+            final AnyTypeKind kind,
+            final Function<ProjectedAny, TO> toTO) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(entitlement), realm);
+
+        long count = searchDAO.count(base, recursive, authRealms, searchCond, kind);
+
+        List<TO> result = searchDAO.search(
+                base, recursive, authRealms, searchCond, pageable, kind, projection).stream().
+                map(toTO).
+                toList();
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
     @SuppressWarnings("unchecked")
     protected BeforeResult<C> beforeCreate(final C input) {
         Realm realm = realmSearchDAO.findByFullPath(input.getRealm()).orElseThrow(() -> {
@@ -24,6 +24,7 @@ import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyUR;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +40,13 @@ public interface AnyCRUDLogicOp<TO extends AnyTO, C extends AnyCR, U extends Any
             boolean recursive,
             boolean details);
 
+    Page<TO> search(
+            SearchCond searchCond,
+            Pageable pageable,
+            String realm,
+            boolean recursive,
+            AnyProjection projection);
+
     ProvisioningResult<TO> create(C createReq, boolean nullPriorityAsync);
 
     ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
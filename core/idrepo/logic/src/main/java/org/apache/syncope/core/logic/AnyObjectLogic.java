@@ -44,6 +44,7 @@ import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -136,6 +137,35 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
         return new SyncopePage<>(result, pageable, count);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyObjectTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final AnyProjection projection) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        return doSearch(
+                searchDAO,
+                searchCond,
+                pageable,
+                realm,
+                recursive,
+                projection,
+                AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond()),
+                AnyTypeKind.ANY_OBJECT,
+                projected -> {
+                    AnyObjectTO anyObjectTO = binder.getAnyObjectTO(projected);
+                    anyObjectTO.setType(searchCond.hasAnyTypeCond());
+                    return anyObjectTO;
+                });
+    }
+
     @Override
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
         BeforeResult<AnyObjectCR> before = beforeCreate(createReq);
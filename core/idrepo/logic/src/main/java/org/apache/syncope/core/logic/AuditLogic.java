@@ -24,6 +24,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -295,31 +296,57 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         return new SyncopePage<>(matching, pageable, count);
     }
 
-    @PreAuthorize("isAuthenticated()")
-    public void create(final AuditEventTO eventTO) {
+    protected void checkCreate(final AuditEventTO eventTO) {
         boolean authorized =
                 AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.AUDIT_SET)
                 || AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.ANONYMOUS)
                 && OpEvent.CategoryType.WA == eventTO.getOpEvent().getType();
-        if (authorized) {
-            auditManager.audit(
-                    AuthContextUtils.getDomain(),
-                    eventTO.getWho(),
-                    eventTO.getOpEvent().getType(),
-                    eventTO.getOpEvent().getCategory(),
-                    eventTO.getOpEvent().getSubcategory(),
-                    eventTO.getOpEvent().getOp(),
-                    eventTO.getOpEvent().getOutcome(),
-                    eventTO.getBefore(),
-                    eventTO.getOutput(),
-                    eventTO.getInputs());
-        } else {
+        if (!authorized) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.DelegatedAdministration);
             sce.getElements().add("Not allowed to create Audit entries");
             throw sce;
         }
     }
 
+    /**
+     * The instant provided by the caller is only trusted for WA events received in bulk, as those might have been
+     * spooled by WA while Core was not reachable; even then, it is never accepted later than the reception time.
+     *
+     * @param eventTO audit event
+     * @param bulk whether the event was received as part of a bulk request
+     */
+    protected void doCreate(final AuditEventTO eventTO, final boolean bulk) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime when = bulk && OpEvent.CategoryType.WA == eventTO.getOpEvent().getType()
+                ? Optional.ofNullable(eventTO.getWhen()).filter(now::isAfter).orElse(now)
+                : now;
+
+        auditManager.audit(
+                AuthContextUtils.getDomain(),
+                eventTO.getWho(),
+                when,
+                eventTO.getOpEvent().getType(),
+                eventTO.getOpEvent().getCategory(),
+                eventTO.getOpEvent().getSubcategory(),
+                eventTO.getOpEvent().getOp(),
+                eventTO.getOpEvent().getOutcome(),
+                eventTO.getBefore(),
+                eventTO.getOutput(),
+                eventTO.getInputs());
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void create(final AuditEventTO eventTO) {
+        checkCreate(eventTO);
+        doCreate(eventTO, false);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void create(final List<AuditEventTO> eventTOs) {
+        eventTOs.forEach(this::checkCreate);
+        eventTOs.forEach(eventTO -> doCreate(eventTO, true));
+    }
+
     @Override
     protected AuditConfTO resolveReference(final Method method, final Object... args)
             throws UnresolvedReferenceException {
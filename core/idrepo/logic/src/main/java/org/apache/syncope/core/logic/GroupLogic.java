@@ -51,6 +51,7 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
@@ -187,6 +188,28 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> impl
         return new SyncopePage<>(result, pageable, count);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<GroupTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final AnyProjection projection) {
+
+        return doSearch(
+                searchDAO,
+                searchCond == null ? searchDAO.getAllMatchingCond() : searchCond,
+                pageable,
+                realm,
+                recursive,
+                projection,
+                IdRepoEntitlement.GROUP_SEARCH,
+                AnyTypeKind.GROUP,
+                binder::getGroupTO);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
     @Override
     public ProvisioningResult<GroupTO> create(final GroupCR createReq, final boolean nullPriorityAsync) {
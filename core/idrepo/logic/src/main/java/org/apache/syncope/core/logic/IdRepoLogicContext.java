@@ -331,9 +331,10 @@ public class IdRepoLogicContext {
             final JobManager jobManager,
             final JobStatusDAO jobStatusDAO,
             final SyncopeTaskScheduler scheduler,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final ApplicationEventPublisher publisher) {
 
-        return new NotificationLogic(jobManager, scheduler, jobStatusDAO, notificationDAO, binder);
+        return new NotificationLogic(jobManager, scheduler, jobStatusDAO, notificationDAO, binder, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -341,9 +342,10 @@ public class IdRepoLogicContext {
     public PolicyLogic policyLogic(
             final PolicyDataBinder binder,
             final PolicyDAO policyDAO,
-            final PolicyUtilsFactory policyUtilsFactory) {
+            final PolicyUtilsFactory policyUtilsFactory,
+            final ApplicationEventPublisher publisher) {
 
-        return new PolicyLogic(policyDAO, binder, policyUtilsFactory);
+        return new PolicyLogic(policyDAO, binder, policyUtilsFactory, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -408,9 +410,10 @@ public class IdRepoLogicContext {
     @Bean
     public RoleLogic roleLogic(
             final RoleDataBinder binder,
-            final RoleDAO roleDAO) {
+            final RoleDAO roleDAO,
+            final ApplicationEventPublisher publisher) {
 
-        return new RoleLogic(binder, roleDAO);
+        return new RoleLogic(binder, roleDAO, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -471,7 +474,9 @@ public class IdRepoLogicContext {
             final NotificationJobDelegate notificationJobDelegate,
             final TaskDataBinder taskDataBinder,
             final TaskUtilsFactory taskUtilsFactory,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final ConfParamOps confParamOps,
+            final ApplicationEventPublisher publisher) {
 
         return new TaskLogic(
                 jobManager,
@@ -484,7 +489,9 @@ public class IdRepoLogicContext {
                 taskDataBinder,
                 taskExecutor,
                 notificationJobDelegate,
-                taskUtilsFactory);
+                taskUtilsFactory,
+                confParamOps,
+                publisher);
     }
 
     @ConditionalOnMissingBean
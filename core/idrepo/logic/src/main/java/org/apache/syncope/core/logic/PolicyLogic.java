@@ -32,6 +32,10 @@ import org.apache.syncope.core.persistence.api.entity.policy.Policy;
 import org.apache.syncope.core.persistence.api.entity.policy.PolicyUtils;
 import org.apache.syncope.core.persistence.api.entity.policy.PolicyUtilsFactory;
 import org.apache.syncope.core.provisioning.api.data.PolicyDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,14 +47,18 @@ public class PolicyLogic extends AbstractTransactionalLogic<PolicyTO> {
 
     protected final PolicyUtilsFactory policyUtilsFactory;
 
+    protected final ApplicationEventPublisher publisher;
+
     public PolicyLogic(
             final PolicyDAO policyDAO,
             final PolicyDataBinder binder,
-            final PolicyUtilsFactory policyUtilsFactory) {
+            final PolicyUtilsFactory policyUtilsFactory,
+            final ApplicationEventPublisher publisher) {
 
         this.policyDAO = policyDAO;
         this.binder = binder;
         this.policyUtilsFactory = policyUtilsFactory;
+        this.publisher = publisher;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.POLICY_CREATE + "')")
@@ -62,7 +70,12 @@ public class PolicyLogic extends AbstractTransactionalLogic<PolicyTO> {
             throw sce;
         }
 
-        return binder.getPolicyTO(policyDAO.save(binder.create(policyTO)));
+        Policy policy = policyDAO.save(binder.create(policyTO));
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.CREATE, policy, AuthContextUtils.getDomain()));
+
+        return binder.getPolicyTO(policy);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.POLICY_UPDATE + "')")
@@ -78,7 +91,12 @@ public class PolicyLogic extends AbstractTransactionalLogic<PolicyTO> {
             throw sce;
         }
 
-        return binder.getPolicyTO(policyDAO.save(binder.update(policy, policyTO)));
+        policy = policyDAO.save(binder.update(policy, policyTO));
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, policy, AuthContextUtils.getDomain()));
+
+        return binder.getPolicyTO(policy);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.POLICY_LIST + "')")
@@ -110,6 +128,9 @@ public class PolicyLogic extends AbstractTransactionalLogic<PolicyTO> {
         T deleted = binder.getPolicyTO(policy);
         policyDAO.delete(policy);
 
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, policy, AuthContextUtils.getDomain()));
+
         return deleted;
     }
 
@@ -28,6 +28,10 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.provisioning.api.data.RoleDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,9 +41,16 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
     protected final RoleDAO roleDAO;
 
-    public RoleLogic(final RoleDataBinder binder, final RoleDAO roleDAO) {
+    protected final ApplicationEventPublisher publisher;
+
+    public RoleLogic(
+            final RoleDataBinder binder,
+            final RoleDAO roleDAO,
+            final ApplicationEventPublisher publisher) {
+
         this.binder = binder;
         this.roleDAO = roleDAO;
+        this.publisher = publisher;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ROLE_READ + "')")
@@ -58,7 +69,12 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ROLE_CREATE + "')")
     public RoleTO create(final RoleTO roleTO) {
-        return binder.getRoleTO(binder.create(roleTO));
+        Role role = binder.create(roleTO);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.CREATE, role, AuthContextUtils.getDomain()));
+
+        return binder.getRoleTO(role);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ROLE_UPDATE + "')")
@@ -66,7 +82,12 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
         Role role = roleDAO.findById(roleTO.getKey()).
                 orElseThrow(() -> new NotFoundException("Role " + roleTO.getKey()));
 
-        return binder.getRoleTO(binder.update(role, roleTO));
+        role = binder.update(role, roleTO);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, role, AuthContextUtils.getDomain()));
+
+        return binder.getRoleTO(role);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ROLE_DELETE + "')")
@@ -75,6 +96,10 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
         RoleTO deleted = binder.getRoleTO(role);
         roleDAO.delete(role);
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, role, AuthContextUtils.getDomain()));
+
         return deleted;
     }
 
@@ -29,6 +29,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.form.SyncopeForm;
 import org.apache.syncope.common.lib.to.ExecTO;
@@ -67,17 +68,21 @@ import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.job.GroupMemberProvisionTaskJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.MacroJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -102,6 +107,10 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
     protected final TaskUtilsFactory taskUtilsFactory;
 
+    protected final ConfParamOps confParamOps;
+
+    protected final ApplicationEventPublisher publisher;
+
     public TaskLogic(
             final JobManager jobManager,
             final SyncopeTaskScheduler scheduler,
@@ -113,7 +122,9 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             final TaskDataBinder binder,
             final PropagationTaskExecutor taskExecutor,
             final NotificationJobDelegate notificationJobDelegate,
-            final TaskUtilsFactory taskUtilsFactory) {
+            final TaskUtilsFactory taskUtilsFactory,
+            final ConfParamOps confParamOps,
+            final ApplicationEventPublisher publisher) {
 
         super(jobManager, scheduler, jobStatusDAO);
 
@@ -125,6 +136,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         this.taskExecutor = taskExecutor;
         this.notificationJobDelegate = notificationJobDelegate;
         this.taskUtilsFactory = taskUtilsFactory;
+        this.confParamOps = confParamOps;
+        this.publisher = publisher;
     }
 
     protected void securityChecks(final String entitlement, final String realm) {
@@ -160,6 +173,9 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             throw sce;
         }
 
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.CREATE, task, AuthContextUtils.getDomain()));
+
         return binder.getTaskTO(task, taskUtils, false);
     }
 
@@ -198,6 +214,9 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             throw sce;
         }
 
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, task, AuthContextUtils.getDomain()));
+
         return binder.getTaskTO(task, taskUtils, false);
     }
 
@@ -426,6 +445,19 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         }
 
         taskDAO.delete(task);
+
+        // a group member provisioning task might have left a checkpoint, if its last execution failed
+        if (task instanceof SchedTask schedTask && schedTask.getJobDelegate() != null
+                && GroupMemberProvisionTaskJobDelegate.class.getSimpleName().
+                        equals(schedTask.getJobDelegate().getKey())) {
+
+            confParamOps.remove(
+                    AuthContextUtils.getDomain(), GroupMemberProvisionTaskJobDelegate.CHECKPOINT_CONF_PREFIX + key);
+        }
+
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, task, AuthContextUtils.getDomain()));
+
         return taskToDelete;
     }
 
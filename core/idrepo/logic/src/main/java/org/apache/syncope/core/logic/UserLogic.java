@@ -46,6 +46,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.user.User;
@@ -130,6 +131,28 @@ public class UserLogic extends AbstractUserLogic implements UserLogicOp {
         return new SyncopePage<>(result, pageable, count);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<UserTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final AnyProjection projection) {
+
+        return doSearch(
+                searchDAO,
+                searchCond == null ? searchDAO.getAllMatchingCond() : searchCond,
+                pageable,
+                realm,
+                recursive,
+                projection,
+                IdRepoEntitlement.USER_SEARCH,
+                AnyTypeKind.USER,
+                binder::getUserTO);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_CREATE + "')")
     @Override
     public ProvisioningResult<UserTO> create(final UserCR createReq, final boolean nullPriorityAsync) {
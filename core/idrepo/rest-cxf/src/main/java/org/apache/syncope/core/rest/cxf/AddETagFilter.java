@@ -18,25 +18,74 @@
  */
 package org.apache.syncope.core.rest.cxf;
 
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.PathSegment;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.RuntimeDelegate;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.jackson.SyncopeJsonMapper;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.EntityTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
- * Adds the {@code ETag} header to any response containing an instance of {@link AnyTO} as entity.
- * The actual ETag value is computed on the basis of last change date (or creation date if not available).
+ * Adds the {@code ETag} header to responses not carrying one yet, as follows:
+ * <ul>
+ * <li>responses containing an instance of {@link AnyTO} as entity, even if wrapped by {@link ProvisioningResult}:
+ * the ETag value is computed on the basis of last change date (or creation date if not available);</li>
+ * <li>successful {@code GET} responses for metadata - schemas, any types, any type classes, relationship types and
+ * realms - which carry no change date: the ETag value is the SHA-256 digest of media type and JSON content, hence
+ * the same on all Core nodes; when such digest matches the {@code If-None-Match} request header,
+ * {@code 304 Not Modified} is returned instead of the content.</li>
+ * </ul>
  */
 @Provider
 public class AddETagFilter implements ContainerResponseFilter {
 
+    protected static final Logger LOG = LoggerFactory.getLogger(AddETagFilter.class);
+
+    protected static final Set<String> METADATA_PATHS =
+            Set.of("schemas", "anyTypes", "anyTypeClasses", "relationshipTypes", "realms");
+
+    protected static final JsonMapper MAPPER = new SyncopeJsonMapper();
+
+    protected static void addETag(final ContainerResponseContext resCtx, final EntityTag etag) {
+        resCtx.getHeaders().add(
+                HttpHeaders.ETAG,
+                RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).toString(etag));
+    }
+
+    protected boolean isMetadata(final ContainerRequestContext reqCtx, final ContainerResponseContext resCtx) {
+        return HttpMethod.GET.equals(reqCtx.getMethod())
+                && resCtx.getStatus() == Response.Status.OK.getStatusCode()
+                && resCtx.hasEntity()
+                && reqCtx.getUriInfo().getPathSegments().stream().
+                        map(PathSegment::getPath).filter(StringUtils::isNotBlank).findFirst().
+                        filter(METADATA_PATHS::contains).isPresent();
+    }
+
+    protected String digest(final ContainerResponseContext resCtx) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(Objects.toString(resCtx.getMediaType()).getBytes(StandardCharsets.UTF_8));
+        digest.update(MAPPER.writeValueAsBytes(resCtx.getEntity()));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     @Override
     public void filter(final ContainerRequestContext reqCtx, final ContainerResponseContext resCtx) {
         if (resCtx.getEntityTag() == null) {
@@ -52,10 +101,21 @@ public class AddETagFilter implements ContainerResponseFilter {
             if (annotated != null) {
                 String etagValue = annotated.getETagValue();
                 if (StringUtils.isNotBlank(etagValue)) {
-                    resCtx.getHeaders().add(
-                            HttpHeaders.ETAG,
-                            RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).
-                                    toString(new EntityTag(etagValue)));
+                    addETag(resCtx, new EntityTag(etagValue));
+                }
+            } else if (isMetadata(reqCtx, resCtx)) {
+                try {
+                    EntityTag etag = new EntityTag(digest(resCtx));
+                    boolean notModified = Optional.ofNullable(reqCtx.getRequest().evaluatePreconditions(etag)).
+                            map(builder -> builder.build().getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()).
+                            orElse(false);
+                    if (notModified) {
+                        resCtx.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+                        resCtx.setEntity(null);
+                    }
+                    addETag(resCtx, etag);
+                } catch (Exception e) {
+                    LOG.error("While computing ETag for {}", reqCtx.getUriInfo().getPath(), e);
                 }
             }
         }
@@ -53,6 +53,7 @@ import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.logic.AnyCRUDLogicOp;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
@@ -119,13 +120,21 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
         SearchCond searchCond = StringUtils.isBlank(anyQuery.getFiql())
                 ? null
                 : getSearchCond(anyQuery.getFiql());
+        AnyProjection projection = new AnyProjection(anyQuery.getFields(), anyQuery.getAttrs());
         try {
-            Page<TO> result = getAnyLogic().search(
-                    searchCond,
-                    pageable(anyQuery),
-                    realm,
-                    anyQuery.getRecursive(),
-                    anyQuery.getDetails());
+            Page<TO> result = projection.isEmpty()
+                    ? getAnyLogic().search(
+                            searchCond,
+                            pageable(anyQuery),
+                            realm,
+                            anyQuery.getRecursive(),
+                            anyQuery.getDetails())
+                    : getAnyLogic().search(
+                            searchCond,
+                            pageable(anyQuery),
+                            realm,
+                            anyQuery.getRecursive(),
+                            projection);
             return buildPagedResult(result);
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
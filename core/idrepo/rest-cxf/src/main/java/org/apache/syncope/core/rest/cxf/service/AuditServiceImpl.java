@@ -61,6 +61,11 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         logic.create(auditEvent);
     }
 
+    @Override
+    public void create(final List<AuditEventTO> auditEvents) {
+        logic.create(auditEvents);
+    }
+
     @Override
     public List<OpEvent> events() {
         return logic.events();
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InstrumentedConnectorBulkheadRegistry extends ConnectorBulkheadRegistry {
+
+    protected final MeterRegistry meterRegistry;
+
+    protected final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    public InstrumentedConnectorBulkheadRegistry(
+            final ConnectorBulkheadProperties props,
+            final MeterRegistry meterRegistry) {
+
+        super(props);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected ConnectorBulkhead newBulkhead(final String connInstance) {
+        ConnectorBulkhead bulkhead = super.newBulkhead(connInstance);
+
+        meters.put(connInstance, List.of(
+                Gauge.builder("syncope.connector.bulkhead.inflight", bulkhead, ConnectorBulkhead::getInFlight).
+                description("The number of requests currently being executed by the connector instance").
+                tag("connInstance", connInstance).
+                register(meterRegistry),
+                Gauge.builder("syncope.connector.bulkhead.queued", bulkhead, ConnectorBulkhead::getQueued).
+                description("The number of requests currently waiting for the connector instance").
+                tag("connInstance", connInstance).
+                register(meterRegistry),
+                Gauge.builder("syncope.connector.bulkhead.limit", bulkhead, ConnectorBulkhead::getLimit).
+                description("The current concurrency limit for the connector instance").
+                tag("connInstance", connInstance).
+                register(meterRegistry),
+                FunctionCounter.builder(
+                "syncope.connector.bulkhead.rejected", bulkhead, ConnectorBulkhead::getRejected).
+                description("The total number of requests rejected for the connector instance").
+                tag("connInstance", connInstance).
+                register(meterRegistry)));
+
+        return bulkhead;
+    }
+
+    @Override
+    public void remove(final String connInstance) {
+        super.remove(connInstance);
+        Optional.ofNullable(meters.remove(connInstance)).ifPresent(list -> list.forEach(meterRegistry::remove));
+    }
+}
@@ -40,6 +40,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
@@ -99,12 +100,16 @@ public class InstrumentedAuthDataAccessor extends AuthDataAccessor {
             final AuditManager auditManager,
             final MappingManager mappingManager,
             final DefaultCredentialChecker credentialChecker,
+            final UserAuthoritiesCache userAuthoritiesCache,
+            final PassthroughResourcesCache passthroughResourcesCache,
+            final AsyncTaskExecutor passthroughAuthExecutor,
             final List<JWTSSOProvider> jwtSSOProviders,
             final MeterRegistry meterRegistry) {
 
         super(securityProperties, encryptorManager, totpCodeVerifier, realmSearchDAO, userDAO, groupDAO, anySearchDAO,
                 accessTokenDAO, confParamOps, roleDAO, delegationDAO, resourceDAO, connectorManager,
-                auditManager, mappingManager, credentialChecker, jwtSSOProviders);
+                auditManager, mappingManager, credentialChecker, userAuthoritiesCache, passthroughResourcesCache,
+                passthroughAuthExecutor, jwtSSOProviders);
         this.meterRegistry = meterRegistry;
     }
 
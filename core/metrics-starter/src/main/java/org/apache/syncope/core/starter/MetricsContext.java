@@ -52,6 +52,9 @@ import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.ConnectorBulkheadRegistry;
+import org.apache.syncope.core.provisioning.java.InstrumentedConnectorBulkheadRegistry;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.provisioning.java.propagation.InstrumentedPriorityPropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
@@ -59,7 +62,9 @@ import org.apache.syncope.core.spring.security.AuthDataAccessor;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
 import org.apache.syncope.core.spring.security.InstrumentedAuthDataAccessor;
 import org.apache.syncope.core.spring.security.JWTSSOProvider;
+import org.apache.syncope.core.spring.security.PassthroughResourcesCache;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.apache.syncope.core.spring.security.UserAuthoritiesCache;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.ApplicationEventPublisher;
@@ -102,6 +107,10 @@ public class MetricsContext {
             final AuditManager auditManager,
             final MappingManager mappingManager,
             final DefaultCredentialChecker credentialChecker,
+            final UserAuthoritiesCache userAuthoritiesCache,
+            final PassthroughResourcesCache passthroughResourcesCache,
+            @Qualifier("passthroughAuthExecutor")
+            final AsyncTaskExecutor passthroughAuthExecutor,
             final List<JWTSSOProvider> jwtSSOProviders,
             final MeterRegistry meterRegistry) {
 
@@ -122,6 +131,9 @@ public class MetricsContext {
                 auditManager,
                 mappingManager,
                 credentialChecker,
+                userAuthoritiesCache,
+                passthroughResourcesCache,
+                passthroughAuthExecutor,
                 jwtSSOProviders,
                 meterRegistry);
     }
@@ -163,4 +175,13 @@ public class MetricsContext {
                 propagationTaskExecutorAsyncExecutor,
                 meterRegistry);
     }
+
+    @ConditionalOnMissingBean(name = "instrumentedConnectorBulkheadRegistry")
+    @Bean(name = { "connectorBulkheadRegistry", "instrumentedConnectorBulkheadRegistry" })
+    public ConnectorBulkheadRegistry connectorBulkheadRegistry(
+            final ProvisioningProperties props,
+            final MeterRegistry meterRegistry) {
+
+        return new InstrumentedConnectorBulkheadRegistry(props.getConnectorBulkhead(), meterRegistry);
+    }
 }
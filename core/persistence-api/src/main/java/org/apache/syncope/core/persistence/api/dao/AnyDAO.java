@@ -46,6 +46,16 @@ public interface AnyDAO<A extends Any> extends DAO<A> {
 
     Page<? extends A> findAll(Pageable pageable);
 
+    /**
+     * Walks entity keys in ascending order: unlike offset-based paging, the cost of each call does not grow with the
+     * number of entities already walked.
+     *
+     * @param after key to start after, or {@code null} to start from the first
+     * @param limit max number of keys to return
+     * @return keys following the given one, in ascending order
+     */
+    List<String> findKeysAfter(String after, int limit);
+
     /**
      * @return the search condition to match all entities
      */
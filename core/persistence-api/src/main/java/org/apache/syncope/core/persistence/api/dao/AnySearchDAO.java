@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -100,6 +102,28 @@ public interface AnySearchDAO {
             Pageable pageable,
             AnyTypeKind kind);
 
+    /**
+     * Same as {@link #search(Realm, boolean, Set, SearchCond, Pageable, AnyTypeKind)} but only returning the fields
+     * and plain attributes selected by the given projection, without loading entities where supported.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageable paging information
+     * @param kind any type kind
+     * @param projection fields and plain attributes to return
+     * @return the projections of any objects matching the given search condition (in the given page)
+     */
+    List<ProjectedAny> search(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            Pageable pageable,
+            AnyTypeKind kind,
+            AnyProjection projection);
+
     /**
      * @return the search condition to match all entities
      */
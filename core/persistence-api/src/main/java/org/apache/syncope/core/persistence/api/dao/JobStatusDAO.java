@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 
 public interface JobStatusDAO {
@@ -31,8 +33,77 @@ public interface JobStatusDAO {
 
     void unlock(String key);
 
+    /**
+     * Locks the given job on behalf of a lease kept elsewhere, replacing any lock currently present; such lock does
+     * not expire, and can be released via {@link #release(String, String, long)}.
+     *
+     * @param key job key
+     * @param owner lease owner
+     * @param fencingToken fencing token of the lease
+     */
+    void lock(String key, String owner, long fencingToken);
+
+    /**
+     * Removes the lock on the given job, unless it is a lease not yet expired.
+     *
+     * @param key job key
+     */
+    void unlockExpired(String key);
+
+    /**
+     * Attempts to acquire a lease on the given job, either because no lock is currently held or because the lease
+     * held by another owner has expired.
+     * Fencing tokens are drawn from a sequence kept for each job, hence they keep increasing across subsequent
+     * acquisitions, even after release.
+     *
+     * @param key job key
+     * @param owner lease owner
+     * @param expiry lease expiry
+     * @return fencing token for the acquired lease, empty if the lease could not be acquired
+     */
+    Optional<Long> lease(String key, String owner, OffsetDateTime expiry);
+
+    /**
+     * Extends the lease on the given job, provided that it is still held by the given owner and fencing token.
+     *
+     * @param key job key
+     * @param owner lease owner
+     * @param fencingToken fencing token obtained when acquiring the lease
+     * @param expiry new lease expiry
+     * @return whether the lease was extended or not, e.g. if it was taken over in the meanwhile
+     */
+    boolean renew(String key, String owner, long fencingToken, OffsetDateTime expiry);
+
+    /**
+     * Releases the lease on the given job, provided that it is still held by the given owner and fencing token.
+     *
+     * @param key job key
+     * @param owner lease owner
+     * @param fencingToken fencing token obtained when acquiring the lease
+     */
+    void release(String key, String owner, long fencingToken);
+
+    /**
+     * Tells whether the given job is currently locked, e.g. a lock is present and, if a lease, not yet expired.
+     *
+     * @param key job key
+     * @return whether the given job is currently locked
+     */
+    boolean isLocked(String key);
+
     void set(String key, String status);
 
+    /**
+     * Sets the status of the given job, provided that it is still locked by the given owner and fencing token.
+     *
+     * @param key job key
+     * @param owner lease owner
+     * @param fencingToken fencing token obtained when acquiring the lease
+     * @param status job status
+     * @return whether the status was set or not, e.g. if the lease was taken over in the meanwhile
+     */
+    boolean set(String key, String owner, long fencingToken, String status);
+
     String get(String key);
 
     List<? extends JobStatus> findAll();
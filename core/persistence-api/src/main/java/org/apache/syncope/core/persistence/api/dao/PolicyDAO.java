@@ -32,6 +32,8 @@ public interface PolicyDAO extends DAO<Policy> {
 
     <T extends Policy> Optional<T> findById(String key, Class<T> reference);
 
+    <T extends Policy> long count(Class<T> reference);
+
     <T extends Policy> List<T> findAll(Class<T> reference);
 
     List<? extends AccountPolicy> findByAccountRule(Implementation accountRule);
@@ -18,11 +18,13 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
@@ -34,6 +36,17 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 
 public interface UserDAO extends AnyDAO<User> {
 
+    /**
+     * Lightweight view of an entity managed by some user: just what is needed to build manager realms.
+     *
+     * @param kind managed entity kind
+     * @param key managed entity key
+     * @param realm full path of the managed entity's realm
+     * @param type any type key of the managed entity, only relevant for any objects
+     */
+    record ManagedAny(AnyTypeKind kind, String key, String realm, String type) {
+    }
+
     Optional<String> findKey(String username);
 
     Optional<String> findUsername(String key);
@@ -57,6 +70,32 @@ public interface UserDAO extends AnyDAO<User> {
 
     List<AnyObject> findManagedAnyObjects(String key);
 
+    /**
+     * Projection of {@link #findManagedUsers(String)}, {@link #findManagedGroups(String)} and
+     * {@link #findManagedAnyObjects(String)}, not loading any of the managed entities.
+     *
+     * @param key manager User key
+     * @return users, groups and any objects managed by the given User
+     */
+    List<ManagedAny> findManaged(String key);
+
+    /**
+     * Records a successful authentication for the given User, by resetting failed logins and - if provided - setting
+     * last login date; only such fields are written, without saving the whole User.
+     *
+     * @param key User key
+     * @param lastLoginDate last login date, or {@code null} to leave unchanged
+     */
+    void recordSuccessfulLogin(String key, OffsetDateTime lastLoginDate);
+
+    /**
+     * Records a failed authentication for the given User, by atomically incrementing failed logins; only such field is
+     * written, without saving the whole User.
+     *
+     * @param key User key
+     */
+    void recordFailedLogin(String key);
+
     Map<String, Long> countByRealm();
 
     Map<String, Long> countByStatus();
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao.search;
+
+import java.util.List;
+
+/**
+ * Selects what to return from a search, as alternative to full entities.
+ *
+ * @param fields entity fields, e.g. {@code username} or {@code realm}
+ * @param plainSchemas plain schemas whose attribute values are to be returned
+ */
+public record AnyProjection(List<String> fields, List<String> plainSchemas) {
+
+    public AnyProjection {
+        fields = fields == null ? List.of() : List.copyOf(fields);
+        plainSchemas = plainSchemas == null ? List.of() : List.copyOf(plainSchemas);
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty() && plainSchemas.isEmpty();
+    }
+}
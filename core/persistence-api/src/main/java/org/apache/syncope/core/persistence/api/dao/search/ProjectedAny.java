@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Search result row, as selected by {@link AnyProjection}.
+ *
+ * @param key entity key
+ * @param fields entity field values, by field name; relationships are reported by key, except {@code realm} which is
+ * reported by full path
+ * @param plainAttrs plain attribute values, by plain schema
+ */
+public record ProjectedAny(String key, Map<String, Object> fields, Map<String, List<String>> plainAttrs) {
+
+}
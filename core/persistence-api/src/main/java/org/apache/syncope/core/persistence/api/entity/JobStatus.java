@@ -18,9 +18,23 @@
  */
 package org.apache.syncope.core.persistence.api.entity;
 
+import java.time.OffsetDateTime;
+
 public interface JobStatus extends ProvidedKeyEntity {
 
     String getStatus();
 
     void setStatus(String status);
+
+    String getLeaseOwner();
+
+    void setLeaseOwner(String leaseOwner);
+
+    OffsetDateTime getLeaseExpiry();
+
+    void setLeaseExpiry(OffsetDateTime leaseExpiry);
+
+    Long getFencingToken();
+
+    void setFencingToken(Long fencingToken);
 }
@@ -33,6 +33,10 @@ public interface PullTask extends InboundTask<PullTask> {
 
     void setReconFilterBuilder(Implementation reconFilterBuilder);
 
+    Integer getCommitBatchSize();
+
+    void setCommitBatchSize(Integer commitBatchSize);
+
     boolean add(AnyTemplatePullTask template);
 
     @Override
@@ -18,10 +18,14 @@
  */
 package org.apache.syncope.core.persistence.common.dao;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -38,24 +42,30 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.MemberCond;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements AnySearchDAO {
 
@@ -65,7 +75,7 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
 
     protected static final Logger LOG = LoggerFactory.getLogger(AnySearchDAO.class);
 
-    private static final Set<String> ORDER_BY_NOT_ALLOWED = Set.of(
+    protected static final Set<String> ORDER_BY_NOT_ALLOWED = Set.of(
             "serialVersionUID", "password", "securityQuestion", "securityAnswer", "token", "tokenExpireTime");
 
     protected static final Set<String> RELATIONSHIP_FIELDS = Set.of("realm", "uManager", "gManager");
@@ -272,16 +282,53 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
                 map(key -> key instanceof Object[] array ? (String) (array)[0] : ((String) key)).
                 toList();
 
+        Map<String, Integer> positions = new HashMap<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            positions.putIfAbsent(keys.get(i), i);
+        }
+
         // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual query results
         List<Any> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
-                sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).toList();
+                sorted(Comparator.comparing(any -> positions.getOrDefault(any.getKey(), Integer.MAX_VALUE))).toList();
 
-        keys.stream().filter(key -> anys.stream().noneMatch(any -> key.equals(any.getKey()))).
+        Set<String> found = anys.stream().map(Any::getKey).collect(Collectors.toSet());
+        keys.stream().filter(key -> !found.contains(key)).
                 forEach(key -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key));
 
         return (List<T>) anys;
     }
 
+    protected Pageable effectivePageable(final Pageable pageable, final AnyTypeKind kind) {
+        List<Sort.Order> effectiveOrderBy;
+        if (pageable.getSort().isEmpty()) {
+            effectiveOrderBy = List.of(
+                    new Sort.Order(Sort.Direction.ASC, kind == AnyTypeKind.USER ? "username" : "name"));
+        } else {
+            effectiveOrderBy = pageable.getSort().stream().
+                    filter(clause -> !ORDER_BY_NOT_ALLOWED.contains(clause.getProperty())).
+                    toList();
+        }
+
+        return pageable.isUnpaged()
+                ? Pageable.unpaged(Sort.by(effectiveOrderBy))
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy));
+    }
+
+    protected boolean isSearchable(final Set<String> adminRealms, final SearchCond cond) {
+        if (CollectionUtils.isEmpty(adminRealms)) {
+            LOG.error("No realms provided");
+            return false;
+        }
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return false;
+        }
+
+        return true;
+    }
+
     @Override
     public <T extends Any> List<T> search(
             final Realm base,
@@ -291,35 +338,92 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
             final Pageable pageable,
             final AnyTypeKind kind) {
 
-        if (CollectionUtils.isEmpty(adminRealms)) {
-            LOG.error("No realms provided");
+        if (!isSearchable(adminRealms, cond)) {
             return List.of();
         }
 
-        LOG.debug("Search condition:\n{}", cond);
-        if (cond == null || !cond.isValid()) {
-            LOG.error("Invalid search condition:\n{}", cond);
-            return List.of();
+        return doSearch(base, recursive, adminRealms, cond, effectivePageable(pageable, kind), kind);
+    }
+
+    protected Field checkProjected(final AnyTypeKind kind, final String fieldName) {
+        Field field = anyUtilsFactory.getInstance(kind).getField(fieldName).
+                orElseThrow(() -> new IllegalArgumentException("Invalid field for projection: " + fieldName));
+        if (ORDER_BY_NOT_ALLOWED.contains(fieldName)
+                || (Entity.class.isAssignableFrom(field.getType()) && !RELATIONSHIP_FIELDS.contains(fieldName))) {
+
+            throw new IllegalArgumentException("Field not allowed for projection: " + fieldName);
         }
+        return field;
+    }
 
-        List<Sort.Order> effectiveOrderBy;
-        if (pageable.getSort().isEmpty()) {
-            effectiveOrderBy = List.of(
-                    new Sort.Order(Sort.Direction.ASC, kind == AnyTypeKind.USER ? "username" : "name"));
-        } else {
-            effectiveOrderBy = pageable.getSort().stream().
-                    filter(clause -> !ORDER_BY_NOT_ALLOWED.contains(clause.getProperty())).
-                    toList();
+    protected ProjectedAny project(final Any any, final AnyProjection projection) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(any);
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        projection.fields().forEach(fieldName -> {
+            Field field = checkProjected(any.getType().getKind(), fieldName);
+
+            Object value;
+            if (wrapper.isReadableProperty(fieldName)) {
+                value = wrapper.getPropertyValue(fieldName);
+            } else {
+                ReflectionUtils.makeAccessible(field);
+                value = ReflectionUtils.getField(field, any);
+            }
+            fields.put(fieldName, value instanceof Realm realm
+                    ? realm.getFullPath()
+                    : value instanceof Entity entity ? entity.getKey() : value);
+        });
+
+        Map<String, List<String>> plainAttrs = new LinkedHashMap<>();
+        projection.plainSchemas().forEach(schema -> any.getPlainAttr(schema).
+                ifPresent(attr -> plainAttrs.put(schema, attr.getValuesAsStrings())));
+
+        return new ProjectedAny(any.getKey(), fields, plainAttrs);
+    }
+
+    /**
+     * Default projection support: loads the matching entities and extracts the requested fields and plain attributes;
+     * implementations able to read projections straight from the underlying storage are expected to override.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageable paging information
+     * @param kind any type kind
+     * @param projection fields and plain attributes to return
+     * @return projections of the matching any objects
+     */
+    protected List<ProjectedAny> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond searchCondition,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final AnyProjection projection) {
+
+        List<Any> anys = doSearch(base, recursive, adminRealms, searchCondition, pageable, kind);
+        return anys.stream().map(any -> project(any, projection)).toList();
+    }
+
+    @Override
+    public List<ProjectedAny> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final AnyProjection projection) {
+
+        if (!isSearchable(adminRealms, cond)) {
+            return List.of();
         }
 
-        return doSearch(
-                base,
-                recursive,
-                adminRealms,
-                cond,
-                pageable.isUnpaged()
-                ? Pageable.unpaged(Sort.by(effectiveOrderBy))
-                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
-                kind);
+        projection.fields().forEach(field -> checkProjected(kind, field));
+
+        return doSearch(base, recursive, adminRealms, cond, effectivePageable(pageable, kind), kind, projection);
     }
 }
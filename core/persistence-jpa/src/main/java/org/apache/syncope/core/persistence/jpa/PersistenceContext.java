@@ -283,6 +283,7 @@ public class PersistenceContext {
                 domainHolder,
                 resourceLoader.getResource(props.getViewsXML()),
                 resourceLoader.getResource(props.getIndexesXML()),
+                props.getContentLoaderBatchSize(),
                 ctx);
     }
 
@@ -292,9 +293,11 @@ public class PersistenceContext {
             final DomainHolder<DataSource> domainHolder,
             final RealmSearchDAO realmSearchDAO,
             final EntityManagerFactory entityManagerFactory,
+            final PersistenceProperties props,
             final ConfigurableApplicationContext ctx) {
 
-        return new XMLContentExporter(domainHolder, realmSearchDAO, entityManagerFactory, ctx);
+        return new XMLContentExporter(
+                domainHolder, realmSearchDAO, entityManagerFactory, props.getContentExporterFetchSize(), ctx);
     }
 
     @ConditionalOnMissingBean
@@ -34,6 +34,17 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
 
     private String viewsXML = "classpath:META-INF/views.xml";
 
+    /**
+     * Number of rows sent to the database in a single JDBC batch when loading default content.
+     */
+    private int contentLoaderBatchSize = 1000;
+
+    /**
+     * JDBC fetch size used when reading table rows during content export; some drivers (e.g. MySQL) require
+     * additional connection parameters for this to translate into server-side cursors.
+     */
+    private int contentExporterFetchSize = 1000;
+
     public String getCacheProvider() {
         return cacheProvider;
     }
@@ -57,4 +68,20 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
     public void setViewsXML(final String viewsXML) {
         this.viewsXML = viewsXML;
     }
+
+    public int getContentLoaderBatchSize() {
+        return contentLoaderBatchSize;
+    }
+
+    public void setContentLoaderBatchSize(final int contentLoaderBatchSize) {
+        this.contentLoaderBatchSize = contentLoaderBatchSize;
+    }
+
+    public int getContentExporterFetchSize() {
+        return contentExporterFetchSize;
+    }
+
+    public void setContentExporterFetchSize(final int contentExporterFetchSize) {
+        this.contentExporterFetchSize = contentExporterFetchSize;
+    }
 }
@@ -21,7 +21,9 @@ package org.apache.syncope.core.persistence.jpa.content;
 import jakarta.xml.bind.DatatypeConverter;
 import java.sql.Types;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import javax.sql.DataSource;
@@ -35,41 +37,87 @@ import org.xml.sax.Attributes;
 
 /**
  * SAX handler for generating SQL INSERT statements out of given XML file.
+ * Consecutive rows sharing the same INSERT statement are sent to the database as JDBC batches.
  */
 public class ContentLoaderHandler extends AbstractContentLoaderHandler {
 
     private final JdbcTemplate jdbcTemplate;
 
+    private final int batchSize;
+
+    private final Map<String, Map<String, Integer>> colTypes = new HashMap<>();
+
+    private final List<Object[]> batch = new ArrayList<>();
+
+    private String batchQuery;
+
     public ContentLoaderHandler(
             final DataSource dataSource,
             final String rootElement,
             final boolean continueOnError,
+            final int batchSize,
             final Environment env) {
 
         super(rootElement, continueOnError, env);
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(batchQuery, batch);
+        } catch (DataAccessException e) {
+            if (!continueOnError) {
+                LOG.error("While trying to perform {} with batch of {} rows", batchQuery, batch.size(), e);
+                throw e;
+            }
+
+            // replay row by row, so that only the failing rows are reported and skipped
+            LOG.debug("Batch {} failed, replaying row by row", batchQuery, e);
+            batch.forEach(params -> {
+                try {
+                    jdbcTemplate.update(batchQuery, params);
+                } catch (DataAccessException re) {
+                    LOG.error("While trying to perform {} with params {}", batchQuery, params, re);
+                }
+            });
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void endDocument() {
+        flush();
     }
 
     @Override
     protected void fetch(final Attributes atts) {
+        // fetch queries might refer to rows still pending in the current batch
+        flush();
+
         String value = jdbcTemplate.queryForObject(atts.getValue("query"), String.class);
         String key = atts.getValue("key");
         fetches.put(key, value);
     }
 
     private Object[] getParameters(final String tableName, final Attributes attrs) {
-        Map<String, Integer> colTypes = jdbcTemplate.query(
-                "SELECT * FROM " + tableName + " WHERE 0=1", rs -> {
+        Map<String, Integer> tableColTypes = colTypes.computeIfAbsent(
+                tableName.toUpperCase(), k -> jdbcTemplate.query("SELECT * FROM " + tableName + " WHERE 0=1", rs -> {
                     Map<String, Integer> types = new HashMap<>();
                     for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
                         types.put(rs.getMetaData().getColumnName(i).toUpperCase(), rs.getMetaData().getColumnType(i));
                     }
                     return types;
-                });
+                }));
 
         Object[] parameters = new Object[attrs.getLength()];
         for (int i = 0; i < attrs.getLength(); i++) {
-            Integer colType = Objects.requireNonNull(colTypes).get(attrs.getQName(i).toUpperCase());
+            Integer colType = Objects.requireNonNull(tableColTypes).get(attrs.getQName(i).toUpperCase());
             if (colType == null) {
                 LOG.warn("No column type found for {}", attrs.getQName(i).toUpperCase());
                 colType = Types.VARCHAR;
@@ -187,13 +235,15 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
         }
         query.append(") VALUES (").append(values).append(')');
 
-        try {
-            jdbcTemplate.update(query.toString(), getParameters(qName, atts));
-        } catch (DataAccessException e) {
-            LOG.error("While trying to perform {} with params {}", query, getParameters(qName, atts), e);
-            if (!continueOnError) {
-                throw e;
-            }
+        // rows are flushed in document order, as later rows might depend on earlier ones via foreign keys
+        if (!query.toString().equals(batchQuery)) {
+            flush();
+            batchQuery = query.toString();
+        }
+
+        batch.add(getParameters(qName, atts));
+        if (batch.size() >= batchSize) {
+            flush();
         }
     }
 }
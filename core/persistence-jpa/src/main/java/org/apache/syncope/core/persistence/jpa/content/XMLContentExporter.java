@@ -68,6 +68,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.common.content.AbstractXMLContentExporter;
 import org.apache.syncope.core.persistence.common.content.MultiParentNode;
@@ -77,6 +78,7 @@ import org.apache.syncope.core.persistence.jpa.entity.JPAJobStatus;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.MetaDataAccessException;
@@ -272,20 +274,36 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
 
     protected final EntityManagerFactory entityManagerFactory;
 
+    protected final int fetchSize;
+
     protected final ConfigurableApplicationContext ctx;
 
     public XMLContentExporter(
             final DomainHolder<DataSource> domainHolder,
             final RealmSearchDAO realmSearchDAO,
             final EntityManagerFactory entityManagerFactory,
+            final int fetchSize,
             final ConfigurableApplicationContext ctx) {
 
         this.domainHolder = domainHolder;
         this.realmSearchDAO = realmSearchDAO;
         this.entityManagerFactory = entityManagerFactory;
+        this.fetchSize = fetchSize;
         this.ctx = ctx;
     }
 
+    protected void writeRow(
+            final TransformerHandler handler,
+            final String outputTableName,
+            final Map<String, String> row) throws SAXException {
+
+        AttributesImpl attrs = new AttributesImpl();
+        row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
+
+        handler.startElement("", "", outputTableName, attrs);
+        handler.endElement("", "", outputTableName);
+    }
+
     @SuppressWarnings("unchecked")
     protected void exportTable(
             final DataSource dataSource,
@@ -319,6 +337,7 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
 
         JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
         jdbcTemplate.setMaxRows(threshold);
+        jdbcTemplate.setFetchSize(fetchSize);
 
         Optional<EntityType<?>> entity = entities.entrySet().stream().
                 filter(entry -> entry.getKey().equalsIgnoreCase(tableName)).
@@ -330,55 +349,73 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
                 filter(tableName::equalsIgnoreCase).findFirst().
                 orElse(tableName));
 
-        List<Map<String, String>> rows = new ArrayList<>();
+        Optional<Pair<String, String>> relationColumns = Optional.ofNullable(relationTables.get(outputTableName));
 
-        jdbcTemplate.query(query.toString(), rs -> {
-            Map<String, String> row = new HashMap<>();
-            rows.add(row);
+        // realms need to be written in hierarchical order, hence they are collected first;
+        // rows from any other table are streamed straight to the handler while reading
+        boolean isRealm = tableName.equalsIgnoreCase(JPARealm.TABLE);
+        List<Map<String, String>> realmRows = new ArrayList<>();
 
+        jdbcTemplate.query(query.toString(), (ResultSetExtractor<Void>) rs -> {
+            // resolve output column names once per table
             ResultSetMetaData rsMeta = rs.getMetaData();
-            for (int i = 0; i < rsMeta.getColumnCount(); i++) {
-                String columnName = rsMeta.getColumnName(i + 1);
-                Integer columnType = rsMeta.getColumnType(i + 1);
-
-                // Retrieve value taking care of binary values.
-                Optional.ofNullable(getValues(rs, columnName, columnType)).ifPresent(value -> {
-                    String name = entity.map(e -> columnName(
-                            () -> (Stream<Attribute<?, ?>>) e.getAttributes().stream(), columnName)).
-                            orElse(columnName);
-
-                    if (relationTables.containsKey(outputTableName)) {
-                        Pair<String, String> relationColumns = relationTables.get(outputTableName);
-                        if (name.equalsIgnoreCase(relationColumns.getLeft())) {
-                            name = relationColumns.getLeft();
-                        } else if (name.equalsIgnoreCase(relationColumns.getRight())) {
-                            name = relationColumns.getRight();
-                        }
+            String[] columnNames = new String[rsMeta.getColumnCount()];
+            int[] columnTypes = new int[rsMeta.getColumnCount()];
+            String[] names = new String[rsMeta.getColumnCount()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = rsMeta.getColumnName(i + 1);
+                columnTypes[i] = rsMeta.getColumnType(i + 1);
+
+                String columnName = columnNames[i];
+                String name = entity.map(e -> columnName(
+                        () -> (Stream<Attribute<?, ?>>) e.getAttributes().stream(), columnName)).
+                        orElse(columnName);
+                names[i] = relationColumns.map(rc -> {
+                    if (name.equalsIgnoreCase(rc.getLeft())) {
+                        return rc.getLeft();
                     }
-
-                    row.put(name, value);
-                    LOG.debug("Add for table {}: {}=\"{}\"", outputTableName, name, value);
-                });
+                    if (name.equalsIgnoreCase(rc.getRight())) {
+                        return rc.getRight();
+                    }
+                    return name;
+                }).orElse(name);
             }
-        });
 
-        if (tableName.equalsIgnoreCase(JPARealm.TABLE)) {
-            List<Map<String, String>> realmRows = new ArrayList<>(rows);
-            rows.clear();
-            realmSearchDAO.findDescendants(SyncopeConstants.ROOT_REALM, null).
-                    forEach(realm -> realmRows.stream().filter(row -> {
+            while (rs.next()) {
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < columnNames.length; i++) {
+                    // Retrieve value taking care of binary values.
+                    String value = getValues(rs, columnNames[i], columnTypes[i]);
+                    if (value != null) {
+                        row.put(names[i], value);
+                        LOG.debug("Add for table {}: {}=\"{}\"", outputTableName, names[i], value);
+                    }
+                }
 
-                String id = Optional.ofNullable(row.get("ID")).orElseGet(() -> row.get("id"));
-                return realm.getKey().equals(id);
-            }).findFirst().ifPresent(rows::add));
-        }
+                if (isRealm) {
+                    realmRows.add(row);
+                } else {
+                    try {
+                        writeRow(handler, outputTableName, row);
+                    } catch (SAXException e) {
+                        throw new SQLException("While writing row for table " + outputTableName, e);
+                    }
+                }
+            }
 
-        for (Map<String, String> row : rows) {
-            AttributesImpl attrs = new AttributesImpl();
-            row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
+            return null;
+        });
 
-            handler.startElement("", "", outputTableName, attrs);
-            handler.endElement("", "", outputTableName);
+        if (isRealm) {
+            for (Realm realm : realmSearchDAO.findDescendants(SyncopeConstants.ROOT_REALM, null)) {
+                Optional<Map<String, String>> row = realmRows.stream().filter(r -> {
+                    String id = Optional.ofNullable(r.get("ID")).orElseGet(() -> r.get("id"));
+                    return realm.getKey().equals(id);
+                }).findFirst();
+                if (row.isPresent()) {
+                    writeRow(handler, outputTableName, row.get());
+                }
+            }
         }
     }
 
@@ -427,10 +464,12 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
             }
             LOG.debug("Tables to be exported {}", tableNames);
 
+            Map<String, Pair<String, String>> relationTables = relationTables(entities);
+
             // then sort tables based on foreign keys and export
             for (String tableName : sortByForeignKeys(conn, schema, tableNames)) {
                 try {
-                    exportTable(dataSource, tableName, threshold, entities, relationTables(entities), handler);
+                    exportTable(dataSource, tableName, threshold, entities, relationTables, handler);
                 } catch (Exception e) {
                     LOG.error("Failure exporting table {}", tableName, e);
                 }
@@ -42,16 +42,20 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
 
     protected final Resource indexesXML;
 
+    protected final int batchSize;
+
     public XMLContentLoader(
             final DomainHolder<DataSource> domainHolder,
             final Resource viewsXML,
             final Resource indexesXML,
+            final int batchSize,
             final ConfigurableApplicationContext ctx) {
 
         super(ctx);
         this.domainHolder = domainHolder;
         this.viewsXML = viewsXML;
         this.indexesXML = indexesXML;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -110,7 +114,7 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
         InputStream in = ctx.getBeanFactory().getBean(contentXML, InputStream.class);
         try (in) {
             saxParser().parse(in, new ContentLoaderHandler(
-                    domainHolder.getDomains().get(domain), ROOT_ELEMENT, true, ctx.getEnvironment()));
+                    domainHolder.getDomains().get(domain), ROOT_ELEMENT, true, batchSize, ctx.getEnvironment()));
             LOG.debug("[{}] Default content successfully loaded", domain);
         }
     }
@@ -20,11 +20,22 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.lang.reflect.Field;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -40,11 +51,13 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.AuxClassCond;
 import org.apache.syncope.core.persistence.api.dao.search.MemberCond;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
@@ -58,6 +71,8 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.common.dao.AbstractAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.converters.PlainAttrListConverter;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -79,6 +94,13 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             + "lastChangeDate,lastModifier,status,changePwdDate,cipherAlgorithm,failedLogins,"
             + "lastLoginDate,mustChangePassword,suspended,username";
 
+    /**
+     * Max number of keys per IN clause when reading projections, as some databases (Oracle) impose a limit.
+     */
+    protected static final int PROJECTION_KEYS_CHUNK = 1000;
+
+    protected static final PlainAttrListConverter PLAIN_ATTRS_CONVERTER = new PlainAttrListConverter();
+
     protected static int setParameter(final List<Object> parameters, final Object parameter) {
         parameters.add(parameter);
         return parameters.size();
@@ -886,9 +908,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return queryString.toString();
     }
 
-    @Override
     @SuppressWarnings("unchecked")
-    protected <T extends Any> List<T> doSearch(
+    protected List<String> doSearchKeys(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -927,7 +948,174 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         // 5. populate the search query with parameter values
         fillWithParameters(query, parameters);
 
-        // 6. prepare the result (avoiding duplicates)
-        return buildResult(query.getResultList(), kind);
+        // 6. extract keys, as results might contain ordering columns as well
+        return ((List<Object>) query.getResultList()).stream().
+                map(key -> key instanceof Object[] array ? (String) array[0] : (String) key).
+                toList();
+    }
+
+    @Override
+    protected <T extends Any> List<T> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        return buildResult(new ArrayList<>(doSearchKeys(base, recursive, adminRealms, cond, pageable, kind)), kind);
+    }
+
+    protected String projectionColumn(final SearchSupport.SearchView table, final String fieldName) {
+        // Realm is reported by full path rather than key, as with TOs
+        if (JAXRSService.PARAM_REALM.equals(fieldName)) {
+            return "(SELECT r.fullPath FROM " + JPARealm.TABLE + " r WHERE r.id=" + table.alias() + ".realm_id)";
+        }
+
+        // Manage difference among external key attribute and internal JPA @Id
+        String column = "key".equals(fieldName) ? "id" : fieldName;
+
+        // Adjust field name to column name
+        return table.alias() + '.' + (RELATIONSHIP_FIELDS.contains(column) ? column + "_id" : column);
+    }
+
+    /**
+     * Returns the SQL expression selecting the plain attributes to project; by default the whole JSON column is read
+     * and filtered in memory, subclasses can narrow it down via database-specific JSON functions.
+     *
+     * @param table table being queried
+     * @param plainSchemas plain schemas to project
+     * @param parameters query parameters, to bind any value the expression depends on
+     * @return SQL expression returning JSON plain attributes
+     */
+    protected String projectPlainAttrs(
+            final SearchSupport.SearchView table,
+            final Set<String> plainSchemas,
+            final List<Object> parameters) {
+
+        return table.alias() + ".plainAttrs";
+    }
+
+    protected static String projectionString(final Object value) {
+        if (value instanceof Clob clob) {
+            try {
+                return clob.getSubString(1, (int) clob.length());
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not read CLOB value", e);
+            }
+        }
+        return Optional.ofNullable(value).map(Object::toString).orElse(null);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static Object projectionValue(final Object value, final Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+
+        if (OffsetDateTime.class.equals(type)) {
+            return switch (value) {
+                case OffsetDateTime offsetDateTime ->
+                    offsetDateTime;
+                case Timestamp timestamp ->
+                    OffsetDateTime.ofInstant(timestamp.toInstant(), ZoneId.systemDefault());
+                case Instant instant ->
+                    OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
+                case LocalDateTime localDateTime ->
+                    localDateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+                default ->
+                    OffsetDateTime.parse(value.toString());
+            };
+        }
+        if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return value instanceof Number number ? number.intValue() != 0 : Boolean.valueOf(value.toString());
+        }
+        if (Integer.class.equals(type) || int.class.equals(type)) {
+            return value instanceof Number number ? number.intValue() : Integer.valueOf(value.toString());
+        }
+        if (Long.class.equals(type) || long.class.equals(type)) {
+            return value instanceof Number number ? number.longValue() : Long.valueOf(value.toString());
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value.toString());
+        }
+        return projectionString(value);
+    }
+
+    @Override
+    protected List<ProjectedAny> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final AnyProjection projection) {
+
+        List<String> keys = doSearchKeys(base, recursive, adminRealms, cond, pageable, kind);
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Field> fields = projection.fields().stream().map(field -> checkProjected(kind, field)).toList();
+
+        Set<String> plainSchemas = projection.plainSchemas().stream().
+                filter(schema -> plainSchemaDAO.findById(schema).isPresent()).
+                collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // 1. select only the requested columns, straight from the table and by key
+        SearchSupport.SearchView table = new SearchSupport(kind).table();
+
+        List<Object> selectParameters = new ArrayList<>();
+        StringBuilder select = new StringBuilder("SELECT ").append(table.alias()).append(".id");
+        projection.fields().forEach(field -> select.append(',').append(projectionColumn(table, field)));
+        if (!plainSchemas.isEmpty()) {
+            select.append(',').append(projectPlainAttrs(table, plainSchemas, selectParameters));
+        }
+        select.append(" FROM ").append(table.name()).append(' ').append(table.alias()).
+                append(" WHERE ").append(table.alias()).append(".id IN (");
+
+        Map<String, ProjectedAny> projected = new HashMap<>(keys.size());
+        for (int i = 0; i < keys.size(); i += PROJECTION_KEYS_CHUNK) {
+            List<String> chunk = keys.subList(i, Math.min(i + PROJECTION_KEYS_CHUNK, keys.size()));
+
+            List<Object> parameters = new ArrayList<>(selectParameters);
+            String queryString = select + chunk.stream().
+                    map(key -> "?" + setParameter(parameters, key)).
+                    collect(Collectors.joining(",")) + ")";
+            LOG.debug("Query: {}, parameters: {}", queryString, parameters);
+
+            Query query = entityManager.createNativeQuery(queryString);
+            fillWithParameters(query, parameters);
+
+            // 2. map each row into the projected fields and plain attributes
+            for (Object result : query.getResultList()) {
+                Object[] row = result instanceof Object[] array ? array : new Object[] { result };
+
+                Map<String, Object> projectedFields = new LinkedHashMap<>();
+                for (int j = 0; j < fields.size(); j++) {
+                    projectedFields.put(
+                            projection.fields().get(j),
+                            projectionValue(row[j + 1], fields.get(j).getType()));
+                }
+
+                Map<String, List<String>> projectedPlainAttrs = new LinkedHashMap<>();
+                if (!plainSchemas.isEmpty()) {
+                    Optional.ofNullable(projectionString(row[fields.size() + 1])).
+                            map(PLAIN_ATTRS_CONVERTER::convertToEntityAttribute).
+                            ifPresent(attrs -> attrs.stream().
+                            filter(attr -> attr.getMembership() == null && attr.getRelationship() == null
+                            && plainSchemas.contains(attr.getSchema())).
+                            forEach(attr -> projectedPlainAttrs.put(attr.getSchema(), attr.getValuesAsStrings())));
+                }
+
+                projected.put(
+                        (String) row[0],
+                        new ProjectedAny((String) row[0], projectedFields, projectedPlainAttrs));
+            }
+        }
+
+        // 3. restore the ordering from search query
+        return keys.stream().map(projected::get).filter(Objects::nonNull).toList();
     }
 }
@@ -20,10 +20,13 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 import org.apache.syncope.core.persistence.jpa.entity.JPAJobStatus;
+import org.apache.syncope.core.persistence.jpa.entity.JPAJobStatusSequence;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
@@ -69,6 +72,150 @@ public class JPAJobStatusDAO implements JobStatusDAO {
         LOG.debug("Job {} unlocked", key);
     }
 
+    @Override
+    public void lock(final String key, final String owner, final long fencingToken) {
+        unlock(key);
+
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO " + JPAJobStatus.TABLE
+                + "(id, jobStatus, leaseOwner, fencingToken) VALUES (?,?,?,?)");
+        query.setParameter(1, key);
+        query.setParameter(2, JOB_FIRED_STATUS);
+        query.setParameter(3, owner);
+        query.setParameter(4, fencingToken);
+        query.executeUpdate();
+
+        LOG.debug("Job {} locked by {}", key, owner);
+    }
+
+    @Override
+    public void unlockExpired(final String key) {
+        Query query = entityManager.createNativeQuery(
+                "DELETE FROM " + JPAJobStatus.TABLE + " WHERE id=? AND (leaseExpiry IS NULL OR leaseExpiry < ?)");
+        query.setParameter(1, key);
+        query.setParameter(2, OffsetDateTime.now());
+        if (query.executeUpdate() > 0) {
+            LOG.debug("Job {} unlocked", key);
+        }
+    }
+
+    /**
+     * Draws the next fencing token for the given job: the row update serializes concurrent callers until commit.
+     *
+     * @param key job key
+     * @return next fencing token
+     */
+    protected long nextFencingToken(final String key) {
+        Query update = entityManager.createNativeQuery(
+                "UPDATE " + JPAJobStatusSequence.TABLE + " SET lastToken=lastToken+1 WHERE id=?");
+        update.setParameter(1, key);
+        if (update.executeUpdate() == 0) {
+            Query insert = entityManager.createNativeQuery(
+                    "INSERT INTO " + JPAJobStatusSequence.TABLE + "(id, lastToken) VALUES (?,?)");
+            insert.setParameter(1, key);
+            insert.setParameter(2, 1L);
+            insert.executeUpdate();
+            return 1L;
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT lastToken FROM " + JPAJobStatusSequence.TABLE + " WHERE id=?");
+        query.setParameter(1, key);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    public Optional<Long> lease(final String key, final String owner, final OffsetDateTime expiry) {
+        if (isLocked(key)) {
+            LOG.debug("Job {} already leased", key);
+            return Optional.empty();
+        }
+
+        long fencingToken;
+        try {
+            fencingToken = nextFencingToken(key);
+        } catch (Exception e) {
+            LOG.debug("Could not get fencing token for job {}", key, e);
+            return Optional.empty();
+        }
+
+        // first attempt to take over an expired lease
+        Query takeover = entityManager.createNativeQuery(
+                "UPDATE " + JPAJobStatus.TABLE
+                + " SET jobStatus=?, leaseOwner=?, leaseExpiry=?, fencingToken=?"
+                + " WHERE id=? AND leaseExpiry IS NOT NULL AND leaseExpiry < ?");
+        takeover.setParameter(1, JOB_FIRED_STATUS);
+        takeover.setParameter(2, owner);
+        takeover.setParameter(3, expiry);
+        takeover.setParameter(4, fencingToken);
+        takeover.setParameter(5, key);
+        takeover.setParameter(6, OffsetDateTime.now());
+        if (takeover.executeUpdate() > 0) {
+            LOG.debug("Expired lease on job {} taken over by {}", key, owner);
+            return Optional.of(fencingToken);
+        }
+
+        if (!UNKNOWN_STATUS.equals(get(key))) {
+            LOG.debug("Job {} already leased", key);
+            return Optional.empty();
+        }
+
+        // then attempt to acquire a new lease
+        try {
+            Query query = entityManager.createNativeQuery(
+                    "INSERT INTO " + JPAJobStatus.TABLE
+                    + "(id, jobStatus, leaseOwner, leaseExpiry, fencingToken) VALUES (?,?,?,?,?)");
+            query.setParameter(1, key);
+            query.setParameter(2, JOB_FIRED_STATUS);
+            query.setParameter(3, owner);
+            query.setParameter(4, expiry);
+            query.setParameter(5, fencingToken);
+            query.executeUpdate();
+
+            LOG.debug("Job {} leased by {}", key, owner);
+            return Optional.of(fencingToken);
+        } catch (Exception e) {
+            LOG.debug("Could not lease job {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean renew(final String key, final String owner, final long fencingToken, final OffsetDateTime expiry) {
+        Query query = entityManager.createNativeQuery(
+                "UPDATE " + JPAJobStatus.TABLE + " SET leaseExpiry=? WHERE id=? AND leaseOwner=? AND fencingToken=?");
+        query.setParameter(1, expiry);
+        query.setParameter(2, key);
+        query.setParameter(3, owner);
+        query.setParameter(4, fencingToken);
+        return query.executeUpdate() > 0;
+    }
+
+    @Override
+    public void release(final String key, final String owner, final long fencingToken) {
+        Query query = entityManager.createNativeQuery(
+                "DELETE FROM " + JPAJobStatus.TABLE + " WHERE id=? AND leaseOwner=? AND fencingToken=?");
+        query.setParameter(1, key);
+        query.setParameter(2, owner);
+        query.setParameter(3, fencingToken);
+        if (query.executeUpdate() > 0) {
+            LOG.debug("Job {} released by {}", key, owner);
+        } else {
+            LOG.debug("Lease on job {} not held by {} anymore", key, owner);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public boolean isLocked(final String key) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT COUNT(id) FROM " + JPAJobStatus.TABLE
+                + " WHERE id=? AND (leaseExpiry IS NULL OR leaseExpiry >= ?)");
+        query.setParameter(1, key);
+        query.setParameter(2, OffsetDateTime.now());
+        return ((Number) query.getSingleResult()).longValue() > 0;
+    }
+
     @Override
     public void set(final String key, final String status) {
         Query query = entityManager.createNativeQuery("UPDATE " + JPAJobStatus.TABLE + " SET jobStatus=? WHERE id=?");
@@ -77,6 +224,17 @@ public class JPAJobStatusDAO implements JobStatusDAO {
         query.executeUpdate();
     }
 
+    @Override
+    public boolean set(final String key, final String owner, final long fencingToken, final String status) {
+        Query query = entityManager.createNativeQuery(
+                "UPDATE " + JPAJobStatus.TABLE + " SET jobStatus=? WHERE id=? AND leaseOwner=? AND fencingToken=?");
+        query.setParameter(1, UNKNOWN_STATUS.equals(status) ? "Status " + UNKNOWN_STATUS : status);
+        query.setParameter(2, key);
+        query.setParameter(3, owner);
+        query.setParameter(4, fencingToken);
+        return query.executeUpdate() > 0;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public String get(final String key) {
@@ -92,7 +250,8 @@ public class JPAJobStatusDAO implements JobStatusDAO {
     @Override
     public List<? extends JobStatus> findAll() {
         Query query = entityManager.createNativeQuery(
-                "SELECT id,jobStatus FROM " + JPAJobStatus.TABLE + " ORDER BY id", JPAJobStatus.class);
+                "SELECT id,jobStatus,leaseOwner,leaseExpiry,fencingToken FROM " + JPAJobStatus.TABLE + " ORDER BY id",
+                JPAJobStatus.class);
 
         @SuppressWarnings("unchecked")
         List<JPAJobStatus> result = query.getResultList();
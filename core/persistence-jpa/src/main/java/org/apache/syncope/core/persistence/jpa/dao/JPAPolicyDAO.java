@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.List;
 import java.util.Optional;
@@ -154,6 +155,13 @@ public class JPAPolicyDAO implements PolicyDAO {
         return query.getResultList();
     }
 
+    @Override
+    public <T extends Policy> long count(final Class<T> reference) {
+        Query query = entityManager.createQuery(
+                "SELECT COUNT(e) FROM " + getEntityReference(reference).getSimpleName() + " e");
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
     @Override
     public <T extends Policy> List<T> findAll(final Class<T> reference) {
         TypedQuery<T> query = entityManager.createQuery(
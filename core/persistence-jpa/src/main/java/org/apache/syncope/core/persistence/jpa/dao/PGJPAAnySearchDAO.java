@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
@@ -52,6 +53,10 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         return output.replace("'", "''");
     }
 
+    protected static String toJsonPathString(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
     protected static String escapeIfString(final String value, final boolean isStr) {
         return isStr
                 ? new StringBuilder().append('"').append(value.replace("'", "''")).append('"').toString()
@@ -310,4 +315,20 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
         return clause.toString();
     }
+
+    @Override
+    protected String projectPlainAttrs(
+            final SearchSupport.SearchView table,
+            final Set<String> plainSchemas,
+            final List<Object> parameters) {
+
+        // i.e jsonb_path_query_array(t.plainattrs, CAST(?1 AS jsonpath))
+        // with ?1 = '$[*] ? (@.schema=="Nome" || @.schema=="Cognome")'
+        String path = "$[*] ? ("
+                + plainSchemas.stream().map(schema -> "@.schema==" + toJsonPathString(schema)).
+                        collect(Collectors.joining(" || "))
+                + ")";
+        return "jsonb_path_query_array(" + table.alias() + ".plainattrs, CAST(?"
+                + setParameter(parameters, path) + " AS jsonpath))";
+    }
 }
@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
@@ -106,6 +108,20 @@ public abstract class AbstractAnyRepoExt<A extends Any> implements AnyRepoExt<A>
                 key);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findKeysAfter(final String after, final int limit) {
+        TypedQuery<String> query = entityManager.createQuery(
+                "SELECT e.id FROM " + anyUtils.anyClass().getSimpleName() + " e"
+                + (after == null ? "" : " WHERE e.id > :after")
+                + " ORDER BY e.id", String.class);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
     protected abstract void securityChecks(A any);
 
     @SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import java.time.OffsetDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
@@ -29,6 +30,8 @@ public interface AnyRepoExt<A extends Any> {
 
     Optional<OffsetDateTime> findLastChange(String key);
 
+    List<String> findKeysAfter(String after, int limit);
+
     A authFind(String key);
 
     Collection<String> findAllResourceKeys(String key);
@@ -18,11 +18,13 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
@@ -44,6 +46,12 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     List<AnyObject> findManagedAnyObjects(String key);
 
+    List<UserDAO.ManagedAny> findManaged(String key);
+
+    void recordSuccessfulLogin(String key, OffsetDateTime lastLoginDate);
+
+    void recordFailedLogin(String key);
+
     Map<String, Long> countByRealm();
 
     Map<String, Long> countByStatus();
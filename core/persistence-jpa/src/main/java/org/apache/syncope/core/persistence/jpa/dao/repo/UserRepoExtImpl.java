@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -39,6 +40,7 @@ import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
 import org.apache.syncope.core.persistence.api.dao.FIQLQueryDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Role;
@@ -47,6 +49,8 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
@@ -55,10 +59,17 @@ import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.hibernate.query.NativeQuery;
 import org.springframework.transaction.annotation.Transactional;
 
 public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRepoExt {
 
+    /**
+     * Query space which login info updates are synchronized on: matching no entity table, it lets such updates leave
+     * all cache regions in place, so that only the updated user needs to be evicted.
+     */
+    protected static final String LOGIN_INFO_QUERY_SPACE = "loginInfo";
+
     protected final RoleDAO roleDAO;
 
     protected final AccessTokenDAO accessTokenDAO;
@@ -194,7 +205,7 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
         result.addAll(anyObjects.getResultList());
 
         // 2. anyObject members of groups having uManager set to the requested user
-        findManagedGroupKeys(key).forEach(group -> groupDAO.findUMembers(group).
+        findManagedGroupKeys(key).forEach(group -> groupDAO.findAMembers(group).
                 forEach(member -> Optional.ofNullable(entityManager.find(JPAAnyObject.class, member)).
                 ifPresent(result::add)));
 
@@ -209,6 +220,113 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
         return result.stream().distinct().toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserDAO.ManagedAny> findManaged(final String key) {
+        List<UserDAO.ManagedAny> result = new ArrayList<>();
+
+        // users: same three criteria as findManagedUsers
+        result.addAll(query(
+                "SELECT e.id, r.fullPath FROM " + JPAUser.TABLE + " e JOIN " + JPARealm.TABLE + " r "
+                + "ON e.realm_id=r.id "
+                + "WHERE e.uManager_id=? "
+                + "OR e.id IN (SELECT m.user_id FROM " + JPAUMembership.TABLE + " m "
+                + "JOIN " + JPAGroup.TABLE + " g ON m.group_id=g.id WHERE g.uManager_id=?) "
+                + "OR e.gManager_id IN (SELECT m.group_id FROM " + JPAUMembership.TABLE + " m WHERE m.user_id=?)",
+                rs -> {
+                    List<UserDAO.ManagedAny> users = new ArrayList<>();
+                    while (rs.next()) {
+                        users.add(new UserDAO.ManagedAny(AnyTypeKind.USER, rs.getString(1), rs.getString(2), null));
+                    }
+                    return users;
+                },
+                key, key, key));
+
+        // groups: same criteria as findManagedGroups
+        result.addAll(query(
+                "SELECT e.id, r.fullPath FROM " + JPAGroup.TABLE + " e JOIN " + JPARealm.TABLE + " r "
+                + "ON e.realm_id=r.id "
+                + "WHERE e.uManager_id=?",
+                rs -> {
+                    List<UserDAO.ManagedAny> groups = new ArrayList<>();
+                    while (rs.next()) {
+                        groups.add(new UserDAO.ManagedAny(AnyTypeKind.GROUP, rs.getString(1), rs.getString(2), null));
+                    }
+                    return groups;
+                },
+                key));
+
+        // anyObjects: same three criteria as findManagedAnyObjects
+        result.addAll(query(
+                "SELECT e.id, r.fullPath, e.type_id FROM " + JPAAnyObject.TABLE + " e JOIN " + JPARealm.TABLE + " r "
+                + "ON e.realm_id=r.id "
+                + "WHERE e.uManager_id=? "
+                + "OR e.id IN (SELECT m.anyObject_id FROM " + JPAAMembership.TABLE + " m "
+                + "JOIN " + JPAGroup.TABLE + " g ON m.group_id=g.id WHERE g.uManager_id=?) "
+                + "OR e.gManager_id IN (SELECT m.group_id FROM " + JPAUMembership.TABLE + " m WHERE m.user_id=?)",
+                rs -> {
+                    List<UserDAO.ManagedAny> anyObjects = new ArrayList<>();
+                    while (rs.next()) {
+                        anyObjects.add(new UserDAO.ManagedAny(
+                                AnyTypeKind.ANY_OBJECT, rs.getString(1), rs.getString(2), rs.getString(3)));
+                    }
+                    return anyObjects;
+                },
+                key, key, key));
+
+        return result;
+    }
+
+    /**
+     * Prepares the given native update statement, synchronized on the {@link #LOGIN_INFO_QUERY_SPACE} query space
+     * only: differently from JPQL bulk updates or native updates without query spaces, its execution does not cause
+     * the whole user cache region to be invalidated.
+     *
+     * @param sql update statement
+     * @return native update query
+     */
+    protected NativeQuery<?> loginInfoUpdate(final String sql) {
+        return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class).
+                addSynchronizedQuerySpace(LOGIN_INFO_QUERY_SPACE);
+    }
+
+    /**
+     * Executes the given update, then evicts the given user from the second-level cache.
+     *
+     * @param key user key
+     * @param update update query, as returned by {@link #loginInfoUpdate(String)}
+     */
+    protected void updateLoginInfo(final String key, final NativeQuery<?> update) {
+        update.executeUpdate();
+        entityManager.getEntityManagerFactory().getCache().evict(JPAUser.class, key);
+    }
+
+    @Override
+    public void recordSuccessfulLogin(final String key, final OffsetDateTime lastLoginDate) {
+        if (lastLoginDate == null) {
+            updateLoginInfo(
+                    key,
+                    loginInfoUpdate("UPDATE " + JPAUser.TABLE + " SET failedLogins=0 WHERE id=?").
+                            setParameter(1, key));
+        } else {
+            // typed binding, for the value to be stored as for the lastLoginDate attribute
+            updateLoginInfo(
+                    key,
+                    loginInfoUpdate("UPDATE " + JPAUser.TABLE + " SET lastLoginDate=?, failedLogins=0 WHERE id=?").
+                            setParameter(1, lastLoginDate, OffsetDateTime.class).
+                            setParameter(2, key));
+        }
+    }
+
+    @Override
+    public void recordFailedLogin(final String key) {
+        updateLoginInfo(
+                key,
+                loginInfoUpdate("UPDATE " + JPAUser.TABLE
+                        + " SET failedLogins=COALESCE(failedLogins, 0) + 1 WHERE id=?").
+                        setParameter(1, key));
+    }
+
     @Override
     public Map<String, Long> countByRealm() {
         return query(
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 
@@ -35,6 +36,12 @@ public class JPAJobStatus extends AbstractProvidedKeyEntity implements JobStatus
 
     private String jobStatus;
 
+    private String leaseOwner;
+
+    private OffsetDateTime leaseExpiry;
+
+    private Long fencingToken;
+
     @Override
     public String getStatus() {
         return jobStatus;
@@ -44,4 +51,34 @@ public class JPAJobStatus extends AbstractProvidedKeyEntity implements JobStatus
     public void setStatus(final String status) {
         jobStatus = StringUtils.abbreviate(status, STATUS_MAX_LENGTH);
     }
+
+    @Override
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    @Override
+    public void setLeaseOwner(final String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    @Override
+    public OffsetDateTime getLeaseExpiry() {
+        return leaseExpiry;
+    }
+
+    @Override
+    public void setLeaseExpiry(final OffsetDateTime leaseExpiry) {
+        this.leaseExpiry = leaseExpiry;
+    }
+
+    @Override
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    @Override
+    public void setFencingToken(final Long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Last fencing token issued for a given job; rows are never removed, so that tokens keep increasing across leases.
+ */
+@Entity
+@Table(name = JPAJobStatusSequence.TABLE)
+public class JPAJobStatusSequence extends AbstractProvidedKeyEntity {
+
+    private static final long serialVersionUID = -2794232961212412846L;
+
+    public static final String TABLE = JPAJobStatus.TABLE + "Sequence";
+
+    private Long lastToken;
+
+    public Long getLastToken() {
+        return lastToken;
+    }
+
+    public void setLastToken(final Long lastToken) {
+        this.lastToken = lastToken;
+    }
+}
@@ -58,6 +58,8 @@ public class JPAPullTask extends AbstractInboundTask<PullTask> implements PullTa
     @ManyToOne
     private JPAImplementation reconFilterBuilder;
 
+    private Integer commitBatchSize;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "PullTaskAction",
             joinColumns =
@@ -97,6 +99,16 @@ public class JPAPullTask extends AbstractInboundTask<PullTask> implements PullTa
         this.reconFilterBuilder = (JPAImplementation) reconFilterBuilder;
     }
 
+    @Override
+    public Integer getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    @Override
+    public void setCommitBatchSize(final Integer commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
     @Override
     public boolean add(final Implementation action) {
         checkType(action, JPAImplementation.class);
@@ -46,11 +46,13 @@ import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.AuxClassCond;
 import org.apache.syncope.core.persistence.api.dao.search.MemberCond;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
@@ -376,6 +378,47 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchWithProjection() {
+        AnyCond usernameLeafCond = new AnyCond(AttrCond.Type.EQ);
+        usernameLeafCond.setSchema("username");
+        usernameLeafCond.setExpression("rossini");
+
+        List<ProjectedAny> projected = searchDAO.search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(usernameLeafCond),
+                Pageable.unpaged(), AnyTypeKind.USER,
+                new AnyProjection(List.of("username", "realm", "suspended"), List.of("firstname", "loginDate")));
+        assertEquals(1, projected.size());
+
+        User rossini = userDAO.findByUsername("rossini").orElseThrow();
+        assertEquals(rossini.getKey(), projected.getFirst().key());
+        assertEquals("rossini", projected.getFirst().fields().get("username"));
+        assertEquals(rossini.getRealm().getFullPath(), projected.getFirst().fields().get("realm"));
+        assertEquals(rossini.isSuspended(), projected.getFirst().fields().get("suspended"));
+        assertEquals(List.of("Gioacchino"), projected.getFirst().plainAttrs().get("firstname"));
+        assertEquals(2, projected.getFirst().plainAttrs().get("loginDate").size());
+        assertFalse(projected.getFirst().plainAttrs().containsKey("surname"));
+
+        // ordering is preserved
+        AnyCond keyCond = new AnyCond(AttrCond.Type.ISNOTNULL);
+        keyCond.setSchema("key");
+        assertEquals(
+                searchDAO.<User>search(
+                        realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(keyCond),
+                        Pageable.unpaged(Sort.by(Sort.Direction.DESC, "username")), AnyTypeKind.USER).stream().
+                        map(User::getUsername).toList(),
+                searchDAO.search(
+                        realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(keyCond),
+                        Pageable.unpaged(Sort.by(Sort.Direction.DESC, "username")), AnyTypeKind.USER,
+                        new AnyProjection(List.of("username"), List.of())).stream().
+                        map(user -> user.fields().get("username")).toList());
+
+        // sensitive fields cannot be projected
+        assertThrows(IllegalArgumentException.class, () -> searchDAO.search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(usernameLeafCond),
+                Pageable.unpaged(), AnyTypeKind.USER, new AnyProjection(List.of("password"), List.of())));
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
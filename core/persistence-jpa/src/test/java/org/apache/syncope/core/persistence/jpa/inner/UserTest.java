@@ -27,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
@@ -98,6 +100,19 @@ public class UserTest extends AbstractTest {
         assertEquals(5, users.size());
     }
 
+    @Test
+    public void findKeysAfter() {
+        List<String> first = userDAO.findKeysAfter(null, 3);
+        assertEquals(3, first.size());
+        assertEquals(first.stream().sorted().toList(), first);
+
+        List<String> next = userDAO.findKeysAfter(first.getLast(), 3);
+        assertEquals(2, next.size());
+        assertTrue(next.getFirst().compareTo(first.getLast()) > 0);
+
+        assertTrue(userDAO.findKeysAfter(next.getLast(), 3).isEmpty());
+    }
+
     @Test
     public void count() {
         long count = userDAO.count();
@@ -131,6 +146,46 @@ public class UserTest extends AbstractTest {
         assertNotNull(actual);
     }
 
+    @Test
+    public void recordLogin() {
+        String key = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        int failedLogins = userDAO.findById(key).orElseThrow().getFailedLogins();
+
+        userDAO.recordFailedLogin(key);
+        userDAO.recordFailedLogin(key);
+        entityManager.clear();
+
+        assertEquals(failedLogins + 2, userDAO.findById(key).orElseThrow().getFailedLogins());
+
+        OffsetDateTime lastLoginDate = OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        userDAO.recordSuccessfulLogin(key, lastLoginDate);
+        entityManager.clear();
+
+        User user = userDAO.findById(key).orElseThrow();
+        assertEquals(0, user.getFailedLogins());
+        assertTrue(lastLoginDate.isEqual(user.getLastLoginDate()));
+    }
+
+    @Test
+    public void recordLoginDateRoundTrip() {
+        // neither UTC nor the default offset, with fractional seconds
+        OffsetDateTime lastLoginDate = OffsetDateTime.of(2024, 2, 29, 23, 30, 15, 123_000_000, ZoneOffset.ofHours(5));
+
+        // same value, saved via entity
+        User saved = userDAO.findById("74cd8ece-715a-44a4-a736-e17b46c4e7e6").orElseThrow();
+        saved.setLastLoginDate(lastLoginDate);
+        userDAO.save(saved);
+        entityManager.flush();
+
+        String key = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        userDAO.recordSuccessfulLogin(key, lastLoginDate);
+        entityManager.clear();
+
+        OffsetDateTime recorded = userDAO.findById(key).orElseThrow().getLastLoginDate();
+        assertTrue(lastLoginDate.isEqual(recorded));
+        assertEquals(userDAO.findById(saved.getKey()).orElseThrow().getLastLoginDate(), recorded);
+    }
+
     @Test
     public void delete() {
         User user = userDAO.findById("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").orElseThrow();
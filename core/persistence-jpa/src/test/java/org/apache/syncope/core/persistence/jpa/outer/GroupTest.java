@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -155,6 +156,9 @@ public class GroupTest extends AbstractTest {
         assertFalse(managed.isEmpty());
         assertEquals(1, managed.size());
         assertTrue(managed.contains(group));
+
+        assertTrue(userDAO.findManaged(user.getKey()).contains(new UserDAO.ManagedAny(
+                AnyTypeKind.GROUP, group.getKey(), group.getRealm().getFullPath(), null)));
     }
 
     @Test
@@ -209,8 +209,10 @@ import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject
 import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
 import org.apache.syncope.core.persistence.neo4j.entity.task.Neo4jTaskUtilsFactory;
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
-import org.apache.syncope.core.persistence.neo4j.spring.CacheCleaningTransactionExecutionListener;
 import org.apache.syncope.core.persistence.neo4j.spring.DomainRoutingDriver;
+import org.apache.syncope.core.persistence.neo4j.spring.EntityCacheInvalidationChannel;
+import org.apache.syncope.core.persistence.neo4j.spring.EntityCacheInvalidator;
+import org.apache.syncope.core.persistence.neo4j.spring.LocalEntityCacheInvalidationChannel;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
 import org.apache.syncope.core.persistence.neo4j.spring.PlainAttrsConverter;
 import org.apache.syncope.core.spring.security.SecurityProperties;
@@ -302,47 +304,27 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public CacheCleaningTransactionExecutionListener cacheCleaningTransactionExecutionListener(
-            final Cache<EntityCacheKey, Neo4jAnyType> anyTypeCache,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
-            final Cache<EntityCacheKey, Neo4jDelegation> delegationCache,
-            final Cache<EntityCacheKey, Neo4jDerSchema> derSchemaCache,
-            final Cache<EntityCacheKey, Neo4jConnInstance> connInstanceCache,
-            final Cache<EntityCacheKey, Neo4jExternalResource> externalResourceCache,
-            final Cache<EntityCacheKey, Neo4jGroup> groupCache,
-            final Cache<EntityCacheKey, Neo4jImplementation> implementationCache,
-            final Cache<EntityCacheKey, Neo4jPlainSchema> plainSchemaCache,
-            final Cache<EntityCacheKey, Neo4jRealm> realmCache,
-            final Cache<EntityCacheKey, Neo4jRole> roleCache,
-            final Cache<EntityCacheKey, Neo4jUser> userCache) {
+    public EntityCacheInvalidationChannel entityCacheInvalidationChannel() {
+        return new LocalEntityCacheInvalidationChannel();
+    }
 
-        return new CacheCleaningTransactionExecutionListener(
-                anyTypeCache,
-                anyObjectCache,
-                delegationCache,
-                derSchemaCache,
-                connInstanceCache,
-                externalResourceCache,
-                groupCache,
-                implementationCache,
-                plainSchemaCache,
-                realmCache,
-                roleCache,
-                userCache);
+    @ConditionalOnMissingBean
+    @Bean
+    public EntityCacheInvalidator entityCacheInvalidator(
+            final EntityCacheInvalidationChannel entityCacheInvalidationChannel) {
+
+        return new EntityCacheInvalidator(entityCacheInvalidationChannel);
     }
 
     @Bean(Neo4jRepositoryConfigurationExtension.DEFAULT_TRANSACTION_MANAGER_BEAN_NAME)
     public PlatformTransactionManager transactionManager(
             final DomainRoutingDriver driver,
-            final Neo4jBookmarkManager bookmarkManager,
-            final CacheCleaningTransactionExecutionListener cacheCleaningTransactionExecutionListener) {
+            final Neo4jBookmarkManager bookmarkManager) {
 
-        Neo4jTransactionManager transactionManager = Neo4jTransactionManager.
+        return Neo4jTransactionManager.
                 with(driver).
                 withBookmarkManager(bookmarkManager).
                 build();
-        transactionManager.addListener(cacheCleaningTransactionExecutionListener);
-        return transactionManager;
     }
 
     @Bean
@@ -484,13 +466,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = AnyObjectRepoExt.CACHE)
     @Bean(name = AnyObjectRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(AnyObjectRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(AnyObjectRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jAnyObject>().
                         setTypes(EntityCacheKey.class, Neo4jAnyObject.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO)));
+                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO))));
     }
 
     @ConditionalOnMissingBean
@@ -600,13 +585,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = AnyTypeRepoExt.CACHE)
     @Bean(name = AnyTypeRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jAnyType> anyTypeCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(AnyTypeRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jAnyType> anyTypeCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(AnyTypeRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jAnyType>().
                         setTypes(EntityCacheKey.class, Neo4jAnyType.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -758,13 +746,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = ConnInstanceRepoExt.CACHE)
     @Bean(name = ConnInstanceRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jConnInstance> connInstanceCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(ConnInstanceRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jConnInstance> connInstanceCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(ConnInstanceRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jConnInstance>().
                         setTypes(EntityCacheKey.class, Neo4jConnInstance.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -797,13 +788,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = DelegationRepoExt.CACHE)
     @Bean(name = DelegationRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jDelegation> delegationCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(DelegationRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jDelegation> delegationCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(DelegationRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jDelegation>().
                         setTypes(EntityCacheKey.class, Neo4jDelegation.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -828,13 +822,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = DerSchemaRepoExt.CACHE)
     @Bean(name = DerSchemaRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jDerSchema> derSchemaCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(DerSchemaRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jDerSchema> derSchemaCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(DerSchemaRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jDerSchema>().
                         setTypes(EntityCacheKey.class, Neo4jDerSchema.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -912,13 +909,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = GroupRepoExt.CACHE)
     @Bean(name = GroupRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jGroup> groupCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(GroupRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jGroup> groupCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(GroupRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jGroup>().
                         setTypes(EntityCacheKey.class, Neo4jGroup.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO)));
+                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO))));
     }
 
     @ConditionalOnMissingBean
@@ -969,13 +969,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = ImplementationRepoExt.CACHE)
     @Bean(name = ImplementationRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jImplementation> implementationCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(ImplementationRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jImplementation> implementationCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(ImplementationRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jImplementation>().
                         setTypes(EntityCacheKey.class, Neo4jImplementation.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -1005,8 +1008,12 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public JobStatusDAO jobStatusDAO(final Neo4jTemplate neo4jTemplate, final NodeValidator nodeValidator) {
-        return new Neo4jJobStatusDAO(neo4jTemplate, nodeValidator);
+    public JobStatusDAO jobStatusDAO(
+            final Neo4jTemplate neo4jTemplate,
+            final Neo4jClient neo4jClient,
+            final NodeValidator nodeValidator) {
+
+        return new Neo4jJobStatusDAO(neo4jTemplate, neo4jClient, nodeValidator);
     }
 
     @ConditionalOnMissingBean
@@ -1068,13 +1075,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = PlainSchemaRepoExt.CACHE)
     @Bean(name = PlainSchemaRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jPlainSchema> plainSchemaCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(PlainSchemaRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jPlainSchema> plainSchemaCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(PlainSchemaRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jPlainSchema>().
                         setTypes(EntityCacheKey.class, Neo4jPlainSchema.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -1148,13 +1158,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = Neo4jRealmDAO.CACHE)
     @Bean(name = Neo4jRealmDAO.CACHE)
-    public Cache<EntityCacheKey, Neo4jRealm> realmCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(Neo4jRealmDAO.CACHE,
+    public Cache<EntityCacheKey, Neo4jRealm> realmCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(Neo4jRealmDAO.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jRealm>().
                         setTypes(EntityCacheKey.class, Neo4jRealm.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -1259,13 +1272,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = ExternalResourceRepoExt.CACHE)
     @Bean(name = ExternalResourceRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jExternalResource> externalResourceCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(ExternalResourceRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jExternalResource> externalResourceCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(ExternalResourceRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jExternalResource>().
                         setTypes(EntityCacheKey.class, Neo4jExternalResource.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -1304,13 +1320,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = RoleRepoExt.CACHE)
     @Bean(name = RoleRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jRole> roleCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(RoleRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jRole> roleCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(RoleRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jRole>().
                         setTypes(EntityCacheKey.class, Neo4jRole.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL)));
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ETERNAL))));
     }
 
     @ConditionalOnMissingBean
@@ -1429,13 +1448,16 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean(name = UserRepoExt.CACHE)
     @Bean(name = UserRepoExt.CACHE)
-    public Cache<EntityCacheKey, Neo4jUser> userCache(final CacheManager cacheManager) {
-        return cacheManager.createCache(UserRepoExt.CACHE,
+    public Cache<EntityCacheKey, Neo4jUser> userCache(
+            final CacheManager cacheManager,
+            final EntityCacheInvalidator entityCacheInvalidator) {
+
+        return entityCacheInvalidator.register(cacheManager.createCache(UserRepoExt.CACHE,
                 new MutableConfiguration<EntityCacheKey, Neo4jUser>().
                         setTypes(EntityCacheKey.class, Neo4jUser.class).
                         setStoreByValue(false).
                         setReadThrough(true).
-                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO)));
+                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO))));
     }
 
     @ConditionalOnMissingBean
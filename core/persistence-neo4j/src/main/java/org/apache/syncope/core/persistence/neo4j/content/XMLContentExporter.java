@@ -64,7 +64,7 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
 
     protected static final Set<String> LABELS_TO_BE_EXCLUDED = Set.of(
             Neo4jSchema.NODE, Neo4jPolicy.NODE, Neo4jProvisioningTask.NODE, Neo4jInboundTask.NODE,
-            Neo4jJobStatus.NODE, Neo4jAuditEvent.NODE);
+            Neo4jJobStatus.NODE, Neo4jJobStatus.SEQUENCE_NODE, Neo4jAuditEvent.NODE);
 
     protected static final Comparator<Record> REALM_COMPARATOR =
             Comparator.comparing(record -> record.get("n").asNode().get("fullPath").asString());
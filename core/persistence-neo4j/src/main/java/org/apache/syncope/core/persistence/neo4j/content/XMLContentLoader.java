@@ -50,6 +50,20 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
         this.indexesXML = indexesXML;
     }
 
+    @Override
+    public void load(final String domain) {
+        if (existingData(domain)) {
+            // all statements in indexes.xml are idempotent: keep existing domains aligned with the current schema
+            try {
+                createIndexes(domain);
+            } catch (IOException e) {
+                LOG.error("[{}] While creating indexes", domain, e);
+            }
+        }
+
+        super.load(domain);
+    }
+
     @Override
     protected boolean existingData(final String domain) {
         boolean existingData;
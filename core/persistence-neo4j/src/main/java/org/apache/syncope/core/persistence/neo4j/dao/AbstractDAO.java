@@ -19,10 +19,15 @@
 package org.apache.syncope.core.persistence.neo4j.dao;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.cache.Cache;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.neo4j.entity.AbstractNode;
@@ -63,6 +68,50 @@ public abstract class AbstractDAO {
                 }));
     }
 
+    /**
+     * Loads the nodes with the given keys, preserving their order: cache hits are served straight, while all misses
+     * are loaded with a single query and then put into cache.
+     *
+     * @param <N> node type
+     * @param keys keys of the nodes to load
+     * @param domainType node class
+     * @param cache node cache, can be {@code null}
+     * @return nodes found, in the same order as the given keys
+     */
+    protected <N extends AbstractNode> List<N> findAllById(
+            final Collection<String> keys,
+            final Class<N> domainType,
+            final Cache<EntityCacheKey, N> cache) {
+
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, N> found = new HashMap<>(keys.size());
+
+        Set<String> misses = new HashSet<>(keys);
+        if (cache != null) {
+            cache.getAll(keys.stream().map(EntityCacheKey::of).collect(Collectors.toSet())).
+                    forEach((cacheKey, value) -> {
+                        found.put(cacheKey.entityKey(), value);
+                        misses.remove(cacheKey.entityKey());
+                    });
+        }
+
+        if (!misses.isEmpty()) {
+            Map<EntityCacheKey, N> loaded = new HashMap<>(misses.size());
+            neo4jTemplate.findAllById(misses, domainType).forEach(value -> {
+                found.put(value.getKey(), value);
+                loaded.put(EntityCacheKey.of(value.getKey()), value);
+            });
+            if (cache != null && !loaded.isEmpty()) {
+                cache.putAll(loaded);
+            }
+        }
+
+        return keys.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
     protected <E extends Entity, N extends AbstractNode> List<E> findByRelationship(
             final String leftNode,
             final String rightNode,
@@ -110,9 +159,10 @@ public abstract class AbstractDAO {
             final Class<N> domainType,
             final Cache<EntityCacheKey, N> cache) {
 
-        return result.stream().
-                map(found -> findById(found.get(property).toString(), domainType, cache)).
-                flatMap(Optional::stream).map(n -> (E) n).toList();
+        return findAllById(
+                result.stream().map(found -> found.get(property).toString()).toList(),
+                domainType,
+                cache).stream().map(n -> (E) n).toList();
     }
 
     protected void cascadeDelete(
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.neo4j.dao.repo.AnyRepoExt;
+import org.apache.syncope.core.persistence.neo4j.entity.AbstractAny;
+import org.apache.syncope.core.persistence.neo4j.entity.AbstractMembership;
+import org.apache.syncope.core.persistence.neo4j.entity.AbstractRelationship;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jExternalResource;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRelationshipType;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRole;
+import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jARelationship;
+import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
+import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
+import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jURelationship;
+import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+
+/**
+ * Generates the Cypher patterns used by {@link Neo4jAnySearchDAO}: every hop is bound to its relationship type and
+ * direction, and every node other than the anchor carries its label, so that the planner can expand by type from the
+ * (already label-anchored) any node and seek the far end via the {@code id} indexes.
+ */
+public final class AnySearchCypher {
+
+    private static String resourceRel(final AnyTypeKind kind) {
+        return switch (kind) {
+            case USER ->
+                Neo4jUser.USER_RESOURCE_REL;
+            case GROUP ->
+                Neo4jGroup.GROUP_RESOURCE_REL;
+            case ANY_OBJECT ->
+                Neo4jAnyObject.ANY_OBJECT_RESOURCE_REL;
+            default ->
+                throw new IllegalArgumentException("Unsupported kind: " + kind);
+        };
+    }
+
+    private static String auxClassesRel(final AnyTypeKind kind) {
+        return switch (kind) {
+            case USER ->
+                Neo4jUser.USER_AUX_CLASSES_REL;
+            case GROUP ->
+                Neo4jGroup.GROUP_AUX_CLASSES_REL;
+            case ANY_OBJECT ->
+                Neo4jAnyObject.ANY_OBJECT_AUX_CLASSES_REL;
+            default ->
+                throw new IllegalArgumentException("Unsupported kind: " + kind);
+        };
+    }
+
+    private static String membershipRel(final AnyTypeKind kind) {
+        return switch (kind) {
+            case USER ->
+                Neo4jUser.USER_GROUP_MEMBERSHIP_REL;
+            case ANY_OBJECT ->
+                Neo4jAnyObject.ANY_OBJECT_GROUP_MEMBERSHIP_REL;
+            default ->
+                throw new IllegalArgumentException("Unsupported kind: " + kind);
+        };
+    }
+
+    private static String relationshipNode(final AnyTypeKind kind) {
+        return kind == AnyTypeKind.ANY_OBJECT ? Neo4jARelationship.NODE : Neo4jURelationship.NODE;
+    }
+
+    private static String sourceRel(final AnyTypeKind kind) {
+        return kind == AnyTypeKind.ANY_OBJECT ? Neo4jARelationship.SOURCE_REL : Neo4jURelationship.SOURCE_REL;
+    }
+
+    private static String destRel(final AnyTypeKind kind) {
+        return kind == AnyTypeKind.ANY_OBJECT ? Neo4jARelationship.DEST_REL : Neo4jURelationship.DEST_REL;
+    }
+
+    /**
+     * Pattern from the given any node to its realm.
+     *
+     * @param any variable bound to the any node
+     * @param realm variable to bind to the realm node
+     * @return Cypher pattern
+     */
+    public static String realm(final String any, final String realm) {
+        return "(" + any + ")-[:" + AbstractAny.REALM_REL + "]->(" + realm + ":" + Neo4jRealm.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given any object node to its any type.
+     *
+     * @param any variable bound to the any object node
+     * @param anyType variable to bind to the any type node
+     * @return Cypher pattern
+     */
+    public static String anyType(final String any, final String anyType) {
+        return "(" + any + ")-[:" + Neo4jAnyObject.ANY_OBJECT_TYPE_REL + "]->"
+                + "(" + anyType + ":" + Neo4jAnyType.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given any node to its auxiliary classes.
+     *
+     * @param kind any type kind
+     * @param any variable bound to the any node
+     * @param auxClass variable to bind to the any type class node
+     * @return Cypher pattern
+     */
+    public static String auxClass(final AnyTypeKind kind, final String any, final String auxClass) {
+        return "(" + any + ")-[:" + auxClassesRel(kind) + "]->(" + auxClass + ":" + Neo4jAnyTypeClass.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given any node to the external resources it is directly assigned to.
+     *
+     * @param kind any type kind
+     * @param any variable bound to the any node
+     * @param resource variable to bind to the external resource node
+     * @return Cypher pattern
+     */
+    public static String resource(final AnyTypeKind kind, final String any, final String resource) {
+        return "(" + any + ")-[:" + resourceRel(kind) + "]->(" + resource + ":" + Neo4jExternalResource.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given user node to its directly assigned roles.
+     *
+     * @param user variable bound to the user node
+     * @param role variable to bind to the role node
+     * @return Cypher pattern
+     */
+    public static String role(final String user, final String role) {
+        return "(" + user + ")-[:" + Neo4jUser.ROLE_MEMBERSHIP_REL + "]->(" + role + ":" + Neo4jRole.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given user or any object node, through its membership nodes, to the groups it belongs to.
+     *
+     * @param kind any type kind, either {@link AnyTypeKind#USER} or {@link AnyTypeKind#ANY_OBJECT}
+     * @param any variable bound to the user or any object node
+     * @param membership variable to bind to the membership node, or empty for anonymous
+     * @param group variable to bind to the group node
+     * @return Cypher pattern
+     */
+    public static String membership(
+            final AnyTypeKind kind,
+            final String any,
+            final String membership,
+            final String group) {
+
+        return "(" + any + ")<-[:" + membershipRel(kind) + "]-"
+                + "(" + membership + ":" + AnyRepoExt.membNode(kind) + ")"
+                + "-[:" + AbstractMembership.GROUP_REL + "]->(" + group + ":" + Neo4jGroup.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given membership node to the user or any object node owning it.
+     *
+     * @param kind any type kind, either {@link AnyTypeKind#USER} or {@link AnyTypeKind#ANY_OBJECT}
+     * @param membership variable to bind to the membership node
+     * @param any variable to bind to the user or any object node
+     * @return Cypher pattern
+     */
+    public static String membershipOwner(final AnyTypeKind kind, final String membership, final String any) {
+        return "(" + membership + ":" + AnyRepoExt.membNode(kind) + ")"
+                + "-[:" + membershipRel(kind) + "]->(" + any + ":" + AnyRepoExt.node(kind) + ")";
+    }
+
+    /**
+     * Pattern from the given group node, through membership nodes, to its members of the given kind.
+     *
+     * @param memberKind kind of members, either {@link AnyTypeKind#USER} or {@link AnyTypeKind#ANY_OBJECT}
+     * @param group variable bound to the group node
+     * @param member variable to bind to the member node
+     * @return Cypher pattern
+     */
+    public static String member(final AnyTypeKind memberKind, final String group, final String member) {
+        return "(" + group + ")<-[:" + AbstractMembership.GROUP_REL + "]-(:" + AnyRepoExt.membNode(memberKind) + ")"
+                + "-[:" + membershipRel(memberKind) + "]->(" + member + ":" + AnyRepoExt.node(memberKind) + ")";
+    }
+
+    /**
+     * Pattern from the given user or any object node, through the relationship nodes it is source of, to the
+     * relationship types.
+     *
+     * @param kind any type kind, either {@link AnyTypeKind#USER} or {@link AnyTypeKind#ANY_OBJECT}
+     * @param any variable bound to the user or any object node
+     * @param relationshipType variable to bind to the relationship type node
+     * @return Cypher pattern
+     */
+    public static String relationshipType(final AnyTypeKind kind, final String any, final String relationshipType) {
+        return "(" + any + ")<-[:" + sourceRel(kind) + "]-(:" + relationshipNode(kind) + ")"
+                + "-[:" + AbstractRelationship.RELATIONSHIP_TYPE_REL + "]->"
+                + "(" + relationshipType + ":" + Neo4jRelationshipType.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given any object node, through the relationship nodes it is destination of, to the
+     * relationship types.
+     *
+     * @param anyObject variable bound to the any object node
+     * @param relationshipType variable to bind to the relationship type node
+     * @return Cypher pattern
+     */
+    public static String relationshipTypeAsDest(final String anyObject, final String relationshipType) {
+        return "(" + anyObject + ")<-[:" + Neo4jARelationship.DEST_REL + "]-(:" + Neo4jARelationship.NODE + ")"
+                + "-[:" + AbstractRelationship.RELATIONSHIP_TYPE_REL + "]->"
+                + "(" + relationshipType + ":" + Neo4jRelationshipType.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given user or any object node, through the relationship nodes it is source of, to the
+     * related any objects.
+     *
+     * @param kind any type kind, either {@link AnyTypeKind#USER} or {@link AnyTypeKind#ANY_OBJECT}
+     * @param any variable bound to the user or any object node
+     * @param anyObject variable to bind to the related any object node
+     * @return Cypher pattern
+     */
+    public static String relationship(final AnyTypeKind kind, final String any, final String anyObject) {
+        return "(" + any + ")<-[:" + sourceRel(kind) + "]-(:" + relationshipNode(kind) + ")"
+                + "-[:" + destRel(kind) + "]->(" + anyObject + ":" + Neo4jAnyObject.NODE + ")";
+    }
+
+    /**
+     * Pattern from the given any node to the user or group node managing it.
+     *
+     * @param managerKind either {@link AnyTypeKind#USER} or {@link AnyTypeKind#GROUP}
+     * @param any variable bound to the any node
+     * @param manager variable to bind to the manager node
+     * @return Cypher pattern
+     */
+    public static String manager(final AnyTypeKind managerKind, final String any, final String manager) {
+        return "(" + any + ")-[:"
+                + (managerKind == AnyTypeKind.GROUP ? AbstractAny.GROUP_MANAGER_REL : AbstractAny.USER_MANAGER_REL)
+                + "]->(" + manager + ":" + AnyRepoExt.node(managerKind) + ")";
+    }
+
+    private AnySearchCypher() {
+        // private constructor for static utility class
+    }
+}
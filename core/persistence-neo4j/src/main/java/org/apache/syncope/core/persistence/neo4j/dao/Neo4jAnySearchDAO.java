@@ -63,20 +63,6 @@ import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.common.dao.AbstractAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.repo.AnyRepoExt;
-import org.apache.syncope.core.persistence.neo4j.entity.AbstractAny;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jExternalResource;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRelationshipType;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRole;
-import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAMembership;
-import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jARelationship;
-import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
-import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
-import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUMembership;
-import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jURelationship;
-import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
@@ -120,12 +106,6 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
-    protected static String escapeIfString(final String value, final boolean isStr) {
-        return isStr
-                ? new StringBuilder().append('"').append(value).append('"').toString()
-                : value;
-    }
-
     protected static void queryOp(
             final TextStringBuilder query,
             final String op,
@@ -182,10 +162,10 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
         return processRealms(base, recursive, adminRealms, realmKeys -> {
             if (realmKeys.isEmpty()) {
-                return "(n)-[]-(:" + Neo4jRealm.NODE + ")";
+                return AnySearchCypher.realm("n", "");
             }
 
-            return "(n)-[]-(r:" + Neo4jRealm.NODE + ") WHERE r.id IN $" + setParameter(parameters, realmKeys);
+            return AnySearchCypher.realm("n", "r") + " WHERE r.id IN $" + setParameter(parameters, realmKeys);
         });
     }
 
@@ -195,18 +175,21 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             final Map<String, Object> parameters) {
 
         return "MATCH (n) "
-                + "WHERE " + (not ? "NOT " : "") + "(n)-[]-"
-                + "(:" + Neo4jAnyType.NODE + " {id: $" + setParameter(parameters, cond.getAnyTypeKey()) + "}) ";
+                + "WHERE " + (not ? "NOT " : "") + "EXISTS { "
+                + "MATCH " + AnySearchCypher.anyType("n", "t") + " "
+                + "WHERE t.id = $" + setParameter(parameters, cond.getAnyTypeKey()) + " } ";
     }
 
     protected String getQuery(
+            final AnyTypeKind kind,
             final AuxClassCond cond,
             final boolean not,
             final Map<String, Object> parameters) {
 
         return "MATCH (n) "
-                + "WHERE " + (not ? "NOT " : "") + "(n)-[]-"
-                + "(:" + Neo4jAnyTypeClass.NODE + " {id: $" + setParameter(parameters, cond.getAuxClass()) + "}) ";
+                + "WHERE " + (not ? "NOT " : "") + "EXISTS { "
+                + "MATCH " + AnySearchCypher.auxClass(kind, "n", "c") + " "
+                + "WHERE c.id = $" + setParameter(parameters, cond.getAuxClass()) + " } ";
     }
 
     protected String getQuery(
@@ -215,14 +198,20 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             final boolean not,
             final Map<String, Object> parameters) {
 
-        String relTypeNode = kind == AnyTypeKind.ANY_OBJECT
-                ? Neo4jARelationship.NODE
-                : Neo4jURelationship.NODE;
+        String param = setParameter(parameters, cond.getRelationshipTypeKey());
+        TextStringBuilder query = new TextStringBuilder("MATCH (n) ").
+                append("WHERE ").append(not ? "NOT " : "").append("EXISTS { ").
+                append("MATCH ").append(AnySearchCypher.relationshipType(kind, "n", "t")).append(' ').
+                append("WHERE t.id = $").append(param).append(" } ");
+
+        // any objects can also be found at the right end of relationships
+        if (kind == AnyTypeKind.ANY_OBJECT) {
+            query.append(not ? "AND NOT" : "OR").append(" EXISTS { ").
+                    append("MATCH ").append(AnySearchCypher.relationshipTypeAsDest("n", "t")).append(' ').
+                    append("WHERE t.id = $").append(param).append(" } ");
+        }
 
-        return "MATCH (n) "
-                + "WHERE " + (not ? "NOT " : "") + "EXISTS { MATCH (n)-[]-(r:" + relTypeNode + ")-[]-"
-                + "(t:" + Neo4jRelationshipType.NODE
-                + " {id: $ " + setParameter(parameters, cond.getRelationshipTypeKey()) + "}) } ";
+        return query.toString();
     }
 
     protected String getQuery(
@@ -233,21 +222,15 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
         Set<String> rightAnyObjects = check(cond);
 
-        String relTypeNode = kind == AnyTypeKind.ANY_OBJECT
-                ? Neo4jARelationship.NODE
-                : Neo4jURelationship.NODE;
-        String destRelType = kind == AnyTypeKind.ANY_OBJECT
-                ? Neo4jARelationship.DEST_REL
-                : Neo4jURelationship.DEST_REL;
-
         return "MATCH (n) "
                 + "WHERE EXISTS { "
-                + "MATCH(n)-[]-(:" + relTypeNode + ")-[:" + destRelType + "]-(anyObject:" + Neo4jAnyObject.NODE + ") "
+                + "MATCH " + AnySearchCypher.relationship(kind, "n", "anyObject") + " "
                 + "WHERE anyObject.id " + (not ? "NOT " : "") + "IN $" + setParameter(parameters, rightAnyObjects)
                 + " } ";
     }
 
     protected String getQuery(
+            final AnyTypeKind kind,
             final MembershipCond cond,
             final boolean not,
             final Map<String, Object> parameters) {
@@ -255,14 +238,10 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         cond.setGroup(cond.getGroup().replace("%", ".*"));
         List<String> groupKeys = check(cond);
 
-        String param = setParameter(parameters, groupKeys);
         return "MATCH (n) "
                 + "WHERE " + (not ? "NOT " : "") + "EXISTS { "
-                + "MATCH (n)-[]-(:" + Neo4jUMembership.NODE + ")-[]-"
-                + "(g:" + Neo4jGroup.NODE + ") WHERE g.id IN $" + param + " } "
-                + (not ? "AND NOT" : "OR") + " EXISTS { "
-                + "MATCH (n)-[]-(:" + Neo4jAMembership.NODE + ")-[]-"
-                + "(g:" + Neo4jGroup.NODE + ") WHERE g.id IN $" + param + " } ";
+                + "MATCH " + AnySearchCypher.membership(kind, "n", "", "g") + " "
+                + "WHERE g.id IN $" + setParameter(parameters, groupKeys) + " } ";
     }
 
     protected String getQuery(
@@ -275,11 +254,11 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         String param = setParameter(parameters, memberKeys);
         return "MATCH (n) "
                 + "WHERE " + (not ? "NOT " : "") + "EXISTS { "
-                + "MATCH (n)-[]-(:" + Neo4jUMembership.NODE + ")-[]-"
-                + "(m:" + Neo4jUser.NODE + ") WHERE m.id IN $" + param + " } "
+                + "MATCH " + AnySearchCypher.member(AnyTypeKind.USER, "n", "m") + " "
+                + "WHERE m.id IN $" + param + " } "
                 + (not ? "AND NOT" : "OR") + " EXISTS { "
-                + "MATCH (n)-[]-(:" + Neo4jAMembership.NODE + ")-[]-"
-                + "(m:" + Neo4jAnyObject.NODE + ") WHERE m.id IN $" + param + " } ";
+                + "MATCH " + AnySearchCypher.member(AnyTypeKind.ANY_OBJECT, "n", "m") + " "
+                + "WHERE m.id IN $" + param + " } ";
     }
 
     protected String getQuery(
@@ -287,11 +266,10 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             final boolean not,
             final Map<String, Object> parameters) {
 
-        String param = setParameter(parameters, cond.getRole());
         return "MATCH (n) "
-                + "WHERE " + (not ? "NOT " : "")
-                + "(n)-[:" + Neo4jUser.ROLE_MEMBERSHIP_REL + "]-"
-                + "(:" + Neo4jRole.NODE + " {id: $" + param + "}) ";
+                + "WHERE " + (not ? "NOT " : "") + "EXISTS { "
+                + "MATCH " + AnySearchCypher.role("n", "r") + " "
+                + "WHERE r.id = $" + setParameter(parameters, cond.getRole()) + " } ";
     }
 
     protected String getQuery(
@@ -304,23 +282,20 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         TextStringBuilder query = new TextStringBuilder("MATCH (n) ").
                 append("WHERE ").
                 append(not ? "NOT " : "").
-                append("(n)-[]-(:").append(Neo4jExternalResource.NODE).append(" {id: $").append(param).append("}) ");
+                append("EXISTS { ").
+                append("MATCH ").append(AnySearchCypher.resource(kind, "n", "r")).append(' ').
+                append("WHERE r.id = $").append(param).append(" } ");
 
         if (kind == AnyTypeKind.USER || kind == AnyTypeKind.ANY_OBJECT) {
-            String membershipTypeNode = kind == AnyTypeKind.ANY_OBJECT
-                    ? Neo4jAMembership.NODE
-                    : Neo4jUMembership.NODE;
-
             if (not) {
                 query.append("AND NOT EXISTS { ");
             } else {
                 query.append("OR EXISTS { ");
             }
 
-            query.append("MATCH (n)-[]-(:").append(membershipTypeNode).append(")-[]-").
-                    append("(g:").append(Neo4jGroup.NODE).append(") ").
-                    append("WHERE ").
-                    append("(g)-[]-(:").append(Neo4jExternalResource.NODE).append(" {id: $").append(param).append("})").
+            query.append("MATCH ").append(AnySearchCypher.membership(kind, "n", "", "g")).append(", ").
+                    append(AnySearchCypher.resource(AnyTypeKind.GROUP, "g", "r")).append(' ').
+                    append("WHERE r.id = $").append(param).
                     append(" } ");
         }
 
@@ -356,31 +331,29 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 map(DateTimeFormatter.ISO_OFFSET_DATE_TIME::format).
                 orElseGet(cond::getExpression);
 
-        boolean isStr = true;
+        Object param = value;
         boolean lower = false;
         if (schema.getType().isStringClass()) {
             lower = (cond.getType() == AttrCond.Type.IEQ || cond.getType() == AttrCond.Type.ILIKE);
         } else if (schema.getType() != AttrSchemaType.Date) {
-            lower = false;
             try {
                 switch (schema.getType()) {
                     case Long ->
-                        Long.valueOf(value);
+                        param = Long.valueOf(value);
 
                     case Double ->
-                        Double.valueOf(value);
+                        param = Double.valueOf(value);
 
                     case Boolean -> {
                         if (!("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value))) {
                             throw new IllegalArgumentException();
                         }
+                        param = Boolean.valueOf(value);
                     }
 
                     default -> {
                     }
                 }
-
-                isStr = false;
             } catch (Exception nfe) {
                 // ignore
             }
@@ -400,8 +373,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                     appendPlainAttrCond(
                             query,
                             schema,
-                            " =~ \"" + (lower ? "(?i)" : "")
-                            + AnyRepoExt.escapeForLikeRegex(value).replace("%", ".*") + '"');
+                            " =~ $" + setParameter(parameters, (lower ? "(?i)" : "")
+                                    + AnyRepoExt.escapeForLikeRegex(value).replace("%", ".*")));
                 } else {
                     query.append(ALWAYS_FALSE_CLAUSE);
                     LOG.error("LIKE is only compatible with string or enum schemas");
@@ -413,13 +386,13 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                     appendPlainAttrCond(
                             query,
                             schema,
-                            " =~ \"^" + (lower ? "(?i)" : "")
-                            + AnyRepoExt.escapeForLikeRegex(value).replace("%", ".*") + "$\"");
+                            " =~ $" + setParameter(parameters, "^" + (lower ? "(?i)" : "")
+                                    + AnyRepoExt.escapeForLikeRegex(value).replace("%", ".*") + "$"));
                 } else {
                     appendPlainAttrCond(
                             query,
                             schema,
-                            " = " + escapeIfString(value, isStr));
+                            " = $" + setParameter(parameters, param));
                 }
             }
 
@@ -427,25 +400,25 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 appendPlainAttrCond(
                         query,
                         schema,
-                        " >= " + escapeIfString(value, isStr));
+                        " >= $" + setParameter(parameters, param));
 
             case GT ->
                 appendPlainAttrCond(
                         query,
                         schema,
-                        " > " + escapeIfString(value, isStr));
+                        " > $" + setParameter(parameters, param));
 
             case LE ->
                 appendPlainAttrCond(
                         query,
                         schema,
-                        " <= " + escapeIfString(value, isStr));
+                        " <= $" + setParameter(parameters, param));
 
             case LT ->
                 appendPlainAttrCond(
                         query,
                         schema,
-                        " < " + escapeIfString(value, isStr));
+                        " < $" + setParameter(parameters, param));
 
             default -> {
             }
@@ -580,8 +553,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             }
 
             return new AnyCondQuery(
-                    "MATCH (n)-[]-"
-                    + "(:" + Neo4jRealm.NODE + " {id: $" + setParameter(parameters, cond.getExpression()) + "}) ",
+                    "MATCH " + AnySearchCypher.realm("n", "r") + " "
+                    + "WHERE r.id = $" + setParameter(parameters, cond.getExpression()) + " ",
                     null);
         }
 
@@ -596,17 +569,15 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             switch (field) {
                 case "uManager" -> {
                     return new AnyCondQuery(
-                            "MATCH (n)-[:" + AbstractAny.USER_MANAGER_REL + "]-"
-                            + "(:" + Neo4jUser.NODE + " "
-                            + "{id: $" + setParameter(parameters, checked.cond().getExpression()) + "})",
+                            "MATCH " + AnySearchCypher.manager(AnyTypeKind.USER, "n", "m") + " "
+                            + "WHERE m.id = $" + setParameter(parameters, checked.cond().getExpression()) + " ",
                             null);
                 }
 
                 case "gManager" -> {
                     return new AnyCondQuery(
-                            "MATCH (n)-[:" + AbstractAny.GROUP_MANAGER_REL + "]-"
-                            + "(:" + Neo4jGroup.NODE + " "
-                            + "{id: $" + setParameter(parameters, checked.cond().getExpression()) + "})",
+                            "MATCH " + AnySearchCypher.manager(AnyTypeKind.GROUP, "n", "m") + " "
+                            + "WHERE m.id = $" + setParameter(parameters, checked.cond().getExpression()) + " ",
                             null);
                 }
 
@@ -669,7 +640,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                         ifPresent(leaf -> query.append(getQuery(leaf, not, parameters)));
 
                 cond.asLeaf(AuxClassCond.class).
-                        ifPresent(leaf -> query.append(getQuery(leaf, not, parameters)));
+                        ifPresent(leaf -> query.append(getQuery(kind, leaf, not, parameters)));
 
                 cond.asLeaf(RelationshipTypeCond.class).
                         filter(leaf -> AnyTypeKind.GROUP != kind).
@@ -681,7 +652,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
                 cond.asLeaf(MembershipCond.class).
                         filter(leaf -> AnyTypeKind.GROUP != kind).
-                        ifPresent(leaf -> query.append(getQuery(leaf, not, parameters)));
+                        ifPresent(leaf -> query.append(getQuery(kind, leaf, not, parameters)));
 
                 cond.asLeaf(MemberCond.class).
                         filter(leaf -> AnyTypeKind.GROUP == kind).
@@ -839,8 +810,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
         // union
         query.append(" UNION ").
-                append("MATCH (n:").append(AnyRepoExt.membNode(kind)).
-                append(")-[]-(m:").append(AnyRepoExt.node(kind) + ") ").
+                append("MATCH ").append(AnySearchCypher.membershipOwner(kind, "n", "m")).append(' ').
                 append("WITH m.id AS id ");
 
         fields.forEach(f -> query.append(", m.").append(f).append(" AS ").append(f));
@@ -861,7 +831,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 map(mac -> "(EXISTS { " + mac.query() + "} )").
                 collect(Collectors.joining(" AND ")));
 
-        query.append(" AND EXISTS { (m)-[]-(r:Realm) WHERE r.id IN $param0 } ").
+        query.append(" AND EXISTS { MATCH ").append(AnySearchCypher.realm("m", "r")).
+                append(" WHERE r.id IN $param0 } ").
                 append(returnStmt).
                 append(" } ");
     }
@@ -18,13 +18,18 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jJobStatus;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,10 +40,17 @@ public class Neo4jJobStatusDAO implements JobStatusDAO {
 
     protected final Neo4jTemplate neo4jTemplate;
 
+    protected final Neo4jClient neo4jClient;
+
     protected final NodeValidator nodeValidator;
 
-    public Neo4jJobStatusDAO(final Neo4jTemplate neo4jTemplate, final NodeValidator nodeValidator) {
+    public Neo4jJobStatusDAO(
+            final Neo4jTemplate neo4jTemplate,
+            final Neo4jClient neo4jClient,
+            final NodeValidator nodeValidator) {
+
         this.neo4jTemplate = neo4jTemplate;
+        this.neo4jClient = neo4jClient;
         this.nodeValidator = nodeValidator;
     }
 
@@ -68,15 +80,161 @@ public class Neo4jJobStatusDAO implements JobStatusDAO {
     }
 
     @Override
-    public void set(final String key, final String status) {
+    public void lock(final String key, final String owner, final long fencingToken) {
+        unlock(key);
+
+        JobStatus jobStatus = new Neo4jJobStatus();
+        jobStatus.setKey(key);
+        jobStatus.setStatus(JOB_FIRED_STATUS);
+        jobStatus.setLeaseOwner(owner);
+        jobStatus.setFencingToken(fencingToken);
+        neo4jTemplate.save(nodeValidator.validate(jobStatus));
+
+        LOG.debug("Job {} locked by {}", key, owner);
+    }
+
+    @Override
+    public void unlockExpired(final String key) {
+        int deleted = neo4jClient.query(
+                "MATCH (n:" + Neo4jJobStatus.NODE + " {id: $id}) "
+                + "WHERE n.leaseExpiry IS NULL OR n.leaseExpiry < $now "
+                + "DETACH DELETE n").
+                bindAll(Map.of("id", key, "now", OffsetDateTime.now())).
+                run().counters().nodesDeleted();
+        if (deleted > 0) {
+            LOG.debug("Job {} unlocked", key);
+        }
+    }
+
+    /**
+     * Draws the next fencing token for the given job: the node update serializes concurrent callers until commit.
+     *
+     * @param key job key
+     * @return next fencing token
+     */
+    protected long nextFencingToken(final String key) {
+        return neo4jClient.query(
+                "MERGE (s:" + Neo4jJobStatus.SEQUENCE_NODE + " {id: $id}) "
+                + "ON CREATE SET s.lastToken = 0 "
+                + "SET s.lastToken = s.lastToken + 1 "
+                + "RETURN s.lastToken").
+                bindAll(Map.of("id", key)).
+                fetch().one().map(r -> ((Number) r.get("s.lastToken")).longValue()).
+                orElseThrow();
+    }
+
+    @Override
+    public Optional<Long> lease(final String key, final String owner, final OffsetDateTime expiry) {
+        if (isLocked(key)) {
+            LOG.debug("Job {} already leased", key);
+            return Optional.empty();
+        }
+
+        long fencingToken = nextFencingToken(key);
+
+        // first attempt to take over an expired lease
+        Optional<Long> takenOver = neo4jClient.query(
+                "MATCH (n:" + Neo4jJobStatus.NODE + " {id: $id}) "
+                + "WHERE n.leaseExpiry IS NOT NULL AND n.leaseExpiry < $now "
+                + "SET n.jobStatus = $jobStatus, n.leaseOwner = $owner, n.leaseExpiry = $expiry, "
+                + "n.fencingToken = $fencingToken "
+                + "RETURN n.fencingToken").
+                bindAll(Map.of(
+                        "id", key,
+                        "now", OffsetDateTime.now(),
+                        "jobStatus", JOB_FIRED_STATUS,
+                        "owner", owner,
+                        "expiry", expiry,
+                        "fencingToken", fencingToken)).
+                fetch().one().map(r -> ((Number) r.get("n.fencingToken")).longValue());
+        if (takenOver.isPresent()) {
+            LOG.debug("Expired lease on job {} taken over by {}", key, owner);
+            return takenOver;
+        }
+
         if (neo4jTemplate.existsById(key, Neo4jJobStatus.class)) {
+            LOG.debug("Job {} already leased", key);
+            return Optional.empty();
+        }
+
+        // then attempt to acquire a new lease
+        try {
             JobStatus jobStatus = new Neo4jJobStatus();
             jobStatus.setKey(key);
-            jobStatus.setStatus(status);
+            jobStatus.setStatus(JOB_FIRED_STATUS);
+            jobStatus.setLeaseOwner(owner);
+            jobStatus.setLeaseExpiry(expiry);
+            jobStatus.setFencingToken(fencingToken);
             neo4jTemplate.save(nodeValidator.validate(jobStatus));
+
+            LOG.debug("Job {} leased by {}", key, owner);
+            return Optional.of(jobStatus.getFencingToken());
+        } catch (Exception e) {
+            LOG.debug("Could not lease job {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean renew(final String key, final String owner, final long fencingToken, final OffsetDateTime expiry) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jJobStatus.NODE + " {id: $id}) "
+                + "WHERE n.leaseOwner = $owner AND n.fencingToken = $fencingToken "
+                + "SET n.leaseExpiry = $expiry "
+                + "RETURN n.id").
+                bindAll(Map.of("id", key, "owner", owner, "fencingToken", fencingToken, "expiry", expiry)).
+                fetch().one().isPresent();
+    }
+
+    @Override
+    public void release(final String key, final String owner, final long fencingToken) {
+        int deleted = neo4jClient.query(
+                "MATCH (n:" + Neo4jJobStatus.NODE + " {id: $id}) "
+                + "WHERE n.leaseOwner = $owner AND n.fencingToken = $fencingToken "
+                + "DETACH DELETE n").
+                bindAll(Map.of("id", key, "owner", owner, "fencingToken", fencingToken)).
+                run().counters().nodesDeleted();
+        if (deleted > 0) {
+            LOG.debug("Job {} released by {}", key, owner);
+        } else {
+            LOG.debug("Lease on job {} not held by {} anymore", key, owner);
         }
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public boolean isLocked(final String key) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jJobStatus.NODE + " {id: $id}) "
+                + "WHERE n.leaseExpiry IS NULL OR n.leaseExpiry >= $now "
+                + "RETURN n.id").
+                bindAll(Map.of("id", key, "now", OffsetDateTime.now())).
+                fetch().one().isPresent();
+    }
+
+    @Override
+    public void set(final String key, final String status) {
+        neo4jTemplate.findById(key, Neo4jJobStatus.class).ifPresent(jobStatus -> {
+            jobStatus.setStatus(status);
+            neo4jTemplate.save(nodeValidator.validate(jobStatus));
+        });
+    }
+
+    @Override
+    public boolean set(final String key, final String owner, final long fencingToken, final String status) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jJobStatus.NODE + " {id: $id}) "
+                + "WHERE n.leaseOwner = $owner AND n.fencingToken = $fencingToken "
+                + "SET n.jobStatus = $jobStatus "
+                + "RETURN n.id").
+                bindAll(Map.of(
+                        "id", key,
+                        "owner", owner,
+                        "fencingToken", fencingToken,
+                        "jobStatus", StringUtils.abbreviate(status, Neo4jJobStatus.STATUS_MAX_LENGTH))).
+                fetch().one().isPresent();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public String get(final String key) {
@@ -153,6 +153,11 @@ public class Neo4jPolicyDAO extends AbstractDAO implements PolicyDAO {
                 fetch().all(), "n.id", Neo4jPolicy.class, null);
     }
 
+    @Override
+    public <T extends Policy> long count(final Class<T> reference) {
+        return neo4jTemplate.count(getNodeReference(reference));
+    }
+
     @Override
     public <T extends Policy> List<T> findAll(final Class<T> reference) {
         return neo4jTemplate.findAll(getNodeReference(reference)).stream().map(reference::cast).toList();
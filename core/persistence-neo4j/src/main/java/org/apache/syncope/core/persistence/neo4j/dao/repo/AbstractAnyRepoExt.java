@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -104,14 +105,10 @@ public abstract class AbstractAnyRepoExt<A extends Any, N extends AbstractAny>
 
     protected abstract Cache<EntityCacheKey, N> cache();
 
+    @SuppressWarnings("unchecked")
     @Override
     public List<A> findByKeys(final List<String> keys) {
-        return toList(neo4jClient.query(
-                "MATCH (n:" + AnyRepoExt.node(anyUtils.anyTypeKind()) + ") WHERE n.id IN $keys RETURN n.id").
-                bindAll(Map.of("keys", keys)).fetch().all(),
-                "n.id",
-                anyUtils.anyClass(),
-                cache());
+        return findAllById(keys, anyUtils.anyClass(), cache()).stream().map(any -> (A) any).toList();
     }
 
     protected Optional<OffsetDateTime> findLastChange(final String key, final String node) {
@@ -124,6 +121,24 @@ public abstract class AbstractAnyRepoExt<A extends Any, N extends AbstractAny>
         });
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findKeysAfter(final String after, final int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("limit", limit);
+        if (after != null) {
+            parameters.put("after", after);
+        }
+
+        return neo4jClient.query(
+                "MATCH (n:" + AnyRepoExt.node(anyUtils.anyTypeKind()) + ") "
+                + (after == null ? "" : "WHERE n.id > $after ")
+                + "RETURN n.id ORDER BY n.id LIMIT $limit").
+                bindAll(parameters).fetch().all().stream().
+                map(found -> found.get("n.id").toString()).
+                toList();
+    }
+
     protected abstract void securityChecks(A any);
 
     @SuppressWarnings("unchecked")
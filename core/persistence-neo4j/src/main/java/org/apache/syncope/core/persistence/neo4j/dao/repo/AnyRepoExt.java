@@ -73,6 +73,8 @@ public interface AnyRepoExt<A extends Any> {
 
     Optional<OffsetDateTime> findLastChange(String key);
 
+    List<String> findKeysAfter(String after, int limit);
+
     A authFind(String key);
 
     Collection<String> findAllResourceKeys(String key);
@@ -40,6 +40,7 @@ import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.FIQLQueryDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Role;
@@ -51,6 +52,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.neo4j.dao.AnySearchCypher;
 import org.apache.syncope.core.persistence.neo4j.entity.AbstractAny;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
@@ -166,9 +168,7 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
 
     @Override
     public boolean isManager(final String key) {
-        return !findManagedUsers(key).isEmpty()
-                || !findManagedGroups(key).isEmpty()
-                || !findManagedAnyObjects(key).isEmpty();
+        return !findManaged(key).isEmpty();
     }
 
     @Override
@@ -235,6 +235,87 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
         return result.stream().distinct().toList();
     }
 
+    /**
+     * Builds the Cypher matching users or any objects managed by {@code $id} as {@code e}, with their realm as
+     * {@code r}, following the same three criteria as {@link #findManagedUsers(String)} and
+     * {@link #findManagedAnyObjects(String)}.
+     *
+     * @param kind either {@link AnyTypeKind#USER} or {@link AnyTypeKind#ANY_OBJECT}
+     * @return Cypher query, without RETURN clause
+     */
+    protected static String managedQuery(final AnyTypeKind kind) {
+        return "MATCH (mgr:" + Neo4jUser.NODE + " {id: $id}) "
+                + "CALL (mgr) { "
+                + "MATCH " + AnySearchCypher.manager(AnyTypeKind.USER, "e", "mgr")
+                + " WHERE e:" + AnyRepoExt.node(kind) + " RETURN e "
+                + "UNION "
+                + "MATCH " + AnySearchCypher.manager(AnyTypeKind.USER, "g", "mgr")
+                + ", " + AnySearchCypher.member(kind, "g", "e")
+                + " WHERE g:" + Neo4jGroup.NODE + " RETURN e "
+                + "UNION "
+                + "MATCH " + AnySearchCypher.membership(AnyTypeKind.USER, "mgr", "", "g")
+                + ", " + AnySearchCypher.manager(AnyTypeKind.GROUP, "e", "g")
+                + " WHERE e:" + AnyRepoExt.node(kind) + " RETURN e "
+                + "} "
+                + "MATCH " + AnySearchCypher.realm("e", "r") + " ";
+    }
+
+    @Override
+    public List<UserDAO.ManagedAny> findManaged(final String key) {
+        List<UserDAO.ManagedAny> result = new ArrayList<>();
+
+        neo4jClient.query(managedQuery(AnyTypeKind.USER)
+                + "RETURN e.id AS key, r.fullPath AS realm").
+                bindAll(Map.of("id", key)).fetch().all().
+                forEach(row -> result.add(new UserDAO.ManagedAny(
+                AnyTypeKind.USER, row.get("key").toString(), row.get("realm").toString(), null)));
+
+        neo4jClient.query(
+                "MATCH " + AnySearchCypher.manager(AnyTypeKind.USER, "e", "mgr")
+                + ", " + AnySearchCypher.realm("e", "r") + " "
+                + "WHERE e:" + Neo4jGroup.NODE + " AND mgr.id = $id "
+                + "RETURN e.id AS key, r.fullPath AS realm").
+                bindAll(Map.of("id", key)).fetch().all().
+                forEach(row -> result.add(new UserDAO.ManagedAny(
+                AnyTypeKind.GROUP, row.get("key").toString(), row.get("realm").toString(), null)));
+
+        neo4jClient.query(managedQuery(AnyTypeKind.ANY_OBJECT)
+                + "MATCH " + AnySearchCypher.anyType("e", "t") + " "
+                + "RETURN e.id AS key, r.fullPath AS realm, t.id AS type").
+                bindAll(Map.of("id", key)).fetch().all().
+                forEach(row -> result.add(new UserDAO.ManagedAny(
+                AnyTypeKind.ANY_OBJECT,
+                row.get("key").toString(),
+                row.get("realm").toString(),
+                row.get("type").toString())));
+
+        return result;
+    }
+
+    @Override
+    public void recordSuccessfulLogin(final String key, final OffsetDateTime lastLoginDate) {
+        if (lastLoginDate == null) {
+            neo4jClient.query(
+                    "MATCH (n:" + Neo4jUser.NODE + " {id: $id}) SET n.failedLogins = 0").
+                    bindAll(Map.of("id", key)).run();
+        } else {
+            neo4jClient.query(
+                    "MATCH (n:" + Neo4jUser.NODE + " {id: $id}) "
+                    + "SET n.lastLoginDate = $lastLoginDate, n.failedLogins = 0").
+                    bindAll(Map.of("id", key, "lastLoginDate", lastLoginDate)).run();
+        }
+        userCache.remove(EntityCacheKey.of(key));
+    }
+
+    @Override
+    public void recordFailedLogin(final String key) {
+        neo4jClient.query(
+                "MATCH (n:" + Neo4jUser.NODE + " {id: $id}) "
+                + "SET n.failedLogins = COALESCE(n.failedLogins, 0) + 1").
+                bindAll(Map.of("id", key)).run();
+        userCache.remove(EntityCacheKey.of(key));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public void securityChecks(
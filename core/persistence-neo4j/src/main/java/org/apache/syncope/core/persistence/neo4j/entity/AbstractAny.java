@@ -32,6 +32,8 @@ public abstract class AbstractAny extends AbstractAttributable implements Any {
 
     private static final long serialVersionUID = -2666540708092702810L;
 
+    public static final String REALM_REL = "REALM";
+
     public static final String USER_MANAGER_REL = "USER_MANAGER";
 
     public static final String GROUP_MANAGER_REL = "GROUP_MANAGER";
@@ -64,7 +66,7 @@ public abstract class AbstractAny extends AbstractAttributable implements Any {
     private String lastChangeContext;
 
     @NotNull
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = REALM_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jRealm realm;
 
     @Relationship(type = USER_MANAGER_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
@@ -32,6 +32,8 @@ public abstract class AbstractMembership<L extends Any>
 
     private static final long serialVersionUID = -6360036936818368868L;
 
+    public static final String GROUP_REL = "RIGHT_END";
+
     protected abstract Map<String, PlainAttr> plainAttrs();
 
     public List<PlainAttr> getPlainAttrs() {
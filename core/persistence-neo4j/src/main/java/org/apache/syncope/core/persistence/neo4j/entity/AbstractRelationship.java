@@ -32,6 +32,8 @@ public abstract class AbstractRelationship<L extends Any, R extends Any>
 
     private static final long serialVersionUID = 6593799565567684878L;
 
+    public static final String RELATIONSHIP_TYPE_REL = "TYPE";
+
     protected abstract Map<String, PlainAttr> plainAttrs();
 
     public List<PlainAttr> getPlainAttrs() {
@@ -18,9 +18,10 @@
  */
 package org.apache.syncope.core.persistence.neo4j.entity;
 
+import java.io.Serializable;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 
-public record EntityCacheKey(String domain, String entityKey) {
+public record EntityCacheKey(String domain, String entityKey) implements Serializable {
 
     public static EntityCacheKey of(final String entityKey) {
         return new EntityCacheKey(AuthContextUtils.getDomain(), entityKey);
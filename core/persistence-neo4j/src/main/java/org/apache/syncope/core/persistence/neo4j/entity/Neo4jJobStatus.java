@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.neo4j.entity;
 
+import java.time.OffsetDateTime;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 import org.springframework.data.neo4j.core.schema.Node;
@@ -29,10 +30,21 @@ public class Neo4jJobStatus extends AbstractProvidedKeyNode implements JobStatus
 
     public static final String NODE = "JobStatus";
 
-    private static final int STATUS_MAX_LENGTH = 255;
+    /**
+     * Nodes holding the last fencing token issued for each job; never removed, so that tokens keep increasing.
+     */
+    public static final String SEQUENCE_NODE = NODE + "Sequence";
+
+    public static final int STATUS_MAX_LENGTH = 255;
 
     private String jobStatus;
 
+    private String leaseOwner;
+
+    private OffsetDateTime leaseExpiry;
+
+    private Long fencingToken;
+
     @Override
     public String getStatus() {
         return jobStatus;
@@ -42,4 +54,34 @@ public class Neo4jJobStatus extends AbstractProvidedKeyNode implements JobStatus
     public void setStatus(final String status) {
         jobStatus = StringUtils.abbreviate(status, STATUS_MAX_LENGTH);
     }
+
+    @Override
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    @Override
+    public void setLeaseOwner(final String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    @Override
+    public OffsetDateTime getLeaseExpiry() {
+        return leaseExpiry;
+    }
+
+    @Override
+    public void setLeaseExpiry(final OffsetDateTime leaseExpiry) {
+        this.leaseExpiry = leaseExpiry;
+    }
+
+    @Override
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    @Override
+    public void setFencingToken(final Long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
 }
@@ -46,7 +46,7 @@ public class Neo4jAMembership extends AbstractMembership<AnyObject> implements A
             direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jAnyObject leftEnd;
 
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = GROUP_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jGroup rightEnd;
 
     @CompositeProperty(converterRef = "plainAttrsConverter")
@@ -47,7 +47,7 @@ public class Neo4jARelationship extends AbstractRelationship<AnyObject, AnyObjec
     public static final String DEST_REL = "ARELATIONSHIP_DEST";
 
     @NotNull
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = RELATIONSHIP_TYPE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jRelationshipType type;
 
     @Relationship(type = SOURCE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
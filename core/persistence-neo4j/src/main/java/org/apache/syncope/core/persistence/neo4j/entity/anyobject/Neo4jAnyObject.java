@@ -52,6 +52,8 @@ public class Neo4jAnyObject
 
     public static final String NODE = "AnyObject";
 
+    public static final String ANY_OBJECT_TYPE_REL = "TYPE";
+
     public static final String ANY_OBJECT_GROUP_MEMBERSHIP_REL = "ANY_OBJECT_GROUP_MEMBERSHIP";
 
     public static final String ANY_OBJECT_RESOURCE_REL = "ANY_OBJECT_RESOURCE";
@@ -65,7 +67,7 @@ public class Neo4jAnyObject
     protected String name;
 
     @NotNull
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = ANY_OBJECT_TYPE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     protected Neo4jAnyType type;
 
     /**
@@ -49,7 +49,7 @@ public class Neo4jGRelationship extends AbstractRelationship<Group, AnyObject> i
     public static final String DEST_REL = "GRELATIONSHIP_DEST";
 
     @NotNull
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = RELATIONSHIP_TYPE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jRelationshipType type;
 
     @Relationship(type = SOURCE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
@@ -61,6 +61,8 @@ public class Neo4jPullTask extends Neo4jInboundTask<PullTask> implements PullTas
             direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jImplementation reconFilterBuilder;
 
+    private Integer commitBatchSize;
+
     @Relationship(type = PULL_TASK_INBOUND_ACTIONS_REL,
             direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private SortedSet<Neo4jImplementationRelationship> actions = new TreeSet<>();
@@ -97,6 +99,16 @@ public class Neo4jPullTask extends Neo4jInboundTask<PullTask> implements PullTas
         this.reconFilterBuilder = (Neo4jImplementation) reconFilterBuilder;
     }
 
+    @Override
+    public Integer getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    @Override
+    public void setCommitBatchSize(final Integer commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
     @Override
     public boolean add(final Implementation action) {
         checkType(action, Neo4jImplementation.class);
@@ -43,7 +43,7 @@ public class Neo4jUMembership extends AbstractMembership<User> implements UMembe
             direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jUser leftEnd;
 
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = GROUP_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jGroup rightEnd;
 
     @CompositeProperty(converterRef = "plainAttrsConverter")
@@ -49,7 +49,7 @@ public class Neo4jURelationship extends AbstractRelationship<User, AnyObject> im
     public static final String DEST_REL = "URELATIONSHIP_DEST";
 
     @NotNull
-    @Relationship(direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
+    @Relationship(type = RELATIONSHIP_TYPE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jRelationshipType type;
 
     @Relationship(type = SOURCE_REL, direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
+
+/**
+ * Entity cache entries changed by a committed transaction, grouped by cache name.
+ *
+ * @param origin identifier of the node which committed the transaction
+ * @param keys changed entries, grouped by cache name
+ */
+public record EntityCacheInvalidation(String origin, Map<String, Set<EntityCacheKey>> keys) implements Serializable {
+
+    public EntityCacheInvalidation {
+        keys = Map.copyOf(keys);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import java.util.function.Consumer;
+
+/**
+ * Propagates entity cache invalidations among the Core nodes sharing the same Neo4j database, so that each node can
+ * keep its own caches while evicting the entries changed elsewhere.
+ */
+public interface EntityCacheInvalidationChannel {
+
+    /**
+     * Notifies all subscribers about the entries changed by a committed transaction.
+     *
+     * @param invalidation changed entries
+     */
+    void publish(EntityCacheInvalidation invalidation);
+
+    /**
+     * Registers a consumer for the invalidations published by any node, including the current one.
+     *
+     * @param consumer invalidation consumer
+     */
+    void subscribe(Consumer<EntityCacheInvalidation> consumer);
+}
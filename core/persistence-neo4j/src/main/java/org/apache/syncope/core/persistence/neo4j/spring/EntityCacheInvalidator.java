@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.cache.Cache;
+import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps track of the entity cache entries touched by each transaction: once the transaction is rolled back, only such
+ * entries are evicted from the local caches; once committed, other nodes are asked to evict them via the configured
+ * {@link EntityCacheInvalidationChannel}.
+ */
+public class EntityCacheInvalidator {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(EntityCacheInvalidator.class);
+
+    protected final String origin = UUID.randomUUID().toString();
+
+    protected final Map<String, Cache<EntityCacheKey, ?>> caches = new ConcurrentHashMap<>();
+
+    protected final EntityCacheInvalidationChannel channel;
+
+    public EntityCacheInvalidator(final EntityCacheInvalidationChannel channel) {
+        this.channel = channel;
+        channel.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Decorates the given cache so that the entries it changes are tracked.
+     *
+     * @param <V> cached entity type
+     * @param cache cache to decorate
+     * @return decorated cache
+     */
+    public <V> Cache<EntityCacheKey, V> register(final Cache<EntityCacheKey, V> cache) {
+        caches.put(cache.getName(), cache);
+        return new TransactionAwareEntityCache<>(cache, this);
+    }
+
+    protected TouchedKeys synchronization() {
+        return TransactionSynchronizationManager.getSynchronizations().stream().
+                filter(TouchedKeys.class::isInstance).map(TouchedKeys.class::cast).
+                filter(synchronization -> synchronization.invalidator() == this).
+                findFirst().
+                orElseGet(() -> {
+                    TouchedKeys synchronization = new TouchedKeys(
+                            TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                    TransactionSynchronizationManager.registerSynchronization(synchronization);
+                    return synchronization;
+                });
+    }
+
+    protected void touched(final String cacheName, final Collection<? extends EntityCacheKey> keys) {
+        if (keys.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        synchronization().add(cacheName, keys);
+    }
+
+    /**
+     * Tracks the given keys as read within the current read-write transaction: as cached entities are stored by
+     * reference, they might be changed in place before the transaction fails, hence they are evicted upon rollback.
+     *
+     * @param cacheName cache name
+     * @param keys keys read
+     */
+    protected void read(final String cacheName, final Collection<? extends EntityCacheKey> keys) {
+        if (keys.isEmpty()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+
+            return;
+        }
+
+        synchronization().addRead(cacheName, keys);
+    }
+
+    protected void evict(final Map<String, Set<EntityCacheKey>> keys) {
+        keys.forEach((cacheName, cacheKeys) -> Optional.ofNullable(caches.get(cacheName)).
+                ifPresent(cache -> cache.removeAll(cacheKeys)));
+    }
+
+    protected void onInvalidation(final EntityCacheInvalidation invalidation) {
+        if (!origin.equals(invalidation.origin())) {
+            LOG.debug("Evicting {} as changed by {}", invalidation.keys(), invalidation.origin());
+            evict(invalidation.keys());
+        }
+    }
+
+    protected class TouchedKeys implements TransactionSynchronization {
+
+        protected final boolean readOnly;
+
+        protected final Map<String, Set<EntityCacheKey>> keys = new HashMap<>();
+
+        protected final Map<String, Set<EntityCacheKey>> readKeys = new HashMap<>();
+
+        protected TouchedKeys(final boolean readOnly) {
+            this.readOnly = readOnly;
+        }
+
+        protected EntityCacheInvalidator invalidator() {
+            return EntityCacheInvalidator.this;
+        }
+
+        protected void add(final String cacheName, final Collection<? extends EntityCacheKey> cacheKeys) {
+            keys.computeIfAbsent(cacheName, k -> new HashSet<>()).addAll(cacheKeys);
+        }
+
+        protected void addRead(final String cacheName, final Collection<? extends EntityCacheKey> cacheKeys) {
+            readKeys.computeIfAbsent(cacheName, k -> new HashSet<>()).addAll(cacheKeys);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            if (status == STATUS_COMMITTED) {
+                if (!readOnly) {
+                    try {
+                        channel.publish(new EntityCacheInvalidation(origin, keys));
+                    } catch (Exception e) {
+                        LOG.error("While publishing invalidation of {}", keys, e);
+                    }
+                }
+            } else {
+                readKeys.forEach(this::add);
+
+                LOG.debug("Evicting {} after rollback", keys);
+                evict(keys);
+            }
+        }
+    }
+}
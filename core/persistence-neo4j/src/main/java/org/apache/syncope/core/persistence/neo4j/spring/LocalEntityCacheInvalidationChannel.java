@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM channel, delivering invalidations synchronously to all subscribers: this is the default for single node
+ * deployments, and can stand in for an actual cross-node channel when several nodes are run in the same JVM.
+ */
+public class LocalEntityCacheInvalidationChannel implements EntityCacheInvalidationChannel {
+
+    protected final List<Consumer<EntityCacheInvalidation>> consumers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final EntityCacheInvalidation invalidation) {
+        consumers.forEach(consumer -> consumer.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(final Consumer<EntityCacheInvalidation> consumer) {
+        consumers.add(consumer);
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
+
+/**
+ * Entity cache decorator reporting to {@link EntityCacheInvalidator} the keys of all entries changed, and of the
+ * entries read within read-write transactions.
+ *
+ * @param <V> cached entity type
+ */
+public class TransactionAwareEntityCache<V> implements Cache<EntityCacheKey, V> {
+
+    protected final Cache<EntityCacheKey, V> delegate;
+
+    protected final EntityCacheInvalidator invalidator;
+
+    public TransactionAwareEntityCache(
+            final Cache<EntityCacheKey, V> delegate,
+            final EntityCacheInvalidator invalidator) {
+
+        this.delegate = delegate;
+        this.invalidator = invalidator;
+    }
+
+    protected void touched(final EntityCacheKey key) {
+        invalidator.touched(delegate.getName(), List.of(key));
+    }
+
+    protected void touched(final Set<? extends EntityCacheKey> keys) {
+        invalidator.touched(delegate.getName(), keys);
+    }
+
+    protected void read(final EntityCacheKey key) {
+        invalidator.read(delegate.getName(), List.of(key));
+    }
+
+    @Override
+    public V get(final EntityCacheKey key) {
+        V value = delegate.get(key);
+        if (value != null) {
+            read(key);
+        }
+        return value;
+    }
+
+    @Override
+    public Map<EntityCacheKey, V> getAll(final Set<? extends EntityCacheKey> keys) {
+        Map<EntityCacheKey, V> values = delegate.getAll(keys);
+        invalidator.read(delegate.getName(), values.keySet());
+        return values;
+    }
+
+    @Override
+    public boolean containsKey(final EntityCacheKey key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public void loadAll(
+            final Set<? extends EntityCacheKey> keys,
+            final boolean replaceExistingValues,
+            final CompletionListener completionListener) {
+
+        touched(keys);
+        delegate.loadAll(keys, replaceExistingValues, completionListener);
+    }
+
+    @Override
+    public void put(final EntityCacheKey key, final V value) {
+        touched(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public V getAndPut(final EntityCacheKey key, final V value) {
+        touched(key);
+        return delegate.getAndPut(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends EntityCacheKey, ? extends V> map) {
+        touched(map.keySet());
+        delegate.putAll(map);
+    }
+
+    @Override
+    public boolean putIfAbsent(final EntityCacheKey key, final V value) {
+        touched(key);
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(final EntityCacheKey key) {
+        touched(key);
+        return delegate.remove(key);
+    }
+
+    @Override
+    public boolean remove(final EntityCacheKey key, final V oldValue) {
+        touched(key);
+        return delegate.remove(key, oldValue);
+    }
+
+    @Override
+    public V getAndRemove(final EntityCacheKey key) {
+        touched(key);
+        return delegate.getAndRemove(key);
+    }
+
+    @Override
+    public boolean replace(final EntityCacheKey key, final V oldValue, final V newValue) {
+        touched(key);
+        return delegate.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public boolean replace(final EntityCacheKey key, final V value) {
+        touched(key);
+        return delegate.replace(key, value);
+    }
+
+    @Override
+    public V getAndReplace(final EntityCacheKey key, final V value) {
+        touched(key);
+        return delegate.getAndReplace(key, value);
+    }
+
+    @Override
+    public void removeAll(final Set<? extends EntityCacheKey> keys) {
+        touched(keys);
+        delegate.removeAll(keys);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public <C extends Configuration<EntityCacheKey, V>> C getConfiguration(final Class<C> clazz) {
+        return delegate.getConfiguration(clazz);
+    }
+
+    @Override
+    public <T> T invoke(
+            final EntityCacheKey key,
+            final EntryProcessor<EntityCacheKey, V, T> entryProcessor,
+            final Object... arguments) throws EntryProcessorException {
+
+        touched(key);
+        return delegate.invoke(key, entryProcessor, arguments);
+    }
+
+    @Override
+    public <T> Map<EntityCacheKey, EntryProcessorResult<T>> invokeAll(
+            final Set<? extends EntityCacheKey> keys,
+            final EntryProcessor<EntityCacheKey, V, T> entryProcessor,
+            final Object... arguments) {
+
+        touched(keys);
+        return delegate.invokeAll(keys, entryProcessor, arguments);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public CacheManager getCacheManager() {
+        return delegate.getCacheManager();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> clazz) {
+        return clazz.isInstance(this) ? clazz.cast(this) : delegate.unwrap(clazz);
+    }
+
+    @Override
+    public void registerCacheEntryListener(
+            final CacheEntryListenerConfiguration<EntityCacheKey, V> cacheEntryListenerConfiguration) {
+
+        delegate.registerCacheEntryListener(cacheEntryListenerConfiguration);
+    }
+
+    @Override
+    public void deregisterCacheEntryListener(
+            final CacheEntryListenerConfiguration<EntityCacheKey, V> cacheEntryListenerConfiguration) {
+
+        delegate.deregisterCacheEntryListener(cacheEntryListenerConfiguration);
+    }
+
+    @Override
+    public Iterator<Entry<EntityCacheKey, V>> iterator() {
+        return delegate.iterator();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
+import org.junit.jupiter.api.Test;
+
+public class AnySearchCypherTest {
+
+    private static final Neo4jAnySearchDAO DAO =
+            new Neo4jAnySearchDAO(null, null, null, null, null, null, null, null, null, null);
+
+    private static RelationshipTypeCond relationshipTypeCond(final String relationshipType) {
+        RelationshipTypeCond cond = new RelationshipTypeCond();
+        cond.setRelationshipType(relationshipType);
+        return cond;
+    }
+
+    @Test
+    public void patterns() {
+        assertEquals("(n)-[:REALM]->(r:Realm)", AnySearchCypher.realm("n", "r"));
+        assertEquals(
+                "(n)<-[:ARELATIONSHIP_SOURCE]-(:ARelationship)-[:TYPE]->(t:RelationshipType)",
+                AnySearchCypher.relationshipType(AnyTypeKind.ANY_OBJECT, "n", "t"));
+        assertEquals(
+                "(n)<-[:ARELATIONSHIP_DEST]-(:ARelationship)-[:TYPE]->(t:RelationshipType)",
+                AnySearchCypher.relationshipTypeAsDest("n", "t"));
+        assertEquals(
+                "(n)<-[:URELATIONSHIP_SOURCE]-(:URelationship)-[:TYPE]->(t:RelationshipType)",
+                AnySearchCypher.relationshipType(AnyTypeKind.USER, "n", "t"));
+    }
+
+    @Test
+    public void relationshipTypeForAnyObjects() {
+        Map<String, Object> parameters = new HashMap<>();
+        String query = DAO.getQuery(AnyTypeKind.ANY_OBJECT, relationshipTypeCond("inclusion"), false, parameters);
+
+        assertEquals(Map.of("param0", "inclusion"), parameters);
+        assertEquals(2, StringUtils.countMatches(query, "$param0"));
+        assertTrue(query.contains(AnySearchCypher.relationshipType(AnyTypeKind.ANY_OBJECT, "n", "t")));
+        assertTrue(query.contains("OR EXISTS { MATCH " + AnySearchCypher.relationshipTypeAsDest("n", "t")));
+
+        parameters.clear();
+        query = DAO.getQuery(AnyTypeKind.ANY_OBJECT, relationshipTypeCond("inclusion"), true, parameters);
+        assertTrue(query.startsWith("MATCH (n) WHERE NOT EXISTS { "));
+        assertTrue(query.contains("AND NOT EXISTS { MATCH " + AnySearchCypher.relationshipTypeAsDest("n", "t")));
+    }
+
+    @Test
+    public void relationshipTypeForUsers() {
+        Map<String, Object> parameters = new HashMap<>();
+        String query = DAO.getQuery(AnyTypeKind.USER, relationshipTypeCond("neighborhood"), false, parameters);
+
+        assertEquals(Map.of("param0", "neighborhood"), parameters);
+        assertEquals(1, StringUtils.countMatches(query, "$param0"));
+        assertFalse(query.contains("_DEST]"));
+    }
+
+    @Test
+    public void parameterBinding() {
+        Map<String, Object> parameters = new HashMap<>();
+
+        AnyTypeCond anyTypeCond = new AnyTypeCond();
+        anyTypeCond.setAnyTypeKey("PRINTER");
+        String anyTypeQuery = DAO.getQuery(anyTypeCond, false, parameters);
+
+        RoleCond roleCond = new RoleCond();
+        roleCond.setRole("Other");
+        String roleQuery = DAO.getQuery(roleCond, true, parameters);
+
+        assertEquals(Map.of("param0", "PRINTER", "param1", "Other"), parameters);
+        assertTrue(anyTypeQuery.contains("t.id = $param0"));
+        assertTrue(roleQuery.contains("NOT EXISTS"));
+        assertTrue(roleQuery.contains("r.id = $param1"));
+        // values are never inlined into the generated Cypher
+        assertFalse(anyTypeQuery.contains("PRINTER"));
+        assertFalse(roleQuery.contains("Other"));
+    }
+}
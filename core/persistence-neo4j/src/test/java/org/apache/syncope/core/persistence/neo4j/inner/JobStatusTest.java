@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
+import org.apache.syncope.core.persistence.neo4j.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class JobStatusTest extends AbstractTest {
+
+    @Autowired
+    private JobStatusDAO jobStatusDAO;
+
+    @Test
+    public void lease() {
+        Optional<Long> token = jobStatusDAO.lease("leaseJob", "node1", OffsetDateTime.now().plusMinutes(1));
+        assertTrue(token.isPresent());
+        assertTrue(jobStatusDAO.isLocked("leaseJob"));
+        assertEquals(JobStatusDAO.JOB_FIRED_STATUS, jobStatusDAO.get("leaseJob"));
+
+        // lease still valid: cannot be acquired
+        assertTrue(jobStatusDAO.lease("leaseJob", "node2", OffsetDateTime.now().plusMinutes(1)).isEmpty());
+
+        // only the owner can renew
+        assertFalse(jobStatusDAO.renew("leaseJob", "node2", token.get(), OffsetDateTime.now().plusMinutes(1)));
+        assertTrue(jobStatusDAO.renew("leaseJob", "node1", token.get(), OffsetDateTime.now().minusSeconds(1)));
+        assertFalse(jobStatusDAO.isLocked("leaseJob"));
+
+        // lease expired: can be taken over, with a new fencing token
+        Optional<Long> takenOver = jobStatusDAO.lease("leaseJob", "node2", OffsetDateTime.now().plusMinutes(1));
+        assertTrue(takenOver.isPresent());
+        assertTrue(takenOver.get() > token.get());
+
+        // stale owner can neither set status nor release
+        assertFalse(jobStatusDAO.set("leaseJob", "node1", token.get(), "Stale"));
+        assertTrue(jobStatusDAO.set("leaseJob", "node2", takenOver.get(), "Running"));
+        assertEquals("Running", jobStatusDAO.get("leaseJob"));
+
+        jobStatusDAO.release("leaseJob", "node1", token.get());
+        assertTrue(jobStatusDAO.isLocked("leaseJob"));
+
+        jobStatusDAO.release("leaseJob", "node2", takenOver.get());
+        assertFalse(jobStatusDAO.isLocked("leaseJob"));
+        assertEquals(JobStatusDAO.UNKNOWN_STATUS, jobStatusDAO.get("leaseJob"));
+
+        // fencing tokens keep increasing after release
+        Optional<Long> next = jobStatusDAO.lease("leaseJob", "node1", OffsetDateTime.now().plusMinutes(1));
+        assertTrue(next.isPresent());
+        assertTrue(next.get() > takenOver.get());
+
+        // not expired: not removed
+        jobStatusDAO.unlockExpired("leaseJob");
+        assertTrue(jobStatusDAO.isLocked("leaseJob"));
+        jobStatusDAO.release("leaseJob", "node1", next.get());
+    }
+
+    @Test
+    public void lockOnBehalfOfLease() {
+        jobStatusDAO.lock("externalLeaseJob", "node1", 5);
+        assertTrue(jobStatusDAO.isLocked("externalLeaseJob"));
+        assertTrue(jobStatusDAO.set("externalLeaseJob", "node1", 5, "Running"));
+
+        // newer lease replaces the previous lock
+        jobStatusDAO.lock("externalLeaseJob", "node2", 6);
+        assertFalse(jobStatusDAO.set("externalLeaseJob", "node1", 5, "Stale"));
+        assertEquals(JobStatusDAO.JOB_FIRED_STATUS, jobStatusDAO.get("externalLeaseJob"));
+
+        // no expiry: removed when clearing leftovers
+        jobStatusDAO.unlockExpired("externalLeaseJob");
+        assertFalse(jobStatusDAO.isLocked("externalLeaseJob"));
+    }
+}
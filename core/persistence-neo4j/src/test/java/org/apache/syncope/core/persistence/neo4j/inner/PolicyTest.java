@@ -86,6 +86,9 @@ public class PolicyTest extends AbstractTest {
         assertEquals(2, policyDAO.findAll(PropagationPolicy.class).size());
         assertEquals(4, policyDAO.findAll(InboundPolicy.class).size());
         assertEquals(1, policyDAO.findAll(PushPolicy.class).size());
+
+        assertEquals(2, policyDAO.count(AccountPolicy.class));
+        assertEquals(3, policyDAO.count(PasswordPolicy.class));
     }
 
     @Test
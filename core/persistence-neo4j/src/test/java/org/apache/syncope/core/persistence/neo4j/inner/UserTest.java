@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
@@ -98,6 +99,38 @@ public class UserTest extends AbstractTest {
         assertEquals(5, users.size());
     }
 
+    @Test
+    public void findKeysAfter() {
+        List<String> first = userDAO.findKeysAfter(null, 3);
+        assertEquals(3, first.size());
+        assertEquals(first.stream().sorted().toList(), first);
+
+        List<String> next = userDAO.findKeysAfter(first.getLast(), 3);
+        assertEquals(2, next.size());
+        assertTrue(next.getFirst().compareTo(first.getLast()) > 0);
+
+        assertTrue(userDAO.findKeysAfter(next.getLast(), 3).isEmpty());
+    }
+
+    @Test
+    public void findByKeys() {
+        List<String> keys = List.of(
+                "823074dc-d280-436d-a7dd-07399fae48ec",
+                "missing",
+                "1417acbe-cbf6-4277-9372-e75e04f97000",
+                "74cd8ece-715a-44a4-a736-e17b46c4e7e6");
+
+        // loaded in the same order as keys, with unknown keys skipped
+        assertEquals(
+                List.of(keys.get(0), keys.get(2), keys.get(3)),
+                userDAO.findByKeys(keys).stream().map(User::getKey).toList());
+
+        // same outcome once cached
+        assertEquals(
+                List.of(keys.get(0), keys.get(2), keys.get(3)),
+                userDAO.findByKeys(keys).stream().map(User::getKey).toList());
+    }
+
     @Test
     public void count() {
         long count = userDAO.count();
@@ -131,6 +164,24 @@ public class UserTest extends AbstractTest {
         assertNotNull(actual);
     }
 
+    @Test
+    public void recordLogin() {
+        String key = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        int failedLogins = userDAO.findById(key).orElseThrow().getFailedLogins();
+
+        userDAO.recordFailedLogin(key);
+        userDAO.recordFailedLogin(key);
+
+        assertEquals(failedLogins + 2, userDAO.findById(key).orElseThrow().getFailedLogins());
+
+        OffsetDateTime lastLoginDate = OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        userDAO.recordSuccessfulLogin(key, lastLoginDate);
+
+        User user = userDAO.findById(key).orElseThrow();
+        assertEquals(0, user.getFailedLogins());
+        assertTrue(lastLoginDate.isEqual(user.getLastLoginDate()));
+    }
+
     @Test
     public void delete() {
         User user = userDAO.findById("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").orElseThrow();
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.cache.Cache;
+import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class EntityCacheInvalidatorTest {
+
+    private static final EntityCacheKey KEY1 = new EntityCacheKey("Master", "key1");
+
+    private static final EntityCacheKey KEY2 = new EntityCacheKey("Master", "key2");
+
+    @SuppressWarnings("unchecked")
+    private static Cache<EntityCacheKey, String> cache() {
+        Cache<EntityCacheKey, String> cache = mock(Cache.class);
+        when(cache.getName()).thenReturn("userCache");
+        return cache;
+    }
+
+    private static void complete(final int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+    }
+
+    @BeforeEach
+    public void begin() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void end() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void rollbackEvictsOnlyTouchedKeys() {
+        Cache<EntityCacheKey, String> raw = cache();
+        Cache<EntityCacheKey, String> cache = new EntityCacheInvalidator(
+                new LocalEntityCacheInvalidationChannel()).register(raw);
+
+        cache.put(KEY1, "value1");
+        cache.remove(KEY2);
+        cache.get(KEY1);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(raw).removeAll(Set.of(KEY1, KEY2));
+        verify(raw, never()).removeAll();
+    }
+
+    @Test
+    public void commitEvictsOnOtherNodes() {
+        LocalEntityCacheInvalidationChannel channel = new LocalEntityCacheInvalidationChannel();
+
+        Cache<EntityCacheKey, String> local = cache();
+        Cache<EntityCacheKey, String> cache = new EntityCacheInvalidator(channel).register(local);
+
+        Cache<EntityCacheKey, String> remote = cache();
+        new EntityCacheInvalidator(channel).register(remote);
+
+        cache.put(KEY1, "value1");
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(local, never()).removeAll(any());
+        verify(remote).removeAll(Set.of(KEY1));
+    }
+
+    @Test
+    public void readOnlyCommitDoesNotPublish() {
+        LocalEntityCacheInvalidationChannel channel = new LocalEntityCacheInvalidationChannel();
+
+        Cache<EntityCacheKey, String> cache = new EntityCacheInvalidator(channel).register(cache());
+
+        Cache<EntityCacheKey, String> remote = cache();
+        new EntityCacheInvalidator(channel).register(remote);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            cache.put(KEY1, "value1");
+
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        verify(remote, never()).removeAll(any());
+    }
+
+    @Test
+    public void rollbackEvictsReadEntries() {
+        List<String> entity = new ArrayList<>(List.of("value1"));
+
+        @SuppressWarnings("unchecked")
+        Cache<EntityCacheKey, List<String>> raw = mock(Cache.class);
+        when(raw.getName()).thenReturn("groupCache");
+        when(raw.get(KEY1)).thenReturn(entity);
+        when(raw.getAll(Set.of(KEY2))).thenReturn(Map.of(KEY2, new ArrayList<>()));
+        Cache<EntityCacheKey, List<String>> cache = new EntityCacheInvalidator(
+                new LocalEntityCacheInvalidationChannel()).register(raw);
+
+        // load and mutate in place, as callers do with cached nodes, then fail before any put
+        cache.get(KEY1).add("dirty");
+        cache.getAll(Set.of(KEY2));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(raw).removeAll(Set.of(KEY1, KEY2));
+    }
+
+    @Test
+    public void commitDoesNotPublishReadEntries() {
+        LocalEntityCacheInvalidationChannel channel = new LocalEntityCacheInvalidationChannel();
+
+        Cache<EntityCacheKey, String> local = cache();
+        when(local.get(KEY1)).thenReturn("value1");
+        Cache<EntityCacheKey, String> cache = new EntityCacheInvalidator(channel).register(local);
+
+        Cache<EntityCacheKey, String> remote = cache();
+        new EntityCacheInvalidator(channel).register(remote);
+
+        cache.get(KEY1);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(local, never()).removeAll(any());
+        verify(remote, never()).removeAll(any());
+    }
+
+    @Test
+    public void readOnlyReadNotTracked() {
+        Cache<EntityCacheKey, String> raw = cache();
+        when(raw.get(KEY1)).thenReturn("value1");
+        Cache<EntityCacheKey, String> cache = new EntityCacheInvalidator(
+                new LocalEntityCacheInvalidationChannel()).register(raw);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            cache.get(KEY1);
+
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
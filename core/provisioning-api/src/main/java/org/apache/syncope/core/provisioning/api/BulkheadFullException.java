@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+/**
+ * Thrown when a connector request cannot be admitted because the connector instance it targets has no free slot
+ * and its waiting queue is full, or the wait for a free slot timed out.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 3203842717423851162L;
+
+    /**
+     * Constructs an instance of
+     * {@code BulkheadFullException} with the specified detail message.
+     *
+     * @param msg the detail message.
+     */
+    public BulkheadFullException(final String msg) {
+        super(msg);
+    }
+}
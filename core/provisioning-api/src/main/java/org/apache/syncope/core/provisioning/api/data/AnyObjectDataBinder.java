@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.api.data;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 
@@ -30,6 +31,8 @@ public interface AnyObjectDataBinder {
 
     AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details);
 
+    AnyObjectTO getAnyObjectTO(ProjectedAny projected);
+
     void create(AnyObject anyObject, AnyObjectCR anyObjectCR);
 
     PropagationByResource<String> update(AnyObject toBeUpdated, AnyObjectUR anyObjectUR);
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.job;
+
+import java.util.Optional;
+
+/**
+ * Coordinates job execution across the cluster by means of leases: a lease is periodically renewed while the job is
+ * running and can be taken over by other nodes once expired, e.g. after the owner node has crashed.
+ */
+public interface JobLeaseManager {
+
+    /**
+     * Attempts to acquire the lease on the given job.
+     *
+     * @param domain domain
+     * @param jobName job name
+     * @param onLost callback invoked if the lease is lost while held, e.g. when renewal fails
+     * @return the acquired lease, empty if the job is currently leased by someone else
+     */
+    Optional<JobLease> acquire(String domain, String jobName, Runnable onLost);
+
+    /**
+     * Releases the given lease, provided that it is still held.
+     *
+     * @param lease lease to release
+     */
+    void release(JobLease lease);
+
+    /**
+     * Returns the lease currently held on the given job by this node, if any; writes performed on behalf of the job
+     * are expected to be checked against the fencing token of such lease.
+     *
+     * @param domain domain
+     * @param jobName job name
+     * @return the lease currently held by this node on the given job, if any
+     */
+    Optional<JobLease> getHeld(String domain, String jobName);
+
+    /**
+     * Removes any lock left on the given job, e.g. by a previous owner which has crashed, provided that the job is
+     * not currently leased.
+     *
+     * @param domain domain
+     * @param jobName job name
+     */
+    void clear(String domain, String jobName);
+
+    /**
+     * Tells whether the given job is currently leased.
+     *
+     * @param domain domain
+     * @param jobName job name
+     * @return whether the given job is currently leased
+     */
+    boolean isLeased(String domain, String jobName);
+}
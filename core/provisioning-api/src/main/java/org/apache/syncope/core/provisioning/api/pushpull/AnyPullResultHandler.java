@@ -18,7 +18,22 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+
 public interface AnyPullResultHandler extends SyncopePullResultHandler {
 
+    /**
+     * Handles the given deltas within a single transaction; if such transaction cannot be committed, deltas are
+     * handled again one by one, each in its own transaction.
+     * Propagation to other resources performed while handling the rolled back batch is not undone and happens again
+     * while handling deltas one by one: with batches, propagation is at least once.
+     * Processing stops at the first delta for which {@link #handle(SyncDelta)} returns {@code false}.
+     *
+     * @param deltas deltas to handle
+     * @return outcome of {@link #handle(SyncDelta)} for each processed delta, in the same order
+     */
+    List<Boolean> handle(List<SyncDelta> deltas);
+
     void setManagers();
 }
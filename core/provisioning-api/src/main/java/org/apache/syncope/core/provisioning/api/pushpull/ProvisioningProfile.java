@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
@@ -44,6 +46,10 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
 
     private final List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
 
+    private final ThreadLocal<List<ProvisioningReport>> pending = ThreadLocal.withInitial(ArrayList::new);
+
+    private Optional<ProvisioningReportAggregate> aggregate = Optional.empty();
+
     public ProvisioningProfile(
             final Connector connector,
             final TaskType taskType,
@@ -86,8 +92,36 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
         return actions;
     }
 
+    /**
+     * When no aggregate is set, all results collected so far; otherwise, only the results collected by the current
+     * thread and not yet passed to the aggregate.
+     * Aggregation is opt-in (see {@code provisioning.report.aggregate}) as, when enabled, the complete list of results
+     * is no longer available, e.g. to {@link ProvisioningActions} implementations inspecting it from {@code afterAll}.
+     *
+     * @return provisioning results
+     * @see #aggregate()
+     */
     public List<ProvisioningReport> getResults() {
-        return results;
+        return aggregate.isPresent() ? pending.get() : results;
+    }
+
+    public Optional<ProvisioningReportAggregate> getAggregate() {
+        return aggregate;
+    }
+
+    public void setAggregate(final ProvisioningReportAggregate aggregate) {
+        this.aggregate = Optional.ofNullable(aggregate);
+    }
+
+    /**
+     * Passes the results collected by the current thread to the aggregate, if set; to be invoked once each handled
+     * item is complete, as reports can still be updated while the item is being handled.
+     */
+    public void aggregate() {
+        aggregate.ifPresent(a -> {
+            pending.get().forEach(a::add);
+            pending.remove();
+        });
     }
 
     public String getContext() {
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Running aggregation of {@link ProvisioningReport} instances: only counters per category, status and operation
+ * are kept, together with a bounded number of detail lines, as required by the given trace level; further detail
+ * lines are spilled to a file, up to a given limit, and then just counted.
+ * The spill file is only available until {@link #close()}, which removes it.
+ */
+public class ProvisioningReportAggregate implements Closeable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ProvisioningReportAggregate.class);
+
+    public enum Category {
+        USER,
+        LINKED_ACCOUNT,
+        GROUP,
+        ANY_OBJECT,
+        REALM;
+
+        public static Category of(final String anyType) {
+            if (StringUtils.isBlank(anyType)) {
+                return REALM;
+            }
+            if (AnyTypeKind.USER.name().equals(anyType)) {
+                return USER;
+            }
+            if (MatchType.LINKED_ACCOUNT.name().equals(anyType)) {
+                return LINKED_ACCOUNT;
+            }
+            if (AnyTypeKind.GROUP.name().equals(anyType)) {
+                return GROUP;
+            }
+            return ANY_OBJECT;
+        }
+    }
+
+    protected record Key(Category category, ProvisioningReport.Status status, ResourceOperation operation) {
+
+    }
+
+    protected final TraceLevel traceLevel;
+
+    protected final int maxDetails;
+
+    protected final Path spillDirectory;
+
+    protected final long maxSpilledDetails;
+
+    protected final Predicate<ProvisioningReport> retain;
+
+    protected final Map<Key, Long> counters = new HashMap<>();
+
+    protected final Map<Key, List<String>> details = new HashMap<>();
+
+    protected final List<ProvisioningReport> retained = new ArrayList<>();
+
+    protected int detailCount;
+
+    protected long spilled;
+
+    protected long dropped;
+
+    protected Path spillFile;
+
+    protected BufferedWriter spillWriter;
+
+    /**
+     * @param traceLevel trace level, driving which detail lines are kept
+     * @param maxDetails max number of detail lines to keep in memory
+     * @param spillDirectory where to spill detail lines exceeding {@code maxDetails}; if {@code null}, no spilling
+     * @param maxSpilledDetails max number of detail lines to spill
+     * @param retain reports to be kept as they are, for later processing
+     */
+    public ProvisioningReportAggregate(
+            final TraceLevel traceLevel,
+            final int maxDetails,
+            final Path spillDirectory,
+            final long maxSpilledDetails,
+            final Predicate<ProvisioningReport> retain) {
+
+        this.traceLevel = traceLevel;
+        this.maxDetails = maxDetails;
+        this.spillDirectory = spillDirectory;
+        this.maxSpilledDetails = maxSpilledDetails;
+        this.retain = retain;
+    }
+
+    protected static Key key(final ProvisioningReport report) {
+        Category category = Category.of(report.getAnyType());
+        return switch (report.getStatus()) {
+            case SUCCESS ->
+                report.getOperation() == null ? null : new Key(category, report.getStatus(), report.getOperation());
+
+            case FAILURE ->
+                report.getOperation() == null || report.getOperation() == ResourceOperation.NONE
+                ? null
+                : new Key(category, report.getStatus(), report.getOperation());
+
+            case IGNORE ->
+                new Key(category, report.getStatus(), null);
+        };
+    }
+
+    protected boolean detailed(final Key key) {
+        return switch (traceLevel) {
+            case ALL ->
+                true;
+
+            case FAILURES ->
+                key.status() == ProvisioningReport.Status.FAILURE;
+
+            default ->
+                false;
+        };
+    }
+
+    protected void spill(final Key key, final String line) {
+        if (spillDirectory == null || spilled >= maxSpilledDetails) {
+            dropped++;
+            return;
+        }
+
+        try {
+            if (spillWriter == null) {
+                spillFile = Files.createTempFile(spillDirectory, "provisioning-report-", ".log");
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            }
+            spillWriter.write(key.category().name() + ' ' + line);
+            spillWriter.newLine();
+            spilled++;
+        } catch (IOException e) {
+            LOG.error("Could not spill provisioning report detail to {}", spillFile, e);
+            dropped++;
+        }
+    }
+
+    public synchronized void add(final ProvisioningReport report) {
+        if (report.getStatus() == null) {
+            return;
+        }
+
+        if (retain != null && retain.test(report)) {
+            retained.add(report);
+        }
+
+        Key key = key(report);
+        if (key == null) {
+            return;
+        }
+
+        counters.merge(key, 1L, Long::sum);
+
+        if (detailed(key)) {
+            String line = report.getReportString(traceLevel);
+            if (detailCount < maxDetails) {
+                details.computeIfAbsent(key, k -> new ArrayList<>()).add(line);
+                detailCount++;
+            } else {
+                spill(key, line);
+            }
+        }
+    }
+
+    public synchronized long count(
+            final Category category,
+            final ProvisioningReport.Status status,
+            final ResourceOperation operation) {
+
+        return counters.getOrDefault(new Key(
+                category, status, status == ProvisioningReport.Status.IGNORE ? null : operation), 0L);
+    }
+
+    public synchronized List<String> details(
+            final Category category,
+            final ProvisioningReport.Status status,
+            final ResourceOperation operation) {
+
+        return List.copyOf(details.getOrDefault(new Key(
+                category, status, status == ProvisioningReport.Status.IGNORE ? null : operation), List.of()));
+    }
+
+    public synchronized List<ProvisioningReport> getRetained() {
+        return List.copyOf(retained);
+    }
+
+    /**
+     * @return number of detail lines which were not kept in memory, either spilled or dropped
+     */
+    public synchronized long getOmitted() {
+        return spilled + dropped;
+    }
+
+    public synchronized Optional<Path> getSpillFile() {
+        return spilled > 0 ? Optional.ofNullable(spillFile) : Optional.empty();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                LOG.error("While closing {}", spillFile, e);
+            }
+            spillWriter = null;
+        }
+
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                LOG.error("While deleting {}", spillFile, e);
+            }
+            spillFile = null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.provisioning.api.AbstractTest;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+
+public class ProvisioningReportAggregateTest extends AbstractTest {
+
+    private static ProvisioningReport report(
+            final String anyType,
+            final ProvisioningReport.Status status,
+            final ResourceOperation operation) {
+
+        ProvisioningReport report = new ProvisioningReport();
+        report.setAnyType(anyType);
+        report.setStatus(status);
+        report.setOperation(operation);
+        report.setKey("key");
+        report.setName("name");
+        return report;
+    }
+
+    @Test
+    public void count(final @TempDir Path spillDirectory) throws IOException {
+        ProvisioningReportAggregate aggregate = new ProvisioningReportAggregate(
+                TraceLevel.FAILURES, 2, spillDirectory, 1,
+                report -> report.getOperation() == ResourceOperation.CREATE);
+        Path spillFile;
+        try (aggregate) {
+            aggregate.add(report(
+                    AnyTypeKind.USER.name(), ProvisioningReport.Status.SUCCESS, ResourceOperation.CREATE));
+            aggregate.add(report(
+                    AnyTypeKind.GROUP.name(), ProvisioningReport.Status.IGNORE, ResourceOperation.NONE));
+            for (int i = 0; i < 4; i++) {
+                aggregate.add(report(
+                        AnyTypeKind.USER.name(), ProvisioningReport.Status.FAILURE, ResourceOperation.UPDATE));
+            }
+
+            spillFile = aggregate.getSpillFile().orElseThrow();
+            assertTrue(Files.exists(spillFile));
+        }
+
+        // spill file is removed on close
+        assertFalse(Files.exists(spillFile));
+
+        assertEquals(1, aggregate.count(
+                ProvisioningReportAggregate.Category.USER,
+                ProvisioningReport.Status.SUCCESS, ResourceOperation.CREATE));
+        assertEquals(1, aggregate.count(
+                ProvisioningReportAggregate.Category.GROUP,
+                ProvisioningReport.Status.IGNORE, ResourceOperation.NONE));
+        assertEquals(4, aggregate.count(
+                ProvisioningReportAggregate.Category.USER,
+                ProvisioningReport.Status.FAILURE, ResourceOperation.UPDATE));
+
+        // only failures are detailed, at most 2 in memory, 1 spilled and 1 dropped
+        assertTrue(aggregate.details(
+                ProvisioningReportAggregate.Category.USER,
+                ProvisioningReport.Status.SUCCESS, ResourceOperation.CREATE).isEmpty());
+        assertEquals(2, aggregate.details(
+                ProvisioningReportAggregate.Category.USER,
+                ProvisioningReport.Status.FAILURE, ResourceOperation.UPDATE).size());
+        assertEquals(2, aggregate.getOmitted());
+
+        assertEquals(1, aggregate.getRetained().size());
+    }
+
+    @Test
+    public void profile(
+            final @Mock Connector connector,
+            final @Mock PushTask pushTask) {
+
+        ProvisioningProfile<PushTask, PushActions> profile = new ProvisioningProfile<>(
+                connector,
+                TaskType.PUSH,
+                pushTask,
+                null,
+                List.of(),
+                "executor",
+                false);
+        ProvisioningReportAggregate aggregate = new ProvisioningReportAggregate(
+                TraceLevel.SUMMARY, 0, null, 0, null);
+        profile.setAggregate(aggregate);
+
+        ProvisioningReport report = new ProvisioningReport();
+        profile.getResults().add(report);
+        report.setAnyType(AnyTypeKind.USER.name());
+        report.setOperation(ResourceOperation.DELETE);
+        report.setStatus(ProvisioningReport.Status.SUCCESS);
+
+        profile.aggregate();
+
+        assertTrue(profile.getResults().isEmpty());
+        assertEquals(Optional.of(aggregate), profile.getAggregate());
+        assertEquals(1, aggregate.count(
+                ProvisioningReportAggregate.Category.USER,
+                ProvisioningReport.Status.SUCCESS, ResourceOperation.DELETE));
+        assertEquals(0, aggregate.getOmitted());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.syncope.core.provisioning.api.BulkheadFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the number of concurrent requests towards a single connector instance, so that a slow or unresponsive
+ * target cannot take all the slots of the shared {@link AsyncConnectorFacade} executor.
+ *
+ * Requests exceeding the current limit wait in a bounded queue; when the queue is full, they are rejected straight
+ * away. When adaptive, the limit follows an AIMD policy: it grows by one after a full window of fast, successful
+ * requests and is cut by the configured ratio upon errors or requests slower than the latency threshold.
+ */
+public class ConnectorBulkhead {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ConnectorBulkhead.class);
+
+    protected final String connInstance;
+
+    protected final int maxConcurrency;
+
+    protected final int queueDepth;
+
+    protected final boolean adaptive;
+
+    protected final int minConcurrency;
+
+    protected final long latencyThresholdNanos;
+
+    protected final double backoffRatio;
+
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    protected final Condition available = lock.newCondition();
+
+    protected final AtomicLong rejected = new AtomicLong();
+
+    protected int limit;
+
+    protected int inFlight;
+
+    protected int queued;
+
+    protected int successes;
+
+    public ConnectorBulkhead(
+            final String connInstance,
+            final int maxConcurrency,
+            final ConnectorBulkheadProperties props) {
+
+        this.connInstance = connInstance;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.queueDepth = Math.max(0, props.getQueueDepth());
+        this.adaptive = props.isAdaptive();
+        this.minConcurrency = Math.min(this.maxConcurrency, Math.max(1, props.getMinConcurrency()));
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(props.getLatencyThresholdMillis());
+        this.backoffRatio = props.getBackoffRatio();
+        this.limit = this.maxConcurrency;
+    }
+
+    public String getConnInstance() {
+        return connInstance;
+    }
+
+    /**
+     * Waits for a free slot up to the given timeout.
+     *
+     * @param timeout maximum time to wait for a free slot
+     * @param unit time unit of the timeout argument
+     * @throws BulkheadFullException if the queue is full or no slot was freed in time
+     */
+    public void acquire(final long timeout, final TimeUnit unit) {
+        lock.lock();
+        try {
+            if (inFlight < limit) {
+                inFlight++;
+                return;
+            }
+
+            if (queued >= queueDepth) {
+                rejected.incrementAndGet();
+                throw new BulkheadFullException("Too many concurrent requests for connector " + connInstance);
+            }
+
+            queued++;
+            try {
+                long nanos = unit.toNanos(timeout);
+                while (inFlight >= limit) {
+                    if (nanos <= 0) {
+                        rejected.incrementAndGet();
+                        throw new BulkheadFullException("Timed out waiting for connector " + connInstance);
+                    }
+                    nanos = available.awaitNanos(nanos);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.incrementAndGet();
+                throw new BulkheadFullException("Interrupted while waiting for connector " + connInstance);
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot taken by a previous {@link #acquire(long, java.util.concurrent.TimeUnit)} and, when adaptive,
+     * updates the current limit according to the outcome of the request.
+     *
+     * @param latencyNanos how long the request took
+     * @param failed whether the request failed because of the connector being unreachable or too slow
+     */
+    public void release(final long latencyNanos, final boolean failed) {
+        lock.lock();
+        try {
+            inFlight--;
+
+            if (adaptive) {
+                if (failed || latencyNanos > latencyThresholdNanos) {
+                    successes = 0;
+                    int decreased = Math.max(minConcurrency, (int) (limit * backoffRatio));
+                    if (decreased < limit) {
+                        LOG.debug("Decreasing concurrency limit for connector {} to {}", connInstance, decreased);
+                        limit = decreased;
+                    }
+                } else if (limit < maxConcurrency && ++successes >= limit) {
+                    successes = 0;
+                    limit++;
+                    LOG.debug("Increasing concurrency limit for connector {} to {}", connInstance, limit);
+                }
+            }
+
+            if (inFlight < limit) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
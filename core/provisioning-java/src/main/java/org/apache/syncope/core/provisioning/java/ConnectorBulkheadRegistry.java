@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds one {@link ConnectorBulkhead} per connector instance key, created on first use and removed once the
+ * connector instance is reported as deleted via {@link EntityLifecycleEvent}.
+ */
+public class ConnectorBulkheadRegistry {
+
+    protected final ConnectorBulkheadProperties props;
+
+    protected final Map<String, ConnectorBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public ConnectorBulkheadRegistry(final ConnectorBulkheadProperties props) {
+        this.props = props;
+    }
+
+    /**
+     * Returns the bulkhead for the given connector instance key, if bulkheads are enabled.
+     *
+     * @param connInstance connector instance key
+     * @return bulkhead for the given connector instance key, or empty if bulkheads are disabled or no key was given
+     */
+    public Optional<ConnectorBulkhead> get(final String connInstance) {
+        if (!props.isEnabled() || connInstance == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(bulkheads.computeIfAbsent(connInstance, this::newBulkhead));
+    }
+
+    /**
+     * Removes the bulkhead for the given connector instance key, if any.
+     *
+     * @param connInstance connector instance key
+     */
+    public void remove(final String connInstance) {
+        bulkheads.remove(connInstance);
+    }
+
+    @TransactionalEventListener
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (event.getType() == SyncDeltaType.DELETE && event.getEntity() instanceof ConnInstance connInstance) {
+            remove(connInstance.getKey());
+        }
+    }
+
+    protected ConnectorBulkhead newBulkhead(final String connInstance) {
+        return new ConnectorBulkhead(
+                connInstance,
+                props.getMaxConcurrencyOverrides().getOrDefault(connInstance, props.getMaxConcurrency()),
+                props);
+    }
+}
@@ -210,6 +210,23 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
+        audit(domain, who, OffsetDateTime.now(), type, category, subcategory, op, outcome, before, output, input);
+    }
+
+    @Override
+    public void audit(
+            final String domain,
+            final String who,
+            final OffsetDateTime when,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op,
+            final OpEvent.Outcome outcome,
+            final Object before,
+            final Object output,
+            final Object... input) {
+
         taskExecutor.submit(() -> AuthContextUtils.runAsAdmin(domain, new Runnable() {
 
             @Transactional
@@ -231,7 +248,7 @@ public class DefaultAuditManager implements AuditManager {
                     AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
                     auditEvent.setOpEvent(opEvent.toString());
                     auditEvent.setWho(who);
-                    auditEvent.setWhen(OffsetDateTime.now());
+                    auditEvent.setWhen(when);
                     Optional.ofNullable(before).
                             ifPresent(b -> auditEvent.setBefore(POJOHelper.serialize((maskSensitive(b)))));
 
@@ -59,6 +59,8 @@ public class DefaultConnectorManager implements ConnectorManager {
 
     protected final AsyncConnectorFacade asyncFacade;
 
+    protected final ConnectorBulkheadRegistry bulkheads;
+
     protected final EntityFactory entityFactory;
 
     protected final ConfigurableApplicationContext ctx;
@@ -67,12 +69,14 @@ public class DefaultConnectorManager implements ConnectorManager {
             final ConnIdBundleManager connIdBundleManager,
             final ExternalResourceDAO resourceDAO,
             final AsyncConnectorFacade asyncFacade,
+            final ConnectorBulkheadRegistry bulkheads,
             final EntityFactory entityFactory,
             final ConfigurableApplicationContext ctx) {
 
         this.connIdBundleManager = connIdBundleManager;
         this.resourceDAO = resourceDAO;
         this.asyncFacade = asyncFacade;
+        this.bulkheads = bulkheads;
         this.entityFactory = entityFactory;
         this.ctx = ctx;
     }
@@ -142,12 +146,25 @@ public class DefaultConnectorManager implements ConnectorManager {
         return override;
     }
 
-    @Override
-    public Connector createConnector(final ConnInstance connInstance) {
+    /**
+     * Create connector from given connector instance, sharing the bulkhead of the given connector instance key.
+     * This is needed as connector instance overrides, built via {@link #buildConnInstanceOverride}, carry no key.
+     *
+     * @param connInstance connector instance
+     * @param bulkheadKey connector instance key to look up the bulkhead for; if {@code null}, no bulkhead is applied
+     * @return connector
+     */
+    protected Connector createConnector(final ConnInstance connInstance, final String bulkheadKey) {
         return new ConnectorFacadeProxy(
                 connInstance,
                 asyncFacade,
-                connIdBundleManager.getConnectorInfo(connInstance).getRight());
+                connIdBundleManager.getConnectorInfo(connInstance).getRight(),
+                bulkheads.get(bulkheadKey));
+    }
+
+    @Override
+    public Connector createConnector(final ConnInstance connInstance) {
+        return createConnector(connInstance, connInstance.getKey());
     }
 
     @Override
@@ -163,7 +180,7 @@ public class DefaultConnectorManager implements ConnectorManager {
                     resource.getConnector(),
                     resource.getConfOverride(),
                     resource.getCapabilitiesOverride());
-            Connector connector = createConnector(connInstance);
+            Connector connector = createConnector(connInstance, resource.getConnector().getKey());
             LOG.debug("Connector to be registered: {}", connector);
 
             ctx.getBeanFactory().registerSingleton(beanName, connector);
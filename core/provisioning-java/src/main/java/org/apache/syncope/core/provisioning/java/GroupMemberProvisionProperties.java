@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class GroupMemberProvisionProperties {
+
+    /**
+     * When enabled, group members are (de)provisioned in chunks, each committed on its own and then recorded as
+     * checkpoint, so that a failed or stopped execution can be resumed after the last recorded chunk.
+     */
+    private boolean chunked = false;
+
+    private int chunkSize = 500;
+
+    /**
+     * Max number of members to (de)provision concurrently within each chunk.
+     */
+    private int parallelism = 4;
+
+    public boolean isChunked() {
+        return chunked;
+    }
+
+    public void setChunked(final boolean chunked) {
+        this.chunked = chunked;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class JobProperties {
+
+    public enum LeaseBackend {
+
+        DB,
+        ZOOKEEPER
+
+    }
+
+    private LeaseBackend leaseBackend = LeaseBackend.DB;
+
+    private int leaseTtlSeconds = 60;
+
+    private int statusFlushIntervalSeconds = 2;
+
+    public LeaseBackend getLeaseBackend() {
+        return leaseBackend;
+    }
+
+    public void setLeaseBackend(final LeaseBackend leaseBackend) {
+        this.leaseBackend = leaseBackend;
+    }
+
+    public int getLeaseTtlSeconds() {
+        return leaseTtlSeconds;
+    }
+
+    public void setLeaseTtlSeconds(final int leaseTtlSeconds) {
+        this.leaseTtlSeconds = leaseTtlSeconds;
+    }
+
+    public int getStatusFlushIntervalSeconds() {
+        return statusFlushIntervalSeconds;
+    }
+
+    public void setStatusFlushIntervalSeconds(final int statusFlushIntervalSeconds) {
+        this.statusFlushIntervalSeconds = statusFlushIntervalSeconds;
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
@@ -113,6 +114,7 @@ import org.apache.syncope.core.provisioning.api.jexl.JexlFunctions;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.apache.syncope.core.provisioning.api.jexl.SyncopeJexlFunctions;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
@@ -150,6 +152,7 @@ import org.apache.syncope.core.provisioning.java.data.TaskDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.UserDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.WAConfigDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.wa.WAClientAppDataBinderImpl;
+import org.apache.syncope.core.provisioning.java.job.DBJobLeaseManager;
 import org.apache.syncope.core.provisioning.java.job.DefaultJobManager;
 import org.apache.syncope.core.provisioning.java.job.JobStatusUpdater;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
@@ -172,6 +175,7 @@ import org.apache.syncope.core.workflow.api.GroupWorkflowAdapter;
 import org.apache.syncope.core.workflow.api.UserWorkflowAdapter;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -216,6 +220,12 @@ public class ProvisioningContext {
         return new AsyncConnectorFacade();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ConnectorBulkheadRegistry connectorBulkheadRegistry(final ProvisioningProperties props) {
+        return new ConnectorBulkheadRegistry(props.getConnectorBulkhead());
+    }
+
     /**
      * Annotated as {@code @Primary} because it will be used by {@code @Async} in {@link AsyncConnectorFacade}.
      *
@@ -267,14 +277,17 @@ public class ProvisioningContext {
     }
 
     @Bean
-    public SyncopeTaskScheduler taskScheduler(final ProvisioningProperties props, final JobStatusDAO jobStatusDAO) {
+    public SyncopeTaskScheduler taskScheduler(
+            final ProvisioningProperties props,
+            final JobLeaseManager jobLeaseManager) {
+
         SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
         taskScheduler.setVirtualThreads(true);
         taskScheduler.setConcurrencyLimit(props.getScheduling().getPoolSize());
         taskScheduler.setTaskTerminationTimeout(props.getScheduling().getAwaitTerminationSeconds() * 1000);
         taskScheduler.setThreadNamePrefix("TaskScheduler-");
 
-        return new SyncopeTaskScheduler(taskScheduler, jobStatusDAO);
+        return new SyncopeTaskScheduler(taskScheduler, jobLeaseManager);
     }
 
     @ConditionalOnMissingBean
@@ -283,7 +296,7 @@ public class ProvisioningContext {
             final DomainHolder<?> domainHolder,
             final SecurityProperties securityProperties,
             final SyncopeTaskScheduler scheduler,
-            final JobStatusDAO jobStatusDAO,
+            final JobLeaseManager jobLeaseManager,
             final TaskDAO taskDAO,
             final ReportDAO reportDAO,
             final ImplementationDAO implementationDAO,
@@ -294,7 +307,7 @@ public class ProvisioningContext {
         return new DefaultJobManager(
                 domainHolder,
                 scheduler,
-                jobStatusDAO,
+                jobLeaseManager,
                 taskDAO,
                 reportDAO,
                 implementationDAO,
@@ -304,26 +317,25 @@ public class ProvisioningContext {
                 ctx);
     }
 
-    /**
-     * This is a special thread executor that only created a single worker thread.
-     * This is necessary to allow job status update operations to queue up serially
-     * and not via multiple threads to avoid the "lost update" problem.
-     *
-     * @return the async task executor
-     */
+    @ConditionalOnMissingBean
     @Bean
-    public AsyncTaskExecutor jobStatusUpdaterThreadExecutor() {
-        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
-        executor.setPoolSize(1);
-        executor.setThreadNamePrefix("JobStatusUpdaterThreadExecutor-");
-        executor.initialize();
-        return executor;
+    public JobStatusUpdater jobStatusUpdater(
+            final ProvisioningProperties props,
+            final JobStatusDAO jobStatusDAO,
+            final JobLeaseManager jobLeaseManager) {
+
+        return new JobStatusUpdater(
+                jobStatusDAO,
+                jobLeaseManager,
+                Duration.ofSeconds(props.getJob().getStatusFlushIntervalSeconds()));
     }
 
+    @ConditionalOnProperty(
+            prefix = "provisioning.job", name = "lease-backend", havingValue = "DB", matchIfMissing = true)
     @ConditionalOnMissingBean
     @Bean
-    public JobStatusUpdater jobStatusUpdater(final JobStatusDAO jobStatusDAO) {
-        return new JobStatusUpdater(jobStatusDAO);
+    public JobLeaseManager jobLeaseManager(final ProvisioningProperties props, final JobStatusDAO jobStatusDAO) {
+        return new DBJobLeaseManager(jobStatusDAO, Duration.ofSeconds(props.getJob().getLeaseTtlSeconds()));
     }
 
     @ConditionalOnMissingBean
@@ -333,12 +345,14 @@ public class ProvisioningContext {
             final ConnIdBundleManager connIdBundleManager,
             final ExternalResourceDAO resourceDAO,
             final AsyncConnectorFacade asyncConnectorFacade,
+            final ConnectorBulkheadRegistry connectorBulkheadRegistry,
             final ConfigurableApplicationContext ctx) {
 
         return new DefaultConnectorManager(
                 connIdBundleManager,
                 resourceDAO,
                 asyncConnectorFacade,
+                connectorBulkheadRegistry,
                 entityFactory,
                 ctx);
     }
@@ -31,6 +31,14 @@ public class ProvisioningProperties {
 
     private final ExecutorProperties scheduling = new ExecutorProperties();
 
+    private final JobProperties job = new JobProperties();
+
+    private final ConnectorBulkheadProperties connectorBulkhead = new ConnectorBulkheadProperties();
+
+    private final GroupMemberProvisionProperties groupMemberProvision = new GroupMemberProvisionProperties();
+
+    private final ProvisioningReportProperties report = new ProvisioningReportProperties();
+
     private final List<String> connIdLocation = new ArrayList<>();
 
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
@@ -45,6 +53,22 @@ public class ProvisioningProperties {
         return scheduling;
     }
 
+    public JobProperties getJob() {
+        return job;
+    }
+
+    public ConnectorBulkheadProperties getConnectorBulkhead() {
+        return connectorBulkhead;
+    }
+
+    public GroupMemberProvisionProperties getGroupMemberProvision() {
+        return groupMemberProvision;
+    }
+
+    public ProvisioningReportProperties getReport() {
+        return report;
+    }
+
     public List<String> getConnIdLocation() {
         return connIdLocation;
     }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class ProvisioningReportProperties {
+
+    /**
+     * When enabled, pull and push tasks aggregate their results while running, instead of retaining all of them
+     * until the execution report is generated; as a consequence, {@code ProvisioningProfile#getResults()} only returns
+     * the results of the item being handled, so this shall not be enabled when actions rely on the complete list,
+     * e.g. from {@code afterAll}.
+     */
+    private boolean aggregate;
+
+    /**
+     * Max number of detail lines kept in memory for the execution report, when aggregating.
+     */
+    private int maxDetails = 1000;
+
+    /**
+     * Directory where detail lines exceeding {@code maxDetails} are spilled; if not set, the default temporary
+     * directory is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * Max number of detail lines spilled for each execution; lines exceeding this limit are only counted.
+     */
+    private long maxSpilledDetails = 100000;
+
+    public boolean isAggregate() {
+        return aggregate;
+    }
+
+    public void setAggregate(final boolean aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    public int getMaxDetails() {
+        return maxDetails;
+    }
+
+    public void setMaxDetails(final int maxDetails) {
+        this.maxDetails = maxDetails;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(final String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    public long getMaxSpilledDetails() {
+        return maxSpilledDetails;
+    }
+
+    public void setMaxSpilledDetails(final long maxSpilledDetails) {
+        this.maxSpilledDetails = maxSpilledDetails;
+    }
+}
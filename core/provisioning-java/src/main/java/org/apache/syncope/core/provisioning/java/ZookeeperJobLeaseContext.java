@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.time.Duration;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
+import org.apache.syncope.core.provisioning.java.job.ZookeeperJobLeaseManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Coordinates job execution via the Apache Curator client configured for Zookeeper Keymaster.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = { "org.apache.curator.framework.CuratorFramework" })
+@ConditionalOnProperty(prefix = "provisioning.job", name = "lease-backend", havingValue = "ZOOKEEPER")
+public class ZookeeperJobLeaseContext {
+
+    @ConditionalOnMissingBean
+    @Bean
+    public JobLeaseManager jobLeaseManager(
+            final ProvisioningProperties props,
+            final CuratorFramework client,
+            final JobStatusDAO jobStatusDAO) {
+
+        return new ZookeeperJobLeaseManager(
+                client, jobStatusDAO, Duration.ofSeconds(props.getJob().getLeaseTtlSeconds()));
+    }
+}
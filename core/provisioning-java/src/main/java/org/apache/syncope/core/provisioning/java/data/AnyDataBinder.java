@@ -61,6 +61,7 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
@@ -92,6 +93,8 @@ import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
 import org.identityconnectors.framework.common.objects.Uid;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 
 abstract class AnyDataBinder extends AttributableDataBinder {
 
@@ -117,6 +120,21 @@ abstract class AnyDataBinder extends AttributableDataBinder {
         anyTO.getResources().addAll(resources.stream().map(ExternalResource::getKey).collect(Collectors.toSet()));
     }
 
+    protected static <T extends AnyTO> T fillTO(final ProjectedAny projected, final T anyTO) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(anyTO);
+        projected.fields().forEach((field, value) -> {
+            if (value != null && wrapper.isWritableProperty(field)) {
+                wrapper.setPropertyValue(field, value instanceof Enum<?> enumValue ? enumValue.name() : value);
+            }
+        });
+        anyTO.setKey(projected.key());
+
+        projected.plainAttrs().forEach((schema, values) -> anyTO.getPlainAttrs().
+                add(new Attr.Builder(schema).values(values).build()));
+
+        return anyTO;
+    }
+
     protected static RelationshipTO getRelationshipTO(
             final Collection<PlainAttr> plainAttrs,
             final Map<String, String> derAttrs,
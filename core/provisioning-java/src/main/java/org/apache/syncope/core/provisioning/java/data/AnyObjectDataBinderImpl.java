@@ -43,6 +43,7 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -108,6 +109,11 @@ public class AnyObjectDataBinderImpl extends AnyDataBinder implements AnyObjectD
         return getAnyObjectTO(anyObjectDAO.authFind(key), true);
     }
 
+    @Override
+    public AnyObjectTO getAnyObjectTO(final ProjectedAny projected) {
+        return fillTO(projected, new AnyObjectTO());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details) {
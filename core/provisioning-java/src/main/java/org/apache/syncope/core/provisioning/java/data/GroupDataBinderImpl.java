@@ -46,6 +46,7 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -257,6 +258,11 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
         return typeExtTO;
     }
 
+    @Override
+    public GroupTO getGroupTO(final ProjectedAny projected) {
+        return fillTO(projected, new GroupTO());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final Group group, final boolean details) {
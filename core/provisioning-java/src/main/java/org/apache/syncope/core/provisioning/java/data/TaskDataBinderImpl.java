@@ -248,6 +248,7 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
                 pullTask.setJobDelegate(jobDelegate);
 
                 pullTask.setPullMode(pullTaskTO.getPullMode());
+                pullTask.setCommitBatchSize(pullTaskTO.getCommitBatchSize());
 
                 if (pullTaskTO.getReconFilterBuilder() == null) {
                     pullTask.setReconFilterBuilder(null);
@@ -613,6 +614,7 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
                 pullTaskTO.setUnmatchingRule(pullTask.getUnmatchingRule() == null
                         ? UnmatchingRule.PROVISION : pullTask.getUnmatchingRule());
                 pullTaskTO.setPullMode(pullTask.getPullMode());
+                pullTaskTO.setCommitBatchSize(pullTask.getCommitBatchSize());
 
                 Optional.ofNullable(pullTask.getReconFilterBuilder()).
                         ifPresent(rfb -> pullTaskTO.setReconFilterBuilder(rfb.getKey()));
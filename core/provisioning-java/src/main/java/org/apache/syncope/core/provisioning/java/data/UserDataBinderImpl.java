@@ -65,6 +65,7 @@ import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
@@ -551,6 +552,11 @@ public class UserDataBinderImpl extends AnyDataBinder implements UserDataBinder
         return accountTO;
     }
 
+    @Override
+    public UserTO getUserTO(final ProjectedAny projected) {
+        return fillTO(projected, new UserTO());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
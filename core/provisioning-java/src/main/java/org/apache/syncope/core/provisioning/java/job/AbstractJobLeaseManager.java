@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Takes care of periodically renewing the acquired leases, until released or lost.
+ */
+public abstract class AbstractJobLeaseManager implements JobLeaseManager, DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JobLeaseManager.class);
+
+    protected static String buildOwner() {
+        String hostname;
+        try {
+            hostname = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            LOG.warn("Could not get host name", e);
+            hostname = "unknown";
+        }
+        return hostname + '_' + SecureRandomUtils.generateRandomUUID();
+    }
+
+    protected final String owner = buildOwner();
+
+    protected final Duration ttl;
+
+    protected final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("JobLeaseHeartbeat-", 0).factory());
+
+    protected final Map<JobLease, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+
+    protected AbstractJobLeaseManager(final Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Attempts to acquire the lease on the given job.
+     *
+     * @param domain domain
+     * @param jobName job name
+     * @return fencing token, if the lease was acquired
+     */
+    protected abstract Optional<Long> doAcquire(String domain, String jobName);
+
+    /**
+     * Renews the given lease.
+     *
+     * @param lease lease to renew
+     * @return whether the lease is still held
+     */
+    protected abstract boolean doRenew(JobLease lease);
+
+    protected abstract void doRelease(JobLease lease);
+
+    protected void renew(final JobLease lease, final Runnable onLost) {
+        boolean renewed;
+        try {
+            renewed = doRenew(lease);
+        } catch (Exception e) {
+            // transient failure: the lease is still valid until expiry, try again at next heartbeat
+            LOG.error("While renewing {}", lease, e);
+            return;
+        }
+
+        if (!renewed) {
+            LOG.warn("{} was lost", lease);
+
+            Optional.ofNullable(renewals.remove(lease)).ifPresent(renewal -> renewal.cancel(false));
+            onLost.run();
+        }
+    }
+
+    @Override
+    public Optional<JobLease> acquire(final String domain, final String jobName, final Runnable onLost) {
+        Optional<JobLease> lease = doAcquire(domain, jobName).
+                map(fencingToken -> new JobLease(domain, jobName, owner, fencingToken));
+
+        lease.ifPresent(acquired -> {
+            LOG.debug("{} acquired", acquired);
+
+            long period = Math.max(1, ttl.toMillis() / 3);
+            renewals.put(acquired, heartbeat.scheduleAtFixedRate(
+                    () -> renew(acquired, onLost), period, period, TimeUnit.MILLISECONDS));
+        });
+
+        return lease;
+    }
+
+    @Override
+    public void release(final JobLease lease) {
+        Optional.ofNullable(renewals.remove(lease)).ifPresent(renewal -> renewal.cancel(false));
+
+        doRelease(lease);
+
+        LOG.debug("{} released", lease);
+    }
+
+    @Override
+    public Optional<JobLease> getHeld(final String domain, final String jobName) {
+        return renewals.keySet().stream().
+                filter(lease -> lease.domain().equals(domain) && lease.jobName().equals(jobName)).
+                findFirst();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+
+/**
+ * Keeps leases in the {@code JobStatus} table of each domain.
+ */
+public class DBJobLeaseManager extends AbstractJobLeaseManager {
+
+    protected final JobStatusDAO jobStatusDAO;
+
+    public DBJobLeaseManager(final JobStatusDAO jobStatusDAO, final Duration ttl) {
+        super(ttl);
+        this.jobStatusDAO = jobStatusDAO;
+    }
+
+    @Override
+    protected Optional<Long> doAcquire(final String domain, final String jobName) {
+        return AuthContextUtils.callAsAdmin(
+                domain,
+                () -> jobStatusDAO.lease(jobName, owner, OffsetDateTime.now().plus(ttl)));
+    }
+
+    @Override
+    protected boolean doRenew(final JobLease lease) {
+        return AuthContextUtils.callAsAdmin(
+                lease.domain(),
+                () -> jobStatusDAO.renew(
+                        lease.jobName(), lease.owner(), lease.fencingToken(), OffsetDateTime.now().plus(ttl)));
+    }
+
+    @Override
+    protected void doRelease(final JobLease lease) {
+        AuthContextUtils.runAsAdmin(
+                lease.domain(),
+                () -> jobStatusDAO.release(lease.jobName(), lease.owner(), lease.fencingToken()));
+    }
+
+    @Override
+    public void clear(final String domain, final String jobName) {
+        AuthContextUtils.runAsAdmin(domain, () -> jobStatusDAO.unlockExpired(jobName));
+    }
+
+    @Override
+    public boolean isLeased(final String domain, final String jobName) {
+        return AuthContextUtils.callAsAdmin(domain, () -> jobStatusDAO.isLocked(jobName));
+    }
+}
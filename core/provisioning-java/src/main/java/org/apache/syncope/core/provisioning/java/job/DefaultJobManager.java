@@ -32,7 +32,6 @@ import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
-import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
@@ -43,6 +42,7 @@ import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.job.SchedTaskJobDelegate;
@@ -65,7 +65,7 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
 
     protected final SyncopeTaskScheduler scheduler;
 
-    protected final JobStatusDAO jobStatusDAO;
+    protected final JobLeaseManager jobLeaseManager;
 
     protected final TaskDAO taskDAO;
 
@@ -84,7 +84,7 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
     public DefaultJobManager(
             final DomainHolder<?> domainHolder,
             final SyncopeTaskScheduler scheduler,
-            final JobStatusDAO jobStatusDAO,
+            final JobLeaseManager jobLeaseManager,
             final TaskDAO taskDAO,
             final ReportDAO reportDAO,
             final ImplementationDAO implementationDAO,
@@ -95,7 +95,7 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
 
         this.domainHolder = domainHolder;
         this.scheduler = scheduler;
-        this.jobStatusDAO = jobStatusDAO;
+        this.jobLeaseManager = jobLeaseManager;
         this.taskDAO = taskDAO;
         this.reportDAO = reportDAO;
         this.implementationDAO = implementationDAO;
@@ -107,13 +107,7 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
 
     @Override
     public boolean isRunning(final String jobName) {
-        synchronized (jobName) {
-            boolean locked = jobStatusDAO.lock(jobName);
-            if (locked) {
-                jobStatusDAO.unlock(jobName);
-            }
-            return !locked;
-        }
+        return jobLeaseManager.isLeased(AuthContextUtils.getDomain(), jobName);
     }
 
     protected void registerJob(
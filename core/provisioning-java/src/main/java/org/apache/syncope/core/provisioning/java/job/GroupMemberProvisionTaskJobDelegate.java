@@ -18,22 +18,33 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.common.lib.types.ProvisionAction;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
-import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.user.User;
@@ -42,11 +53,18 @@ import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.provisioning.api.job.StoppableJobDelegate;
+import org.apache.syncope.core.provisioning.java.GroupMemberProvisionProperties;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public class GroupMemberProvisionTaskJobDelegate
         extends AbstractSchedTaskJobDelegate<SchedTask>
@@ -56,6 +74,12 @@ public class GroupMemberProvisionTaskJobDelegate
 
     public static final String GROUP_KEY_JOBDETAIL_KEY = "groupKey";
 
+    /**
+     * Prefix of the configuration parameter holding, by task key, the last member committed in chunked mode; removed
+     * once an execution completes, or when the task is deleted.
+     */
+    public static final String CHECKPOINT_CONF_PREFIX = "groupMemberProvision.checkpoint.";
+
     @Autowired
     private RealmDAO realmDAO;
 
@@ -71,6 +95,15 @@ public class GroupMemberProvisionTaskJobDelegate
     @Autowired
     private AnyObjectProvisioningManager anyObjectProvisioningManager;
 
+    @Autowired
+    private ProvisioningProperties provisioningProperties;
+
+    @Autowired
+    private ConfParamOps confParamOps;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private String groupKey;
 
     private ProvisionAction action;
@@ -82,7 +115,51 @@ public class GroupMemberProvisionTaskJobDelegate
         stopRequested = true;
     }
 
-    @Transactional
+    /**
+     * Step to run within a transaction, see {@link #inTransaction(Step)}.
+     */
+    @FunctionalInterface
+    protected interface Step {
+
+        void run() throws JobExecutionException;
+    }
+
+    /**
+     * Runs the given step within the current transaction, or within a new one if none is active; as with
+     * {@link Transactional}, the transaction is not rolled back when the step throws {@link JobExecutionException}.
+     *
+     * @param step step to run
+     * @throws JobExecutionException if thrown by the given step
+     */
+    protected void inTransaction(final Step step) throws JobExecutionException {
+        JobExecutionException error = new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                step.run();
+                return null;
+            } catch (JobExecutionException e) {
+                return e;
+            }
+        });
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    protected <R> R readOnly(final Supplier<R> read) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> read.get());
+    }
+
+    protected boolean isChunked() {
+        return provisioningProperties.getGroupMemberProvision().isChunked();
+    }
+
+    /**
+     * In chunked mode no transaction spans the whole execution, as it would hold a connection until the last chunk
+     * is processed: task bookkeeping, member lookups and each chunk run within their own transactions instead.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public void execute(
             final TaskType taskType,
@@ -93,14 +170,78 @@ public class GroupMemberProvisionTaskJobDelegate
         groupKey = (String) context.data().get(GROUP_KEY_JOBDETAIL_KEY);
         action = (ProvisionAction) context.data().get(ACTION_JOBDETAIL_KEY);
 
-        super.execute(taskType, taskKey, context);
+        if (isChunked()) {
+            super.execute(taskType, taskKey, context);
+        } else {
+            inTransaction(() -> super.execute(taskType, taskKey, context));
+        }
+    }
+
+    @Override
+    protected void init(
+            final TaskType taskType,
+            final String taskKey,
+            final JobExecutionContext context)
+            throws JobExecutionException {
+
+        inTransaction(() -> super.init(taskType, taskKey, context));
     }
 
     @Override
-    protected String doExecute(final JobExecutionContext context) {
-        Group group = groupDAO.authFind(groupKey);
+    protected void endExecution(
+            final TaskExec<SchedTask> execution,
+            final String message,
+            final String status,
+            final OpEvent.Outcome result) {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            // in chunked mode, the task was loaded by a transaction which is over by now
+            task = taskDAO.<SchedTask>findById(taskType, task.getKey()).orElseThrow();
+            execution.setTask(task);
+
+            super.endExecution(execution, message, status, result);
+        });
+    }
+
+    protected static void report(
+            final StringBuilder result,
+            final String member,
+            final List<PropagationStatus> statuses) {
+
+        for (PropagationStatus propagationStatus : statuses) {
+            result.append(member).append('\t').
+                    append("Resource ").append(propagationStatus.getResource()).append('\t').
+                    append(propagationStatus.getStatus());
+            if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
+                result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+            }
+            result.append('\n');
+        }
+        result.append('\n');
+    }
 
-        StringBuilder result = new StringBuilder("Group ").append(group.getName()).append(" members ");
+    protected List<PropagationStatus> provision(
+            final AnyTypeKind kind,
+            final String key,
+            final Collection<String> gResources,
+            final String executor) {
+
+        if (kind == AnyTypeKind.USER) {
+            return action == ProvisionAction.DEPROVISION
+                    ? userProvisioningManager.deprovision(key, gResources, false, executor)
+                    : userProvisioningManager.provision(key, true, null, gResources, false, executor);
+        }
+
+        return action == ProvisionAction.DEPROVISION
+                ? anyObjectProvisioningManager.deprovision(key, gResources, false, executor)
+                : anyObjectProvisioningManager.provision(key, gResources, false, executor);
+    }
+
+    @Override
+    protected String doExecute(final JobExecutionContext context) throws JobExecutionException {
+        String groupName = readOnly(() -> groupDAO.authFind(groupKey).getName());
+
+        StringBuilder result = new StringBuilder("Group ").append(groupName).append(" members ");
         if (action == ProvisionAction.DEPROVISION) {
             result.append("de");
         }
@@ -108,12 +249,17 @@ public class GroupMemberProvisionTaskJobDelegate
 
         setStatus(result.toString());
 
-        Collection<String> gResources = groupDAO.findAllResourceKeys(groupKey);
+        Collection<String> gResources = readOnly(() -> groupDAO.findAllResourceKeys(groupKey));
 
         MembershipCond membershipCond = new MembershipCond();
         membershipCond.setGroup(groupKey);
-        SearchCond cond = SearchCond.of(membershipCond);
 
+        if (isChunked()) {
+            doExecuteChunked(membershipCond, gResources, result);
+            return result.toString();
+        }
+
+        SearchCond cond = SearchCond.of(membershipCond);
         long userCount = anySearchDAO.count(
                 realmDAO.getRoot(),
                 true,
@@ -142,21 +288,8 @@ public class GroupMemberProvisionTaskJobDelegate
             for (int i = 0; i < users.size() && !stopRequested; i++) {
                 User user = users.get(i);
 
-                List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
-                        ? userProvisioningManager.deprovision(
-                                user.getKey(), gResources, false, AuthContextUtils.getUsername())
-                        : userProvisioningManager.provision(
-                                user.getKey(), true, null, gResources, false, AuthContextUtils.getUsername());
-                for (PropagationStatus propagationStatus : statuses) {
-                    result.append("User ").append(user.getKey()).append('\t').
-                            append("Resource ").append(propagationStatus.getResource()).append('\t').
-                            append(propagationStatus.getStatus());
-                    if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
-                        result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
-                    }
-                    result.append('\n');
-                }
-                result.append('\n');
+                report(result, "User " + user.getKey(),
+                        provision(AnyTypeKind.USER, user.getKey(), gResources, AuthContextUtils.getUsername()));
             }
         }
 
@@ -191,23 +324,8 @@ public class GroupMemberProvisionTaskJobDelegate
             for (int i = 0; i < anyObjects.size() && !stopRequested; i++) {
                 AnyObject anyObject = anyObjects.get(i);
 
-                List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
-                        ? anyObjectProvisioningManager.deprovision(
-                                anyObject.getKey(), gResources, false, AuthContextUtils.getUsername())
-                        : anyObjectProvisioningManager.provision(
-                                anyObject.getKey(), gResources, false, AuthContextUtils.getUsername());
-
-                for (PropagationStatus propagationStatus : statuses) {
-                    result.append(anyObject.getType().getKey()).append(' ').
-                            append(anyObject.getKey()).append('\t').
-                            append("Resource ").append(propagationStatus.getResource()).append('\t').
-                            append(propagationStatus.getStatus());
-                    if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
-                        result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
-                    }
-                    result.append('\n');
-                }
-                result.append('\n');
+                report(result, anyObject.getType().getKey() + ' ' + anyObject.getKey(), provision(
+                        AnyTypeKind.ANY_OBJECT, anyObject.getKey(), gResources, AuthContextUtils.getUsername()));
             }
         }
 
@@ -218,6 +336,171 @@ public class GroupMemberProvisionTaskJobDelegate
         return result.toString();
     }
 
+    protected List<String> nextChunk(
+            final AnyTypeKind kind,
+            final MembershipCond membershipCond,
+            final String after,
+            final int chunkSize) {
+
+        SearchCond cond = SearchCond.of(membershipCond);
+        if (after != null) {
+            AnyCond keyCond = new AnyCond(AttrCond.Type.GT);
+            keyCond.setSchema("key");
+            keyCond.setExpression(after);
+            cond = SearchCond.and(cond, SearchCond.of(keyCond));
+        }
+
+        // members are walked by key, so that checkpoints stay valid even if membership changes meanwhile
+        return anySearchDAO.search(
+                realmDAO.getRoot(),
+                true,
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                cond,
+                PageRequest.of(0, chunkSize, Sort.by(Sort.Direction.ASC, "key")),
+                kind,
+                new AnyProjection(List.of(), List.of())).stream().
+                map(ProjectedAny::key).
+                toList();
+    }
+
+    protected TransactionTemplate newTransaction() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+
+    protected String processChunk(
+            final AnyTypeKind kind,
+            final List<String> keys,
+            final Collection<String> gResources,
+            final ExecutorService executor,
+            final Runnable checkpoint) throws JobExecutionException {
+
+        String member = kind == AnyTypeKind.USER ? "User " : "AnyObject ";
+        String username = AuthContextUtils.getUsername();
+
+        StringBuilder result = new StringBuilder();
+
+        if (executor == null) {
+            // sequential: the whole chunk is committed (or rolled back) at once
+            try {
+                newTransaction().executeWithoutResult(status -> keys.forEach(
+                        key -> report(result, member + key, provision(kind, key, gResources, username))));
+            } catch (RuntimeException e) {
+                throw new JobExecutionException("While processing " + kind + " chunk ending with " + keys.getLast(), e);
+            }
+        } else {
+            // parallel: each member is processed within its own transaction, on its own thread
+            TransactionTemplate memberTx = new TransactionTemplate(transactionManager);
+
+            List<Future<List<PropagationStatus>>> futures = new ArrayList<>(keys.size());
+            keys.forEach(key -> futures.add(executor.submit(new DelegatingSecurityContextCallable<>(
+                    () -> memberTx.execute(status -> provision(kind, key, gResources, username))))));
+
+            for (int i = 0; i < keys.size(); i++) {
+                try {
+                    report(result, member + keys.get(i), futures.get(i).get());
+                } catch (ExecutionException e) {
+                    futures.forEach(future -> future.cancel(true));
+                    throw new JobExecutionException("While processing " + kind + ' ' + keys.get(i), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(future -> future.cancel(true));
+                    throw new JobExecutionException("Interrupted while processing " + kind + " chunk", e);
+                }
+            }
+        }
+
+        // checkpoints are kept by Keymaster, outside of any chunk transaction: recording one only once its chunk is
+        // committed means that a failure in between makes a resumed execution process that chunk once more
+        checkpoint.run();
+
+        return result.toString();
+    }
+
+    /**
+     * Walks group members by key in chunks of configurable size; once each chunk is committed, the last member key is
+     * stored as checkpoint, so that a subsequent execution of the same task will resume from there.
+     * Since a chunk might be committed without its checkpoint being stored, resumed executions can process the last
+     * chunk again.
+     *
+     * @param membershipCond group membership condition
+     * @param gResources group resources
+     * @param result execution report
+     * @throws JobExecutionException if any chunk fails; checkpoint is left to the last committed chunk
+     */
+    protected void doExecuteChunked(
+            final MembershipCond membershipCond,
+            final Collection<String> gResources,
+            final StringBuilder result) throws JobExecutionException {
+
+        GroupMemberProvisionProperties conf = provisioningProperties.getGroupMemberProvision();
+
+        String domain = AuthContextUtils.getDomain();
+        String checkpointKey = CHECKPOINT_CONF_PREFIX + task.getKey();
+        String checkpoint = confParamOps.get(domain, checkpointKey, null, String.class);
+
+        AnyTypeKind resumeKind = null;
+        String resumeAfter = null;
+        if (StringUtils.isNotBlank(checkpoint)) {
+            resumeKind = AnyTypeKind.valueOf(StringUtils.substringBefore(checkpoint, ':'));
+            resumeAfter = StringUtils.substringAfter(checkpoint, ':');
+            result.append("Resuming after ").append(resumeKind).append(' ').append(resumeAfter).append("\n\n");
+        }
+
+        ExecutorService executor = conf.getParallelism() > 1
+                ? Executors.newFixedThreadPool(
+                        conf.getParallelism(), Thread.ofVirtual().name("GroupMemberProvision-", 0).factory())
+                : null;
+        try {
+            for (AnyTypeKind kind : List.of(AnyTypeKind.USER, AnyTypeKind.ANY_OBJECT)) {
+                if (resumeKind == AnyTypeKind.ANY_OBJECT && kind == AnyTypeKind.USER) {
+                    continue;
+                }
+
+                long count = readOnly(() -> anySearchDAO.count(
+                        realmDAO.getRoot(),
+                        true,
+                        SyncopeConstants.FULL_ADMIN_REALMS,
+                        SearchCond.of(membershipCond),
+                        kind));
+                setStatus("About to "
+                        + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
+                        + count + ' ' + kind + " members " + (action == ProvisionAction.DEPROVISION ? "from " : "to ")
+                        + gResources + " in chunks of " + conf.getChunkSize());
+
+                String after = kind == resumeKind ? resumeAfter : null;
+                int chunks = 0;
+                boolean more = true;
+                while (more && !stopRequested) {
+                    String from = after;
+                    List<String> keys = readOnly(() -> nextChunk(kind, membershipCond, from, conf.getChunkSize()));
+                    if (!keys.isEmpty()) {
+                        String last = kind.name() + ':' + keys.getLast();
+                        result.append(processChunk(kind, keys, gResources, executor,
+                                () -> confParamOps.set(domain, checkpointKey, last)));
+
+                        after = keys.getLast();
+
+                        chunks++;
+                        setStatus("Processing " + count + ' ' + kind + " members: chunk " + chunks + " completed");
+                    }
+                    more = keys.size() == conf.getChunkSize();
+                }
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        if (stopRequested) {
+            result.append("\nStop was requested");
+        } else {
+            confParamOps.remove(domain, checkpointKey);
+        }
+    }
+
     @Override
     protected boolean hasToBeRegistered(final TaskExec<?> execution) {
         // always record execution result
@@ -19,10 +19,12 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import java.util.Optional;
-import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.provisioning.api.job.JobDelegate;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
+import org.apache.syncope.core.provisioning.api.job.StoppableJobDelegate;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.slf4j.Logger;
@@ -36,7 +38,7 @@ public abstract class Job implements Runnable {
     public static final String OPERATION_ID = "operation.id";
 
     @Autowired
-    private JobStatusDAO jobStatusDAO;
+    private JobLeaseManager jobLeaseManager;
 
     private JobExecutionContext context;
 
@@ -60,18 +62,18 @@ public abstract class Job implements Runnable {
                 AuthContextUtils.getWho(),
                 false)));
 
-        boolean locked = false;
+        Optional<JobLease> lease = Optional.empty();
         try {
-            locked = AuthContextUtils.callAsAdmin(context.domain(), () -> jobStatusDAO.lock(context.jobName()));
+            lease = jobLeaseManager.acquire(context.domain(), context.jobName(), this::leaseLost);
         } catch (Exception e) {
-            LOG.debug("While attempting to lock job {}", context.jobName(), e);
+            LOG.debug("While attempting to lease job {}", context.jobName(), e);
         }
-        if (!locked) {
-            LOG.debug("Could not lock job {}, skipping execution", context.jobName());
+        if (lease.isEmpty()) {
+            LOG.debug("Could not lease job {}, skipping execution", context.jobName());
             return;
         }
 
-        LOG.debug("Job {} locked, starting execution", context.jobName());
+        LOG.debug("Job {} leased, starting execution", context.jobName());
 
         try {
             execute(context);
@@ -80,7 +82,16 @@ public abstract class Job implements Runnable {
         } finally {
             LOG.debug("Job {} execution completed", context.jobName());
 
-            AuthContextUtils.runAsAdmin(context.domain(), () -> jobStatusDAO.unlock(context.jobName()));
+            jobLeaseManager.release(lease.get());
+        }
+    }
+
+    protected void leaseLost() {
+        LOG.warn("Lease on job {} was lost", context.jobName());
+
+        if (getDelegate() instanceof StoppableJobDelegate stoppable) {
+            LOG.warn("Stopping job {}", context.jobName());
+            stoppable.stop();
         }
     }
 }
@@ -18,39 +18,76 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.provisioning.api.event.JobStatusEvent;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 
-public class JobStatusUpdater {
+/**
+ * Coalesces job status updates in memory, keeping only the latest status reported for each job, and periodically
+ * flushes them to the database from a single thread, to avoid the "lost update" problem.
+ * Updates are only accepted for jobs leased by this node, and only written as long as the lease's fencing token is
+ * still current.
+ */
+public class JobStatusUpdater implements DisposableBean {
+
+    protected record Pending(JobLease lease, String status) {
+
+    }
 
     protected static final Logger LOG = LoggerFactory.getLogger(JobStatusUpdater.class);
 
     protected final JobStatusDAO jobStatusDAO;
 
-    protected boolean initCompleted = false;
+    protected final JobLeaseManager jobLeaseManager;
+
+    protected final Duration flushInterval;
+
+    protected final Map<SyncopeTaskScheduler.Key, Pending> pending = new ConcurrentHashMap<>();
+
+    protected ScheduledExecutorService flusher;
+
+    protected volatile boolean initCompleted = false;
+
+    /**
+     * @param jobStatusDAO job status DAO
+     * @param jobLeaseManager job lease manager
+     * @param flushInterval how often pending updates are flushed; if not positive, {@link #flush()} needs to be
+     * invoked explicitly
+     */
+    public JobStatusUpdater(
+            final JobStatusDAO jobStatusDAO,
+            final JobLeaseManager jobLeaseManager,
+            final Duration flushInterval) {
 
-    public JobStatusUpdater(final JobStatusDAO jobStatusDAO) {
         this.jobStatusDAO = jobStatusDAO;
+        this.jobLeaseManager = jobLeaseManager;
+        this.flushInterval = flushInterval;
     }
 
     public void initComplete() {
         initCompleted = true;
+
+        if (flushInterval.isPositive() && flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("JobStatusUpdater-", 0).factory());
+            flusher.scheduleWithFixedDelay(
+                    this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
     }
 
-    /**
-     * It's important to note that responding to job status updates must be done in async mode, and via a separate
-     * special thread executor that attempts to synchronize job execution serially by only making one thread active at a
-     * given time. Not doing so will force the event executor to launch separate threads per each status update, which
-     * would result in multiple concurrent INSERT operations on the database, and failing.
-     *
-     * @param event the event
-     */
-    @Async("jobStatusUpdaterThreadExecutor")
     @EventListener
     public void update(final JobStatusEvent event) {
         if (!initCompleted) {
@@ -61,12 +98,42 @@ public class JobStatusUpdater {
         if (event.getJobStatus() == null) {
             LOG.debug("Requesting to delete status for job '{}#{}', ignoring", event.getDomain(), event.getJobName());
         } else {
-            LOG.debug("Updating job '{}#{}' with status '{}'",
-                    event.getDomain(), event.getJobName(), event.getJobStatus());
+            jobLeaseManager.getHeld(event.getDomain(), event.getJobName()).ifPresentOrElse(
+                    lease -> {
+                        LOG.debug("Queueing status '{}' for job '{}#{}'",
+                                event.getJobStatus(), event.getDomain(), event.getJobName());
 
-            AuthContextUtils.runAsAdmin(
-                    event.getDomain(),
-                    () -> jobStatusDAO.set(event.getJobName(), event.getJobStatus()));
+                        pending.put(
+                                new SyncopeTaskScheduler.Key(event.getDomain(), event.getJobName()),
+                                new Pending(lease, event.getJobStatus()));
+                    },
+                    () -> LOG.debug("Job '{}#{}' not leased by this node, discarding status '{}'",
+                            event.getDomain(), event.getJobName(), event.getJobStatus()));
         }
     }
+
+    /**
+     * Writes the latest status reported for each job since last flush.
+     */
+    public void flush() {
+        pending.keySet().forEach(key -> Optional.ofNullable(pending.remove(key)).ifPresent(update -> {
+            LOG.debug("Updating job '{}#{}' with status '{}'", key.domain(), key.job(), update.status());
+
+            try {
+                boolean updated = AuthContextUtils.callAsAdmin(key.domain(), () -> jobStatusDAO.set(
+                        key.job(), update.lease().owner(), update.lease().fencingToken(), update.status()));
+                if (!updated) {
+                    LOG.debug("{} not current anymore, status '{}' discarded", update.lease(), update.status());
+                }
+            } catch (Exception e) {
+                LOG.error("While updating job '{}#{}' with status '{}'", key.domain(), key.job(), update.status(), e);
+            }
+        }));
+    }
+
+    @Override
+    public void destroy() {
+        Optional.ofNullable(flusher).ifPresent(ScheduledExecutorService::shutdownNow);
+        flush();
+    }
 }
@@ -28,9 +28,8 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
-import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.provisioning.api.job.StoppableJobDelegate;
-import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
@@ -51,20 +50,20 @@ public class SyncopeTaskScheduler {
 
     protected final TaskScheduler scheduler;
 
-    protected final JobStatusDAO jobStatusDAO;
+    protected final JobLeaseManager jobLeaseManager;
 
     protected final Map<Key, Value> jobs = new ConcurrentHashMap<>();
 
-    public SyncopeTaskScheduler(final TaskScheduler scheduler, final JobStatusDAO jobStatusDAO) {
+    public SyncopeTaskScheduler(final TaskScheduler scheduler, final JobLeaseManager jobLeaseManager) {
         this.scheduler = scheduler;
-        this.jobStatusDAO = jobStatusDAO;
+        this.jobLeaseManager = jobLeaseManager;
     }
 
     protected void register(final Job job, final ScheduledFuture<?> instant, final ScheduledFuture<?> cron) {
         Key key = new Key(job.getContext().domain(), job.getContext().jobName());
 
         stop(key, instant == null ? List.of(Value::cron) : List.of(Value::instant));
-        AuthContextUtils.runAsAdmin(key.domain(), () -> jobStatusDAO.unlock(key.job()));
+        jobLeaseManager.clear(key.domain(), key.job());
 
         jobs.merge(
                 key,
@@ -116,7 +115,7 @@ public class SyncopeTaskScheduler {
 
     public void delete(final String domain, final String jobName) {
         jobs.remove(new Key(domain, jobName));
-        AuthContextUtils.runAsAdmin(domain, () -> jobStatusDAO.unlock(jobName));
+        jobLeaseManager.clear(domain, jobName);
     }
 
     public Optional<Class<?>> getJobClass(final String domain, final String jobName) {
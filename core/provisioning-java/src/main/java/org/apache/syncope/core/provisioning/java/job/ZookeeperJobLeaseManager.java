@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
+
+/**
+ * Keeps leases as ephemeral Zookeeper nodes, via the Apache Curator client configured for Keymaster.
+ *
+ * Ephemeral nodes live as long as the Zookeeper session of the owner, hence leases are automatically released when
+ * the owner crashes; the creation transaction id of each node is used as fencing token.
+ * The {@code JobStatus} table is still used to report job status, with rows locked by owner and fencing token.
+ */
+public class ZookeeperJobLeaseManager extends AbstractJobLeaseManager {
+
+    protected static final String LEASE_PATH = "/jobLeases";
+
+    protected static String buildLeasePath(final String domain, final String jobName) {
+        return LEASE_PATH + '/' + domain + '/' + jobName;
+    }
+
+    protected final CuratorFramework client;
+
+    protected final JobStatusDAO jobStatusDAO;
+
+    public ZookeeperJobLeaseManager(
+            final CuratorFramework client,
+            final JobStatusDAO jobStatusDAO,
+            final Duration ttl) {
+
+        super(ttl);
+        this.client = client;
+        this.jobStatusDAO = jobStatusDAO;
+    }
+
+    @Override
+    protected Optional<Long> doAcquire(final String domain, final String jobName) {
+        String path = buildLeasePath(domain, jobName);
+        try {
+            client.create().creatingParentContainersIfNeeded().withMode(CreateMode.EPHEMERAL).
+                    forPath(path, owner.getBytes(StandardCharsets.UTF_8));
+        } catch (KeeperException.NodeExistsException e) {
+            LOG.debug("Job {} already leased", path);
+            return Optional.empty();
+        } catch (Exception e) {
+            LOG.error("Could not lease job {}", path, e);
+            return Optional.empty();
+        }
+
+        Stat stat = new Stat();
+        try {
+            client.getData().storingStatIn(stat).forPath(path);
+        } catch (Exception e) {
+            LOG.error("Could not read lease for job {}", path, e);
+            return Optional.empty();
+        }
+
+        // replace any status left by previous owners, which might have crashed without cleaning up
+        AuthContextUtils.runAsAdmin(domain, () -> jobStatusDAO.lock(jobName, owner, stat.getCzxid()));
+
+        return Optional.of(stat.getCzxid());
+    }
+
+    /**
+     * Returns the lease node, provided that it was created by the given lease, that it still carries the lease owner
+     * and that it is bound to the current Zookeeper session.
+     *
+     * @param lease lease
+     * @return lease node, if owned by the given lease
+     * @throws Exception if the lease node could not be read
+     */
+    protected Optional<Stat> owned(final JobLease lease) throws Exception {
+        Stat stat = new Stat();
+        byte[] data;
+        try {
+            data = client.getData().storingStatIn(stat).forPath(buildLeasePath(lease.domain(), lease.jobName()));
+        } catch (KeeperException.NoNodeException e) {
+            return Optional.empty();
+        }
+
+        long sessionId = client.getZookeeperClient().getZooKeeper().getSessionId();
+        return stat.getCzxid() == lease.fencingToken()
+                && stat.getEphemeralOwner() == sessionId
+                && lease.owner().equals(new String(data, StandardCharsets.UTF_8))
+                ? Optional.of(stat)
+                : Optional.empty();
+    }
+
+    @Override
+    protected boolean doRenew(final JobLease lease) {
+        // the ephemeral node is kept alive by the Zookeeper session: just verify it is still owned
+        try {
+            return owned(lease).isPresent();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read lease for " + lease, e);
+        }
+    }
+
+    @Override
+    protected void doRelease(final JobLease lease) {
+        try {
+            Optional<Stat> stat = owned(lease);
+            if (stat.isPresent()) {
+                client.delete().withVersion(stat.get().getVersion()).
+                        forPath(buildLeasePath(lease.domain(), lease.jobName()));
+
+                AuthContextUtils.runAsAdmin(lease.domain(),
+                        () -> jobStatusDAO.release(lease.jobName(), lease.owner(), lease.fencingToken()));
+            } else {
+                LOG.debug("{} not held anymore", lease);
+            }
+        } catch (Exception e) {
+            LOG.error("While releasing {}", lease, e);
+        }
+    }
+
+    @Override
+    public void clear(final String domain, final String jobName) {
+        if (!isLeased(domain, jobName)) {
+            AuthContextUtils.runAsAdmin(domain, () -> jobStatusDAO.unlock(jobName));
+        }
+    }
+
+    @Override
+    public boolean isLeased(final String domain, final String jobName) {
+        try {
+            return client.checkExists().forPath(buildLeasePath(domain, jobName)) != null;
+        } catch (Exception e) {
+            LOG.error("Could not read lease for job {}", buildLeasePath(domain, jobName), e);
+            return false;
+        }
+    }
+}
@@ -18,15 +18,15 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -42,6 +42,9 @@ import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ProvisionSorter;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningReportAggregate;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.apache.syncope.core.provisioning.java.ProvisioningReportProperties;
 import org.apache.syncope.core.provisioning.java.job.AbstractSchedTaskJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.TaskJob;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
@@ -50,12 +53,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask<T>>
         extends AbstractSchedTaskJobDelegate<T> {
 
-    private static final String USER = "USER";
-
-    private static final String GROUP = "GROUP";
-
-    private static final String LINKED_ACCOUNT = "LINKED_ACCOUNT";
-
     @Autowired
     protected ConnectorManager connectorManager;
 
@@ -74,6 +71,9 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     @Autowired
     protected PolicyDAO policyDAO;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     protected Optional<ProvisionSorter> perContextProvisionSorter = Optional.empty();
 
     protected Connector connector;
@@ -133,34 +133,27 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     }
 
     /**
-     * Helper method to invoke logging per provisioning result, for the given trace level.
+     * Builds the aggregate to collect provisioning results into while running, if so configured.
      *
-     * @param results provisioning results
-     * @param level trace level
-     * @return report as string
+     * @param resource Provisioning resource
+     * @param retain results to be kept as they are, for later processing
+     * @return aggregate, or {@code null} if results shall be retained
      */
-    protected String generate(final Collection<ProvisioningReport> results, final TraceLevel level) {
-        StringBuilder sb = new StringBuilder();
+    protected ProvisioningReportAggregate buildReportAggregate(
+            final ExternalResource resource,
+            final Predicate<ProvisioningReport> retain) {
 
-        results.stream().map(result -> {
-            if (level == TraceLevel.SUMMARY) {
-                // No per entry log in this case.
-                return null;
-            }
-            if (level == TraceLevel.FAILURES && result.getStatus() == ProvisioningReport.Status.FAILURE) {
-                // only report failures
-                return "Failed %s (key/name): %s/%s with message: %s".formatted(
-                        result.getOperation(), result.getKey(), result.getName(), result.getMessage());
-            }
-            // ALL
-            return "%s %s (key/name): %s/%s %s".formatted(
-                    result.getOperation(), result.getStatus(), result.getKey(), result.getName(),
-                    StringUtils.isBlank(result.getMessage())
-                    ? StringUtils.EMPTY
-                    : "with message: " + result.getMessage());
-        }).filter(Objects::nonNull).forEach(report -> sb.append(report).append('\n'));
-
-        return sb.toString();
+        ProvisioningReportProperties props = provisioningProperties.getReport();
+        if (!props.isAggregate()) {
+            return null;
+        }
+
+        return new ProvisioningReportAggregate(
+                resource.getProvisioningTraceLevel(),
+                props.getMaxDetails(),
+                Path.of(StringUtils.defaultIfBlank(props.getSpillDirectory(), System.getProperty("java.io.tmpdir"))),
+                props.getMaxSpilledDetails(),
+                retain);
     }
 
     /**
@@ -176,6 +169,102 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
             final ExternalResource resource,
             final boolean dryRun) {
 
+        try (ProvisioningReportAggregate aggregate = new ProvisioningReportAggregate(
+                resource.getProvisioningTraceLevel(), Integer.MAX_VALUE, null, 0, null)) {
+
+            provResults.forEach(aggregate::add);
+            return createReport(aggregate, resource, dryRun);
+        }
+    }
+
+    protected void appendSummary(
+            final StringBuilder report,
+            final String label,
+            final ProvisioningReportAggregate aggregate,
+            final ProvisioningReportAggregate.Category category) {
+
+        report.append(label).append(' ').
+                append("[created/failures]: ").
+                append(aggregate.count(category, ProvisioningReport.Status.SUCCESS, ResourceOperation.CREATE)).
+                append('/').
+                append(aggregate.count(category, ProvisioningReport.Status.FAILURE, ResourceOperation.CREATE)).
+                append(' ').
+                append("[updated/failures]: ").
+                append(aggregate.count(category, ProvisioningReport.Status.SUCCESS, ResourceOperation.UPDATE)).
+                append('/').
+                append(aggregate.count(category, ProvisioningReport.Status.FAILURE, ResourceOperation.UPDATE)).
+                append(' ').
+                append("[deleted/failures]: ").
+                append(aggregate.count(category, ProvisioningReport.Status.SUCCESS, ResourceOperation.DELETE)).
+                append('/').
+                append(aggregate.count(category, ProvisioningReport.Status.FAILURE, ResourceOperation.DELETE)).
+                append(' ').
+                append("[no operation/ignored]: ").
+                append(aggregate.count(category, ProvisioningReport.Status.SUCCESS, ResourceOperation.NONE)).
+                append('/').
+                append(aggregate.count(category, ProvisioningReport.Status.IGNORE, null));
+    }
+
+    protected void appendDetails(
+            final StringBuilder report,
+            final String header,
+            final ProvisioningReportAggregate aggregate,
+            final ProvisioningReportAggregate.Category category,
+            final ProvisioningReport.Status status,
+            final ResourceOperation operation) {
+
+        if (aggregate.count(category, status, operation) > 0) {
+            report.append(header);
+            aggregate.details(category, status, operation).forEach(line -> report.append(line).append('\n'));
+        }
+    }
+
+    protected void appendFailures(
+            final StringBuilder report,
+            final String label,
+            final String separator,
+            final ProvisioningReportAggregate aggregate,
+            final ProvisioningReportAggregate.Category category) {
+
+        appendDetails(report, separator + label + " failed to create: ",
+                aggregate, category, ProvisioningReport.Status.FAILURE, ResourceOperation.CREATE);
+        appendDetails(report, "\n" + label + " failed to update: ",
+                aggregate, category, ProvisioningReport.Status.FAILURE, ResourceOperation.UPDATE);
+        appendDetails(report, "\n" + label + " failed to delete: ",
+                aggregate, category, ProvisioningReport.Status.FAILURE, ResourceOperation.DELETE);
+    }
+
+    protected void appendSuccesses(
+            final StringBuilder report,
+            final String label,
+            final ProvisioningReportAggregate aggregate,
+            final ProvisioningReportAggregate.Category category) {
+
+        appendDetails(report, "\n\n" + label + " created:\n",
+                aggregate, category, ProvisioningReport.Status.SUCCESS, ResourceOperation.CREATE);
+        appendDetails(report, "\n" + label + " updated:\n",
+                aggregate, category, ProvisioningReport.Status.SUCCESS, ResourceOperation.UPDATE);
+        appendDetails(report, "\n" + label + " deleted:\n",
+                aggregate, category, ProvisioningReport.Status.SUCCESS, ResourceOperation.DELETE);
+        appendDetails(report, "\n" + label + " no operation:\n",
+                aggregate, category, ProvisioningReport.Status.SUCCESS, ResourceOperation.NONE);
+        appendDetails(report, "\n" + label + " ignored:\n",
+                aggregate, category, ProvisioningReport.Status.IGNORE, null);
+    }
+
+    /**
+     * Create a textual report of the provisioning operation, based on the trace level.
+     *
+     * @param aggregate Provisioning results aggregate
+     * @param resource Provisioning resource
+     * @param dryRun dry run?
+     * @return report as string
+     */
+    protected String createReport(
+            final ProvisioningReportAggregate aggregate,
+            final ExternalResource resource,
+            final boolean dryRun) {
+
         TraceLevel traceLevel = resource.getProvisioningTraceLevel();
         if (traceLevel == TraceLevel.NONE) {
             return null;
@@ -187,228 +276,6 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
             report.append("==> Dry run only, no modifications were made <==\n\n");
         }
 
-        List<ProvisioningReport> rSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> rFailCreate = new ArrayList<>();
-        List<ProvisioningReport> rSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> rFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> rSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> rFailDelete = new ArrayList<>();
-        List<ProvisioningReport> rSuccNone = new ArrayList<>();
-        List<ProvisioningReport> rIgnore = new ArrayList<>();
-        List<ProvisioningReport> uSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> uFailCreate = new ArrayList<>();
-        List<ProvisioningReport> uSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> uFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> uSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> uFailDelete = new ArrayList<>();
-        List<ProvisioningReport> uSuccNone = new ArrayList<>();
-        List<ProvisioningReport> uIgnore = new ArrayList<>();
-        List<ProvisioningReport> gSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> gFailCreate = new ArrayList<>();
-        List<ProvisioningReport> gSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> gFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> gSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> gFailDelete = new ArrayList<>();
-        List<ProvisioningReport> gSuccNone = new ArrayList<>();
-        List<ProvisioningReport> gIgnore = new ArrayList<>();
-        List<ProvisioningReport> aSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> aFailCreate = new ArrayList<>();
-        List<ProvisioningReport> aSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> aFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> aSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> aFailDelete = new ArrayList<>();
-        List<ProvisioningReport> aSuccNone = new ArrayList<>();
-        List<ProvisioningReport> aIgnore = new ArrayList<>();
-        List<ProvisioningReport> laSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> laFailCreate = new ArrayList<>();
-        List<ProvisioningReport> laSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> laFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> laSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> laFailDelete = new ArrayList<>();
-        List<ProvisioningReport> laSuccNone = new ArrayList<>();
-        List<ProvisioningReport> laIgnore = new ArrayList<>();
-
-        for (ProvisioningReport provResult : provResults) {
-            switch (provResult.getStatus()) {
-                case SUCCESS -> {
-                    switch (provResult.getOperation()) {
-                        case CREATE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccCreate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uSuccCreate.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laSuccCreate.add(provResult);
-
-                                    case GROUP ->
-                                        gSuccCreate.add(provResult);
-
-                                    default ->
-                                        aSuccCreate.add(provResult);
-                                }
-                            }
-                        }
-
-                        case UPDATE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccUpdate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uSuccUpdate.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laSuccUpdate.add(provResult);
-
-                                    case GROUP ->
-                                        gSuccUpdate.add(provResult);
-
-                                    default ->
-                                        aSuccUpdate.add(provResult);
-                                }
-                            }
-                        }
-
-                        case DELETE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccDelete.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uSuccDelete.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laSuccDelete.add(provResult);
-
-                                    case GROUP ->
-                                        gSuccDelete.add(provResult);
-
-                                    default ->
-                                        aSuccDelete.add(provResult);
-                                }
-                            }
-                        }
-
-                        case NONE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccNone.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uSuccNone.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laSuccNone.add(provResult);
-
-                                    case GROUP ->
-                                        gSuccNone.add(provResult);
-
-                                    default ->
-                                        aSuccNone.add(provResult);
-                                }
-                            }
-                        }
-
-                        default -> {
-                        }
-                    }
-                }
-
-                case FAILURE -> {
-                    switch (provResult.getOperation()) {
-                        case CREATE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rFailCreate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uFailCreate.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laFailCreate.add(provResult);
-
-                                    case GROUP ->
-                                        gFailCreate.add(provResult);
-
-                                    default ->
-                                        aFailCreate.add(provResult);
-                                }
-                            }
-                        }
-
-                        case UPDATE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rFailUpdate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uFailUpdate.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laFailUpdate.add(provResult);
-
-                                    case GROUP ->
-                                        gFailUpdate.add(provResult);
-
-                                    default ->
-                                        aFailUpdate.add(provResult);
-                                }
-                            }
-                        }
-
-                        case DELETE -> {
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rFailDelete.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER ->
-                                        uFailDelete.add(provResult);
-
-                                    case LINKED_ACCOUNT ->
-                                        laFailDelete.add(provResult);
-
-                                    case GROUP ->
-                                        gFailDelete.add(provResult);
-
-                                    default ->
-                                        aFailDelete.add(provResult);
-                                }
-                            }
-                        }
-
-                        default -> {
-                        }
-                    }
-                }
-
-                case IGNORE -> {
-                    if (StringUtils.isBlank(provResult.getAnyType())) {
-                        rIgnore.add(provResult);
-                    } else {
-                        switch (provResult.getAnyType()) {
-                            case USER ->
-                                uIgnore.add(provResult);
-
-                            case LINKED_ACCOUNT ->
-                                laIgnore.add(provResult);
-
-                            case GROUP ->
-                                gIgnore.add(provResult);
-
-                            default ->
-                                aIgnore.add(provResult);
-                        }
-                    }
-                }
-
-                default -> {
-                }
-            }
-        }
-
         // Summary, also to be included for FAILURE and ALL, so create it anyway.
         boolean includeUser = resource.getProvisionByAnyType(AnyTypeKind.USER.name()).isPresent();
         boolean includeGroup = resource.getProvisionByAnyType(AnyTypeKind.GROUP.name()).isPresent();
@@ -418,245 +285,62 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
         boolean includeRealm = resource.getOrgUnit() != null;
 
         if (includeUser) {
-            report.append("Users ").
-                    append("[created/failures]: ").append(uSuccCreate.size()).append('/').append(uFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(uSuccUpdate.size()).append('/').append(uFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(uSuccDelete.size()).append('/').append(uFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(uSuccNone.size()).append('/').append(uIgnore.size()).
-                    append('\n');
-
-            report.append("Accounts ").
-                    append("[created/failures]: ").append(laSuccCreate.size()).append('/').append(laFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(laSuccUpdate.size()).append('/').append(laFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(laSuccDelete.size()).append('/').append(laFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(laSuccNone.size()).append('/').append(laIgnore.size()).
-                    append('\n');
+            appendSummary(report, "Users", aggregate, ProvisioningReportAggregate.Category.USER);
+            report.append('\n');
+            appendSummary(report, "Accounts", aggregate, ProvisioningReportAggregate.Category.LINKED_ACCOUNT);
+            report.append('\n');
         }
         if (includeGroup) {
-            report.append("Groups ").
-                    append("[created/failures]: ").append(gSuccCreate.size()).append('/').append(gFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(gSuccUpdate.size()).append('/').append(gFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(gSuccDelete.size()).append('/').append(gFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(gSuccNone.size()).append('/').append(gIgnore.size()).
-                    append('\n');
+            appendSummary(report, "Groups", aggregate, ProvisioningReportAggregate.Category.GROUP);
+            report.append('\n');
         }
         if (includeAnyObject) {
-            report.append("Any objects ").
-                    append("[created/failures]: ").append(aSuccCreate.size()).append('/').append(aFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(aSuccUpdate.size()).append('/').append(aFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(aSuccDelete.size()).append('/').append(aFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(aSuccNone.size()).append('/').append(aIgnore.size());
+            appendSummary(report, "Any objects", aggregate, ProvisioningReportAggregate.Category.ANY_OBJECT);
         }
         if (includeRealm) {
-            report.append("Realms ").
-                    append("[created/failures]: ").append(rSuccCreate.size()).append('/').append(rFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(rSuccUpdate.size()).append('/').append(rFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(rSuccDelete.size()).append('/').append(rFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(rSuccNone.size()).append('/').append(rIgnore.size());
+            appendSummary(report, "Realms", aggregate, ProvisioningReportAggregate.Category.REALM);
         }
 
         // Failures
         if (traceLevel == TraceLevel.FAILURES || traceLevel == TraceLevel.ALL) {
             if (includeUser) {
-                if (!uFailCreate.isEmpty()) {
-                    report.append("\n\nUsers failed to create: ");
-                    report.append(generate(uFailCreate, traceLevel));
-                }
-                if (!uFailUpdate.isEmpty()) {
-                    report.append("\nUsers failed to update: ");
-                    report.append(generate(uFailUpdate, traceLevel));
-                }
-                if (!uFailDelete.isEmpty()) {
-                    report.append("\nUsers failed to delete: ");
-                    report.append(generate(uFailDelete, traceLevel));
-                }
-
-                if (!laFailCreate.isEmpty()) {
-                    report.append("\n\nAccounts failed to create: ");
-                    report.append(generate(laFailCreate, traceLevel));
-                }
-                if (!laFailUpdate.isEmpty()) {
-                    report.append("\nAccounts failed to update: ");
-                    report.append(generate(laFailUpdate, traceLevel));
-                }
-                if (!laFailDelete.isEmpty()) {
-                    report.append("\nAccounts failed to delete: ");
-                    report.append(generate(laFailDelete, traceLevel));
-                }
+                appendFailures(report, "Users", "\n\n", aggregate, ProvisioningReportAggregate.Category.USER);
+                appendFailures(report, "Accounts", "\n\n",
+                        aggregate, ProvisioningReportAggregate.Category.LINKED_ACCOUNT);
             }
-
             if (includeGroup) {
-                if (!gFailCreate.isEmpty()) {
-                    report.append("\n\nGroups failed to create: ");
-                    report.append(generate(gFailCreate, traceLevel));
-                }
-                if (!gFailUpdate.isEmpty()) {
-                    report.append("\nGroups failed to update: ");
-                    report.append(generate(gFailUpdate, traceLevel));
-                }
-                if (!gFailDelete.isEmpty()) {
-                    report.append("\nGroups failed to delete: ");
-                    report.append(generate(gFailDelete, traceLevel));
-                }
-            }
-
-            if (includeAnyObject && !aFailCreate.isEmpty()) {
-                report.append("\nAny objects failed to create: ");
-                report.append(generate(aFailCreate, traceLevel));
-            }
-            if (includeAnyObject && !aFailUpdate.isEmpty()) {
-                report.append("\nAny objects failed to update: ");
-                report.append(generate(aFailUpdate, traceLevel));
+                appendFailures(report, "Groups", "\n\n", aggregate, ProvisioningReportAggregate.Category.GROUP);
             }
-            if (includeAnyObject && !aFailDelete.isEmpty()) {
-                report.append("\nAny objects failed to delete: ");
-                report.append(generate(aFailDelete, traceLevel));
+            if (includeAnyObject) {
+                appendFailures(report, "Any objects", "\n",
+                        aggregate, ProvisioningReportAggregate.Category.ANY_OBJECT);
             }
-
             if (includeRealm) {
-                if (!rFailCreate.isEmpty()) {
-                    report.append("\nRealms failed to create: ");
-                    report.append(generate(rFailCreate, traceLevel));
-                }
-                if (!rFailUpdate.isEmpty()) {
-                    report.append("\nRealms failed to update: ");
-                    report.append(generate(rFailUpdate, traceLevel));
-                }
-                if (!rFailDelete.isEmpty()) {
-                    report.append("\nRealms failed to delete: ");
-                    report.append(generate(rFailDelete, traceLevel));
-                }
+                appendFailures(report, "Realms", "\n", aggregate, ProvisioningReportAggregate.Category.REALM);
             }
         }
 
         // Succeeded, only if on 'ALL' level
         if (traceLevel == TraceLevel.ALL) {
             if (includeUser) {
-                if (!uSuccCreate.isEmpty()) {
-                    report.append("\n\nUsers created:\n").
-                            append(generate(uSuccCreate, traceLevel));
-                }
-                if (!uSuccUpdate.isEmpty()) {
-                    report.append("\nUsers updated:\n").
-                            append(generate(uSuccUpdate, traceLevel));
-                }
-                if (!uSuccDelete.isEmpty()) {
-                    report.append("\nUsers deleted:\n").
-                            append(generate(uSuccDelete, traceLevel));
-                }
-                if (!uSuccNone.isEmpty()) {
-                    report.append("\nUsers no operation:\n").
-                            append(generate(uSuccNone, traceLevel));
-                }
-                if (!uIgnore.isEmpty()) {
-                    report.append("\nUsers ignored:\n").
-                            append(generate(uIgnore, traceLevel));
-                }
-
-                if (!laSuccCreate.isEmpty()) {
-                    report.append("\n\nAccounts created:\n").
-                            append(generate(laSuccCreate, traceLevel));
-                }
-                if (!laSuccUpdate.isEmpty()) {
-                    report.append("\nAccounts updated:\n").
-                            append(generate(laSuccUpdate, traceLevel));
-                }
-                if (!laSuccDelete.isEmpty()) {
-                    report.append("\nAccounts deleted:\n").
-                            append(generate(laSuccDelete, traceLevel));
-                }
-                if (!laSuccNone.isEmpty()) {
-                    report.append("\nAccounts no operation:\n").
-                            append(generate(laSuccNone, traceLevel));
-                }
-                if (!laIgnore.isEmpty()) {
-                    report.append("\nAccounts ignored:\n").
-                            append(generate(laIgnore, traceLevel));
-                }
+                appendSuccesses(report, "Users", aggregate, ProvisioningReportAggregate.Category.USER);
+                appendSuccesses(report, "Accounts", aggregate, ProvisioningReportAggregate.Category.LINKED_ACCOUNT);
             }
             if (includeGroup) {
-                if (!gSuccCreate.isEmpty()) {
-                    report.append("\n\nGroups created:\n").
-                            append(generate(gSuccCreate, traceLevel));
-                }
-                if (!gSuccUpdate.isEmpty()) {
-                    report.append("\nGroups updated:\n").
-                            append(generate(gSuccUpdate, traceLevel));
-                }
-                if (!gSuccDelete.isEmpty()) {
-                    report.append("\nGroups deleted:\n").
-                            append(generate(gSuccDelete, traceLevel));
-                }
-                if (!gSuccNone.isEmpty()) {
-                    report.append("\nGroups no operation:\n").
-                            append(generate(gSuccNone, traceLevel));
-                }
-                if (!gIgnore.isEmpty()) {
-                    report.append("\nGroups ignored:\n").
-                            append(generate(gIgnore, traceLevel));
-                }
+                appendSuccesses(report, "Groups", aggregate, ProvisioningReportAggregate.Category.GROUP);
             }
             if (includeAnyObject) {
-                if (!aSuccCreate.isEmpty()) {
-                    report.append("\n\nAny objects created:\n").
-                            append(generate(aSuccCreate, traceLevel));
-                }
-                if (!aSuccUpdate.isEmpty()) {
-                    report.append("\nAny objects updated:\n").
-                            append(generate(aSuccUpdate, traceLevel));
-                }
-                if (!aSuccDelete.isEmpty()) {
-                    report.append("\nAny objects deleted:\n").
-                            append(generate(aSuccDelete, traceLevel));
-                }
-                if (!aSuccNone.isEmpty()) {
-                    report.append("\nAny objects no operation:\n").
-                            append(generate(aSuccNone, traceLevel));
-                }
-                if (!aIgnore.isEmpty()) {
-                    report.append("\nAny objects ignored:\n").
-                            append(generate(aIgnore, traceLevel));
-                }
+                appendSuccesses(report, "Any objects", aggregate, ProvisioningReportAggregate.Category.ANY_OBJECT);
             }
             if (includeRealm) {
-                if (!rSuccCreate.isEmpty()) {
-                    report.append("\n\nRealms created:\n").
-                            append(generate(rSuccCreate, traceLevel));
-                }
-                if (!rSuccUpdate.isEmpty()) {
-                    report.append("\nRealms updated:\n").
-                            append(generate(rSuccUpdate, traceLevel));
-                }
-                if (!rSuccDelete.isEmpty()) {
-                    report.append("\nRealms deleted:\n").
-                            append(generate(rSuccDelete, traceLevel));
-                }
-                if (!rSuccNone.isEmpty()) {
-                    report.append("\nRealms no operation:\n").
-                            append(generate(rSuccNone, traceLevel));
-                }
-                if (!rIgnore.isEmpty()) {
-                    report.append("\nRealms ignored:\n").
-                            append(generate(rIgnore, traceLevel));
-                }
+                appendSuccesses(report, "Realms", aggregate, ProvisioningReportAggregate.Category.REALM);
             }
         }
 
+        if (aggregate.getOmitted() > 0) {
+            report.append("\n\n").append(aggregate.getOmitted()).append(" more entries not shown\n");
+        }
+
         return report.toString();
     }
 }
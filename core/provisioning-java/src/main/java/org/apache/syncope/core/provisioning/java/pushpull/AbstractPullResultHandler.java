@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,8 +68,11 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public abstract class AbstractPullResultHandler
         extends AbstractSyncopeResultHandler<PullTask, InboundActions>
@@ -98,6 +102,9 @@ public abstract class AbstractPullResultHandler
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
     protected final Map<String, Optional<String>> uManagers = new HashMap<>();
 
     protected final Map<String, Optional<String>> gManagers = new HashMap<>();
@@ -164,6 +171,54 @@ public abstract class AbstractPullResultHandler
         }
     }
 
+    protected TransactionTemplate newTransaction() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+
+    @Override
+    public List<Boolean> handle(final List<SyncDelta> deltas) {
+        int reported = profile.getResults().size();
+        Map<String, Optional<String>> uManagersBefore = new HashMap<>(uManagers);
+        Map<String, Optional<String>> gManagersBefore = new HashMap<>(gManagers);
+
+        try {
+            return newTransaction().execute(status -> {
+                List<Boolean> results = new ArrayList<>(deltas.size());
+                for (SyncDelta delta : deltas) {
+                    boolean result = handle(delta);
+                    results.add(result);
+                    if (!result) {
+                        break;
+                    }
+                }
+                return results;
+            });
+        } catch (RuntimeException e) {
+            LOG.warn("Could not commit {} deltas together, handling them one by one", deltas.size(), e);
+
+            // whatever was reported or collected while handling the rolled back batch is no longer valid
+            profile.getResults().subList(reported, profile.getResults().size()).clear();
+            uManagers.clear();
+            uManagers.putAll(uManagersBefore);
+            gManagers.clear();
+            gManagers.putAll(gManagersBefore);
+        }
+
+        // propagation to other resources already performed for the rolled back batch cannot be undone, and is
+        // performed again below: see AnyPullResultHandler#handle(List)
+        List<Boolean> results = new ArrayList<>(deltas.size());
+        for (SyncDelta delta : deltas) {
+            boolean result = Boolean.TRUE.equals(newTransaction().execute(status -> handle(delta)));
+            results.add(result);
+            if (!result) {
+                break;
+            }
+        }
+        return results;
+    }
+
     protected void throwIgnoreProvisionException(final SyncDelta delta, final Exception exception) {
         if (exception instanceof IgnoreProvisionException) {
             throw IgnoreProvisionException.class.cast(exception);
@@ -18,11 +18,14 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -37,6 +40,7 @@ import org.apache.syncope.core.provisioning.api.job.StoppableJobDelegate;
 import org.apache.syncope.core.provisioning.api.pushpull.AnyPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningReportAggregate;
 import org.apache.syncope.core.provisioning.api.pushpull.RealmPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
@@ -83,6 +87,16 @@ public class PullJobDelegate
                 AuthContextUtils.getUsername(),
                 context.dryRun());
 
+        // results for any types with UID on create are needed once pulling is complete
+        Set<String> uidOnCreate = task.getResource().getProvisions().stream().
+                filter(provision -> provision.getUidOnCreate() != null).
+                map(Provision::getAnyType).
+                collect(Collectors.toSet());
+        profile.setAggregate(buildReportAggregate(
+                task.getResource(),
+                result -> result.getOperation() == ResourceOperation.CREATE
+                && uidOnCreate.contains(result.getAnyType())));
+
         dispatcher = buildDispatcher();
     }
 
@@ -230,6 +244,9 @@ public class PullJobDelegate
                                 dispatcher,
                                 options);
                 }
+
+                // deltas not yet committed with their batch shall be handled before sync tokens are stored
+                dispatcher.flush();
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
             } finally {
@@ -248,6 +265,10 @@ public class PullJobDelegate
 
         dispatcher.shutdown();
 
+        Collection<ProvisioningReport> results = profile.getAggregate().
+                map(ProvisioningReportAggregate::getRetained).
+                orElseGet(profile::getResults);
+
         for (Provision provision : task.getResource().getProvisions().stream().
                 filter(provision -> provision.getMapping() != null).sorted(provisionSorter).toList()) {
 
@@ -256,7 +277,7 @@ public class PullJobDelegate
                     AnyType anyType = anyTypeDAO.findById(provision.getAnyType()).
                             orElseThrow(() -> new NotFoundException("AnyType" + provision.getAnyType()));
                     AnyUtils anyUtils = anyUtilsFactory.getInstance(anyType.getKind());
-                    profile.getResults().stream().
+                    results.stream().
                             filter(result -> result.getUidValue() != null && result.getKey() != null
                                     && result.getOperation() == ResourceOperation.CREATE
                                     && result.getAnyType().equals(provision.getAnyType())).
@@ -288,7 +309,13 @@ public class PullJobDelegate
 
         setStatus("Pull done");
 
-        String result = createReport(profile.getResults(), task.getResource(), context.dryRun());
+        String result = profile.getAggregate().
+                map(aggregate -> {
+                    try (aggregate) {
+                        return createReport(aggregate, task.getResource(), context.dryRun());
+                    }
+                }).
+                orElseGet(() -> createReport(profile.getResults(), task.getResource(), context.dryRun()));
         LOG.debug("Pull result: {}", result);
         return result;
     }
@@ -18,8 +18,14 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
@@ -33,26 +39,73 @@ public class PullResultHandlerDispatcher
 
     protected SyncopePullExecutor executor;
 
+    protected int commitBatchSize;
+
+    protected final Map<String, List<SyncDelta>> batches = new HashMap<>();
+
     public PullResultHandlerDispatcher init(
             final ProvisioningProfile<PullTask, InboundActions> profile,
             final SyncopePullExecutor executor) {
 
         init(profile);
         this.executor = executor;
+        this.commitBatchSize = Optional.ofNullable(profile.getTask().getCommitBatchSize()).orElse(0);
 
         return this;
     }
 
+    protected void report(final SyncDelta delta, final boolean result) {
+        executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+        if (result) {
+            executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
+        }
+    }
+
+    protected boolean flush(final String objectClass) {
+        List<SyncDelta> batch = batches.remove(objectClass);
+        if (batch == null || batch.isEmpty()) {
+            return true;
+        }
+
+        List<Boolean> results = ((AnyPullResultHandler) nonConcurrentHandler(objectClass)).handle(batch);
+        for (int i = 0; i < results.size(); i++) {
+            report(batch.get(i), results.get(i));
+        }
+
+        return results.size() == batch.size() && !results.contains(Boolean.FALSE);
+    }
+
+    /**
+     * Handles all deltas still waiting for their batch to be committed.
+     *
+     * @return whether all pending deltas were handled successfully
+     */
+    public boolean flush() {
+        boolean result = true;
+        for (String objectClass : List.copyOf(batches.keySet())) {
+            result &= flush(objectClass);
+        }
+        profile.aggregate();
+        return result;
+    }
+
     @Override
     public boolean handle(final SyncDelta delta) {
         if (tpte.isEmpty()) {
-            boolean result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
+            String objectClass = delta.getObjectClass().getObjectClassValue();
+            SyncopePullResultHandler handler = nonConcurrentHandler(objectClass);
 
-            executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
-            if (result) {
-                executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
+            boolean result;
+            if (commitBatchSize > 1 && handler instanceof AnyPullResultHandler) {
+                List<SyncDelta> batch = batches.computeIfAbsent(objectClass, k -> new ArrayList<>(commitBatchSize));
+                batch.add(delta);
+                result = batch.size() < commitBatchSize || flush(objectClass);
+            } else {
+                result = handler.handle(delta);
+                report(delta, result);
             }
 
+            profile.aggregate();
             return result;
         }
 
@@ -175,6 +175,7 @@ public class PushJobDelegate
                 getPushActions(context.domain(), task.getActions()),
                 AuthContextUtils.getUsername(),
                 context.dryRun());
+        profile.setAggregate(buildReportAggregate(task.getResource(), null));
     }
 
     @Override
@@ -291,7 +292,13 @@ public class PushJobDelegate
 
         setStatus("Push done");
 
-        String result = createReport(profile.getResults(), task.getResource(), context.dryRun());
+        String result = profile.getAggregate().
+                map(aggregate -> {
+                    try (aggregate) {
+                        return createReport(aggregate, task.getResource(), context.dryRun());
+                    }
+                }).
+                orElseGet(() -> createReport(profile.getResults(), task.getResource(), context.dryRun()));
         LOG.debug("Push result: {}", result);
         return result;
     }
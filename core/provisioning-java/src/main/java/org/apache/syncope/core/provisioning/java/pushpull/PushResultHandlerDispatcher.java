@@ -52,6 +52,7 @@ public class PushResultHandlerDispatcher
             boolean result = ((AnyPushResultHandler) nonConcurrentHandler(any.getType().getKey())).handle(any);
 
             executor.reportHandled(any.getType().getKey(), any.getKey());
+            profile.aggregate();
 
             return result;
         }
@@ -76,6 +77,7 @@ public class PushResultHandlerDispatcher
                     handle(realm);
 
             executor.reportHandled(SyncopeConstants.REALM_ANYTYPE, realm.getKey());
+            profile.aggregate();
 
             return result;
         }
@@ -49,6 +49,8 @@ public abstract class SyncopeResultHandlerDispatcher<
 
     private static final String PLACEHOLDER_PWD = "PLACEHOLDER_PWD";
 
+    protected ProvisioningProfile<T, A> profile;
+
     protected Optional<VirtualThreadPoolTaskExecutor> tpte;
 
     protected final Map<String, Supplier<RA>> suppliers = new ConcurrentHashMap<>();
@@ -58,6 +60,8 @@ public abstract class SyncopeResultHandlerDispatcher<
     protected final List<Future<?>> futures = new ArrayList<>();
 
     protected void init(final ProvisioningProfile<T, A> profile) {
+        this.profile = profile;
+
         if (profile.getTask().getConcurrentSettings() == null) {
             tpte = Optional.empty();
         } else {
@@ -95,7 +99,13 @@ public abstract class SyncopeResultHandlerDispatcher<
     }
 
     protected void submit(final Runnable runnable) {
-        tpte.ifPresent(executor -> futures.add(executor.submit(runnable)));
+        tpte.ifPresent(executor -> futures.add(executor.submit(() -> {
+            try {
+                runnable.run();
+            } finally {
+                profile.aggregate();
+            }
+        })));
     }
 
     public void stop() {
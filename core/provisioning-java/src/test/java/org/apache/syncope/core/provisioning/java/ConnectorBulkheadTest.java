@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.provisioning.api.BulkheadFullException;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.Test;
+
+public class ConnectorBulkheadTest extends AbstractTest {
+
+    private static ConnectorBulkheadProperties props(final int queueDepth, final boolean adaptive) {
+        ConnectorBulkheadProperties props = new ConnectorBulkheadProperties();
+        props.setQueueDepth(queueDepth);
+        props.setAdaptive(adaptive);
+        props.setLatencyThresholdMillis(100);
+        return props;
+    }
+
+    @Test
+    public void rejectWhenQueueIsFull() {
+        ConnectorBulkhead bulkhead = new ConnectorBulkhead("conn", 2, props(0, false));
+
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+        assertEquals(2, bulkhead.getInFlight());
+
+        assertThrows(BulkheadFullException.class, () -> bulkhead.acquire(1, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getRejected());
+
+        bulkhead.release(0, false);
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+        assertEquals(2, bulkhead.getInFlight());
+    }
+
+    @Test
+    public void queueUntilReleased() throws Exception {
+        ConnectorBulkhead bulkhead = new ConnectorBulkhead("conn", 1, props(1, false));
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> bulkhead.acquire(10, TimeUnit.SECONDS));
+        while (bulkhead.getQueued() == 0) {
+            Thread.sleep(10);
+        }
+        assertThrows(BulkheadFullException.class, () -> bulkhead.acquire(1, TimeUnit.SECONDS));
+
+        bulkhead.release(0, false);
+        waiting.get(10, TimeUnit.SECONDS);
+        assertEquals(0, bulkhead.getQueued());
+        assertEquals(1, bulkhead.getInFlight());
+    }
+
+    @Test
+    public void timeoutWhileQueued() {
+        ConnectorBulkhead bulkhead = new ConnectorBulkhead("conn", 1, props(1, false));
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+
+        assertThrows(BulkheadFullException.class, () -> bulkhead.acquire(50, TimeUnit.MILLISECONDS));
+        assertEquals(0, bulkhead.getQueued());
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    public void adaptiveLimit() {
+        ConnectorBulkhead bulkhead = new ConnectorBulkhead("conn", 8, props(0, true));
+        assertEquals(8, bulkhead.getLimit());
+
+        // multiplicative decrease on errors and slow requests
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+        bulkhead.release(0, true);
+        assertEquals(4, bulkhead.getLimit());
+
+        bulkhead.acquire(1, TimeUnit.SECONDS);
+        bulkhead.release(TimeUnit.SECONDS.toNanos(1), false);
+        assertEquals(2, bulkhead.getLimit());
+
+        // additive increase after a full window of fast successful requests
+        for (int i = 0; i < 2; i++) {
+            bulkhead.acquire(1, TimeUnit.SECONDS);
+            bulkhead.release(0, false);
+        }
+        assertEquals(3, bulkhead.getLimit());
+
+        // never below the minimum
+        for (int i = 0; i < 5; i++) {
+            bulkhead.acquire(1, TimeUnit.SECONDS);
+            bulkhead.release(0, true);
+        }
+        assertEquals(1, bulkhead.getLimit());
+    }
+
+    @Test
+    public void registryDropsDeletedConnectors() {
+        ConnectorBulkheadProperties props = props(0, false);
+        assertTrue(new ConnectorBulkheadRegistry(props).get("conn").isEmpty());
+
+        props.setEnabled(true);
+        ConnectorBulkheadRegistry registry = new ConnectorBulkheadRegistry(props);
+        ConnectorBulkhead bulkhead = registry.get("conn").orElseThrow();
+        assertSame(bulkhead, registry.get("conn").orElseThrow());
+
+        ConnInstance connInstance = mock(ConnInstance.class);
+        when(connInstance.getKey()).thenReturn("conn");
+
+        registry.entity(new EntityLifecycleEvent<Entity>(this, SyncDeltaType.UPDATE, connInstance, "Master"));
+        assertSame(bulkhead, registry.get("conn").orElseThrow());
+
+        registry.entity(new EntityLifecycleEvent<Entity>(this, SyncDeltaType.DELETE, connInstance, "Master"));
+        assertNotSame(bulkhead, registry.get("conn").orElseThrow());
+    }
+}
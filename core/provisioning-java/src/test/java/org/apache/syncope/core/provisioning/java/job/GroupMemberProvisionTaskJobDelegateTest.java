@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
+import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.DummyConfParamOps;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class GroupMemberProvisionTaskJobDelegateTest extends AbstractTest {
+
+    private static final String TASK_KEY = SecureRandomUtils.generateRandomUUID().toString();
+
+    private static final String CHECKPOINT_KEY = GroupMemberProvisionTaskJobDelegate.CHECKPOINT_CONF_PREFIX + TASK_KEY;
+
+    @Mock
+    private RealmDAO realmDAO;
+
+    @Mock
+    private AnySearchDAO anySearchDAO;
+
+    @Mock
+    private UserProvisioningManager userProvisioningManager;
+
+    @Mock
+    private AnyObjectProvisioningManager anyObjectProvisioningManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private SchedTask task;
+
+    private final ProvisioningProperties provisioningProperties = new ProvisioningProperties();
+
+    private final Map<AnyTypeKind, List<String>> members = new EnumMap<>(AnyTypeKind.class);
+
+    private final List<String> provisioned = new CopyOnWriteArrayList<>();
+
+    private final Map<String, Object> confParams = new HashMap<>();
+
+    private final List<Object> checkpoints = new ArrayList<>();
+
+    private final ConfParamOps confParamOps = new DummyConfParamOps() {
+
+        @Override
+        public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+            return reference.cast(confParams.getOrDefault(key, defaultValue));
+        }
+
+        @Override
+        public <T> void set(final String domain, final String key, final T value) {
+            confParams.put(key, value);
+            checkpoints.add(value);
+        }
+
+        @Override
+        public void remove(final String domain, final String key) {
+            confParams.remove(key);
+        }
+    };
+
+    private String failing;
+
+    @BeforeEach
+    public void initDelegate() {
+        members.put(AnyTypeKind.USER, List.of("u1", "u2", "u3", "u4", "u5"));
+        members.put(AnyTypeKind.ANY_OBJECT, List.of("a1", "a2", "a3"));
+
+        provisioningProperties.getGroupMemberProvision().setChunked(true);
+        provisioningProperties.getGroupMemberProvision().setChunkSize(2);
+
+        when(task.getKey()).thenReturn(TASK_KEY);
+        when(transactionManager.getTransaction(any())).thenAnswer(ic -> new SimpleTransactionStatus());
+
+        lenient().when(userProvisioningManager.provision(
+                anyString(), anyBoolean(), isNull(), anyCollection(), anyBoolean(), anyString())).
+                thenAnswer(ic -> provision(ic.getArgument(0)));
+        lenient().when(anyObjectProvisioningManager.provision(
+                anyString(), anyCollection(), anyBoolean(), anyString())).
+                thenAnswer(ic -> provision(ic.getArgument(0)));
+    }
+
+    private List<?> provision(final String key) {
+        if (key.equals(failing)) {
+            throw new IllegalStateException("Could not provision " + key);
+        }
+        provisioned.add(key);
+        return List.of();
+    }
+
+    private GroupMemberProvisionTaskJobDelegate delegate() {
+        // members are served in key order, as by the actual search
+        GroupMemberProvisionTaskJobDelegate delegate = new GroupMemberProvisionTaskJobDelegate() {
+
+            @Override
+            protected List<String> nextChunk(
+                    final AnyTypeKind kind,
+                    final MembershipCond membershipCond,
+                    final String after,
+                    final int chunkSize) {
+
+                return members.get(kind).stream().
+                        filter(key -> after == null || key.compareTo(after) > 0).
+                        limit(chunkSize).
+                        toList();
+            }
+        };
+        ReflectionTestUtils.setField(delegate, "realmDAO", realmDAO);
+        ReflectionTestUtils.setField(delegate, "anySearchDAO", anySearchDAO);
+        ReflectionTestUtils.setField(delegate, "userProvisioningManager", userProvisioningManager);
+        ReflectionTestUtils.setField(delegate, "anyObjectProvisioningManager", anyObjectProvisioningManager);
+        ReflectionTestUtils.setField(delegate, "provisioningProperties", provisioningProperties);
+        ReflectionTestUtils.setField(delegate, "confParamOps", confParamOps);
+        ReflectionTestUtils.setField(delegate, "transactionManager", transactionManager);
+        delegate.publisher = publisher;
+        delegate.task = task;
+        return delegate;
+    }
+
+    @Test
+    public void chunked() throws JobExecutionException {
+        provisioningProperties.getGroupMemberProvision().setParallelism(1);
+
+        delegate().doExecuteChunked(new MembershipCond(), List.of("resource"), new StringBuilder());
+
+        assertEquals(List.of("u1", "u2", "u3", "u4", "u5", "a1", "a2", "a3"), provisioned);
+        assertEquals(List.of("USER:u2", "USER:u4", "USER:u5", "ANY_OBJECT:a2", "ANY_OBJECT:a3"), checkpoints);
+        assertFalse(confParams.containsKey(CHECKPOINT_KEY));
+    }
+
+    @Test
+    public void parallel() throws JobExecutionException {
+        provisioningProperties.getGroupMemberProvision().setParallelism(3);
+
+        delegate().doExecuteChunked(new MembershipCond(), List.of("resource"), new StringBuilder());
+
+        assertEquals(
+                List.of("a1", "a2", "a3", "u1", "u2", "u3", "u4", "u5"),
+                provisioned.stream().sorted().toList());
+        assertEquals(List.of("USER:u2", "USER:u4", "USER:u5", "ANY_OBJECT:a2", "ANY_OBJECT:a3"), checkpoints);
+        assertFalse(confParams.containsKey(CHECKPOINT_KEY));
+    }
+
+    @Test
+    public void resumeAfterFailure() throws JobExecutionException {
+        provisioningProperties.getGroupMemberProvision().setParallelism(1);
+
+        // the second chunk fails: the checkpoint is left to the first one
+        failing = "u3";
+        assertThrows(JobExecutionException.class,
+                () -> delegate().doExecuteChunked(new MembershipCond(), List.of("resource"), new StringBuilder()));
+        assertEquals(List.of("u1", "u2"), provisioned);
+        assertEquals("USER:u2", confParams.get(CHECKPOINT_KEY));
+
+        // the next execution resumes from there
+        failing = null;
+        provisioned.clear();
+        StringBuilder result = new StringBuilder();
+        delegate().doExecuteChunked(new MembershipCond(), List.of("resource"), result);
+
+        assertTrue(result.toString().startsWith("Resuming after USER u2"));
+        assertEquals(List.of("u3", "u4", "u5", "a1", "a2", "a3"), provisioned);
+        assertFalse(confParams.containsKey(CHECKPOINT_KEY));
+    }
+}
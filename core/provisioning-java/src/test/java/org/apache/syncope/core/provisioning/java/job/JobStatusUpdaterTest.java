@@ -19,10 +19,14 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.provisioning.api.event.JobStatusEvent;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
 import org.apache.syncope.core.provisioning.java.AbstractTest;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.junit.jupiter.api.Test;
@@ -39,17 +43,37 @@ public class JobStatusUpdaterTest extends AbstractTest {
     public void verifyUpdate() {
         String jobName = "job-" + SecureRandomUtils.generateRandomNumber();
 
-        JobStatusUpdater jobStatusUpdater = new JobStatusUpdater(jobStatusDAO);
-        jobStatusUpdater.initComplete();
+        DBJobLeaseManager jobLeaseManager = new DBJobLeaseManager(jobStatusDAO, Duration.ofMinutes(1));
+        try {
+            JobStatusUpdater jobStatusUpdater = new JobStatusUpdater(jobStatusDAO, jobLeaseManager, Duration.ZERO);
+            jobStatusUpdater.initComplete();
 
-        jobStatusUpdater.update(new JobStatusEvent(this, SyncopeConstants.MASTER_DOMAIN, jobName, "Started"));
-        assertEquals(JobStatusDAO.UNKNOWN_STATUS, jobStatusDAO.get(jobName));
+            // not leased: discarded
+            jobStatusUpdater.update(new JobStatusEvent(this, SyncopeConstants.MASTER_DOMAIN, jobName, "Started"));
+            jobStatusUpdater.flush();
+            assertEquals(JobStatusDAO.UNKNOWN_STATUS, jobStatusDAO.get(jobName));
 
-        jobStatusDAO.lock(jobName);
-        jobStatusUpdater.update(new JobStatusEvent(this, SyncopeConstants.MASTER_DOMAIN, jobName, "Started"));
-        assertEquals("Started", jobStatusDAO.get(jobName));
+            JobLease lease = jobLeaseManager.acquire(SyncopeConstants.MASTER_DOMAIN, jobName, () -> {
+            }).orElseThrow();
+            jobStatusUpdater.update(new JobStatusEvent(this, SyncopeConstants.MASTER_DOMAIN, jobName, "Started"));
+            assertEquals(JobStatusDAO.JOB_FIRED_STATUS, jobStatusDAO.get(jobName));
 
-        jobStatusDAO.unlock(jobName);
-        assertEquals(JobStatusDAO.UNKNOWN_STATUS, jobStatusDAO.get(jobName));
+            jobStatusUpdater.update(new JobStatusEvent(this, SyncopeConstants.MASTER_DOMAIN, jobName, "Running"));
+            jobStatusUpdater.flush();
+            assertEquals("Running", jobStatusDAO.get(jobName));
+
+            // lease taken over after expiry: updates queued for the former lease are not written
+            jobStatusUpdater.update(new JobStatusEvent(this, SyncopeConstants.MASTER_DOMAIN, jobName, "Stale"));
+            assertTrue(jobStatusDAO.renew(
+                    jobName, lease.owner(), lease.fencingToken(), OffsetDateTime.now().minusSeconds(1)));
+            assertTrue(jobStatusDAO.lease(jobName, "other", OffsetDateTime.now().plusMinutes(1)).isPresent());
+            jobStatusUpdater.flush();
+            assertEquals(JobStatusDAO.JOB_FIRED_STATUS, jobStatusDAO.get(jobName));
+
+            jobStatusDAO.unlock(jobName);
+            assertEquals(JobStatusDAO.UNKNOWN_STATUS, jobStatusDAO.get(jobName));
+        } finally {
+            jobLeaseManager.destroy();
+        }
     }
 }
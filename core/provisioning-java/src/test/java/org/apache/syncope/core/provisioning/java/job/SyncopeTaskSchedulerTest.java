@@ -20,19 +20,22 @@ package org.apache.syncope.core.provisioning.java.job;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.apache.commons.lang3.mutable.MutableObject;
-import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.provisioning.api.job.JobDelegate;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.api.job.JobLease;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.provisioning.java.AbstractTest;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
@@ -72,10 +75,11 @@ public class SyncopeTaskSchedulerTest extends AbstractTest {
         TestJob job = new TestJob();
         job.setContext(context);
 
-        JobStatusDAO jobStatusDAO = mock(JobStatusDAO.class);
-        when(jobStatusDAO.lock(anyString())).thenReturn(true);
-        doNothing().when(jobStatusDAO).unlock(anyString());
-        ReflectionTestUtils.setField(job, "jobStatusDAO", jobStatusDAO);
+        JobLeaseManager jobLeaseManager = mock(JobLeaseManager.class);
+        when(jobLeaseManager.acquire(anyString(), anyString(), any())).thenReturn(Optional.of(
+                new JobLease(context.domain(), context.jobName(), "test", System.currentTimeMillis())));
+        doNothing().when(jobLeaseManager).release(any());
+        ReflectionTestUtils.setField(job, "jobLeaseManager", jobLeaseManager);
 
         scheduler.schedule(job, Instant.now().plusSeconds(5));
 
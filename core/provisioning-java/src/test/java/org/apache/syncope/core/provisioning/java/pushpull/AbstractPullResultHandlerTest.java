@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class AbstractPullResultHandlerTest extends AbstractTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AbstractPullResultHandler handler;
+
+    private final List<String> handled = new ArrayList<>();
+
+    private static List<SyncDelta> deltas(final int size) {
+        return IntStream.range(0, size).mapToObj(i -> new SyncDeltaBuilder().
+                setToken(new SyncToken(i)).
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setUid(new Uid("uid" + i)).
+                setObject(new ConnectorObject(ObjectClass.ACCOUNT, Set.of(new Uid("uid" + i), new Name("uid" + i)))).
+                build()).toList();
+    }
+
+    @BeforeEach
+    public void initHandler() {
+        when(transactionManager.getTransaction(any())).thenAnswer(ic -> new SimpleTransactionStatus());
+
+        handler = mock(AbstractPullResultHandler.class,
+                withSettings().useConstructor().defaultAnswer(CALLS_REAL_METHODS));
+        handler.transactionManager = transactionManager;
+        handler.profile = new ProvisioningProfile<>(null, TaskType.PULL, null, null, List.of(), "admin", false);
+
+        // each handled delta is reported and collects a manager reference; "uid1" is not handled successfully
+        doAnswer(ic -> {
+            String uid = ic.<SyncDelta>getArgument(0).getUid().getUidValue();
+            handled.add(uid);
+
+            ProvisioningReport report = new ProvisioningReport();
+            report.setUidValue(uid);
+            report.setStatus(ProvisioningReport.Status.SUCCESS);
+            handler.profile.getResults().add(report);
+
+            handler.uManagers.put(uid, Optional.of("manager"));
+
+            return !"uid1".equals(uid);
+        }).when(handler).handle(any(SyncDelta.class));
+    }
+
+    @Test
+    public void batch() {
+        assertEquals(List.of(true), handler.handle(deltas(1)));
+
+        assertEquals(List.of("uid0"), handled);
+        assertEquals(1, handler.profile.getResults().size());
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void rollbackAndReplay() {
+        ProvisioningReport previous = new ProvisioningReport();
+        previous.setUidValue("previous");
+        handler.profile.getResults().add(previous);
+        handler.uManagers.put("previous", Optional.empty());
+
+        doThrow(new TransactionSystemException("Could not commit")).
+                doNothing().
+                when(transactionManager).commit(any());
+
+        // the batch stops at uid1, fails to commit, then uid0 and uid1 are handled again one by one
+        assertEquals(List.of(true, false), handler.handle(deltas(3)));
+
+        assertEquals(List.of("uid0", "uid1", "uid0", "uid1"), handled);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+
+        // reports and manager references from the rolled back batch were discarded before replaying
+        assertEquals(
+                List.of("previous", "uid0", "uid1"),
+                handler.profile.getResults().stream().map(ProvisioningReport::getUidValue).toList());
+        assertEquals(
+                Map.of("previous", Optional.empty(), "uid0", Optional.of("manager"), "uid1", Optional.of("manager")),
+                handler.uManagers);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyPullResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+public class PullResultHandlerDispatcherTest extends AbstractTest {
+
+    @Mock
+    private ProvisioningProfile<PullTask, InboundActions> profile;
+
+    @Mock
+    private PullTask task;
+
+    @Mock
+    private SyncopePullExecutor executor;
+
+    @Mock
+    private AnyPullResultHandler handler;
+
+    private static SyncDelta delta(final int token) {
+        String uid = UUID.randomUUID().toString();
+        return new SyncDeltaBuilder().
+                setToken(new SyncToken(token)).
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setUid(new Uid(uid)).
+                setObject(new ConnectorObject(ObjectClass.ACCOUNT, Set.of(new Uid(uid), new Name(uid)))).
+                build();
+    }
+
+    private PullResultHandlerDispatcher dispatcher(final Integer commitBatchSize) {
+        when(profile.getTask()).thenReturn(task);
+        when(task.getCommitBatchSize()).thenReturn(commitBatchSize);
+
+        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher().init(profile, executor);
+        dispatcher.addHandlerSupplier(ObjectClass.ACCOUNT_NAME, () -> handler);
+        return dispatcher;
+    }
+
+    @BeforeEach
+    public void initHandler() {
+        lenient().when(handler.handle(anyList())).thenAnswer(ic -> new ArrayList<>(
+                Collections.nCopies(ic.<List<SyncDelta>>getArgument(0).size(), Boolean.TRUE)));
+    }
+
+    @Test
+    public void batched() {
+        PullResultHandlerDispatcher dispatcher = dispatcher(3);
+
+        for (int i = 0; i < 7; i++) {
+            assertTrue(dispatcher.handle(delta(i)));
+        }
+        verify(handler, times(2)).handle(anyList());
+        verify(executor, times(6)).reportHandled(eq(ObjectClass.ACCOUNT_NAME), any(Name.class));
+
+        assertTrue(dispatcher.flush());
+        verify(handler, times(3)).handle(anyList());
+        verify(executor, times(7)).reportHandled(eq(ObjectClass.ACCOUNT_NAME), any(Name.class));
+        verify(executor).setLatestSyncToken(ObjectClass.ACCOUNT_NAME, new SyncToken(6));
+
+        verify(handler, never()).handle(any(SyncDelta.class));
+    }
+
+    @Test
+    public void batchStopsAtFirstFailure() {
+        when(handler.handle(anyList())).thenReturn(List.of(true, false));
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(3);
+
+        assertTrue(dispatcher.handle(delta(0)));
+        assertTrue(dispatcher.handle(delta(1)));
+        assertFalse(dispatcher.handle(delta(2)));
+
+        verify(executor, times(2)).reportHandled(eq(ObjectClass.ACCOUNT_NAME), any(Name.class));
+        verify(executor).setLatestSyncToken(ObjectClass.ACCOUNT_NAME, new SyncToken(0));
+        verify(executor, never()).setLatestSyncToken(ObjectClass.ACCOUNT_NAME, new SyncToken(1));
+    }
+
+    @Test
+    public void notBatched() {
+        when(handler.handle(any(SyncDelta.class))).thenReturn(true);
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(null);
+
+        assertTrue(dispatcher.handle(delta(0)));
+        assertTrue(dispatcher.flush());
+
+        verify(handler).handle(any(SyncDelta.class));
+        verify(handler, never()).handle(anyList());
+        verify(executor).setLatestSyncToken(ObjectClass.ACCOUNT_NAME, new SyncToken(0));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+
+/**
+ * Base for caches of values computed per domain from entities, evicted as soon as such entities are reported as
+ * changed; values computed while any of the entities they depend on was changed are not cached, as they might
+ * reflect the state before the change.
+ *
+ * @param <V> cached values
+ */
+public abstract class AbstractDomainCache<V> {
+
+    /**
+     * Tracks an entry while being loaded, collecting the keys of the entities evicted meanwhile in the same domain.
+     */
+    protected static class Loading {
+
+        protected final String domain;
+
+        protected final Set<String> evicted = new HashSet<>();
+
+        protected boolean evictedAll;
+
+        public Loading(final String domain) {
+            this.domain = domain;
+        }
+
+        public synchronized void evicted(final String entityKey) {
+            evicted.add(entityKey);
+        }
+
+        public synchronized void evictedAll() {
+            evictedAll = true;
+        }
+
+        /**
+         * Runs the given action unless any of the given entity keys was evicted while loading.
+         *
+         * @param entityKeys entity keys the loaded entry depends on
+         * @param action action to run
+         */
+        public synchronized void unlessEvicted(final Set<String> entityKeys, final Runnable action) {
+            if (!evictedAll && entityKeys.stream().noneMatch(evicted::contains)) {
+                action.run();
+            }
+        }
+    }
+
+    protected static String key(final String domain, final String key) {
+        return domain + ':' + key;
+    }
+
+    protected final boolean enabled;
+
+    protected final Cache<String, V> cache;
+
+    /**
+     * Entries being loaded: each is cached only if none of the entities it depends on was evicted meanwhile.
+     */
+    protected final Set<Loading> loadings = ConcurrentHashMap.newKeySet();
+
+    protected AbstractDomainCache(final boolean enabled, final Cache<String, V> cache) {
+        this.enabled = enabled;
+        this.cache = cache;
+    }
+
+    /**
+     * Gives the keys of the entities the given value was computed from, besides the one it is cached for.
+     *
+     * @param value cached value
+     * @return keys of the entities the given value depends on
+     */
+    protected Set<String> dependencies(final V value) {
+        return Set.of();
+    }
+
+    protected void put(final String domain, final String key, final V value) {
+        cache.put(key(domain, key), value);
+    }
+
+    protected V getOrLoad(final String domain, final String key, final Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        V value = cache.get(key(domain, key));
+        if (value == null) {
+            Loading loading = new Loading(domain);
+            loadings.add(loading);
+            try {
+                V loaded = loader.get();
+
+                Set<String> entityKeys = new HashSet<>(dependencies(loaded));
+                entityKeys.add(key);
+                loading.unlessEvicted(entityKeys, () -> put(domain, key, loaded));
+
+                value = loaded;
+            } finally {
+                loadings.remove(loading);
+            }
+        }
+
+        return value;
+    }
+
+    // loadings are notified before removing from cache, so that entries being cached meanwhile are removed as well
+    protected void evicted(final String domain, final String entityKey) {
+        loadings.stream().filter(loading -> domain.equals(loading.domain)).
+                forEach(loading -> loading.evicted(entityKey));
+    }
+
+    protected void evict(final String domain, final String key) {
+        evicted(domain, key);
+        cache.remove(key(domain, key));
+    }
+
+    protected void evictAll(final String domain) {
+        loadings.stream().filter(loading -> domain.equals(loading.domain)).forEach(Loading::evictedAll);
+
+        String prefix = key(domain, "");
+        Set<String> keys = new HashSet<>();
+        cache.forEach(entry -> {
+            if (entry.getKey().startsWith(prefix)) {
+                keys.add(entry.getKey());
+            }
+        });
+        cache.removeAll(keys);
+    }
+}
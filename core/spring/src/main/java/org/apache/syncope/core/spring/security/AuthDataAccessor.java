@@ -23,12 +23,14 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.security.auth.login.AccountNotFoundException;
 import org.apache.commons.lang3.ArrayUtils;
@@ -63,14 +65,16 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
-import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
@@ -222,6 +226,12 @@ public class AuthDataAccessor {
 
     protected final DefaultCredentialChecker credentialChecker;
 
+    protected final UserAuthoritiesCache userAuthoritiesCache;
+
+    protected final PassthroughResourcesCache passthroughResourcesCache;
+
+    protected final AsyncTaskExecutor passthroughAuthExecutor;
+
     private final List<JWTSSOProvider> jwtSSOProviders;
 
     public AuthDataAccessor(
@@ -241,6 +251,9 @@ public class AuthDataAccessor {
             final AuditManager auditManager,
             final MappingManager mappingManager,
             final DefaultCredentialChecker credentialChecker,
+            final UserAuthoritiesCache userAuthoritiesCache,
+            final PassthroughResourcesCache passthroughResourcesCache,
+            final AsyncTaskExecutor passthroughAuthExecutor,
             final List<JWTSSOProvider> jwtSSOProviders) {
 
         this.securityProperties = securityProperties;
@@ -259,6 +272,9 @@ public class AuthDataAccessor {
         this.auditManager = auditManager;
         this.mappingManager = mappingManager;
         this.credentialChecker = credentialChecker;
+        this.userAuthoritiesCache = userAuthoritiesCache;
+        this.passthroughResourcesCache = passthroughResourcesCache;
+        this.passthroughAuthExecutor = passthroughAuthExecutor;
         this.jwtSSOProviders = jwtSSOProviders;
     }
 
@@ -371,17 +387,25 @@ public class AuthDataAccessor {
                 });
     }
 
+    protected Set<String> getPassthroughResources(final AccountPolicy accountPolicy) {
+        return passthroughResourcesCache.get(
+                AuthContextUtils.getDomain(),
+                accountPolicy.getKey(),
+                () -> new PassthroughResourcesCache.Entry(resourceDAO.findByPolicy(accountPolicy).stream().
+                        map(ExternalResource::getKey).collect(Collectors.toSet())));
+    }
+
     protected Set<ExternalResource> getPassthroughResources(final User user) {
-        Set<ExternalResource> result = new HashSet<>();
+        Set<String> result = new HashSet<>();
 
         // 1. look for assigned resources, pick the ones whose account policy has authentication resources
         userDAO.findAllResources(user).stream().
                 filter(r -> r.getAccountPolicy() != null).forEach(resource -> {
 
             if (result.isEmpty()) {
-                result.addAll(resourceDAO.findByPolicy(resource.getAccountPolicy()));
+                result.addAll(getPassthroughResources(resource.getAccountPolicy()));
             } else {
-                result.retainAll(resourceDAO.findByPolicy(resource.getAccountPolicy()));
+                result.retainAll(getPassthroughResources(resource.getAccountPolicy()));
             }
         });
 
@@ -390,13 +414,96 @@ public class AuthDataAccessor {
                 filter(r -> r.getAccountPolicy() != null).forEach(realm -> {
 
             if (result.isEmpty()) {
-                result.addAll(resourceDAO.findByPolicy(realm.getAccountPolicy()));
+                result.addAll(getPassthroughResources(realm.getAccountPolicy()));
             } else {
-                result.retainAll(resourceDAO.findByPolicy(realm.getAccountPolicy()));
+                result.retainAll(getPassthroughResources(realm.getAccountPolicy()));
             }
         });
 
-        return result;
+        return result.stream().map(resourceDAO::findById).flatMap(Optional::stream).collect(Collectors.toSet());
+    }
+
+    /**
+     * Resolves, in the calling thread, what is needed to authenticate the given user on the given resource.
+     *
+     * @param user user to authenticate
+     * @param password password to verify
+     * @param resource pass-through resource
+     * @return authentication attempt, reporting whether the password was verified, or empty if the given user
+     * cannot be authenticated on the given resource
+     */
+    protected Optional<Supplier<Boolean>> passthroughAttempt(
+            final User user,
+            final String password,
+            final ExternalResource resource) {
+
+        try {
+            Provision provision = resource.getProvisionByAnyType(AnyTypeKind.USER.name()).
+                    orElseThrow(() -> new AccountNotFoundException(
+                    "Unable to locate provision for user type " + AnyTypeKind.USER.name()));
+            String connObjectKey = mappingManager.getConnObjectKeyValue(user, resource, provision).
+                    orElseThrow(() -> new AccountNotFoundException(
+                    "Unable to locate conn object key value for " + AnyTypeKind.USER.name()));
+            Connector connector = connectorManager.getConnector(resource);
+
+            return Optional.of(() -> {
+                boolean verified = false;
+                try {
+                    verified = connector.authenticate(connObjectKey, password, null) != null;
+                } catch (Exception e) {
+                    LOG.debug("Could not authenticate {} on {}", user.getUsername(), resource.getKey(), e);
+                }
+
+                LOG.debug("{} authentication on {} as {}: {}",
+                        user.getUsername(), resource.getKey(), connObjectKey, verified);
+                return verified;
+            });
+        } catch (Exception e) {
+            LOG.debug("Could not authenticate {} on {}", user.getUsername(), resource.getKey(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Runs all given attempts concurrently, each bound by the configured timeout: the first successful attempt wins.
+     *
+     * @param attempts authentication attempts
+     * @return whether any attempt verified the password
+     */
+    protected boolean parallelPassthroughAuthenticate(final List<Supplier<Boolean>> attempts) {
+        long timeout = Math.max(1, securityProperties.getPassthrough().getAttemptTimeoutSeconds());
+
+        CompletableFuture<Boolean> verified = new CompletableFuture<>();
+        List<CompletableFuture<Boolean>> futures = attempts.stream().
+                map(attempt -> CompletableFuture.supplyAsync(attempt, passthroughAuthExecutor).
+                completeOnTimeout(false, timeout, TimeUnit.SECONDS).
+                exceptionally(e -> false).
+                thenApply(result -> {
+                    if (result) {
+                        verified.complete(true);
+                    }
+                    return result;
+                })).
+                toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenRun(() -> verified.complete(false));
+
+        return verified.join();
+    }
+
+    protected boolean passthroughAuthenticate(final User user, final String password) {
+        Set<ExternalResource> resources = getPassthroughResources(user);
+
+        if (securityProperties.getPassthrough().isParallel() && resources.size() > 1) {
+            return parallelPassthroughAuthenticate(resources.stream().
+                    map(resource -> passthroughAttempt(user, password, resource)).
+                    flatMap(Optional::stream).
+                    toList());
+        }
+
+        return resources.stream().
+                map(resource -> passthroughAttempt(user, password, resource)).
+                flatMap(Optional::stream).
+                anyMatch(Supplier::get);
     }
 
     protected UsernamePasswordAuthResult authenticateUser(
@@ -429,28 +536,8 @@ public class AuthDataAccessor {
                 verify(password, user.getCipherAlgorithm(), user.getPassword());
         LOG.debug("{} authentication on internal storage: {}", user.getUsername(), passwordVerified);
 
-        for (Iterator<? extends ExternalResource> itor = getPassthroughResources(user).iterator();
-                itor.hasNext() && !passwordVerified;) {
-
-            ExternalResource resource = itor.next();
-            String connObjectKey = null;
-            try {
-                Provision provision = resource.getProvisionByAnyType(AnyTypeKind.USER.name()).
-                        orElseThrow(() -> new AccountNotFoundException(
-                        "Unable to locate provision for user type " + AnyTypeKind.USER.name()));
-                connObjectKey = mappingManager.getConnObjectKeyValue(user, resource, provision).
-                        orElseThrow(() -> new AccountNotFoundException(
-                        "Unable to locate conn object key value for " + AnyTypeKind.USER.name()));
-                Uid uid = connectorManager.getConnector(resource).authenticate(connObjectKey, password, null);
-                if (uid != null) {
-                    passwordVerified = true;
-                }
-            } catch (Exception e) {
-                LOG.debug("Could not authenticate {} on {}", user.getUsername(), resource.getKey(), e);
-            }
-
-            LOG.debug("{} authentication on {} as {}: {}",
-                    user.getUsername(), resource.getKey(), connObjectKey, passwordVerified);
+        if (!passwordVerified) {
+            passwordVerified = passthroughAuthenticate(user, password);
         }
 
         Boolean otpVerified = null;
@@ -487,18 +574,19 @@ public class AuthDataAccessor {
                 authorities = getUserAuthorities(user);
             }
 
-            if (confParamOps.get(domain, StandardConfParams.LOG_LAST_LOGIN_DATE, true, boolean.class)) {
-                user.setLastLoginDate(OffsetDateTime.now());
-                userModified = true;
-            }
-
-            if (user.getFailedLogins() != 0) {
+            OffsetDateTime lastLoginDate =
+                    confParamOps.get(domain, StandardConfParams.LOG_LAST_LOGIN_DATE, true, boolean.class)
+                    ? OffsetDateTime.now()
+                    : null;
+            if (userModified) {
+                // a recovery code was consumed: the whole user needs to be saved anyway
+                Optional.ofNullable(lastLoginDate).ifPresent(user::setLastLoginDate);
                 user.setFailedLogins(0);
-                userModified = true;
+            } else if (lastLoginDate != null || user.getFailedLogins() != 0) {
+                userDAO.recordSuccessfulLogin(user.getKey(), lastLoginDate);
             }
         } else {
-            user.setFailedLogins(user.getFailedLogins() + 1);
-            userModified = true;
+            userDAO.recordFailedLogin(user.getKey());
         }
 
         return new UsernamePasswordAuthResult(
@@ -565,12 +653,21 @@ public class AuthDataAccessor {
             return MUST_CHANGE_PASSWORD_AUTHORITIES;
         }
 
+        return userAuthoritiesCache.get(AuthContextUtils.getDomain(), user.getKey(), () -> buildUserAuthorities(user));
+    }
+
+    protected UserAuthoritiesCache.Entry buildUserAuthorities(final User user) {
         Map<String, Set<String>> entForRealms = new HashMap<>();
+        Set<String> dependencies = new HashSet<>();
+        dependencies.add(user.getKey());
+        user.getMemberships().forEach(membership -> dependencies.add(membership.getRightEnd().getKey()));
 
         // Give role entitlements
-        userDAO.findAllRoles(user).forEach(role -> role.getEntitlements().
-                forEach(e -> populateEntForRealms(entForRealms, e, role.getRealms().stream().map(Realm::getFullPath).
-                toList())));
+        userDAO.findAllRoles(user).forEach(role -> {
+            dependencies.add(role.getKey());
+            role.getEntitlements().forEach(e -> populateEntForRealms(
+                    entForRealms, e, role.getRealms().stream().map(Realm::getFullPath).toList()));
+        });
 
         // Give manager entitlements
         if (userDAO.isManager(user.getKey())) {
@@ -578,26 +675,23 @@ public class AuthDataAccessor {
                     entForRealms, e, SyncopeConstants.FULL_ADMIN_REALMS));
         }
 
-        userDAO.findManagedUsers(user.getKey()).forEach(managedUser -> USER_MANAGER_ENTITLEMENTS.
-                forEach(e -> populateEntForRealms(entForRealms, e, Set.of(new RealmUtils.ManagerRealm(
-                managedUser.getRealm().getFullPath(),
-                AnyTypeKind.USER,
-                managedUser.getKey()).output()))));
-
-        userDAO.findManagedGroups(user.getKey()).forEach(group -> GROUP_MANAGER_ENTITLEMENTS.
-                forEach(e -> populateEntForRealms(entForRealms, e, Set.of(new RealmUtils.ManagerRealm(
-                group.getRealm().getFullPath(),
-                AnyTypeKind.GROUP,
-                group.getKey()).output()))));
-
-        userDAO.findManagedAnyObjects(user.getKey()).forEach(anyObject -> ANYOBJECT_MANAGER_ENTITLEMENTS.
-                apply(anyObject.getType().getKey()).forEach(e -> populateEntForRealms(entForRealms, e, Set.of(
-                new RealmUtils.ManagerRealm(
-                        anyObject.getRealm().getFullPath(),
-                        AnyTypeKind.ANY_OBJECT,
-                        anyObject.getKey()).output()))));
+        userDAO.findManaged(user.getKey()).forEach(managed -> {
+            dependencies.add(managed.key());
+
+            Set<String> managerRealm = Set.of(
+                    new RealmUtils.ManagerRealm(managed.realm(), managed.kind(), managed.key()).output());
+            Set<String> entitlements = switch (managed.kind()) {
+                case USER ->
+                    USER_MANAGER_ENTITLEMENTS;
+                case GROUP ->
+                    GROUP_MANAGER_ENTITLEMENTS;
+                case ANY_OBJECT ->
+                    ANYOBJECT_MANAGER_ENTITLEMENTS.apply(managed.type());
+            };
+            entitlements.forEach(e -> populateEntForRealms(entForRealms, e, managerRealm));
+        });
 
-        return buildAuthorities(entForRealms);
+        return new UserAuthoritiesCache.Entry(buildAuthorities(entForRealms), dependencies);
     }
 
     @Transactional
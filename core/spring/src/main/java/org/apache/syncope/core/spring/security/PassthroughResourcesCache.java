@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches, for each account policy, the keys of the external resources it is assigned to, as used for pass-through
+ * authentication; entries are evicted as soon as any account policy or external resource is reported as changed via
+ * {@link EntityLifecycleEvent}.
+ */
+public class PassthroughResourcesCache extends AbstractDomainCache<PassthroughResourcesCache.Entry> {
+
+    public record Entry(Set<String> resources) implements Serializable {
+
+        private static final long serialVersionUID = 2207165470913307596L;
+
+        public Entry {
+            resources = Set.copyOf(resources);
+        }
+    }
+
+    public static final String CACHE = "PassthroughResourcesCache";
+
+    public PassthroughResourcesCache(final SecurityProperties securityProperties, final Cache<String, Entry> cache) {
+        super(securityProperties.getPassthrough().isCacheEnabled(), cache);
+    }
+
+    public Set<String> get(final String domain, final String policyKey, final Supplier<Entry> loader) {
+        return getOrLoad(domain, policyKey, loader).resources();
+    }
+
+    @TransactionalEventListener
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (!enabled) {
+            return;
+        }
+
+        switch (event.getEntity()) {
+            case AccountPolicy policy ->
+                evict(event.getDomain(), policy.getKey());
+
+            // the previous account policy of an updated resource is not known: evict all
+            case ExternalResource resource ->
+                evictAll(event.getDomain());
+
+            default -> {
+            }
+        }
+    }
+}
@@ -93,6 +93,82 @@ public class SecurityProperties {
         }
     }
 
+    public static class AuthoritiesCacheProperties {
+
+        private boolean enabled = true;
+
+        private long ttlSeconds = 60;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(final long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+
+    public static class PassthroughProperties {
+
+        private boolean cacheEnabled = true;
+
+        private long cacheTtlSeconds = 300;
+
+        private boolean parallel = false;
+
+        private int poolSize = 10;
+
+        private long attemptTimeoutSeconds = 10;
+
+        public boolean isCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        public void setCacheEnabled(final boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        public long getCacheTtlSeconds() {
+            return cacheTtlSeconds;
+        }
+
+        public void setCacheTtlSeconds(final long cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+        }
+
+        public boolean isParallel() {
+            return parallel;
+        }
+
+        public void setParallel(final boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(final int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public long getAttemptTimeoutSeconds() {
+            return attemptTimeoutSeconds;
+        }
+
+        public void setAttemptTimeoutSeconds(final long attemptTimeoutSeconds) {
+            this.attemptTimeoutSeconds = attemptTimeoutSeconds;
+        }
+    }
+
     public static class DigesterProperties {
 
         private int saltIterations = 1;
@@ -180,6 +256,10 @@ public class SecurityProperties {
 
     private final AuthenticationErrorProperties authenticationError = new AuthenticationErrorProperties();
 
+    private final AuthoritiesCacheProperties authoritiesCache = new AuthoritiesCacheProperties();
+
+    private final PassthroughProperties passthrough = new PassthroughProperties();
+
     private final DigesterProperties digester = new DigesterProperties();
 
     public String getAdminUser() {
@@ -290,6 +370,14 @@ public class SecurityProperties {
         return authenticationError;
     }
 
+    public AuthoritiesCacheProperties getAuthoritiesCache() {
+        return authoritiesCache;
+    }
+
+    public PassthroughProperties getPassthrough() {
+        return passthrough;
+    }
+
     public DigesterProperties getDigester() {
         return digester;
     }
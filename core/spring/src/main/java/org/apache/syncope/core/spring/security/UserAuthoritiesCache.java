@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListenerException;
+import javax.cache.event.CacheEntryRemovedListener;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Groupable;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the authorities computed for each user, together with the keys of the entities (roles, groups, managed
+ * users, groups and any objects) they were computed from; entries are evicted as soon as any of such entities is
+ * reported as changed via {@link EntityLifecycleEvent}. Realm changes evict all entries of the affected domain, as
+ * realm full paths are embedded in authorities.
+ */
+public class UserAuthoritiesCache extends AbstractDomainCache<UserAuthoritiesCache.Entry> {
+
+    public record Entry(Set<SyncopeGrantedAuthority> authorities, Set<String> dependencies) implements Serializable {
+
+        private static final long serialVersionUID = -3096433617327683427L;
+
+        public Entry {
+            authorities = Set.copyOf(authorities);
+            dependencies = Set.copyOf(dependencies);
+        }
+    }
+
+    /**
+     * Drops the mappings of expired or removed entries from the reverse index.
+     */
+    protected class DependentsPruner
+            implements CacheEntryExpiredListener<String, Entry>, CacheEntryRemovedListener<String, Entry>,
+            Serializable {
+
+        private static final long serialVersionUID = 4412389206433546025L;
+
+        protected void prune(final Iterable<CacheEntryEvent<? extends String, ? extends Entry>> events) {
+            for (CacheEntryEvent<? extends String, ? extends Entry> event : events) {
+                Entry entry = event.isOldValueAvailable() ? event.getOldValue() : event.getValue();
+                // an entry loaded again meanwhile depends on the same mappings
+                if (entry != null && !cache.containsKey(event.getKey())) {
+                    String domain = StringUtils.substringBefore(event.getKey(), ':');
+                    entry.dependencies().forEach(dependency -> dependents.computeIfPresent(
+                            key(domain, dependency),
+                            (dependencyKey, keys) -> {
+                                keys.remove(event.getKey());
+                                return keys.isEmpty() ? null : keys;
+                            }));
+                }
+            }
+        }
+
+        @Override
+        public void onExpired(final Iterable<CacheEntryEvent<? extends String, ? extends Entry>> events)
+                throws CacheEntryListenerException {
+
+            prune(events);
+        }
+
+        @Override
+        public void onRemoved(final Iterable<CacheEntryEvent<? extends String, ? extends Entry>> events)
+                throws CacheEntryListenerException {
+
+            prune(events);
+        }
+    }
+
+    public static final String CACHE = "UserAuthoritiesCache";
+
+    protected static final Logger LOG = LoggerFactory.getLogger(UserAuthoritiesCache.class);
+
+    /**
+     * Reverse index from {@code domain:entityKey} to the keys of the cache entries computed from such entity;
+     * mappings are dropped as soon as the entries they point to expire or are removed.
+     */
+    protected final Map<String, Set<String>> dependents = new ConcurrentHashMap<>();
+
+    protected final DependentsPruner pruner = new DependentsPruner();
+
+    public UserAuthoritiesCache(final SecurityProperties securityProperties, final Cache<String, Entry> cache) {
+        super(securityProperties.getAuthoritiesCache().isEnabled(), cache);
+
+        if (enabled) {
+            cache.registerCacheEntryListener(new MutableCacheEntryListenerConfiguration<>(
+                    FactoryBuilder.factoryOf(pruner), null, true, true));
+        }
+    }
+
+    public Set<SyncopeGrantedAuthority> get(
+            final String domain,
+            final String userKey,
+            final Supplier<Entry> loader) {
+
+        return getOrLoad(domain, userKey, loader).authorities();
+    }
+
+    @Override
+    protected Set<String> dependencies(final Entry value) {
+        return value.dependencies();
+    }
+
+    @Override
+    protected void put(final String domain, final String key, final Entry value) {
+        value.dependencies().forEach(dependency -> dependents.
+                computeIfAbsent(key(domain, dependency), k -> ConcurrentHashMap.newKeySet()).add(key(domain, key)));
+        super.put(domain, key, value);
+    }
+
+    protected void evictDependents(final String domain, final String entityKey) {
+        evicted(domain, entityKey);
+        Optional.ofNullable(dependents.remove(key(domain, entityKey))).ifPresent(cache::removeAll);
+    }
+
+    @Override
+    protected void evictAll(final String domain) {
+        super.evictAll(domain);
+
+        String prefix = key(domain, "");
+        dependents.keySet().removeIf(dependency -> dependency.startsWith(prefix));
+    }
+
+    @TransactionalEventListener
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (!enabled) {
+            return;
+        }
+
+        String domain = event.getDomain();
+        try {
+            switch (event.getEntity()) {
+                case Role role ->
+                    evictDependents(domain, role.getKey());
+
+                case Realm realm ->
+                    evictAll(domain);
+
+                case Any any -> {
+                    evict(domain, any.getKey());
+                    evictDependents(domain, any.getKey());
+
+                    Optional.ofNullable(any.getuManager()).ifPresent(manager -> evict(domain, manager.getKey()));
+                    Optional.ofNullable(any.getgManager()).
+                            ifPresent(manager -> evictDependents(domain, manager.getKey()));
+
+                    if (any instanceof Groupable<?, ?, ?> groupable) {
+                        groupable.getMemberships().forEach(membership -> {
+                            evictDependents(domain, membership.getRightEnd().getKey());
+                            Optional.ofNullable(membership.getRightEnd().getuManager()).
+                                    ifPresent(manager -> evict(domain, manager.getKey()));
+                        });
+                    }
+                }
+
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            LOG.debug("Could not evict authorities depending on {} {}, evicting all for domain {}",
+                    event.getType(), event.getEntity(), domain, e);
+            evictAll(domain);
+        }
+    }
+}
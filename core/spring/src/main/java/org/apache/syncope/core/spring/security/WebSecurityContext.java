@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.TouchedExpiryPolicy;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
@@ -45,10 +46,12 @@ import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.spring.security.throttle.AuthenticationThrottler;
 import org.apache.syncope.core.spring.security.throttle.PasswordResetRequestThrottler;
 import org.apache.syncope.core.spring.security.throttle.ThrottlerAttempts;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -182,6 +185,64 @@ public class WebSecurityContext {
                                         securityProperties.getPasswordResetThrottle().getLockSeconds()))))));
     }
 
+    @ConditionalOnMissingBean(name = UserAuthoritiesCache.CACHE)
+    @Bean(name = UserAuthoritiesCache.CACHE)
+    public Cache<String, UserAuthoritiesCache.Entry> authoritiesCache(
+            final CacheManager cacheManager,
+            final SecurityProperties securityProperties) {
+
+        return cacheManager.createCache(UserAuthoritiesCache.CACHE,
+                new MutableConfiguration<String, UserAuthoritiesCache.Entry>().
+                        setTypes(String.class, UserAuthoritiesCache.Entry.class).
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(
+                                TimeUnit.SECONDS,
+                                Math.max(1, securityProperties.getAuthoritiesCache().getTtlSeconds())))));
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public UserAuthoritiesCache userAuthoritiesCache(
+            final SecurityProperties securityProperties,
+            @Qualifier(UserAuthoritiesCache.CACHE)
+            final Cache<String, UserAuthoritiesCache.Entry> authoritiesCache) {
+
+        return new UserAuthoritiesCache(securityProperties, authoritiesCache);
+    }
+
+    @ConditionalOnMissingBean(name = PassthroughResourcesCache.CACHE)
+    @Bean(name = PassthroughResourcesCache.CACHE)
+    public Cache<String, PassthroughResourcesCache.Entry> passthroughCache(
+            final CacheManager cacheManager,
+            final SecurityProperties securityProperties) {
+
+        return cacheManager.createCache(PassthroughResourcesCache.CACHE,
+                new MutableConfiguration<String, PassthroughResourcesCache.Entry>().
+                        setTypes(String.class, PassthroughResourcesCache.Entry.class).
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(
+                                TimeUnit.SECONDS,
+                                Math.max(1, securityProperties.getPassthrough().getCacheTtlSeconds())))));
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PassthroughResourcesCache passthroughResourcesCache(
+            final SecurityProperties securityProperties,
+            @Qualifier(PassthroughResourcesCache.CACHE)
+            final Cache<String, PassthroughResourcesCache.Entry> passthroughCache) {
+
+        return new PassthroughResourcesCache(securityProperties, passthroughCache);
+    }
+
+    @ConditionalOnMissingBean(name = "passthroughAuthExecutor")
+    @Bean
+    public AsyncTaskExecutor passthroughAuthExecutor(final SecurityProperties securityProperties) {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(securityProperties.getPassthrough().getPoolSize());
+        executor.setThreadNamePrefix("PassthroughAuthExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public AccessDeniedHandler accessDeniedHandler() {
         return new SyncopeAccessDeniedHandler();
@@ -206,6 +267,10 @@ public class WebSecurityContext {
             final AuditManager auditManager,
             final MappingManager mappingManager,
             final DefaultCredentialChecker credentialChecker,
+            final UserAuthoritiesCache userAuthoritiesCache,
+            final PassthroughResourcesCache passthroughResourcesCache,
+            @Qualifier("passthroughAuthExecutor")
+            final AsyncTaskExecutor passthroughAuthExecutor,
             final List<JWTSSOProvider> jwtSSOProviders) {
 
         return new AuthDataAccessor(
@@ -225,6 +290,9 @@ public class WebSecurityContext {
                 auditManager,
                 mappingManager,
                 credentialChecker,
+                userAuthoritiesCache,
+                passthroughResourcesCache,
+                passthroughAuthExecutor,
                 jwtSSOProviders);
     }
 }
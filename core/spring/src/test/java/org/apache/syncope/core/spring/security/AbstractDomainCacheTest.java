@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+
+abstract class AbstractDomainCacheTest {
+
+    protected static final String OTHER_DOMAIN = "Two";
+
+    protected static EntityLifecycleEvent<Entity> event(final Entity entity, final String domain) {
+        return new EntityLifecycleEvent<>(AbstractDomainCacheTest.class, SyncDeltaType.UPDATE, entity, domain);
+    }
+
+    /**
+     * Re-creates the given cache, to drop entries and listeners left over by previous tests.
+     *
+     * @param <V> cached values
+     * @param name cache name
+     * @param type cached values type
+     * @return empty cache
+     */
+    protected static <V> Cache<String, V> cache(final String name, final Class<V> type) {
+        CacheManager cacheManager = Caching.getCachingProvider().getCacheManager();
+        cacheManager.destroyCache(name);
+        return cacheManager.createCache(name,
+                new MutableConfiguration<String, V>().
+                        setTypes(String.class, type).
+                        setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, 60))));
+    }
+
+    protected final AtomicInteger loads = new AtomicInteger();
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import javax.cache.Caching;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
+import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PassthroughResourcesCacheTest extends AbstractDomainCacheTest {
+
+    private PassthroughResourcesCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PassthroughResourcesCache(
+                new SecurityProperties(),
+                cache(PassthroughResourcesCache.CACHE, PassthroughResourcesCache.Entry.class));
+        loads.set(0);
+    }
+
+    private Set<String> get(final String domain, final String policyKey) {
+        return cache.get(domain, policyKey, () -> {
+            loads.incrementAndGet();
+            return new PassthroughResourcesCache.Entry(Set.of("resource-testdb"));
+        });
+    }
+
+    @Test
+    void cached() {
+        assertEquals(Set.of("resource-testdb"), get(SyncopeConstants.MASTER_DOMAIN, "policy1"));
+        assertEquals(Set.of("resource-testdb"), get(SyncopeConstants.MASTER_DOMAIN, "policy1"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictedByAccountPolicy() {
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        get(SyncopeConstants.MASTER_DOMAIN, "policy2");
+
+        cache.entity(event(mock(PasswordPolicy.class), SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        assertEquals(2, loads.get());
+
+        AccountPolicy policy = mock(AccountPolicy.class);
+        when(policy.getKey()).thenReturn("policy1");
+        cache.entity(event(policy, SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        get(SyncopeConstants.MASTER_DOMAIN, "policy2");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictedByResource() {
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        get(SyncopeConstants.MASTER_DOMAIN, "policy2");
+        get(OTHER_DOMAIN, "policy1");
+
+        cache.entity(event(mock(ExternalResource.class), SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        get(SyncopeConstants.MASTER_DOMAIN, "policy2");
+        get(OTHER_DOMAIN, "policy1");
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void evictedWhileLoading() {
+        AccountPolicy other = mock(AccountPolicy.class);
+        when(other.getKey()).thenReturn("policy2");
+
+        cache.get(SyncopeConstants.MASTER_DOMAIN, "policy1", () -> {
+            loads.incrementAndGet();
+            cache.entity(event(other, SyncopeConstants.MASTER_DOMAIN));
+            return new PassthroughResourcesCache.Entry(Set.of("resource-testdb"));
+        });
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        assertEquals(1, loads.get());
+
+        cache.get(SyncopeConstants.MASTER_DOMAIN, "policy2", () -> {
+            loads.incrementAndGet();
+            cache.entity(event(other, SyncopeConstants.MASTER_DOMAIN));
+            return new PassthroughResourcesCache.Entry(Set.of("resource-testdb"));
+        });
+        get(SyncopeConstants.MASTER_DOMAIN, "policy2");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void disabled() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.getPassthrough().setCacheEnabled(false);
+        cache = new PassthroughResourcesCache(
+                securityProperties,
+                Caching.getCachingProvider().getCacheManager().getCache(PassthroughResourcesCache.CACHE));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        get(SyncopeConstants.MASTER_DOMAIN, "policy1");
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import javax.cache.Cache;
+import javax.cache.Caching;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserAuthoritiesCacheTest extends AbstractDomainCacheTest {
+
+    private static UserAuthoritiesCache.Entry entry(final String... dependencies) {
+        return new UserAuthoritiesCache.Entry(
+                Set.of(new SyncopeGrantedAuthority(IdRepoEntitlement.USER_READ, SyncopeConstants.ROOT_REALM)),
+                Set.of(dependencies));
+    }
+
+    private UserAuthoritiesCache cache;
+
+    private Cache<String, UserAuthoritiesCache.Entry> entries;
+
+    @BeforeEach
+    void setUp() {
+        entries = cache(UserAuthoritiesCache.CACHE, UserAuthoritiesCache.Entry.class);
+        cache = new UserAuthoritiesCache(new SecurityProperties(), entries);
+        loads.set(0);
+    }
+
+    private Set<SyncopeGrantedAuthority> get(final String domain, final String userKey, final String... dependencies) {
+        return cache.get(domain, userKey, () -> {
+            loads.incrementAndGet();
+            return entry(dependencies);
+        });
+    }
+
+    @Test
+    void cached() {
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictedByRole() {
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+
+        Role other = mock(Role.class);
+        when(other.getKey()).thenReturn("role2");
+        cache.entity(event(other, SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        assertEquals(1, loads.get());
+
+        Role role = mock(Role.class);
+        when(role.getKey()).thenReturn("role1");
+        cache.entity(event(role, SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictedByManaged() {
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "verdi");
+        get(SyncopeConstants.MASTER_DOMAIN, "bellini", "bellini");
+
+        User verdi = mock(User.class);
+        when(verdi.getKey()).thenReturn("verdi");
+        cache.entity(event(verdi, SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "verdi");
+        get(SyncopeConstants.MASTER_DOMAIN, "bellini", "bellini");
+        assertEquals(3, loads.get());
+
+        // bellini becomes manager of verdi
+        User bellini = mock(User.class);
+        when(bellini.getKey()).thenReturn("bellini");
+        when(verdi.getuManager()).thenReturn(bellini);
+        cache.entity(event(verdi, SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "bellini", "bellini", "verdi");
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void evictedByRealm() {
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini");
+        get(OTHER_DOMAIN, "rossini", "rossini");
+
+        cache.entity(event(mock(Realm.class), SyncopeConstants.MASTER_DOMAIN));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini");
+        get(OTHER_DOMAIN, "rossini", "rossini");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictedWhileLoading() {
+        Role role = mock(Role.class);
+        when(role.getKey()).thenReturn("role1");
+        Role other = mock(Role.class);
+        when(other.getKey()).thenReturn("role2");
+
+        // changes to unrelated entities do not prevent caching
+        cache.get(SyncopeConstants.MASTER_DOMAIN, "rossini", () -> {
+            loads.incrementAndGet();
+            cache.entity(event(other, SyncopeConstants.MASTER_DOMAIN));
+            return entry("rossini", "role1");
+        });
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        assertEquals(1, loads.get());
+
+        // changes to entities the entry depends on do
+        cache.get(SyncopeConstants.MASTER_DOMAIN, "verdi", () -> {
+            loads.incrementAndGet();
+            cache.entity(event(role, SyncopeConstants.MASTER_DOMAIN));
+            return entry("verdi", "role1");
+        });
+        get(SyncopeConstants.MASTER_DOMAIN, "verdi", "verdi", "role1");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void dependentsPrunedOnRemoval() {
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        get(SyncopeConstants.MASTER_DOMAIN, "verdi", "verdi", "role1");
+        assertEquals(Set.of("Master:rossini", "Master:verdi", "Master:role1"), cache.dependents.keySet());
+
+        User rossini = mock(User.class);
+        when(rossini.getKey()).thenReturn("rossini");
+        cache.entity(event(rossini, SyncopeConstants.MASTER_DOMAIN));
+
+        assertEquals(Set.of("Master:verdi", "Master:role1"), cache.dependents.keySet());
+        assertEquals(Set.of("Master:verdi"), cache.dependents.get("Master:role1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void dependentsPrunedOnExpiry() {
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini", "role1");
+        assertEquals(Set.of("Master:rossini", "Master:role1"), cache.dependents.keySet());
+
+        // clear() does not notify listeners: simulate expiry
+        entries.clear();
+        CacheEntryEvent<? extends String, ? extends UserAuthoritiesCache.Entry> expired =
+                mock(CacheEntryEvent.class);
+        doReturn("Master:rossini").when(expired).getKey();
+        doReturn(entry("rossini", "role1")).when(expired).getValue();
+        cache.pruner.onExpired(List.of(expired));
+
+        assertTrue(cache.dependents.isEmpty());
+    }
+
+    @Test
+    void disabled() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.getAuthoritiesCache().setEnabled(false);
+        cache = new UserAuthoritiesCache(
+                securityProperties,
+                Caching.getCachingProvider().getCacheManager().getCache(UserAuthoritiesCache.CACHE));
+
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini");
+        get(SyncopeConstants.MASTER_DOMAIN, "rossini", "rossini");
+        assertEquals(2, loads.get());
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.starter;
 
+import java.time.Duration;
 import java.util.Map;
 import org.apache.cxf.spring.boot.autoconfigure.openapi.OpenApiAutoConfiguration;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
@@ -41,12 +42,14 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.starter.actuate.DefaultSyncopeCoreInfoContributor;
 import org.apache.syncope.core.starter.actuate.DomainsHealthIndicator;
 import org.apache.syncope.core.starter.actuate.EntityCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.ExternalResourcesHealthIndicator;
 import org.apache.syncope.core.starter.actuate.JobEndpoint;
+import org.apache.syncope.core.starter.actuate.NumbersInfoHolder;
 import org.apache.syncope.core.starter.actuate.SyncopeCoreInfoContributor;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -56,6 +59,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
 import org.springframework.boot.http.converter.autoconfigure.HttpMessageConvertersAutoConfiguration;
 import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
@@ -84,6 +88,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
         proxyBeanMethods = false)
 @EnableTransactionManagement
 @EnableCaching
+@EnableConfigurationProperties({ StartupProperties.class, NumbersProperties.class })
 public class SyncopeCoreApplication extends SpringBootServletInitializer {
 
     public static void main(final String[] args) {
@@ -105,8 +110,8 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
 
     @ConditionalOnMissingBean
     @Bean
-    public SyncopeCoreStart keymasterStart(final DomainHolder<?> domainHolder) {
-        return new SyncopeCoreStart(domainHolder);
+    public SyncopeCoreStart keymasterStart(final DomainHolder<?> domainHolder, final StartupProperties props) {
+        return new SyncopeCoreStart(domainHolder, props);
     }
 
     @ConditionalOnMissingBean
@@ -117,9 +122,8 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
 
     @ConditionalOnMissingBean
     @Bean
-    public SyncopeCoreInfoContributor syncopeCoreInfoContributor(
-            final AnyTypeDAO anyTypeDAO,
-            final AnyTypeClassDAO anyTypeClassDAO,
+    public NumbersInfoHolder numbersInfoHolder(
+            final NumbersProperties props,
             final ExternalResourceDAO resourceDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
@@ -128,14 +132,9 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
             final PolicyDAO policyDAO,
             final NotificationDAO notificationDAO,
             final TaskDAO taskDAO,
-            final SecurityQuestionDAO securityQuestionDAO,
-            final PersistenceInfoDAO persistenceInfoDAO,
-            final ConnIdBundleManager bundleManager,
-            final ImplementationLookup implLookup) {
+            final SecurityQuestionDAO securityQuestionDAO) {
 
-        return new DefaultSyncopeCoreInfoContributor(
-                anyTypeDAO,
-                anyTypeClassDAO,
+        return new NumbersInfoHolder(
                 resourceDAO,
                 userDAO,
                 groupDAO,
@@ -145,7 +144,27 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
                 notificationDAO,
                 taskDAO,
                 securityQuestionDAO,
+                Duration.ofSeconds(props.getCheckIntervalSeconds()),
+                Duration.ofSeconds(props.getReconcileIntervalSeconds()));
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public SyncopeCoreInfoContributor syncopeCoreInfoContributor(
+            final AnyTypeDAO anyTypeDAO,
+            final AnyTypeClassDAO anyTypeClassDAO,
+            final ExternalResourceDAO resourceDAO,
+            final PersistenceInfoDAO persistenceInfoDAO,
+            final NumbersInfoHolder numbersInfoHolder,
+            final ConnIdBundleManager bundleManager,
+            final ImplementationLookup implLookup) {
+
+        return new DefaultSyncopeCoreInfoContributor(
+                anyTypeDAO,
+                anyTypeClassDAO,
+                resourceDAO,
                 persistenceInfoDAO,
+                numbersInfoHolder,
                 bundleManager,
                 implLookup);
     }
@@ -181,8 +200,12 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
 
     @ConditionalOnMissingBean
     @Bean
-    public JobEndpoint jobEndpoint(final SyncopeTaskScheduler syncopeTaskScheduler, final JobStatusDAO jobStatusDAO) {
-        return new JobEndpoint(syncopeTaskScheduler, jobStatusDAO);
+    public JobEndpoint jobEndpoint(
+            final SyncopeTaskScheduler syncopeTaskScheduler,
+            final JobStatusDAO jobStatusDAO,
+            final JobLeaseManager jobLeaseManager) {
+
+        return new JobEndpoint(syncopeTaskScheduler, jobStatusDAO, jobLeaseManager);
     }
 
     @Bean
@@ -18,20 +18,34 @@
  */
 package org.apache.syncope.core.starter;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
 import org.apache.syncope.common.keymaster.client.api.startstop.KeymasterStart;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
 import org.apache.syncope.core.provisioning.java.job.JobStatusUpdater;
+import org.apache.syncope.core.starter.actuate.SyncopeCoreInfoContributor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.Ordered;
 
 /**
  * Take care of all inits needed by Syncope Core to run up and safe.
+ *
+ * Loaders are processed sequentially, according to their order; for each loader, the configured domains are
+ * initialized concurrently, up to {@link StartupProperties#getDomainPoolSize()}: as a consequence, a given domain
+ * is always processed by a loader only after all the preceding loaders have completed on the same domain.
  */
 public class SyncopeCoreStart extends KeymasterStart implements Ordered {
 
@@ -39,9 +53,12 @@ public class SyncopeCoreStart extends KeymasterStart implements Ordered {
 
     private final DomainHolder<?> domainHolder;
 
-    public SyncopeCoreStart(final DomainHolder<?> domainHolder) {
+    private final StartupProperties props;
+
+    public SyncopeCoreStart(final DomainHolder<?> domainHolder, final StartupProperties props) {
         super(NetworkService.Type.CORE);
         this.domainHolder = domainHolder;
+        this.props = props;
     }
 
     @Override
@@ -49,30 +66,86 @@ public class SyncopeCoreStart extends KeymasterStart implements Ordered {
         return 0;
     }
 
+    protected SyncopeCoreInfoContributor.LoaderTiming time(
+            final String loaderName,
+            final int order,
+            final String domain,
+            final Runnable init) {
+
+        OffsetDateTime start = OffsetDateTime.now();
+        init.run();
+        return new SyncopeCoreInfoContributor.LoaderTiming(
+                loaderName, order, domain, start, Duration.between(start, OffsetDateTime.now()).toMillis());
+    }
+
+    protected SyncopeCoreInfoContributor.LoaderTiming loadDomain(
+            final SyncopeCoreLoader loader,
+            final String loaderName,
+            final String domain) {
+
+        LOG.debug("[{}] Starting init on domain '{}'", loaderName, domain);
+
+        SyncopeCoreInfoContributor.LoaderTiming timing =
+                time(loaderName, loader.getOrder(), domain, () -> loader.load(domain));
+
+        LOG.debug("[{}] Init completed on domain '{}' in {} ms", loaderName, domain, timing.millis());
+
+        return timing;
+    }
+
+    protected List<SyncopeCoreInfoContributor.LoaderTiming> loadDomains(
+            final SyncopeCoreLoader loader,
+            final String loaderName,
+            final ExecutorService executor) {
+
+        List<CompletableFuture<SyncopeCoreInfoContributor.LoaderTiming>> futures =
+                domainHolder.getDomains().keySet().stream().
+                        map(domain -> CompletableFuture.supplyAsync(
+                        () -> loadDomain(loader, loaderName, domain), executor)).
+                        toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
     @Override
     public void onApplicationEvent(final ContextRefreshedEvent event) {
-        event.getApplicationContext().getBeansOfType(SyncopeCoreLoader.class).values().stream().
-                sorted(Comparator.comparing(SyncopeCoreLoader::getOrder)).
-                forEachOrdered(loader -> {
-                    String loaderName = AopUtils.getTargetClass(loader).getName();
+        ApplicationContext ctx = event.getApplicationContext();
+
+        List<SyncopeCoreInfoContributor.LoaderTiming> timeline = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(props.getDomainPoolSize(), domainHolder.getDomains().size())),
+                Thread.ofPlatform().name("SyncopeCoreStart-", 0).factory())) {
 
-                    LOG.debug("[{}#{}] Starting init", loaderName, loader.getOrder());
+            ctx.getBeansOfType(SyncopeCoreLoader.class).values().stream().
+                    sorted(Comparator.comparing(SyncopeCoreLoader::getOrder)).
+                    forEachOrdered(loader -> {
+                        String loaderName = AopUtils.getTargetClass(loader).getName();
 
-                    loader.load();
+                        LOG.debug("[{}#{}] Starting init", loaderName, loader.getOrder());
 
-                    domainHolder.getDomains().keySet().forEach(domain -> {
-                        LOG.debug("[{}] Starting init on domain '{}'", loaderName, domain);
+                        timeline.add(time(loaderName, loader.getOrder(), null, loader::load));
 
-                        loader.load(domain);
+                        timeline.addAll(loadDomains(loader, loaderName, executor));
 
-                        LOG.debug("[{}] Init completed on domain '{}'", loaderName, domain);
+                        LOG.debug("[{}] Init completed", loaderName);
                     });
+        }
 
-                    LOG.debug("[{}] Init completed", loaderName);
-                });
+        ctx.getBeanProvider(SyncopeCoreInfoContributor.class).
+                ifAvailable(contributor -> contributor.setStartupTimeline(timeline));
 
         super.onApplicationEvent(event);
 
-        event.getApplicationContext().getBean(JobStatusUpdater.class).initComplete();
+        ctx.getBean(JobStatusUpdater.class).initComplete();
     }
 }
@@ -26,10 +26,8 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -40,25 +38,14 @@ import org.apache.syncope.common.lib.info.PlatformInfo;
 import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.common.lib.types.EntitlementsHolder;
 import org.apache.syncope.common.lib.types.ImplementationTypesHolder;
-import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.common.rest.api.RESTHeaders;
-import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
-import org.apache.syncope.core.persistence.api.dao.GroupDAO;
-import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
 import org.apache.syncope.core.persistence.api.dao.PersistenceInfoDAO;
-import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
-import org.apache.syncope.core.persistence.api.dao.RoleDAO;
-import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
-import org.apache.syncope.core.persistence.api.dao.TaskDAO;
-import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
-import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
-import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -80,6 +67,8 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
 
     protected static SystemInfo SYSTEM_INFO;
 
+    protected static List<LoaderTiming> STARTUP_TIMELINE = List.of();
+
     protected static final Pattern THREADPOOLTASKEXECUTOR_PATTERN = Pattern.compile(
             ".*, pool size = ([0-9]+), "
             + "active threads = ([0-9]+), "
@@ -121,24 +110,10 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
 
     protected final ExternalResourceDAO resourceDAO;
 
-    protected final UserDAO userDAO;
-
-    protected final GroupDAO groupDAO;
-
-    protected final AnyObjectDAO anyObjectDAO;
-
-    protected final RoleDAO roleDAO;
-
-    protected final PolicyDAO policyDAO;
-
-    protected final TaskDAO taskDAO;
-
-    protected final SecurityQuestionDAO securityQuestionDAO;
-
-    protected final NotificationDAO notificationDAO;
-
     protected final PersistenceInfoDAO persistenceInfoDAO;
 
+    protected final NumbersInfoHolder numbersInfoHolder;
+
     protected final ConnIdBundleManager bundleManager;
 
     protected final ImplementationLookup implLookup;
@@ -147,30 +122,16 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final ExternalResourceDAO resourceDAO,
-            final UserDAO userDAO,
-            final GroupDAO groupDAO,
-            final AnyObjectDAO anyObjectDAO,
-            final RoleDAO roleDAO,
-            final PolicyDAO policyDAO,
-            final NotificationDAO notificationDAO,
-            final TaskDAO taskDAO,
-            final SecurityQuestionDAO securityQuestionDAO,
             final PersistenceInfoDAO persistenceInfoDAO,
+            final NumbersInfoHolder numbersInfoHolder,
             final ConnIdBundleManager bundleManager,
             final ImplementationLookup implLookup) {
 
         this.anyTypeDAO = anyTypeDAO;
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.resourceDAO = resourceDAO;
-        this.userDAO = userDAO;
-        this.groupDAO = groupDAO;
-        this.anyObjectDAO = anyObjectDAO;
-        this.roleDAO = roleDAO;
-        this.policyDAO = policyDAO;
-        this.notificationDAO = notificationDAO;
-        this.taskDAO = taskDAO;
-        this.securityQuestionDAO = securityQuestionDAO;
         this.persistenceInfoDAO = persistenceInfoDAO;
+        this.numbersInfoHolder = numbersInfoHolder;
         this.bundleManager = bundleManager;
         this.implLookup = implLookup;
     }
@@ -225,66 +186,7 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
     }
 
     protected NumbersInfo buildNumbers(final String domain) {
-        return AuthContextUtils.callAsAdmin(domain, () -> {
-            String anyType1 = null;
-            long totalAny1 = 0;
-            Map<String, Long> any1ByRealm = Map.of();
-            String anyType2 = null;
-            long totalAny2 = 0;
-            Map<String, Long> any2ByRealm = Map.of();
-
-            Map<String, Long> anyObjectNumbers = anyObjectDAO.countByType();
-            int i = 0;
-            for (Iterator<Map.Entry<String, Long>> itor = anyObjectNumbers.entrySet().iterator();
-                    i < 2 && itor.hasNext(); i++) {
-
-                Map.Entry<String, Long> entry = itor.next();
-                if (i == 0) {
-                    anyType1 = entry.getKey();
-                    totalAny1 = entry.getValue();
-                    any1ByRealm = anyObjectDAO.countByRealm(entry.getKey());
-                } else {
-                    anyType2 = entry.getKey();
-                    totalAny2 = entry.getValue();
-                    any2ByRealm = anyObjectDAO.countByRealm(entry.getKey());
-                }
-            }
-
-            NumbersInfo numbersInfo = new NumbersInfo(
-                    userDAO.count(),
-                    userDAO.countByRealm(),
-                    userDAO.countByStatus(),
-                    groupDAO.count(),
-                    groupDAO.countByRealm(),
-                    anyType1,
-                    totalAny1,
-                    any1ByRealm,
-                    anyType2,
-                    totalAny2,
-                    any2ByRealm,
-                    resourceDAO.count(),
-                    roleDAO.count(),
-                    new HashMap<>());
-
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.RESOURCE.name(), numbersInfo.totalResources() > 0);
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.ACCOUNT_POLICY.name(), !policyDAO.findAll(AccountPolicy.class).isEmpty());
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.PASSWORD_POLICY.name(), !policyDAO.findAll(PasswordPolicy.class).isEmpty());
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.NOTIFICATION.name(), !notificationDAO.findAll().isEmpty());
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.PULL_TASK.name(), !taskDAO.findAll(TaskType.PULL).isEmpty());
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.ANY_TYPE.name(), !anyObjectNumbers.isEmpty());
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.SECURITY_QUESTION.name(), !securityQuestionDAO.findAll().isEmpty());
-            numbersInfo.confCompleteness().put(
-                    NumbersInfo.ConfItem.ROLE.name(), numbersInfo.totalRoles() > 0);
-
-            return numbersInfo;
-        });
+        return numbersInfoHolder.get(domain);
     }
 
     protected void buildSystem() {
@@ -308,6 +210,13 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
 
         buildSystem();
         builder.withDetail("system", SYSTEM_INFO);
+
+        builder.withDetail("startup", STARTUP_TIMELINE);
+    }
+
+    @Override
+    public void setStartupTimeline(final List<LoaderTiming> timeline) {
+        STARTUP_TIMELINE = List.copyOf(timeline);
     }
 
     @Override
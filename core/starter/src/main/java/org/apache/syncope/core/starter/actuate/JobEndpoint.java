@@ -27,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.syncope.common.lib.types.JobAction;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
+import org.apache.syncope.core.provisioning.api.job.JobLeaseManager;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
@@ -42,9 +43,16 @@ public class JobEndpoint {
 
     protected final JobStatusDAO jobStatusDAO;
 
-    public JobEndpoint(final SyncopeTaskScheduler syncopeTaskScheduler, final JobStatusDAO jobStatusDAO) {
+    protected final JobLeaseManager jobLeaseManager;
+
+    public JobEndpoint(
+            final SyncopeTaskScheduler syncopeTaskScheduler,
+            final JobStatusDAO jobStatusDAO,
+            final JobLeaseManager jobLeaseManager) {
+
         this.syncopeTaskScheduler = syncopeTaskScheduler;
         this.jobStatusDAO = jobStatusDAO;
+        this.jobLeaseManager = jobLeaseManager;
     }
 
     @ReadOperation
@@ -117,8 +125,15 @@ public class JobEndpoint {
         }
     }
 
+    /**
+     * Removes any lock left on the given job; leases still held are not affected, as they either get released by
+     * their owners or expire.
+     *
+     * @param domain domain
+     * @param jobName job name
+     */
     @DeleteOperation
     public void forceUnlock(final @Selector String domain, final @Selector String jobName) {
-        AuthContextUtils.runAsAdmin(domain, () -> jobStatusDAO.unlock(jobName));
+        jobLeaseManager.clear(domain, jobName);
     }
 }
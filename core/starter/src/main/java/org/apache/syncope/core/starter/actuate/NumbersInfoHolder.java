@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.syncope.common.lib.info.NumbersInfo;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
+import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
+import org.apache.syncope.core.persistence.api.entity.policy.Policy;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the {@link NumbersInfo} of each domain in memory, so that they can be read without querying the database.
+ * Counters are adjusted as users, groups and any objects are created or deleted; since updates do not carry the
+ * previous realm or status, they mark the domain for reconciliation instead, as do changes to external resources,
+ * roles, policies, notifications and pull tasks; reconciliation happens in background together with a periodic full
+ * reconciliation, to also catch any change not notified via events.
+ * Events published before the current counters were installed might or might not be reflected by the counts they
+ * were built from, hence they are never applied, but mark the domain for reconciliation.
+ */
+public class NumbersInfoHolder implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(NumbersInfoHolder.class);
+
+    protected static void adjust(final Map<String, Long> counters, final String key, final long delta) {
+        if (key != null) {
+            counters.compute(key, (k, v) -> {
+                long value = Optional.ofNullable(v).orElse(0L) + delta;
+                return value > 0 ? value : null;
+            });
+        }
+    }
+
+    protected static class Counters {
+
+        protected final AtomicLong totalUsers = new AtomicLong();
+
+        protected final Map<String, Long> usersByRealm = new ConcurrentHashMap<>();
+
+        protected final Map<String, Long> usersByStatus = new ConcurrentHashMap<>();
+
+        protected final AtomicLong totalGroups = new AtomicLong();
+
+        protected final Map<String, Long> groupsByRealm = new ConcurrentHashMap<>();
+
+        protected final Map<String, Long> anyObjectsByType = new ConcurrentHashMap<>();
+
+        protected final Map<String, Map<String, Long>> anyObjectsByTypeAndRealm = new ConcurrentHashMap<>();
+
+        protected final long totalResources;
+
+        protected final long totalRoles;
+
+        protected final Map<String, Boolean> confCompleteness = new HashMap<>();
+
+        protected final long reconciledAt = System.currentTimeMillis();
+
+        protected volatile long installedAt = Long.MAX_VALUE;
+
+        protected volatile boolean dirty = false;
+
+        protected Counters(final long totalResources, final long totalRoles) {
+            this.totalResources = totalResources;
+            this.totalRoles = totalRoles;
+        }
+
+        protected void user(final User user, final long delta) {
+            totalUsers.addAndGet(delta);
+            adjust(usersByRealm, user.getRealm().getFullPath(), delta);
+            adjust(usersByStatus, user.getStatus(), delta);
+        }
+
+        protected void group(final Group group, final long delta) {
+            totalGroups.addAndGet(delta);
+            adjust(groupsByRealm, group.getRealm().getFullPath(), delta);
+        }
+
+        protected void anyObject(final AnyObject anyObject, final long delta) {
+            adjust(anyObjectsByType, anyObject.getType().getKey(), delta);
+            adjust(anyObjectsByTypeAndRealm.computeIfAbsent(
+                    anyObject.getType().getKey(), k -> new ConcurrentHashMap<>()),
+                    anyObject.getRealm().getFullPath(),
+                    delta);
+        }
+
+        protected NumbersInfo toNumbersInfo() {
+            String anyType1 = null;
+            long totalAny1 = 0;
+            Map<String, Long> any1ByRealm = Map.of();
+            String anyType2 = null;
+            long totalAny2 = 0;
+            Map<String, Long> any2ByRealm = Map.of();
+
+            int i = 0;
+            for (Iterator<Map.Entry<String, Long>> itor = anyObjectsByType.entrySet().iterator();
+                    i < 2 && itor.hasNext(); i++) {
+
+                Map.Entry<String, Long> entry = itor.next();
+                Map<String, Long> byRealm = new HashMap<>(
+                        anyObjectsByTypeAndRealm.getOrDefault(entry.getKey(), Map.of()));
+                if (i == 0) {
+                    anyType1 = entry.getKey();
+                    totalAny1 = entry.getValue();
+                    any1ByRealm = byRealm;
+                } else {
+                    anyType2 = entry.getKey();
+                    totalAny2 = entry.getValue();
+                    any2ByRealm = byRealm;
+                }
+            }
+
+            NumbersInfo numbersInfo = new NumbersInfo(
+                    totalUsers.get(),
+                    new HashMap<>(usersByRealm),
+                    new HashMap<>(usersByStatus),
+                    totalGroups.get(),
+                    new HashMap<>(groupsByRealm),
+                    anyType1,
+                    totalAny1,
+                    any1ByRealm,
+                    anyType2,
+                    totalAny2,
+                    any2ByRealm,
+                    totalResources,
+                    totalRoles,
+                    new HashMap<>(confCompleteness));
+            numbersInfo.confCompleteness().put(
+                    NumbersInfo.ConfItem.ANY_TYPE.name(), !anyObjectsByType.isEmpty());
+            return numbersInfo;
+        }
+    }
+
+    protected final ExternalResourceDAO resourceDAO;
+
+    protected final UserDAO userDAO;
+
+    protected final GroupDAO groupDAO;
+
+    protected final AnyObjectDAO anyObjectDAO;
+
+    protected final RoleDAO roleDAO;
+
+    protected final PolicyDAO policyDAO;
+
+    protected final NotificationDAO notificationDAO;
+
+    protected final TaskDAO taskDAO;
+
+    protected final SecurityQuestionDAO securityQuestionDAO;
+
+    protected final Duration checkInterval;
+
+    protected final Duration reconcileInterval;
+
+    protected final Map<String, Counters> domains = new ConcurrentHashMap<>();
+
+    protected ScheduledExecutorService reconciler;
+
+    /**
+     * @param resourceDAO external resource DAO
+     * @param userDAO user DAO
+     * @param groupDAO group DAO
+     * @param anyObjectDAO any object DAO
+     * @param roleDAO role DAO
+     * @param policyDAO policy DAO
+     * @param notificationDAO notification DAO
+     * @param taskDAO task DAO
+     * @param securityQuestionDAO security question DAO
+     * @param checkInterval how often domains marked for reconciliation are checked; if not positive, no background
+     * reconciliation takes place and {@link #reconcile()} needs to be invoked explicitly
+     * @param reconcileInterval maximum age of the numbers held for each domain
+     */
+    public NumbersInfoHolder(
+            final ExternalResourceDAO resourceDAO,
+            final UserDAO userDAO,
+            final GroupDAO groupDAO,
+            final AnyObjectDAO anyObjectDAO,
+            final RoleDAO roleDAO,
+            final PolicyDAO policyDAO,
+            final NotificationDAO notificationDAO,
+            final TaskDAO taskDAO,
+            final SecurityQuestionDAO securityQuestionDAO,
+            final Duration checkInterval,
+            final Duration reconcileInterval) {
+
+        this.resourceDAO = resourceDAO;
+        this.userDAO = userDAO;
+        this.groupDAO = groupDAO;
+        this.anyObjectDAO = anyObjectDAO;
+        this.roleDAO = roleDAO;
+        this.policyDAO = policyDAO;
+        this.notificationDAO = notificationDAO;
+        this.taskDAO = taskDAO;
+        this.securityQuestionDAO = securityQuestionDAO;
+        this.checkInterval = checkInterval;
+        this.reconcileInterval = reconcileInterval;
+
+        if (checkInterval.isPositive()) {
+            reconciler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("NumbersInfoHolder-", 0).factory());
+            reconciler.scheduleWithFixedDelay(
+                    this::reconcile, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    protected Counters count(final String domain) {
+        return AuthContextUtils.callAsAdmin(domain, () -> {
+            Counters counters = new Counters(resourceDAO.count(), roleDAO.count());
+
+            counters.totalUsers.set(userDAO.count());
+            counters.usersByRealm.putAll(userDAO.countByRealm());
+            counters.usersByStatus.putAll(userDAO.countByStatus());
+
+            counters.totalGroups.set(groupDAO.count());
+            counters.groupsByRealm.putAll(groupDAO.countByRealm());
+
+            anyObjectDAO.countByType().forEach((anyType, count) -> {
+                counters.anyObjectsByType.put(anyType, count);
+                counters.anyObjectsByTypeAndRealm.put(
+                        anyType, new ConcurrentHashMap<>(anyObjectDAO.countByRealm(anyType)));
+            });
+
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.RESOURCE.name(), counters.totalResources > 0);
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.ACCOUNT_POLICY.name(), policyDAO.count(AccountPolicy.class) > 0);
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.PASSWORD_POLICY.name(), policyDAO.count(PasswordPolicy.class) > 0);
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.NOTIFICATION.name(), notificationDAO.count() > 0);
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.PULL_TASK.name(), taskDAO.count(TaskType.PULL, null, null, null, null) > 0);
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.SECURITY_QUESTION.name(), securityQuestionDAO.count() > 0);
+            counters.confCompleteness.put(
+                    NumbersInfo.ConfItem.ROLE.name(), counters.totalRoles > 0);
+
+            return counters;
+        });
+    }
+
+    /**
+     * Returns the numbers for the given domain, counting them from the database only on first access.
+     *
+     * @param domain domain
+     * @return numbers for the given domain
+     */
+    public NumbersInfo get(final String domain) {
+        return domains.computeIfAbsent(domain, d -> install(count(d))).toNumbersInfo();
+    }
+
+    protected Counters install(final Counters counters) {
+        counters.installedAt = System.currentTimeMillis();
+        return counters;
+    }
+
+    protected boolean affectsConfCompleteness(final Entity entity) {
+        return entity instanceof ExternalResource
+                || entity instanceof Role
+                || entity instanceof Policy
+                || entity instanceof Notification
+                || entity instanceof PullTask;
+    }
+
+    @TransactionalEventListener
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        Counters counters = domains.get(event.getDomain());
+        if (counters == null) {
+            return;
+        }
+
+        if (affectsConfCompleteness(event.getEntity())) {
+            counters.dirty = true;
+            return;
+        }
+
+        long delta = switch (event.getType()) {
+            case CREATE ->
+                1;
+            case DELETE ->
+                -1;
+            default ->
+                0;
+        };
+        if (delta == 0) {
+            if (event.getEntity() instanceof User
+                    || event.getEntity() instanceof Group
+                    || event.getEntity() instanceof AnyObject) {
+
+                counters.dirty = true;
+            }
+            return;
+        }
+
+        if (event.getTimestamp() <= counters.installedAt) {
+            LOG.debug("{} {} might be already counted for domain {}, marking for reconciliation",
+                    event.getType(), event.getEntity(), event.getDomain());
+            counters.dirty = true;
+            return;
+        }
+
+        try {
+            switch (event.getEntity()) {
+                case User user ->
+                    counters.user(user, delta);
+                case Group group ->
+                    counters.group(group, delta);
+                case AnyObject anyObject ->
+                    counters.anyObject(anyObject, delta);
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            LOG.debug("Could not apply {} {} to numbers for domain {}, marking for reconciliation",
+                    event.getType(), event.getEntity(), event.getDomain(), e);
+            counters.dirty = true;
+        }
+    }
+
+    /**
+     * Counts again from the database the numbers of each domain either marked for reconciliation or older than the
+     * configured reconcile interval.
+     */
+    public void reconcile() {
+        long now = System.currentTimeMillis();
+        domains.forEach((domain, counters) -> {
+            if (counters.dirty || now - counters.reconciledAt >= reconcileInterval.toMillis()) {
+                LOG.debug("Reconciling numbers for domain {}", domain);
+
+                try {
+                    domains.put(domain, install(count(domain)));
+                } catch (Exception e) {
+                    LOG.error("While reconciling numbers for domain {}", domain, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        Optional.ofNullable(reconciler).ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+}
@@ -18,11 +18,30 @@
  */
 package org.apache.syncope.core.starter.actuate;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import org.apache.syncope.common.lib.info.SystemInfo;
 import org.springframework.context.PayloadApplicationEvent;
 
 @FunctionalInterface
 public interface SyncopeCoreInfoContributor {
 
+    /**
+     * Time spent by a given {@link org.apache.syncope.core.persistence.api.SyncopeCoreLoader} during startup.
+     *
+     * @param loader loader class name
+     * @param order loader order
+     * @param domain domain being initialized, or {@code null} for generic init
+     * @param start when the init started
+     * @param millis how long the init took, in milliseconds
+     */
+    record LoaderTiming(String loader, int order, String domain, OffsetDateTime start, long millis) {
+
+    }
+
+    default void setStartupTimeline(List<LoaderTiming> timeline) {
+        // nothing to do
+    }
+
     void addLoadInstant(PayloadApplicationEvent<SystemInfo.LoadInstant> event);
 }
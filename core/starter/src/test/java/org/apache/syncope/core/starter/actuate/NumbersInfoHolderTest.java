@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NumbersInfoHolderTest {
+
+    private static final String DOMAIN = "Master";
+
+    private final AtomicLong users = new AtomicLong();
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private NumbersInfoHolder holder;
+
+    private static User user() {
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn("/");
+
+        User user = mock(User.class);
+        when(user.getRealm()).thenReturn(realm);
+        when(user.getStatus()).thenReturn("active");
+        return user;
+    }
+
+    private static EntityLifecycleEvent<Entity> event(final SyncDeltaType type, final Entity entity) {
+        return new EntityLifecycleEvent<>(NumbersInfoHolderTest.class, type, entity, DOMAIN);
+    }
+
+    private void awaitNextMillis() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        while (System.currentTimeMillis() <= now) {
+            Thread.sleep(1);
+        }
+    }
+
+    @BeforeEach
+    public void init() {
+        users.set(0);
+        counts.set(0);
+
+        holder = new NumbersInfoHolder(
+                null, null, null, null, null, null, null, null, null, Duration.ZERO, Duration.ofHours(1)) {
+
+            @Override
+            protected Counters count(final String domain) {
+                counts.incrementAndGet();
+
+                Counters counters = new Counters(0, 0);
+                counters.totalUsers.set(users.get());
+                return counters;
+            }
+        };
+    }
+
+    @Test
+    public void createAndDelete() throws InterruptedException {
+        users.set(2);
+        assertEquals(2, holder.get(DOMAIN).totalUsers());
+        awaitNextMillis();
+
+        holder.entity(event(SyncDeltaType.CREATE, user()));
+        assertEquals(3, holder.get(DOMAIN).totalUsers());
+
+        holder.entity(event(SyncDeltaType.DELETE, user()));
+        holder.entity(event(SyncDeltaType.DELETE, user()));
+        assertEquals(1, holder.get(DOMAIN).totalUsers());
+
+        assertFalse(holder.domains.get(DOMAIN).dirty);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    public void confCompleteness() throws InterruptedException {
+        holder.get(DOMAIN);
+        awaitNextMillis();
+
+        for (Entity entity : new Entity[] {
+            mock(ExternalResource.class), mock(Role.class), mock(AccountPolicy.class),
+            mock(Notification.class), mock(PullTask.class) }) {
+
+            holder.entity(event(SyncDeltaType.CREATE, entity));
+            assertTrue(holder.domains.get(DOMAIN).dirty);
+
+            int before = counts.get();
+            holder.reconcile();
+            assertEquals(before + 1, counts.get());
+            assertFalse(holder.domains.get(DOMAIN).dirty);
+        }
+    }
+
+    @Test
+    public void eventsDuringRecount() throws InterruptedException {
+        users.set(2);
+        holder.get(DOMAIN);
+
+        // published before the counters were installed: the count might already include it
+        EntityLifecycleEvent<Entity> early = event(SyncDeltaType.CREATE, user());
+        awaitNextMillis();
+
+        users.set(3);
+        holder.domains.get(DOMAIN).dirty = true;
+        holder.reconcile();
+        assertEquals(3, holder.get(DOMAIN).totalUsers());
+
+        holder.entity(early);
+        assertEquals(3, holder.get(DOMAIN).totalUsers());
+        assertTrue(holder.domains.get(DOMAIN).dirty);
+
+        holder.reconcile();
+        assertEquals(3, holder.get(DOMAIN).totalUsers());
+        assertFalse(holder.domains.get(DOMAIN).dirty);
+    }
+}
@@ -33,6 +33,10 @@ public class ElasticsearchProperties {
 
     private String numberOfReplicas = "1";
 
+    private int reindexParallelism = 4;
+
+    private boolean projectionFromIndex = false;
+
     public List<String> getHosts() {
         return hosts;
     }
@@ -64,4 +68,20 @@ public class ElasticsearchProperties {
     public void setNumberOfReplicas(final String numberOfReplicas) {
         this.numberOfReplicas = numberOfReplicas;
     }
+
+    public int getReindexParallelism() {
+        return reindexParallelism;
+    }
+
+    public void setReindexParallelism(final int reindexParallelism) {
+        this.reindexParallelism = reindexParallelism;
+    }
+
+    public boolean isProjectionFromIndex() {
+        return projectionFromIndex;
+    }
+
+    public void setProjectionFromIndex(final boolean projectionFromIndex) {
+        this.projectionFromIndex = projectionFromIndex;
+    }
 }
@@ -25,7 +25,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -44,7 +43,6 @@ import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
-import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -140,12 +138,7 @@ public class ElasticsearchUtils {
             case Group group -> {
                 builder.put("name", group.getName());
 
-                Set<String> members = new HashSet<>();
-                members.addAll(groupDAO.findUMemberships(group, Pageable.unpaged()).stream().
-                        map(membership -> membership.getLeftEnd().getKey()).toList());
-                members.addAll(groupDAO.findAMemberships(group).stream().
-                        map(membership -> membership.getLeftEnd().getKey()).toList());
-                builder.put("members", members);
+                // members are not denormalized here: see memberships in user and any object documents
 
                 relationships(group.getRelationships(), builder);
 
@@ -21,7 +21,6 @@ package org.apache.syncope.core.persistence.elasticsearch.dao;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.FieldSort;
 import co.elastic.clients.elasticsearch._types.FieldValue;
-import co.elastic.clients.elasticsearch._types.SearchType;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
@@ -30,13 +29,22 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch._types.query_dsl.RangeQuery;
 import co.elastic.clients.elasticsearch.core.CountRequest;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.SourceConfig;
 import co.elastic.clients.json.JsonData;
 import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -53,10 +61,12 @@ import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.AuxClassCond;
 import org.apache.syncope.core.persistence.api.dao.search.MemberCond;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.ProjectedAny;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
@@ -84,10 +94,21 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
 
     protected static final Set<String> ID_PROPS = Set.of("key", "id", "_id");
 
+    /**
+     * Fields which are stored as such in the indexed documents, hence can be projected without reading from the
+     * internal storage.
+     */
+    protected static final Set<String> INDEXED_FIELDS = Set.of(
+            "realm", "creationDate", "creationContext", "creator", "lastChangeDate", "lastModifier",
+            "lastChangeContext", "status", "uManager", "gManager", "name", "username", "changePwdDate",
+            "failedLogins", "lastLoginDate", "suspended", "mustChangePassword");
+
     protected final ElasticsearchClient client;
 
     protected final int indexMaxResultWindow;
 
+    protected final boolean projectionFromIndex;
+
     public ElasticsearchAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final UserDAO userDAO,
@@ -98,7 +119,8 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
             final ElasticsearchClient client,
-            final int indexMaxResultWindow) {
+            final int indexMaxResultWindow,
+            final boolean projectionFromIndex) {
 
         super(
                 realmSearchDAO,
@@ -112,6 +134,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
 
         this.client = client;
         this.indexMaxResultWindow = indexMaxResultWindow;
+        this.projectionFromIndex = projectionFromIndex;
     }
 
     protected AdminRealmsFilter<Optional<Query>> getAdminRealmsFilter(
@@ -234,22 +257,19 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             final Pageable pageable,
             final AnyTypeKind kind) {
 
-        SearchRequest request = new SearchRequest.Builder().
-                index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
-                searchType(SearchType.QueryThenFetch).
-                query(getQuery(base, recursive, adminRealms, cond, kind)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
-                size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
-                sort(sortBuilders(kind, pageable.getSort().get())).
-                fields(List.of()).source(new SourceConfig.Builder().fetch(false).build()).
-                build();
-        LOG.debug("Search request: {}", request);
-
         List<Hit<Void>> esResult = null;
         try {
-            esResult = client.search(request, Void.class).hits().hits();
+            esResult = ElasticsearchDeepPaging.search(
+                    client,
+                    ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind),
+                    getQuery(base, recursive, adminRealms, cond, kind),
+                    sortBuilders(kind, pageable.getSort().get()),
+                    new SourceConfig.Builder().fetch(false).build(),
+                    pageable,
+                    indexMaxResultWindow,
+                    Void.class);
         } catch (Exception e) {
-            LOG.error("While searching in Elasticsearch with request {}", request, e);
+            LOG.error("While searching in Elasticsearch", e);
         }
 
         return CollectionUtils.isEmpty(esResult)
@@ -257,6 +277,128 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 : buildResult(esResult.stream().map(Hit::id).collect(Collectors.toList()), kind);
     }
 
+    /**
+     * Tells whether the given projection can be built straight from the indexed documents: this requires
+     * {@code projectionFromIndex} to be enabled, all requested fields to be indexed as such and all requested plain
+     * schemas to be of String or Enum type, as other types are stored in the index without their conversion pattern.
+     * Bear in mind that values of membership plain attributes are flattened into the same document field.
+     *
+     * @param projection fields and plain attributes to return
+     * @return whether the given projection can be built straight from the indexed documents
+     */
+    protected boolean isProjectableFromIndex(final AnyProjection projection) {
+        return projectionFromIndex
+                && INDEXED_FIELDS.containsAll(projection.fields())
+                && projection.plainSchemas().stream().allMatch(schema -> plainSchemaDAO.findById(schema).
+                filter(s -> s.getType() == AttrSchemaType.String || s.getType() == AttrSchemaType.Enum).
+                isPresent());
+    }
+
+    protected static Object projectionValue(final Object value, final Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        if (OffsetDateTime.class.equals(type)) {
+            return OffsetDateTime.parse(value.toString());
+        }
+        if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return value instanceof Boolean bool ? bool : Boolean.valueOf(value.toString());
+        }
+        if (Integer.class.equals(type) || int.class.equals(type)) {
+            return value instanceof Number number ? number.intValue() : Integer.valueOf(value.toString());
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected Map<String, String> realmFullPaths(final Set<String> realmKeys) {
+        if (realmKeys.isEmpty()) {
+            return Map.of();
+        }
+
+        MgetRequest request = new MgetRequest.Builder().
+                index(ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain())).
+                ids(new ArrayList<>(realmKeys)).
+                sourceIncludes(List.of("fullPath")).
+                build();
+
+        Map<String, String> fullPaths = new HashMap<>();
+        try {
+            client.mget(request, Map.class).docs().stream().
+                    filter(doc -> doc.isResult() && doc.result().found() && doc.result().source() != null).
+                    forEach(doc -> fullPaths.put(
+                    doc.result().id(), String.valueOf(doc.result().source().get("fullPath"))));
+        } catch (Exception e) {
+            LOG.error("While reading Realm full paths from Elasticsearch", e);
+        }
+        return fullPaths;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    protected List<ProjectedAny> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final AnyProjection projection) {
+
+        if (!isProjectableFromIndex(projection)) {
+            return super.doSearch(base, recursive, adminRealms, cond, pageable, kind, projection);
+        }
+
+        List<String> includes = Stream.concat(projection.fields().stream(), projection.plainSchemas().stream()).
+                toList();
+
+        List<Hit<Map>> esResult = null;
+        try {
+            esResult = ElasticsearchDeepPaging.search(
+                    client,
+                    ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind),
+                    getQuery(base, recursive, adminRealms, cond, kind),
+                    sortBuilders(kind, pageable.getSort().get()),
+                    includes.isEmpty()
+                    ? new SourceConfig.Builder().fetch(false).build()
+                    : new SourceConfig.Builder().filter(f -> f.includes(includes)).build(),
+                    pageable,
+                    indexMaxResultWindow,
+                    Map.class);
+        } catch (Exception e) {
+            LOG.error("While searching in Elasticsearch", e);
+        }
+        if (CollectionUtils.isEmpty(esResult)) {
+            return List.of();
+        }
+
+        Map<String, String> realmFullPaths = projection.fields().contains(JAXRSService.PARAM_REALM)
+                ? realmFullPaths(esResult.stream().
+                        map(hit -> Optional.ofNullable(hit.source()).map(source -> source.get("realm")).orElse(null)).
+                        filter(Objects::nonNull).map(Object::toString).collect(Collectors.toSet()))
+                : Map.of();
+
+        return esResult.stream().map(hit -> {
+            Map<String, Object> source = Optional.ofNullable(hit.source()).orElseGet(Map::of);
+
+            Map<String, Object> fields = new LinkedHashMap<>();
+            projection.fields().forEach(fieldName -> {
+                Object value = source.get(fieldName);
+                fields.put(fieldName, JAXRSService.PARAM_REALM.equals(fieldName)
+                        ? realmFullPaths.get(String.valueOf(value))
+                        : projectionValue(value, checkProjected(kind, fieldName).getType()));
+            });
+
+            Map<String, List<String>> plainAttrs = new LinkedHashMap<>();
+            projection.plainSchemas().forEach(schema -> Optional.ofNullable(source.get(schema)).
+                    ifPresent(value -> plainAttrs.put(schema, value instanceof Collection<?> values
+                    ? values.stream().map(String::valueOf).toList()
+                    : List.of(String.valueOf(value)))));
+
+            return new ProjectedAny(hit.id(), fields, plainAttrs);
+        }).toList();
+    }
+
     protected Query getQuery(final SearchCond cond, final AnyTypeKind kind) {
         Query query = null;
 
@@ -419,15 +561,41 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 build();
     }
 
+    /**
+     * Group documents do not list their members, as that would make their size grow with the number of members: the
+     * memberships of the given members are read instead from user and any object documents.
+     *
+     * @param cond member condition
+     * @return query matching the groups of the given members
+     */
     protected Query getQuery(final MemberCond cond) {
-        List<Query> queries = check(cond).stream().
-                map(key -> new Query.Builder().term(QueryBuilders.term().
-                field("members").value(key).caseInsensitive(false).build()).
-                build()).toList();
+        Set<String> groupKeys = new HashSet<>();
+        check(cond).forEach(member -> groupKeys.addAll(memberships(member)));
 
-        return queries.size() == 1
-                ? queries.getFirst()
-                : new Query.Builder().disMax(QueryBuilders.disMax().queries(queries).build()).build();
+        return new Query.Builder().ids(QueryBuilders.ids().values(new ArrayList<>(groupKeys)).build()).build();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected Collection<String> memberships(final String member) {
+        for (AnyTypeKind kind : List.of(AnyTypeKind.USER, AnyTypeKind.ANY_OBJECT)) {
+            GetRequest request = new GetRequest.Builder().
+                    index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
+                    id(member).
+                    sourceIncludes(List.of("memberships")).
+                    build();
+            try {
+                GetResponse<Map> response = client.get(request, Map.class);
+                if (response.found() && response.source() != null) {
+                    return response.source().get("memberships") instanceof Collection<?> memberships
+                            ? memberships.stream().map(Object::toString).toList()
+                            : List.of();
+                }
+            } catch (Exception e) {
+                LOG.error("While reading memberships of {} from Elasticsearch", member, e);
+            }
+        }
+
+        return List.of();
     }
 
     protected Query getQuery(final AuxClassCond cond) {
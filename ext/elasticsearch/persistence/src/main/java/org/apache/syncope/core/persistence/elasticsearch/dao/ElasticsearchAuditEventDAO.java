@@ -20,7 +20,6 @@ package org.apache.syncope.core.persistence.elasticsearch.dao;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.FieldSort;
-import co.elastic.clients.elasticsearch._types.SearchType;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
@@ -28,8 +27,8 @@ import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch._types.query_dsl.RangeQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import co.elastic.clients.elasticsearch.core.CountRequest;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
 import co.elastic.clients.json.JsonData;
 import java.io.IOException;
 import java.time.OffsetDateTime;
@@ -199,21 +198,19 @@ public class ElasticsearchAuditEventDAO extends AbstractAuditEventDAO implements
             final OffsetDateTime after,
             final Pageable pageable) {
 
-        SearchRequest request = new SearchRequest.Builder().
-                index(ElasticsearchUtils.getAuditIndex(AuthContextUtils.getDomain())).
-                searchType(SearchType.QueryThenFetch).
-                query(getQuery(entityKey, username, who, type, category, subcategory, op, outcome, before, after)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
-                size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
-                sort(sortBuilders(pageable.getSort().get())).
-                build();
-        LOG.debug("Search request: {}", request);
-
         List<Hit<AuditEventTO>> esResult = null;
         try {
-            esResult = client.search(request, AuditEventTO.class).hits().hits();
+            esResult = ElasticsearchDeepPaging.search(
+                    client,
+                    ElasticsearchUtils.getAuditIndex(AuthContextUtils.getDomain()),
+                    getQuery(entityKey, username, who, type, category, subcategory, op, outcome, before, after),
+                    sortBuilders(pageable.getSort().get()),
+                    new SourceConfig.Builder().fetch(true).build(),
+                    pageable,
+                    indexMaxResultWindow,
+                    AuditEventTO.class);
         } catch (Exception e) {
-            LOG.error("While searching in OpenSearch with request {}", request, e);
+            LOG.error("While searching in Elasticsearch", e);
         }
 
         return CollectionUtils.isEmpty(esResult)
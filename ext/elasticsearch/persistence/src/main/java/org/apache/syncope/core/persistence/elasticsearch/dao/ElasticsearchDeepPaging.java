@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.elasticsearch.dao;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SearchType;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Runs searches honoring the given {@link Pageable}: pages falling within {@code index.max_result_window} are
+ * fetched via plain {@code from} / {@code size}, while deeper pages are walked via {@code search_after} on a point
+ * in time, so that results are consistent and not capped by the result window.
+ * Unpaged requests are first attempted as a plain search of the whole result window, and only walked on a point in
+ * time when such window gets full.
+ */
+public final class ElasticsearchDeepPaging {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchDeepPaging.class);
+
+    private static final Time KEEP_ALIVE = Time.of(t -> t.time("1m"));
+
+    private static final SortOptions TIEBREAKER = SortOptions.of(s -> s.field(f -> f.
+            field("_shard_doc").order(SortOrder.Asc)));
+
+    public static boolean isDeep(final Pageable pageable, final int indexMaxResultWindow) {
+        return pageable.isPaged()
+                && (long) pageable.getPageSize() * (pageable.getPageNumber() + 1) > indexMaxResultWindow;
+    }
+
+    private static <T> List<Hit<T>> searchWindow(
+            final ElasticsearchClient client,
+            final String index,
+            final Query query,
+            final List<SortOptions> sort,
+            final SourceConfig source,
+            final int from,
+            final int size,
+            final Class<T> clazz) throws IOException {
+
+        SearchRequest request = new SearchRequest.Builder().
+                index(index).
+                searchType(SearchType.QueryThenFetch).
+                query(query).
+                from(from).
+                size(size).
+                sort(sort).
+                fields(List.of()).source(source).
+                build();
+        LOG.debug("Search request: {}", request);
+
+        return client.search(request, clazz).hits().hits();
+    }
+
+    public static <T> List<Hit<T>> search(
+            final ElasticsearchClient client,
+            final String index,
+            final Query query,
+            final List<SortOptions> sort,
+            final SourceConfig source,
+            final Pageable pageable,
+            final int indexMaxResultWindow,
+            final Class<T> clazz) throws IOException {
+
+        if (pageable.isUnpaged()) {
+            List<Hit<T>> hits = searchWindow(client, index, query, sort, source, 0, indexMaxResultWindow, clazz);
+            if (hits.size() < indexMaxResultWindow) {
+                return hits;
+            }
+        } else if (!isDeep(pageable, indexMaxResultWindow)) {
+            return searchWindow(client, index, query, sort, source,
+                    pageable.getPageSize() * pageable.getPageNumber(), pageable.getPageSize(), clazz);
+        }
+
+        long skip = pageable.isUnpaged() ? 0 : pageable.getOffset();
+        long size = pageable.isUnpaged() ? Long.MAX_VALUE : pageable.getPageSize();
+        List<SortOptions> sortWithTiebreaker = Stream.concat(sort.stream(), Stream.of(TIEBREAKER)).toList();
+
+        String pitId = client.openPointInTime(OpenPointInTimeRequest.of(o -> o.
+                index(index).keepAlive(KEEP_ALIVE))).id();
+        try {
+            List<Hit<T>> result = new ArrayList<>();
+
+            List<FieldValue> searchAfter = null;
+            boolean more = true;
+            while (more) {
+                String currentPitId = pitId;
+                SearchRequest.Builder builder = new SearchRequest.Builder().
+                        pit(p -> p.id(currentPitId).keepAlive(KEEP_ALIVE)).
+                        query(query).
+                        size(indexMaxResultWindow).
+                        sort(sortWithTiebreaker).
+                        trackTotalHits(t -> t.enabled(false)).
+                        fields(List.of()).
+                        // no need to fetch anything while skipping the hits preceding the requested page
+                        source(skip >= indexMaxResultWindow ? SourceConfig.of(s -> s.fetch(false)) : source);
+                if (searchAfter != null) {
+                    builder.searchAfter(searchAfter);
+                }
+                SearchRequest request = builder.build();
+                LOG.debug("Search request: {}", request);
+
+                SearchResponse<T> response = client.search(request, clazz);
+                if (response.pitId() != null) {
+                    pitId = response.pitId();
+                }
+
+                List<Hit<T>> hits = response.hits().hits();
+                for (Hit<T> hit : hits) {
+                    if (skip > 0) {
+                        skip--;
+                    } else if (result.size() < size) {
+                        result.add(hit);
+                    }
+                }
+
+                more = hits.size() == indexMaxResultWindow && result.size() < size;
+                if (!hits.isEmpty()) {
+                    searchAfter = hits.getLast().sort();
+                }
+            }
+
+            return result;
+        } finally {
+            String currentPitId = pitId;
+            try {
+                client.closePointInTime(ClosePointInTimeRequest.of(c -> c.id(currentPitId)));
+            } catch (Exception e) {
+                LOG.warn("While closing point in time {}", currentPitId, e);
+            }
+        }
+    }
+
+    private ElasticsearchDeepPaging() {
+        // private constructor for static utility class
+    }
+}
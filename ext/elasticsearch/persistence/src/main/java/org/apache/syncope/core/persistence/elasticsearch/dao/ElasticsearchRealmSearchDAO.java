@@ -140,21 +140,20 @@ public class ElasticsearchRealmSearchDAO extends AbstractRealmSearchDAO implemen
     }
 
     protected List<String> search(final Query query) {
-        SearchRequest request = new SearchRequest.Builder().
-                index(ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain())).
-                searchType(SearchType.QueryThenFetch).
-                query(query).
-                sort(FULLPATH_SORT_OPTIONS).
-                fields(List.of()).source(new SourceConfig.Builder().fetch(false).build()).
-                build();
-        LOG.debug("Search request: {}", request);
-
         try {
-            return client.search(request, Void.class).hits().hits().stream().
+            return ElasticsearchDeepPaging.search(
+                    client,
+                    ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain()),
+                    query,
+                    FULLPATH_SORT_OPTIONS,
+                    new SourceConfig.Builder().fetch(false).build(),
+                    Pageable.unpaged(),
+                    indexMaxResultWindow,
+                    Void.class).stream().
                     map(Hit::id).
                     toList();
         } catch (Exception e) {
-            LOG.error("While searching in Elasticsearch with request {}", request, e);
+            LOG.error("While searching in Elasticsearch", e);
             return List.of();
         }
     }
@@ -449,24 +448,21 @@ public class ElasticsearchRealmSearchDAO extends AbstractRealmSearchDAO implemen
 
     @Override
     protected List<Realm> doSearch(final Set<String> bases, final SearchCond searchCond, final Pageable pageable) {
-        SearchRequest request = new SearchRequest.Builder().
-                index(ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain())).
-                searchType(SearchType.QueryThenFetch).
-                query(buildDescendantsQuery(bases, searchCond)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
-                size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
-                sort(sortBuilders(pageable.getSort().get())).
-                fields(List.of()).source(new SourceConfig.Builder().fetch(false).build()).
-                build();
-        LOG.debug("Search request: {}", request);
-
         List<String> result = List.of();
         try {
-            result = client.search(request, Void.class).hits().hits().stream().
+            result = ElasticsearchDeepPaging.search(
+                    client,
+                    ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain()),
+                    buildDescendantsQuery(bases, searchCond),
+                    sortBuilders(pageable.getSort().get()),
+                    new SourceConfig.Builder().fetch(false).build(),
+                    pageable,
+                    indexMaxResultWindow,
+                    Void.class).stream().
                     map(Hit::id).
                     toList();
         } catch (Exception e) {
-            LOG.error("While searching in Elasticsearch with request {}", request, e);
+            LOG.error("While searching in Elasticsearch", e);
         }
 
         return result.stream().map(realmDAO::findById).
@@ -491,24 +487,21 @@ public class ElasticsearchRealmSearchDAO extends AbstractRealmSearchDAO implemen
                     build();
         }
 
-        SearchRequest request = new SearchRequest.Builder().
-                index(ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain())).
-                searchType(SearchType.QueryThenFetch).
-                query(query).
-                from(0).
-                size(indexMaxResultWindow).
-                sort(FULLPATH_SORT_OPTIONS).
-                fields(List.of()).source(new SourceConfig.Builder().fetch(false).build()).
-                build();
-        LOG.debug("Search request: {}", request);
-
         List<String> result = List.of();
         try {
-            result = client.search(request, Void.class).hits().hits().stream().
+            result = ElasticsearchDeepPaging.search(
+                    client,
+                    ElasticsearchUtils.getRealmIndex(AuthContextUtils.getDomain()),
+                    query,
+                    FULLPATH_SORT_OPTIONS,
+                    new SourceConfig.Builder().fetch(false).build(),
+                    Pageable.unpaged(),
+                    indexMaxResultWindow,
+                    Void.class).stream().
                     map(Hit::id).
                     toList();
         } catch (Exception e) {
-            LOG.error("While searching in Elasticsearch with request {}", request, e);
+            LOG.error("While searching in Elasticsearch", e);
         }
         return result.stream().map(realmDAO::findById).flatMap(Optional::stream).map(Realm.class::cast).toList();
     }
@@ -28,14 +28,19 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SearchType;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.DisMaxQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.IdsQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
@@ -47,6 +52,7 @@ import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.MemberCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -103,7 +109,8 @@ public class ElasticsearchAnySearchDAOTest {
                 anyUtilsFactory,
                 validator,
                 null,
-                10000);
+                10000,
+                false);
     }
 
     @Test
@@ -371,4 +378,42 @@ public class ElasticsearchAnySearchDAOTest {
                     usingRecursiveComparison().isEqualTo(query);
         }
     }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void memberCond() throws IOException {
+        // 1. mock
+        GetResponse<Map> member = mock(GetResponse.class);
+        when(member.found()).thenReturn(true);
+        when(member.source()).thenReturn(Map.of("memberships", List.of("groupKey1", "groupKey2")));
+
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+        when(client.get(any(GetRequest.class), eq(Map.class))).thenReturn(member);
+
+        searchDAO = new ElasticsearchAnySearchDAO(
+                realmSearchDAO,
+                null,
+                groupDAO,
+                null,
+                null,
+                entityFactory,
+                anyUtilsFactory,
+                validator,
+                client,
+                10000,
+                false);
+
+        MemberCond cond = new MemberCond();
+        cond.setMember("c9b2dec2-00a7-4855-97c0-d854842b4b24");
+
+        try (MockedStatic<ElasticsearchUtils> utils = Mockito.mockStatic(ElasticsearchUtils.class)) {
+            utils.when(() -> ElasticsearchUtils.getAnyIndex(anyString(), eq(AnyTypeKind.USER))).
+                    thenReturn("master_user");
+
+            // 2. test: groups are matched by key, out of the member's own document
+            Query query = searchDAO.getQuery(SearchCond.of(cond), AnyTypeKind.GROUP);
+            assertEquals(Query.Kind.Ids, query._kind());
+            assertEquals(Set.of("groupKey1", "groupKey2"), Set.copyOf(((IdsQuery) query._get()).values()));
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.elasticsearch.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public class ElasticsearchDeepPagingTest {
+
+    private static final Query QUERY = new Query.Builder().matchAll(QueryBuilders.matchAll().build()).build();
+
+    private static final SourceConfig NO_SOURCE = new SourceConfig.Builder().fetch(false).build();
+
+    @SuppressWarnings("unchecked")
+    private static SearchResponse<Void> response(final int from, final int to) {
+        List<Hit<Void>> hits = IntStream.range(from, to).
+                mapToObj(i -> Hit.<Void>of(h -> h.index("master_user").id("key" + i).sort(FieldValue.of(i)))).
+                toList();
+
+        HitsMetadata<Void> metadata = mock(HitsMetadata.class);
+        when(metadata.hits()).thenReturn(hits);
+
+        SearchResponse<Void> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(metadata);
+        when(response.pitId()).thenReturn("pit");
+        return response;
+    }
+
+    @Test
+    public void isDeep() {
+        assertFalse(ElasticsearchDeepPaging.isDeep(Pageable.unpaged(), 10));
+        assertFalse(ElasticsearchDeepPaging.isDeep(PageRequest.of(0, 10), 10));
+        assertTrue(ElasticsearchDeepPaging.isDeep(PageRequest.of(1, 10), 10));
+    }
+
+    @Test
+    public void shallow() throws IOException {
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+        SearchResponse<Void> response = response(0, 2);
+        when(client.search(any(SearchRequest.class), eq(Void.class))).thenReturn(response);
+
+        List<Hit<Void>> hits = ElasticsearchDeepPaging.search(
+                client, "master_user", QUERY, List.of(), NO_SOURCE, PageRequest.of(0, 2), 10, Void.class);
+        assertEquals(2, hits.size());
+
+        verify(client, never()).openPointInTime(any(OpenPointInTimeRequest.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void deep() throws IOException {
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+
+        OpenPointInTimeResponse pit = mock(OpenPointInTimeResponse.class);
+        when(pit.id()).thenReturn("pit");
+        when(client.openPointInTime(any(OpenPointInTimeRequest.class))).thenReturn(pit);
+
+        SearchResponse<Void> first = response(0, 2);
+        SearchResponse<Void> second = response(2, 4);
+        when(client.search(any(SearchRequest.class), eq(Void.class))).thenReturn(first, second);
+
+        // the second page of 2 items lies beyond a result window of 2
+        List<Hit<Void>> hits = ElasticsearchDeepPaging.search(
+                client, "master_user", QUERY, List.of(), NO_SOURCE, PageRequest.of(1, 2), 2, Void.class);
+        assertEquals(List.of("key2", "key3"), hits.stream().map(Hit::id).toList());
+
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(requests.capture(), eq(Void.class));
+        assertEquals("pit", requests.getAllValues().getFirst().pit().id());
+        assertTrue(requests.getAllValues().getFirst().searchAfter().isEmpty());
+        assertEquals(1L, requests.getAllValues().getLast().searchAfter().getFirst().longValue());
+
+        verify(client).closePointInTime(any(ClosePointInTimeRequest.class));
+    }
+
+    @Test
+    public void unpagedWithinWindow() throws IOException {
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+        SearchResponse<Void> response = response(0, 2);
+        when(client.search(any(SearchRequest.class), eq(Void.class))).thenReturn(response);
+
+        List<Hit<Void>> hits = ElasticsearchDeepPaging.search(
+                client, "master_user", QUERY, List.of(), NO_SOURCE, Pageable.unpaged(), 10, Void.class);
+        assertEquals(2, hits.size());
+
+        verify(client, never()).openPointInTime(any(OpenPointInTimeRequest.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void unpagedBeyondWindow() throws IOException {
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+
+        OpenPointInTimeResponse pit = mock(OpenPointInTimeResponse.class);
+        when(pit.id()).thenReturn("pit");
+        when(client.openPointInTime(any(OpenPointInTimeRequest.class))).thenReturn(pit);
+
+        SearchResponse<Void> window = response(0, 2);
+        SearchResponse<Void> first = response(0, 2);
+        SearchResponse<Void> second = response(2, 3);
+        when(client.search(any(SearchRequest.class), eq(Void.class))).thenReturn(window, first, second);
+
+        // the plain search fills the result window of 2, hence all items are walked on a point in time
+        List<Hit<Void>> hits = ElasticsearchDeepPaging.search(
+                client, "master_user", QUERY, List.of(), NO_SOURCE, Pageable.unpaged(), 2, Void.class);
+        assertEquals(List.of("key0", "key1", "key2"), hits.stream().map(Hit::id).toList());
+
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(requests.capture(), eq(Void.class));
+        assertNull(requests.getAllValues().getFirst().pit());
+        assertEquals("pit", requests.getAllValues().get(1).pit().id());
+
+        verify(client).closePointInTime(any(ClosePointInTimeRequest.class));
+    }
+}
@@ -19,8 +19,10 @@
 package org.apache.syncope.ext.opensearch.client;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
@@ -29,24 +31,35 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Conflicts;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.opensearch._types.Time;
 import org.opensearch.client.opensearch._types.mapping.DynamicTemplate;
 import org.opensearch.client.opensearch._types.mapping.KeywordProperty;
 import org.opensearch.client.opensearch._types.mapping.Property;
 import org.opensearch.client.opensearch._types.mapping.TextProperty;
 import org.opensearch.client.opensearch._types.mapping.TypeMapping;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
 import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.DeleteResponse;
 import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.indices.Alias;
 import org.opensearch.client.opensearch.indices.CreateIndexRequest;
 import org.opensearch.client.opensearch.indices.CreateIndexResponse;
 import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
 import org.opensearch.client.opensearch.indices.DeleteIndexResponse;
+import org.opensearch.client.opensearch.indices.ExistsAliasRequest;
 import org.opensearch.client.opensearch.indices.ExistsRequest;
+import org.opensearch.client.opensearch.indices.GetIndexRequest;
 import org.opensearch.client.opensearch.indices.IndexSettings;
 import org.opensearch.client.opensearch.indices.IndexSettingsAnalysis;
+import org.opensearch.client.opensearch.indices.PutIndicesSettingsRequest;
+import org.opensearch.client.opensearch.indices.RefreshRequest;
+import org.opensearch.client.opensearch.indices.UpdateAliasesRequest;
+import org.opensearch.client.opensearch.indices.update_aliases.Action;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -66,6 +79,23 @@ public class OpenSearchIndexManager {
 
     protected final Integer numberOfReplicas;
 
+    /**
+     * Field of the tombstones written in place of the entities deleted while rebuilding, so that these cannot be
+     * loaded again into the versioned index by reindex workers having read them earlier.
+     */
+    protected static final String DELETED_WHILE_REBUILDING = "deletedWhileRebuilding";
+
+    /**
+     * Returns the marker alias pointing to the versioned index being rebuilt for the given alias, if any: being
+     * stored by the cluster, it is seen by all the nodes which might be handling changes during the rebuild.
+     *
+     * @param alias alias the versioned index will be exposed under
+     * @return marker alias name
+     */
+    protected static String getRebuildingAlias(final String alias) {
+        return alias + "_rebuilding";
+    }
+
     public OpenSearchIndexManager(
             final OpenSearchClient client,
             final OpenSearchUtils ppenSearchUtils,
@@ -282,46 +312,200 @@ public class OpenSearchIndexManager {
         LOG.debug("Successfully removed {}: {}", OpenSearchUtils.getAuditIndex(domain), response);
     }
 
+    /**
+     * Creates a new, versioned index meant to replace the one currently exposed under the given alias, once fully
+     * loaded; refresh and replicas are disabled until {@link #swapIndex(String, String, IndexSettings)} is invoked.
+     * Until then, any change to the entities of the given alias is written to both indexes by every node, through the
+     * {@link #getRebuildingAlias(String) marker alias} pointing to the new index.
+     *
+     * @param alias alias the new index will be exposed under, e.g. {@link OpenSearchUtils#getAnyIndex}
+     * @param settings index settings
+     * @param mappings index mappings
+     * @return name of the new index
+     * @throws IOException in case of communication errors
+     */
+    public String createVersionedIndex(
+            final String alias,
+            final IndexSettings settings,
+            final TypeMapping mappings) throws IOException {
+
+        String index = alias + '_' + System.currentTimeMillis();
+
+        CreateIndexResponse response = client.indices().create(
+                new CreateIndexRequest.Builder().
+                        index(index).
+                        aliases(getRebuildingAlias(alias), new Alias.Builder().build()).
+                        settings(settings).
+                        mappings(mappings).
+                        build());
+        client.indices().putSettings(new PutIndicesSettingsRequest.Builder().
+                index(index).
+                settings(new IndexSettings.Builder().
+                        refreshInterval(new Time.Builder().time("-1").build()).
+                        numberOfReplicas(0).
+                        build()).
+                build());
+        LOG.debug("Successfully created {} for {}: {}", index, alias, response);
+
+        return index;
+    }
+
+    /**
+     * Removes the tombstones written to the given versioned index for the entities deleted while rebuilding.
+     *
+     * @param index versioned index
+     * @throws IOException in case of communication errors
+     */
+    protected void purgeTombstones(final String index) throws IOException {
+        client.deleteByQuery(new DeleteByQueryRequest.Builder().
+                index(index).
+                query(new Query.Builder().exists(e -> e.field(DELETED_WHILE_REBUILDING)).build()).
+                conflicts(Conflicts.Proceed).
+                refresh(true).
+                build());
+    }
+
+    /**
+     * Restores refresh and replicas on the given versioned index, then atomically points the given alias to it,
+     * removing any index previously exposed under the same name, as well as the marker alias.
+     * Tombstones are purged both before and after the swap, the latter to catch deletions handled by other nodes
+     * meanwhile.
+     *
+     * @param alias alias to swap
+     * @param index versioned index, as returned by {@link #createVersionedIndex(String, IndexSettings, TypeMapping)}
+     * @param settings index settings, as provided when creating the versioned index
+     * @throws IOException in case of communication errors
+     */
+    public void swapIndex(final String alias, final String index, final IndexSettings settings) throws IOException {
+        client.indices().putSettings(new PutIndicesSettingsRequest.Builder().
+                index(index).
+                settings(new IndexSettings.Builder().
+                        refreshInterval(Optional.ofNullable(settings.refreshInterval()).
+                                orElseGet(() -> new Time.Builder().time("1s").build())).
+                        numberOfReplicas(Optional.ofNullable(settings.numberOfReplicas()).
+                                orElse(numberOfReplicas)).
+                        build()).
+                build());
+        client.indices().refresh(new RefreshRequest.Builder().index(index).build());
+        purgeTombstones(index);
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(new Action.Builder().add(a -> a.index(index).alias(alias)).build());
+        actions.add(new Action.Builder().remove(r -> r.index(index).alias(getRebuildingAlias(alias))).build());
+
+        // the alias name might be still taken by a plain index, as created before the first rebuild
+        if (client.indices().exists(new ExistsRequest.Builder().index(alias).build()).value()) {
+            client.indices().get(new GetIndexRequest.Builder().index(alias).build()).result().keySet().stream().
+                    filter(previous -> !previous.equals(index)).
+                    forEach(previous -> actions.add(
+                    new Action.Builder().removeIndex(r -> r.index(previous)).build()));
+        }
+
+        client.indices().updateAliases(new UpdateAliasesRequest.Builder().actions(actions).build());
+        LOG.debug("Successfully swapped {} to {}", alias, index);
+
+        purgeTombstones(index);
+    }
+
+    /**
+     * Removes the given versioned index, leaving the one currently exposed under the given alias in place.
+     *
+     * @param alias alias the versioned index was meant for
+     * @param index versioned index, as returned by {@link #createVersionedIndex(String, IndexSettings, TypeMapping)}
+     * @throws IOException in case of communication errors
+     */
+    public void discardIndex(final String alias, final String index) throws IOException {
+        DeleteIndexResponse response = client.indices().delete(
+                new DeleteIndexRequest.Builder().index(index).build());
+        LOG.debug("Successfully removed {}: {}", index, response);
+    }
+
+    /**
+     * Tells whether a versioned index is being rebuilt for the given alias, by this or any other node.
+     *
+     * @param alias alias
+     * @return whether the {@link #getRebuildingAlias(String) marker alias} exists
+     * @throws IOException in case of communication errors
+     */
+    protected boolean isRebuilding(final String alias) throws IOException {
+        return client.indices().existsAlias(new ExistsAliasRequest.Builder().
+                name(getRebuildingAlias(alias)).build()).
+                value();
+    }
+
+    /**
+     * Writes the given document to the versioned index being rebuilt for the given alias, if any; the marker alias
+     * is required to exist, so that nothing is written if the rebuild was completed or discarded meanwhile.
+     *
+     * @param alias alias
+     * @param id document id
+     * @param document document
+     * @throws IOException in case of communication errors
+     */
+    protected void indexRebuilding(
+            final String alias,
+            final String id,
+            final Map<String, Object> document) throws IOException {
+
+        if (isRebuilding(alias)) {
+            try {
+                client.index(new IndexRequest.Builder<Map<String, Object>>().
+                        index(getRebuildingAlias(alias)).
+                        id(id).
+                        document(document).
+                        requireAlias(true).
+                        build());
+            } catch (OpenSearchException e) {
+                LOG.debug("Could not write {} to {}, possibly swapped or discarded", id, getRebuildingAlias(alias), e);
+            }
+        }
+    }
+
+    protected void index(
+            final String alias,
+            final String id,
+            final Map<String, Object> document,
+            final boolean refresh) throws IOException {
+
+        IndexResponse response = client.index(new IndexRequest.Builder<Map<String, Object>>().
+                index(alias).
+                id(id).
+                document(document).
+                refresh(refresh ? Refresh.True : Refresh.False).
+                build());
+        LOG.debug("Index successfully created or updated for {}: {}", id, response);
+
+        indexRebuilding(alias, id, document);
+    }
+
+    protected void delete(final String alias, final String id, final boolean refresh) throws IOException {
+        DeleteResponse response = client.delete(new DeleteRequest.Builder().
+                index(alias).
+                id(id).
+                refresh(refresh ? Refresh.True : Refresh.False).
+                build());
+        LOG.debug("Index successfully deleted for {}: {}", id, response);
+
+        indexRebuilding(alias, id, Map.of(DELETED_WHILE_REBUILDING, true));
+    }
+
     @TransactionalEventListener
     public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
         if (event.getEntity() instanceof final Any any) {
+            String alias = OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind());
             if (event.getType() == SyncDeltaType.DELETE) {
-                DeleteRequest request = new DeleteRequest.Builder().index(
-                        OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
-                        id(any.getKey()).
-                        build();
-                DeleteResponse response = client.delete(request);
-                LOG.debug("Index successfully deleted for {}[{}]: {}",
-                        any.getType().getKind(), any.getKey(), response);
+                delete(alias, any.getKey(), false);
             } else {
-                IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                        index(OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
-                        id(any.getKey()).
-                        document(openSearchUtils.document(any)).
-                        build();
-                IndexResponse response = client.index(request);
-                LOG.debug("Index successfully created or updated for {}: {}", any, response);
+                index(alias, any.getKey(), openSearchUtils.document(any), false);
             }
         } else if (event.getEntity() instanceof Realm realm) {
+            String alias = OpenSearchUtils.getRealmIndex(event.getDomain());
             if (event.getType() == SyncDeltaType.DELETE) {
-                DeleteRequest request = new DeleteRequest.Builder().
-                        index(OpenSearchUtils.getRealmIndex(event.getDomain())).
-                        id(realm.getKey()).
-                        refresh(Refresh.True).
-                        build();
-                DeleteResponse response = client.delete(request);
-                LOG.debug("Index successfully deleted for {}: {}", realm, response);
+                delete(alias, realm.getKey(), true);
             } else {
-                IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                        index(OpenSearchUtils.getRealmIndex(event.getDomain())).
-                        id(realm.getKey()).
-                        document(openSearchUtils.document(realm)).
-                        refresh(Refresh.True).
-                        build();
-                IndexResponse response = client.index(request);
-                LOG.debug("Index successfully created or updated for {}: {}", realm, response);
+                index(alias, realm.getKey(), openSearchUtils.document(realm), true);
             }
         }
     }
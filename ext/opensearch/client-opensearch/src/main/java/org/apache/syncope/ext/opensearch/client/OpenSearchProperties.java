@@ -33,6 +33,10 @@ public class OpenSearchProperties {
 
     private int numberOfReplicas = 1;
 
+    private int reindexParallelism = 4;
+
+    private boolean projectionFromIndex = false;
+
     public List<String> getHosts() {
         return hosts;
     }
@@ -64,4 +68,20 @@ public class OpenSearchProperties {
     public void setNumberOfReplicas(final int numberOfReplicas) {
         this.numberOfReplicas = numberOfReplicas;
     }
+
+    public int getReindexParallelism() {
+        return reindexParallelism;
+    }
+
+    public void setReindexParallelism(final int reindexParallelism) {
+        this.reindexParallelism = reindexParallelism;
+    }
+
+    public boolean isProjectionFromIndex() {
+        return projectionFromIndex;
+    }
+
+    public void setProjectionFromIndex(final boolean projectionFromIndex) {
+        this.projectionFromIndex = projectionFromIndex;
+    }
 }
@@ -67,7 +67,8 @@ public class OpenSearchPersistenceContext {
                 anyUtilsFactory,
                 validator,
                 client,
-                props.getIndexMaxResultWindow());
+                props.getIndexMaxResultWindow(),
+                props.isProjectionFromIndex());
     }
 
     @ConditionalOnMissingBean(name = "openSearchRealmSearchDAO")
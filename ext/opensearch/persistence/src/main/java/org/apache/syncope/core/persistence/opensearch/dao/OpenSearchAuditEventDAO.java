@@ -35,15 +35,14 @@ import org.apache.syncope.ext.opensearch.client.OpenSearchUtils;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldSort;
-import org.opensearch.client.opensearch._types.SearchType;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.QueryBuilders;
 import org.opensearch.client.opensearch._types.query_dsl.TextQueryType;
 import org.opensearch.client.opensearch.core.CountRequest;
-import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.SourceConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
@@ -198,21 +197,19 @@ public class OpenSearchAuditEventDAO extends AbstractAuditEventDAO implements Au
             final OffsetDateTime after,
             final Pageable pageable) {
 
-        SearchRequest request = new SearchRequest.Builder().
-                index(OpenSearchUtils.getAuditIndex(AuthContextUtils.getDomain())).
-                searchType(SearchType.QueryThenFetch).
-                query(getQuery(entityKey, username, who, type, category, subcategory, op, outcome, before, after)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
-                size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
-                sort(sortBuilders(pageable.getSort().get())).
-                build();
-        LOG.debug("Search request: {}", request);
-
         List<Hit<AuditEventTO>> osResult = null;
         try {
-            osResult = client.search(request, AuditEventTO.class).hits().hits();
+            osResult = OpenSearchDeepPaging.search(
+                    client,
+                    OpenSearchUtils.getAuditIndex(AuthContextUtils.getDomain()),
+                    getQuery(entityKey, username, who, type, category, subcategory, op, outcome, before, after),
+                    sortBuilders(pageable.getSort().get()),
+                    new SourceConfig.Builder().fetch(true).build(),
+                    pageable,
+                    indexMaxResultWindow,
+                    AuditEventTO.class);
         } catch (Exception e) {
-            LOG.error("While searching in OpenSearch with request {}", request, e);
+            LOG.error("While searching in OpenSearch", e);
         }
 
         return CollectionUtils.isEmpty(osResult)
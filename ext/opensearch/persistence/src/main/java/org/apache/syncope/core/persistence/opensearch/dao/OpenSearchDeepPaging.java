@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.opensearch.dao;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.SearchType;
+import org.opensearch.client.opensearch._types.SortOptions;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.Pit;
+import org.opensearch.client.opensearch.core.search.SourceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Runs searches honoring the given {@link Pageable}: pages falling within {@code index.max_result_window} are
+ * fetched via plain {@code from} / {@code size}, while deeper pages are walked via {@code search_after} on a point
+ * in time, so that results are consistent and not capped by the result window.
+ * Unpaged requests are first attempted as a plain search of the whole result window, and only walked on a point in
+ * time when such window gets full.
+ */
+public final class OpenSearchDeepPaging {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OpenSearchDeepPaging.class);
+
+    private static final String KEEP_ALIVE = "1m";
+
+    // document id is the only unique value available to all indexes for breaking ties among sort values
+    private static final SortOptions TIEBREAKER = SortOptions.of(s -> s.field(f -> f.
+            field("_id").order(SortOrder.Asc)));
+
+    public static boolean isDeep(final Pageable pageable, final int indexMaxResultWindow) {
+        return pageable.isPaged()
+                && (long) pageable.getPageSize() * (pageable.getPageNumber() + 1) > indexMaxResultWindow;
+    }
+
+    private static <T> List<Hit<T>> searchWindow(
+            final OpenSearchClient client,
+            final String index,
+            final Query query,
+            final List<SortOptions> sort,
+            final SourceConfig source,
+            final int from,
+            final int size,
+            final Class<T> clazz) throws IOException {
+
+        SearchRequest request = new SearchRequest.Builder().
+                index(index).
+                searchType(SearchType.QueryThenFetch).
+                query(query).
+                from(from).
+                size(size).
+                sort(sort).
+                fields(List.of()).source(source).
+                build();
+        LOG.debug("Search request: {}", request);
+
+        return client.search(request, clazz).hits().hits();
+    }
+
+    public static <T> List<Hit<T>> search(
+            final OpenSearchClient client,
+            final String index,
+            final Query query,
+            final List<SortOptions> sort,
+            final SourceConfig source,
+            final Pageable pageable,
+            final int indexMaxResultWindow,
+            final Class<T> clazz) throws IOException {
+
+        if (pageable.isUnpaged()) {
+            List<Hit<T>> hits = searchWindow(client, index, query, sort, source, 0, indexMaxResultWindow, clazz);
+            if (hits.size() < indexMaxResultWindow) {
+                return hits;
+            }
+        } else if (!isDeep(pageable, indexMaxResultWindow)) {
+            return searchWindow(client, index, query, sort, source,
+                    pageable.getPageSize() * pageable.getPageNumber(), pageable.getPageSize(), clazz);
+        }
+
+        long skip = pageable.isUnpaged() ? 0 : pageable.getOffset();
+        long size = pageable.isUnpaged() ? Long.MAX_VALUE : pageable.getPageSize();
+        List<SortOptions> sortWithTiebreaker = Stream.concat(sort.stream(), Stream.of(TIEBREAKER)).toList();
+
+        String pitId = client.createPit(CreatePitRequest.of(c -> c.
+                targetIndexes(index).keepAlive(Time.of(t -> t.time(KEEP_ALIVE))))).pitId();
+        try {
+            List<Hit<T>> result = new ArrayList<>();
+
+            List<FieldValue> searchAfter = null;
+            boolean more = true;
+            while (more) {
+                SearchRequest.Builder builder = new SearchRequest.Builder().
+                        pit(Pit.of(p -> p.id(pitId).keepAlive(KEEP_ALIVE))).
+                        query(query).
+                        size(indexMaxResultWindow).
+                        sort(sortWithTiebreaker).
+                        trackTotalHits(t -> t.enabled(false)).
+                        fields(List.of()).
+                        // no need to fetch anything while skipping the hits preceding the requested page
+                        source(skip >= indexMaxResultWindow ? SourceConfig.of(s -> s.fetch(false)) : source);
+                if (searchAfter != null) {
+                    builder.searchAfter(searchAfter);
+                }
+                SearchRequest request = builder.build();
+                LOG.debug("Search request: {}", request);
+
+                SearchResponse<T> response = client.search(request, clazz);
+
+                List<Hit<T>> hits = response.hits().hits();
+                for (Hit<T> hit : hits) {
+                    if (skip > 0) {
+                        skip--;
+                    } else if (result.size() < size) {
+                        result.add(hit);
+                    }
+                }
+
+                more = hits.size() == indexMaxResultWindow && result.size() < size;
+                if (!hits.isEmpty()) {
+                    searchAfter = hits.getLast().sort();
+                }
+            }
+
+            return result;
+        } finally {
+            try {
+                client.deletePit(DeletePitRequest.of(d -> d.pitId(List.of(pitId))));
+            } catch (Exception e) {
+                LOG.warn("While deleting point in time {}", pitId, e);
+            }
+        }
+    }
+
+    private OpenSearchDeepPaging() {
+        // private constructor for static utility class
+    }
+}
@@ -30,6 +30,7 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
@@ -41,6 +42,7 @@ import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.MemberCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -60,12 +62,16 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.SearchType;
 import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
 import org.opensearch.client.opensearch._types.query_dsl.DisMaxQuery;
+import org.opensearch.client.opensearch._types.query_dsl.IdsQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.QueryBuilders;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.GetResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.springframework.util.ReflectionUtils;
 
@@ -104,7 +110,8 @@ public class OpenSearchAnySearchDAOTest {
                 anyUtilsFactory,
                 validator,
                 null,
-                10000);
+                10000,
+                false);
     }
 
     @Test
@@ -372,4 +379,41 @@ public class OpenSearchAnySearchDAOTest {
                     usingRecursiveComparison().isEqualTo(query);
         }
     }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void memberCond() throws IOException {
+        // 1. mock
+        GetResponse<Map> member = mock(GetResponse.class);
+        when(member.found()).thenReturn(true);
+        when(member.source()).thenReturn(Map.of("memberships", List.of("groupKey1", "groupKey2")));
+
+        OpenSearchClient client = mock(OpenSearchClient.class);
+        when(client.get(any(GetRequest.class), eq(Map.class))).thenReturn(member);
+
+        searchDAO = new OpenSearchAnySearchDAO(
+                realmSearchDAO,
+                null,
+                groupDAO,
+                null,
+                null,
+                entityFactory,
+                anyUtilsFactory,
+                validator,
+                client,
+                10000,
+                false);
+
+        MemberCond cond = new MemberCond();
+        cond.setMember("c9b2dec2-00a7-4855-97c0-d854842b4b24");
+
+        try (MockedStatic<OpenSearchUtils> utils = Mockito.mockStatic(OpenSearchUtils.class)) {
+            utils.when(() -> OpenSearchUtils.getAnyIndex(anyString(), eq(AnyTypeKind.USER))).thenReturn("master_user");
+
+            // 2. test: groups are matched by key, out of the member's own document
+            Query query = searchDAO.getQuery(SearchCond.of(cond), AnyTypeKind.GROUP);
+            assertEquals(Query.Kind.Ids, query._kind());
+            assertEquals(Set.of("groupKey1", "groupKey2"), Set.copyOf(((IdsQuery) query._get()).values()));
+        }
+    }
 }
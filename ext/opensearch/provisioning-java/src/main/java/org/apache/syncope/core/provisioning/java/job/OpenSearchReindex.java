@@ -19,8 +19,14 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -31,15 +37,13 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Realm;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
-import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
-import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.ext.opensearch.client.OpenSearchIndexManager;
+import org.apache.syncope.ext.opensearch.client.OpenSearchProperties;
 import org.apache.syncope.ext.opensearch.client.OpenSearchUtils;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._helpers.bulk.BulkIngester;
@@ -53,15 +57,25 @@ import org.opensearch.client.opensearch.indices.IndexSettings;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Remove and rebuild all OpenSearch indexes with information from existing users, groups and any objects.
+ * Rebuild all OpenSearch indexes with information from existing users, groups and any objects; each index is
+ * loaded aside and swapped under its alias once complete, so that searches are never served partial results.
  */
 public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
 
+    /**
+     * Logs and counts failed bulk operations; version conflicts are not counted, as they are raised when attempting to
+     * create documents already written to the index being rebuilt by live changes, which are more recent.
+     */
     protected static class ErrorLoggingBulkListener implements BulkListener<Void> {
 
-        protected static final ErrorLoggingBulkListener INSTANCE = new ErrorLoggingBulkListener();
+        protected static final int CONFLICT = 409;
+
+        protected final AtomicLong failures = new AtomicLong();
 
         @Override
         public void beforeBulk(
@@ -80,9 +94,14 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 final BulkResponse response) {
 
             if (response.errors()) {
-                String details = response.items().stream().map(BulkResponseItem::error).
-                        filter(Objects::nonNull).map(ErrorCause::toString).collect(Collectors.joining(", "));
-                LOG.error("Errors found for request {}; details: {}", executionId, details);
+                List<ErrorCause> errors = response.items().stream().
+                        filter(item -> item.status() != CONFLICT).
+                        map(BulkResponseItem::error).filter(Objects::nonNull).toList();
+                if (!errors.isEmpty()) {
+                    failures.addAndGet(errors.size());
+                    LOG.error("Errors found for request {}; details: {}", executionId,
+                            errors.stream().map(ErrorCause::toString).collect(Collectors.joining(", ")));
+                }
             }
         }
 
@@ -93,8 +112,13 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 final List<Void> contexts,
                 final Throwable failure) {
 
+            failures.addAndGet(request.operations().size());
             LOG.error("Bulk request {} failed", executionId, failure);
         }
+
+        public long getFailures() {
+            return failures.get();
+        }
     }
 
     @Autowired
@@ -106,6 +130,12 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
     @Autowired
     protected OpenSearchUtils utils;
 
+    @Autowired
+    protected OpenSearchProperties props;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
     @Autowired
     protected UserDAO userDAO;
 
@@ -159,108 +189,139 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
     }
 
     protected Pair<String, Long> reindexRealms() throws IOException {
-        indexManager.createRealmIndex(AuthContextUtils.getDomain(), realmSettings(), realmMapping());
+        String alias = OpenSearchUtils.getRealmIndex(AuthContextUtils.getDomain());
+        String index = indexManager.createVersionedIndex(alias, realmSettings(), realmMapping());
 
         long count = realmDAO.count();
-        String index = OpenSearchUtils.getRealmIndex(AuthContextUtils.getDomain());
         setStatus("Indexing " + count + " realms under " + index + "...");
 
+        ErrorLoggingBulkListener listener = new ErrorLoggingBulkListener();
         try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
+                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(listener))) {
 
             for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
                 Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
                 for (Realm realm : realmDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
+                    ingester.add(op -> op.create(idx -> idx.
                             index(index).
                             id(realm.getKey()).
                             document(utils.document(realm))));
                 }
             }
         } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
+            indexManager.discardIndex(alias, index);
+            throw new IOException("Errors while ingesting index " + index, e);
         }
+        checkFailures(alias, index, listener);
 
+        indexManager.swapIndex(alias, index, realmSettings());
         return Pair.of(index, count);
     }
 
-    protected Pair<String, Long> reindexUsers() throws IOException {
-        indexManager.createAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER, userSettings(), userMapping());
-
-        long count = userDAO.count();
-        String index = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER);
-        setStatus("Indexing " + count + " users under " + index + "...");
-
-        try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
-
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                for (User user : userDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
-                            index(index).
-                            id(user.getKey()).
-                            document(utils.document(user))));
-                }
-            }
-        } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
+    /**
+     * Discards the given versioned index if any bulk operation failed while loading it.
+     *
+     * @param alias alias the versioned index was meant for
+     * @param index versioned index
+     * @param listener bulk listener used while loading
+     * @throws IOException if any bulk operation failed
+     */
+    protected void checkFailures(
+            final String alias,
+            final String index,
+            final ErrorLoggingBulkListener listener) throws IOException {
+
+        if (listener.getFailures() > 0) {
+            indexManager.discardIndex(alias, index);
+            throw new IOException(listener.getFailures() + " failures while ingesting index " + index);
         }
-
-        return Pair.of(index, count);
     }
 
-    protected Pair<String, Long> reindexGroups() throws IOException {
-        indexManager.createAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP, groupSettings(), groupMapping());
-
-        long count = groupDAO.count();
-        String index = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP);
-        setStatus("Indexing " + count + " groups under " + index + "...");
-
+    /**
+     * Loads all entities of the given kind into a new versioned index, then swaps it under the live alias: searches
+     * keep being served by the previous index until the new one is complete.
+     * Entity keys are walked in chunks by a single thread, while chunks are loaded and indexed by parallel workers,
+     * each within its own read-only transaction; documents are only created, never overwritten, so that live changes
+     * written meanwhile to the new index are not replaced by data possibly read before such changes.
+     *
+     * @param kind any type kind
+     * @param anyDAO DAO for the given kind
+     * @param settings index settings
+     * @param mapping index mapping
+     * @return versioned index name and number of entities
+     * @throws IOException if loading fails; the previous index is left in place
+     */
+    protected Pair<String, Long> reindexAnys(
+            final AnyTypeKind kind,
+            final AnyDAO<?> anyDAO,
+            final IndexSettings settings,
+            final TypeMapping mapping) throws IOException {
+
+        String alias = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind);
+        String index = indexManager.createVersionedIndex(alias, settings, mapping);
+
+        long count = anyDAO.count();
+        setStatus("Indexing " + count + ' ' + kind + " under " + index + "...");
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        int parallelism = Math.max(1, props.getReindexParallelism());
+        ErrorLoggingBulkListener listener = new ErrorLoggingBulkListener();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofVirtual().name("OpenSearchReindex-", 0).factory());
         try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
-
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                for (Group group : groupDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
+                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).maxConcurrentRequests(parallelism).
+                listener(listener))) {
+
+            List<Future<?>> futures = new ArrayList<>();
+
+            String after = null;
+            List<String> keys;
+            do {
+                keys = anyDAO.findKeysAfter(after, AnyDAO.DEFAULT_PAGE_SIZE);
+                if (!keys.isEmpty()) {
+                    List<String> chunk = keys;
+                    futures.add(executor.submit(new DelegatingSecurityContextRunnable(
+                            () -> tx.executeWithoutResult(status -> anyDAO.findByKeys(chunk).
+                            forEach(any -> ingester.add(op -> op.create(idx -> idx.
                             index(index).
-                            id(group.getKey()).
-                            document(utils.document(group))));
+                            id(any.getKey()).
+                            document(utils.document(any)))))))));
+
+                    after = keys.getLast();
                 }
+            } while (keys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+
+            for (Future<?> future : futures) {
+                future.get();
             }
         } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            indexManager.discardIndex(alias, index);
+            throw new IOException("Errors while ingesting index " + index,
+                    e instanceof ExecutionException ? e.getCause() : e);
+        } finally {
+            executor.shutdownNow();
         }
+        checkFailures(alias, index, listener);
 
+        indexManager.swapIndex(alias, index, settings);
         return Pair.of(index, count);
     }
 
-    protected Pair<String, Long> reindexAnyObjects() throws IOException {
-        indexManager.createAnyIndex(
-                AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT, anyObjectSettings(), anyObjectMapping());
-
-        long count = anyObjectDAO.count();
-        String index = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT);
-        setStatus("Indexing " + count + " any objects under " + index + "...");
-
-        try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
+    protected Pair<String, Long> reindexUsers() throws IOException {
+        return reindexAnys(AnyTypeKind.USER, userDAO, userSettings(), userMapping());
+    }
 
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                for (AnyObject anyObject : anyObjectDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
-                            index(index).
-                            id(anyObject.getKey()).
-                            document(utils.document(anyObject))));
-                }
-            }
-        } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
-        }
+    protected Pair<String, Long> reindexGroups() throws IOException {
+        return reindexAnys(AnyTypeKind.GROUP, groupDAO, groupSettings(), groupMapping());
+    }
 
-        return Pair.of(index, count);
+    protected Pair<String, Long> reindexAnyObjects() throws IOException {
+        return reindexAnys(AnyTypeKind.ANY_OBJECT, anyObjectDAO, anyObjectSettings(), anyObjectMapping());
     }
 
     protected String reindexAudit() throws IOException {
@@ -41,6 +41,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.Attr;
@@ -585,6 +586,55 @@ public class AuditITCase extends AbstractITCase {
         assertEquals(1, events.getSize());
     }
 
+    @Test
+    public void saveAuditEvents() {
+        OffsetDateTime when = OffsetDateTime.now().minusHours(1);
+
+        List<AuditEventTO> auditEvents = Stream.of(1, 2).map(i -> {
+            AuditEventTO auditEvent = new AuditEventTO();
+            auditEvent.setOpEvent(new OpEvent(
+                    OpEvent.CategoryType.WA,
+                    null,
+                    "AuthenticationEvent",
+                    "auth",
+                    OpEvent.Outcome.SUCCESS));
+            auditEvent.setWho("syncope-user " + UUID.randomUUID());
+            auditEvent.setWhen(when);
+            auditEvent.setOutput(UUID.randomUUID().toString());
+            return auditEvent;
+        }).toList();
+        assertDoesNotThrow(() -> AUDIT_SERVICE.create(auditEvents));
+
+        auditEvents.forEach(auditEvent -> await().atMost(MAX_WAIT_SECONDS, TimeUnit.SECONDS).until(() -> {
+            PagedResult<AuditEventTO> events = AUDIT_SERVICE.search(new AuditQuery.Builder().
+                    who(auditEvent.getWho()).
+                    type(auditEvent.getOpEvent().getType()).
+                    build());
+            return events.getTotalCount() == 1
+                    && events.getResult().getFirst().getWhen().isBefore(OffsetDateTime.now().minusMinutes(30));
+        }));
+
+        // the instant provided is not trusted when later than reception, or outside bulk requests
+        AuditEventTO future = SerializationUtils.clone(auditEvents.getFirst());
+        future.setWho("syncope-user " + UUID.randomUUID());
+        future.setWhen(OffsetDateTime.now().plusHours(1));
+        AuditEventTO single = SerializationUtils.clone(auditEvents.getFirst());
+        single.setWho("syncope-user " + UUID.randomUUID());
+
+        AUDIT_SERVICE.create(List.of(future));
+        AUDIT_SERVICE.create(single);
+
+        Stream.of(future, single).forEach(auditEvent -> await().atMost(MAX_WAIT_SECONDS, TimeUnit.SECONDS).until(() -> {
+            PagedResult<AuditEventTO> events = AUDIT_SERVICE.search(new AuditQuery.Builder().
+                    who(auditEvent.getWho()).
+                    type(auditEvent.getOpEvent().getType()).
+                    build());
+            return events.getTotalCount() == 1
+                    && events.getResult().getFirst().getWhen().isAfter(OffsetDateTime.now().minusMinutes(30))
+                    && events.getResult().getFirst().getWhen().isBefore(OffsetDateTime.now().plusMinutes(30));
+        }));
+    }
+
     @Test
     public void auditEventProcessor() throws IOException, InterruptedException {
         try (InputStream propStream = getClass().getResourceAsStream("/test.properties")) {
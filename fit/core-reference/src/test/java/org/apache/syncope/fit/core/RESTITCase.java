@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.RedirectionException;
 import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -41,6 +42,7 @@ import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
 import org.apache.syncope.common.lib.request.StringReplacePatchItem;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.AnyTypeTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
@@ -48,6 +50,7 @@ import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.service.AnyTypeService;
 import org.apache.syncope.common.rest.api.service.ConnectorService;
 import org.apache.syncope.common.rest.api.service.GroupService;
 import org.apache.syncope.common.rest.api.service.UserService;
@@ -154,6 +157,30 @@ public class RESTITCase extends AbstractITCase {
         assertTrue(userTO.getUsername().endsWith("XX"));
     }
 
+    @Test
+    public void ifNoneMatch() {
+        List<AnyTypeTO> anyTypes = ANY_TYPE_SERVICE.list();
+        assertFalse(anyTypes.isEmpty());
+
+        EntityTag etag = SyncopeClient.getLatestEntityTag(ANY_TYPE_SERVICE);
+        assertNotNull(etag);
+        assertTrue(StringUtils.isNotBlank(etag.getValue()));
+
+        AnyTypeService ifNoneMatchService =
+                SyncopeClient.ifNoneMatch(ADMIN_CLIENT.getService(AnyTypeService.class), etag);
+        try {
+            ifNoneMatchService.list();
+            fail("This should not happen");
+        } catch (RedirectionException e) {
+            assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), e.getResponse().getStatus());
+        }
+
+        ifNoneMatchService = SyncopeClient.ifNoneMatch(
+                ADMIN_CLIENT.getService(AnyTypeService.class), new EntityTag(etag.getValue() + "XX"));
+        assertEquals(anyTypes.size(), ifNoneMatchService.list().size());
+        assertEquals(etag, SyncopeClient.getLatestEntityTag(ifNoneMatchService));
+    }
+
     @Test
     public void exportInternalStorageContent() throws IOException {
         Response response = SYNCOPE_SERVICE.exportInternalStorageContent(100, List.of());
@@ -23,7 +23,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.syncope.common.lib.policy.AccessPolicyTO;
 import org.apache.syncope.common.lib.policy.AttrReleasePolicyTO;
 import org.apache.syncope.common.lib.policy.AuthPolicyTO;
@@ -35,6 +37,7 @@ import org.apache.syncope.common.lib.to.SAML2SPClientAppTO;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.types.PolicyType;
 import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.fit.AbstractITCase;
 import org.junit.jupiter.api.BeforeAll;
@@ -88,6 +91,34 @@ public class WAClientAppITCase extends AbstractITCase {
         assertNotNull(registeredSamlClientApp);
     }
 
+    @Test
+    public void sync() {
+        OIDCRPClientAppTO oidcrpto = createClientApp(ClientAppType.OIDCRP, buildOIDCRP());
+
+        WAClientAppSync sync = WA_CLIENT_APP_SERVICE.sync(null, Map.of());
+        assertFalse(sync.isUnchanged());
+        assertFalse(sync.getChanged().isEmpty());
+        assertEquals(sync.getDigests().size(), sync.getChanged().size());
+        assertTrue(sync.getDigests().containsKey(oidcrpto.getKey()));
+        assertTrue(sync.getRemoved().isEmpty());
+
+        Map<String, String> digests = new HashMap<>(sync.getDigests());
+        digests.put("missing", "digest");
+        digests.put(oidcrpto.getKey(), "outdated");
+
+        WAClientAppSync delta = WA_CLIENT_APP_SERVICE.sync(null, digests);
+        assertEquals(1, delta.getChanged().size());
+        assertEquals(oidcrpto.getKey(), delta.getChanged().getFirst().getClientAppTO().getKey());
+        assertEquals(List.of("missing"), delta.getRemoved());
+        assertEquals(sync.getDigests(), delta.getDigests());
+        assertEquals(sync.getVersion(), delta.getVersion());
+
+        WAClientAppSync unchanged = WA_CLIENT_APP_SERVICE.sync(sync.getVersion(), sync.getDigests());
+        assertTrue(unchanged.isUnchanged());
+        assertEquals(sync.getVersion(), unchanged.getVersion());
+        assertTrue(unchanged.getChanged().isEmpty());
+    }
+
     @Test
     public void readWithPolicies() {
         OIDCRPClientAppTO oidcrpto = buildOIDCRP();
@@ -20,9 +20,15 @@ package org.apache.syncope.sra;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -118,6 +124,8 @@ public class RouteProvider {
 
     protected final List<SRARouteTO> routeTOs = new ArrayList<>();
 
+    protected final Map<String, Route> routes = new HashMap<>();
+
     public RouteProvider(
             final ServiceOps serviceOps,
             final ConfigurableApplicationContext ctx,
@@ -567,7 +575,13 @@ public class RouteProvider {
         return builder;
     }
 
-    public List<Route.AsyncBuilder> fetch() {
+    /**
+     * Fetches routes from Core; only routes which were created or updated since the previous invocation are built
+     * again, and a {@link RoutesChangedEvent} is published, reporting which routes have changed.
+     *
+     * @return routes
+     */
+    public List<Route> fetch() {
         synchronized (this) {
             if (client == null) {
                 try {
@@ -582,12 +596,37 @@ public class RouteProvider {
             }
         }
 
+        List<SRARouteTO> fetched = client.getService(SRARouteService.class).list();
+
+        Set<String> changed = new HashSet<>();
+        List<Route> result;
         synchronized (routeTOs) {
+            Map<String, SRARouteTO> previous = routeTOs.stream().
+                    collect(Collectors.toMap(SRARouteTO::getKey, Function.identity(), (r1, r2) -> r1));
+
+            fetched.forEach(routeTO -> {
+                if (!routeTO.equals(previous.remove(routeTO.getKey())) || !routes.containsKey(routeTO.getKey())) {
+                    changed.add(routeTO.getKey());
+                    routes.put(routeTO.getKey(), toRoute(routeTO).build());
+                }
+            });
+            previous.keySet().forEach(key -> {
+                changed.add(key);
+                routes.remove(key);
+            });
+
             routeTOs.clear();
-            routeTOs.addAll(client.getService(SRARouteService.class).list());
+            routeTOs.addAll(fetched);
+
+            result = fetched.stream().map(routeTO -> routes.get(routeTO.getKey())).toList();
+        }
+
+        if (!changed.isEmpty()) {
+            LOG.debug("Routes changed: {}", changed);
+            ctx.publishEvent(new RoutesChangedEvent(this, changed));
         }
 
-        return routeTOs.stream().map(this::toRoute).toList();
+        return result;
     }
 
     public List<SRARouteTO> getRouteTOs() {
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.lib.types.SRARoutePredicate;
+import org.apache.syncope.common.lib.types.SRARoutePredicateCond;
+import org.apache.syncope.common.lib.types.SRARoutePredicateFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.handler.AsyncPredicate;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves the route matching each exchange at most once, caching the result as exchange attribute for all the
+ * security matchers and for the gateway's handler mapping.
+ * Candidate routes are narrowed via an index built from the host and path predicates of each route, when these are
+ * necessary conditions for the route to match; predicates of candidate routes are then evaluated by route order, as
+ * the gateway would do.
+ */
+public class RouteResolver {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(RouteResolver.class);
+
+    public static final String RESOLVED_ROUTE_ATTR = RouteResolver.class.getName() + ".resolvedRoute";
+
+    protected static final char[] PATTERN_CHARS = { '*', '?', '{' };
+
+    /**
+     * Route as indexed.
+     *
+     * @param position position of the route, after sorting by order
+     * @param route route, with the original predicate
+     * @param hosts literal host values one of which is required for the route to match, or {@code null}
+     * @param pathPrefixes literal path prefixes one of which is required for the route to match, or {@code null}
+     * @param segment first path segment required for the route to match, or {@code null}
+     */
+    protected record Entry(int position, Route route, Set<String> hosts, List<String> pathPrefixes, String segment) {
+
+        protected boolean accepts(final String host, final String path) {
+            if (hosts != null && (host == null
+                    || (!hosts.contains(host) && !hosts.contains(StringUtils.substringBefore(host, ':'))))) {
+
+                return false;
+            }
+            return pathPrefixes == null || (path != null && pathPrefixes.stream().anyMatch(path::startsWith));
+        }
+    }
+
+    protected record Index(
+            List<Entry> entries,
+            Map<String, List<Entry>> bySegment,
+            List<Entry> unsegmented) {
+
+        protected List<Entry> candidates(final String path) {
+            if (path == null || path.indexOf('%') != -1) {
+                return entries;
+            }
+
+            List<Entry> segmented = bySegment.getOrDefault(firstSegment(path), List.of());
+            if (segmented.isEmpty()) {
+                return unsegmented;
+            }
+            if (unsegmented.isEmpty()) {
+                return segmented;
+            }
+
+            // merge by position, preserving route order
+            List<Entry> candidates = new ArrayList<>(segmented.size() + unsegmented.size());
+            int i = 0;
+            int j = 0;
+            while (i < segmented.size() || j < unsegmented.size()) {
+                if (j == unsegmented.size()
+                        || (i < segmented.size() && segmented.get(i).position() < unsegmented.get(j).position())) {
+
+                    candidates.add(segmented.get(i++));
+                } else {
+                    candidates.add(unsegmented.get(j++));
+                }
+            }
+            return candidates;
+        }
+    }
+
+    protected static String firstSegment(final String path) {
+        String segment = StringUtils.removeStart(path, "/");
+        int slash = segment.indexOf('/');
+        return slash == -1 ? segment : segment.substring(0, slash);
+    }
+
+    protected static boolean isLiteral(final String pattern) {
+        return StringUtils.indexOfAny(pattern, PATTERN_CHARS) == -1;
+    }
+
+    /**
+     * Returns the predicates which need to be satisfied for the route to match, e.g. when all predicates are
+     * combined via {@link SRARoutePredicateCond#AND}.
+     *
+     * @param routeTO route
+     * @return predicates which need to be satisfied for the route to match
+     */
+    protected static List<SRARoutePredicate> required(final SRARouteTO routeTO) {
+        if (routeTO == null || routeTO.getPredicates().stream().skip(1).
+                anyMatch(predicate -> predicate.getCond() != SRARoutePredicateCond.AND)) {
+
+            return List.of();
+        }
+
+        return routeTO.getPredicates().stream().filter(predicate -> !predicate.isNegate()).toList();
+    }
+
+    protected static Entry entry(final int position, final Route route, final SRARouteTO routeTO) {
+        List<SRARoutePredicate> required = required(routeTO);
+
+        Set<String> hosts = required.stream().
+                filter(predicate -> predicate.getFactory() == SRARoutePredicateFactory.HOST).
+                findFirst().
+                map(predicate -> Stream.of(predicate.getArgs().split(",")).map(String::trim).toList()).
+                filter(patterns -> patterns.stream().allMatch(RouteResolver::isLiteral)).
+                map(patterns -> (Set<String>) new LinkedHashSet<>(patterns)).
+                orElse(null);
+
+        List<String> pathPatterns = required.stream().
+                filter(predicate -> predicate.getFactory() == SRARoutePredicateFactory.PATH).
+                findFirst().
+                map(predicate -> Stream.of(predicate.getArgs().split(",")).map(String::trim).toList()).
+                orElse(List.of());
+
+        List<String> pathPrefixes = null;
+        String segment = null;
+        if (!pathPatterns.isEmpty()) {
+            List<String> prefixes = new ArrayList<>();
+            Set<String> segments = new HashSet<>();
+            for (String pattern : pathPatterns) {
+                int idx = StringUtils.indexOfAny(pattern, PATTERN_CHARS);
+                String prefix = idx == -1 ? pattern : pattern.substring(0, idx);
+
+                // first segment is complete only if followed by '/' or if the whole pattern is literal
+                String first = firstSegment(prefix);
+                segments.add(idx == -1 || StringUtils.removeStart(prefix, "/").length() > first.length()
+                        ? first : null);
+
+                // "/path/**" also matches "/path"
+                prefixes.add(prefix.length() > 1 ? StringUtils.removeEnd(prefix, "/") : prefix);
+            }
+
+            if (prefixes.stream().noneMatch(StringUtils::isEmpty)) {
+                pathPrefixes = prefixes;
+                if (segments.size() == 1 && !segments.contains(null)) {
+                    segment = segments.iterator().next();
+                }
+            }
+        }
+
+        return new Entry(position, route, hosts, pathPrefixes, segment);
+    }
+
+    protected volatile Index index;
+
+    /**
+     * Indexes the given routes, returning them with predicates using the route resolved for each exchange.
+     *
+     * @param routes routes, as built from the given route TOs
+     * @param routeTOs route TOs
+     * @return routes to be used by the gateway
+     */
+    public List<Route> index(final List<Route> routes, final List<SRARouteTO> routeTOs) {
+        Map<String, SRARouteTO> byKey = routeTOs.stream().
+                collect(Collectors.toMap(SRARouteTO::getKey, Function.identity(), (r1, r2) -> r1));
+
+        List<Route> sorted = routes.stream().sorted(Comparator.comparingInt(Route::getOrder)).toList();
+
+        List<Entry> entries = new ArrayList<>(sorted.size());
+        Map<String, List<Entry>> bySegment = new HashMap<>();
+        List<Entry> unsegmented = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            Entry entry = entry(i, sorted.get(i), byKey.get(sorted.get(i).getId()));
+            entries.add(entry);
+
+            Optional.ofNullable(entry.segment()).ifPresentOrElse(
+                    segment -> bySegment.computeIfAbsent(segment, k -> new ArrayList<>()).add(entry),
+                    () -> unsegmented.add(entry));
+        }
+        index = new Index(entries, bySegment, unsegmented);
+
+        LOG.debug("Indexed {} routes, {} segments, {} not segmented",
+                entries.size(), bySegment.size(), unsegmented.size());
+
+        return routes.stream().map(route -> Route.async().
+                id(route.getId()).
+                uri(route.getUri()).
+                order(route.getOrder()).
+                asyncPredicate(predicate(route.getId())).
+                filters(route.getFilters()).
+                metadata(route.getMetadata()).
+                build()).
+                toList();
+    }
+
+    protected AsyncPredicate<ServerWebExchange> predicate(final String routeId) {
+        return exchange -> resolve(exchange).map(resolved -> resolved.map(r -> r.getId().equals(routeId)).
+                orElse(false));
+    }
+
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * Resolves the route matching the given exchange, evaluating route predicates only on first invocation for
+     * the exchange.
+     *
+     * @param exchange exchange
+     * @return route matching the given exchange, if any
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<Optional<Route>> resolve(final ServerWebExchange exchange) {
+        Optional<Route> resolved = (Optional<Route>) exchange.getAttributes().get(RESOLVED_ROUTE_ATTR);
+        if (resolved != null) {
+            return Mono.just(resolved);
+        }
+
+        Index current = index;
+        if (current == null) {
+            return Mono.just(Optional.empty());
+        }
+
+        String host = exchange.getRequest().getHeaders().getFirst(HttpHeaders.HOST);
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+
+        // see org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping#lookupRoute
+        return Flux.fromIterable(current.candidates(path)).
+                filter(entry -> entry.accepts(host, path)).
+                // individually filter routes so that filterWhen error delaying is not a problem
+                concatMap(entry -> Mono.just(entry.route()).filterWhen(route -> {
+                    exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR, route.getId());
+                    return route.getPredicate().apply(exchange);
+                }).
+                // instead of immediately stopping main flux due to error, log and swallow it
+                doOnError(e -> LOG.error("Error applying predicate for route: {}", entry.route().getId(), e)).
+                onErrorResume(e -> Mono.empty())).
+                next().
+                map(Optional::of).
+                defaultIfEmpty(Optional.empty()).
+                doOnNext(route -> {
+                    LOG.debug("Route resolved: {}", route);
+                    route.ifPresent(r -> exchange.getAttributes().
+                            put(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR, r.getId()));
+                    exchange.getAttributes().put(RESOLVED_ROUTE_ATTR, route);
+                });
+    }
+}
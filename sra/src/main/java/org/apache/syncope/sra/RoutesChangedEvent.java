@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import java.util.Set;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by {@link RouteProvider} once routes were fetched, reporting the keys of routes which were created,
+ * updated or deleted since the previous fetch.
+ */
+public class RoutesChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -3962379545326455873L;
+
+    private final Set<String> routeKeys;
+
+    public RoutesChangedEvent(final Object source, final Set<String> routeKeys) {
+        super(source);
+        this.routeKeys = routeKeys;
+    }
+
+    public Set<String> getRouteKeys() {
+        return routeKeys;
+    }
+}
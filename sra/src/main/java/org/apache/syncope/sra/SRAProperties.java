@@ -366,6 +366,64 @@ public class SRAProperties extends SyncopeProperties {
         }
     }
 
+    public static class Session implements Serializable {
+
+        private static final long serialVersionUID = 2907405867232466513L;
+
+        /**
+         * Maximum number of sessions held; when exceeded, the least recently accessed sessions are evicted.
+         */
+        private int maxSessions = 10000;
+
+        /**
+         * Seconds of inactivity after which a session expires.
+         */
+        private long maxInactiveInterval = 1800;
+
+        /**
+         * Seconds after creation after which a session expires, regardless of activity; not enforced if not
+         * positive.
+         */
+        private long maxLifetime = 28800;
+
+        /**
+         * How often, in seconds, expired sessions are removed.
+         */
+        private long reapInterval = 60;
+
+        public int getMaxSessions() {
+            return maxSessions;
+        }
+
+        public void setMaxSessions(final int maxSessions) {
+            this.maxSessions = maxSessions;
+        }
+
+        public long getMaxInactiveInterval() {
+            return maxInactiveInterval;
+        }
+
+        public void setMaxInactiveInterval(final long maxInactiveInterval) {
+            this.maxInactiveInterval = maxInactiveInterval;
+        }
+
+        public long getMaxLifetime() {
+            return maxLifetime;
+        }
+
+        public void setMaxLifetime(final long maxLifetime) {
+            this.maxLifetime = maxLifetime;
+        }
+
+        public long getReapInterval() {
+            return reapInterval;
+        }
+
+        public void setReapInterval(final long reapInterval) {
+            this.reapInterval = reapInterval;
+        }
+    }
+
     private final Global global = new Global();
 
     private AMType amType = AMType.OIDC;
@@ -378,6 +436,8 @@ public class SRAProperties extends SyncopeProperties {
 
     private final CAS cas = new CAS();
 
+    private final Session session = new Session();
+
     public Global getGlobal() {
         return global;
     }
@@ -405,4 +465,8 @@ public class SRAProperties extends SyncopeProperties {
     public CAS getCas() {
         return cas;
     }
+
+    public Session getSession() {
+        return session;
+    }
 }
@@ -28,14 +28,13 @@ import org.apache.syncope.sra.actuate.SyncopeSRAInfoContributor;
 import org.apache.syncope.sra.security.CsrfRouteMatcher;
 import org.apache.syncope.sra.security.LogoutRouteMatcher;
 import org.apache.syncope.sra.security.PublicRouteMatcher;
+import org.apache.syncope.sra.session.SessionCache;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.cache.CacheManager;
-import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -82,14 +81,23 @@ public class SyncopeSRAApplication {
 
     @ConditionalOnMissingBean
     @Bean
-    public RouteLocator routes(@Qualifier("routeProvider") final RouteProvider routeProvider) {
-        return () -> Flux.fromIterable(routeProvider.fetch()).map(Route.AbstractBuilder::build);
+    public RouteResolver routeResolver() {
+        return new RouteResolver();
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public SRASessions sraSessionsActuatorEndpoint(final CacheManager cacheManager) {
-        return new SRASessions(cacheManager);
+    public RouteLocator routes(
+            @Qualifier("routeProvider") final RouteProvider routeProvider,
+            final RouteResolver routeResolver) {
+
+        return () -> Flux.fromIterable(routeResolver.index(routeProvider.fetch(), routeProvider.getRouteTOs()));
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public SRASessions sraSessionsActuatorEndpoint(final SessionCache sessionCache) {
+        return new SRASessions(sessionCache);
     }
 
     @ConditionalOnMissingBean
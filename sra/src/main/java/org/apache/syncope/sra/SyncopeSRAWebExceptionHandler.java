@@ -30,7 +30,6 @@ import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
 import org.springframework.cloud.gateway.support.NotFoundException;
 import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.context.ApplicationListener;
@@ -47,7 +46,7 @@ import org.springframework.web.server.WebExceptionHandler;
 import reactor.core.publisher.Mono;
 
 @Order(-2)
-public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, ApplicationListener<RefreshRoutesEvent> {
+public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, ApplicationListener<RoutesChangedEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SyncopeSRAWebExceptionHandler.class);
 
@@ -63,8 +62,8 @@ public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, Appli
     }
 
     @Override
-    public void onApplicationEvent(final RefreshRoutesEvent event) {
-        CACHE.clear();
+    public void onApplicationEvent(final RoutesChangedEvent event) {
+        CACHE.keySet().removeAll(event.getRouteKeys());
     }
 
     private URI getError(final ServerWebExchange exchange) {
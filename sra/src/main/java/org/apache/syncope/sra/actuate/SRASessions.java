@@ -21,21 +21,16 @@ package org.apache.syncope.sra.actuate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentMap;
 import org.apache.syncope.common.lib.AMSession;
-import org.apache.syncope.sra.SessionConfig;
-import org.apache.syncope.sra.security.cas.CASAuthenticationToken;
-import org.apache.syncope.sra.security.saml2.SAML2AuthenticationToken;
+import org.apache.syncope.sra.session.SessionCache;
+import org.apache.syncope.sra.session.SessionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
 import org.springframework.session.MapSession;
 import tools.jackson.databind.json.JsonMapper;
@@ -47,10 +42,10 @@ public class SRASessions {
 
     protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
 
-    protected final CacheManager cacheManager;
+    protected final SessionCache sessionCache;
 
-    public SRASessions(final CacheManager cacheManager) {
-        this.cacheManager = cacheManager;
+    public SRASessions(final SessionCache sessionCache) {
+        this.sessionCache = sessionCache;
     }
 
     protected static AMSession map(final MapSession mapSession) {
@@ -64,17 +59,7 @@ public class SRASessions {
         session.setKey(mapSession.getId());
         session.setAuthenticationDate(mapSession.getCreationTime().atOffset(OffsetDateTime.now().getOffset()));
 
-        String principal = switch (ctx.getAuthentication()) {
-            case SAML2AuthenticationToken saml2AuthenticationToken ->
-                saml2AuthenticationToken.getPrincipal().getUserProfile().getUsername();
-            case CASAuthenticationToken casAuthenticationToken ->
-                casAuthenticationToken.getPrincipal().getPrincipal().getName();
-            case OAuth2AuthenticationToken oauth2AuthenticationToken ->
-                oauth2AuthenticationToken.getPrincipal().getName();
-            default ->
-                ctx.getAuthentication().getPrincipal().toString();
-        };
-        session.setPrincipal(principal);
+        session.setPrincipal(SessionUtils.getPrincipal(ctx.getAuthentication()));
 
         try {
             session.setJson(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(ctx.getAuthentication()));
@@ -86,17 +71,14 @@ public class SRASessions {
     }
 
     @ReadOperation
-    @SuppressWarnings("unchecked")
     public List<AMSession> list() {
-        return ((ConcurrentMap<Object, Object>) cacheManager.getCache(SessionConfig.DEFAULT_CACHE).getNativeCache()).
-                values().stream().map(MapSession.class::cast).map(SRASessions::map).
-                filter(Objects::nonNull).toList();
+        return sessionCache.sessions().stream().map(SRASessions::map).filter(Objects::nonNull).toList();
     }
 
     @ReadOperation
     public AMSession read(@Selector final String id) {
-        Cache.ValueWrapper value = cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(id);
-        if (value == null || !(value.get() instanceof final MapSession mapSession)) {
+        MapSession mapSession = sessionCache.find(id);
+        if (mapSession == null) {
             return null;
         }
 
@@ -105,6 +87,6 @@ public class SRASessions {
 
     @DeleteOperation
     public void delete(@Selector final String id) {
-        cacheManager.getCache(SessionConfig.DEFAULT_CACHE).evict(id);
+        sessionCache.remove(id);
     }
 }
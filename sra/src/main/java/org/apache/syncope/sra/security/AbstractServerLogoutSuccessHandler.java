@@ -25,10 +25,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.sra.RouteProvider;
+import org.apache.syncope.sra.RoutesChangedEvent;
 import org.apache.syncope.sra.SRAProperties;
 import org.apache.syncope.sra.security.web.server.DoNothingIfCommittedServerRedirectStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
 import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.context.ApplicationListener;
 import org.springframework.security.web.server.ServerRedirectStrategy;
@@ -36,7 +36,7 @@ import org.springframework.security.web.server.WebFilterExchange;
 import org.springframework.security.web.server.authentication.logout.ServerLogoutSuccessHandler;
 
 public abstract class AbstractServerLogoutSuccessHandler
-        implements ServerLogoutSuccessHandler, ApplicationListener<RefreshRoutesEvent> {
+        implements ServerLogoutSuccessHandler, ApplicationListener<RoutesChangedEvent> {
 
     private static final Map<String, Optional<URI>> CACHE = new ConcurrentHashMap<>();
 
@@ -49,8 +49,8 @@ public abstract class AbstractServerLogoutSuccessHandler
     private SRAProperties props;
 
     @Override
-    public void onApplicationEvent(final RefreshRoutesEvent event) {
-        CACHE.clear();
+    public void onApplicationEvent(final RoutesChangedEvent event) {
+        CACHE.keySet().removeAll(event.getRouteKeys());
     }
 
     protected URI getPostLogout(final WebFilterExchange exchange) {
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.session.MapSession;
+
+/**
+ * In-memory session store, exposed as {@link org.springframework.cache.Cache} for components working with
+ * {@link org.springframework.cache.CacheManager}.
+ * Sessions are held up to a maximum number, evicting the least recently accessed when exceeded; they expire after
+ * their maximum inactive interval or maximum lifetime, and are indexed by principal.
+ * Sessions are returned as stored, without copying.
+ */
+public class SessionCache extends AbstractValueAdaptingCache implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(SessionCache.class);
+
+    protected final String name;
+
+    protected final int maxSessions;
+
+    protected final Duration maxLifetime;
+
+    protected final Map<String, MapSession> sessions = new ConcurrentHashMap<>();
+
+    protected final Map<String, String> principals = new ConcurrentHashMap<>();
+
+    protected final Map<String, Set<String>> byPrincipal = new ConcurrentHashMap<>();
+
+    protected final AtomicBoolean shrinking = new AtomicBoolean(false);
+
+    protected ScheduledExecutorService reaper;
+
+    /**
+     * @param name cache name
+     * @param maxSessions maximum number of sessions held
+     * @param maxLifetime maximum session lifetime since creation; not enforced if not positive
+     * @param reapInterval how often expired sessions are removed; if not positive, {@link #reap()} needs to be
+     * invoked explicitly
+     */
+    public SessionCache(
+            final String name,
+            final int maxSessions,
+            final Duration maxLifetime,
+            final Duration reapInterval) {
+
+        super(false);
+        this.name = name;
+        this.maxSessions = maxSessions;
+        this.maxLifetime = maxLifetime;
+
+        if (reapInterval.isPositive()) {
+            reaper = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("SessionCache-", 0).factory());
+            reaper.scheduleWithFixedDelay(
+                    this::reap, reapInterval.toMillis(), reapInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    protected boolean isExpired(final MapSession session, final Instant now) {
+        return session.isExpired()
+                || (maxLifetime.isPositive() && session.getCreationTime().plus(maxLifetime).isBefore(now));
+    }
+
+    protected void unindex(final String id) {
+        Optional.ofNullable(principals.remove(id)).ifPresent(principal -> byPrincipal.computeIfPresent(
+                principal, (k, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                }));
+    }
+
+    protected void index(final String id, final String principal) {
+        String previous = principal == null ? principals.remove(id) : principals.put(id, principal);
+        if (previous != null && !previous.equals(principal)) {
+            byPrincipal.computeIfPresent(previous, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        if (principal != null && !principal.equals(previous)) {
+            byPrincipal.computeIfAbsent(principal, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Returns the session with the given id, unless expired.
+     *
+     * @param id session id
+     * @return session, or {@code null} if not found or expired
+     */
+    public MapSession find(final String id) {
+        MapSession session = sessions.get(id);
+        if (session != null && isExpired(session, Instant.now())) {
+            remove(id);
+            return null;
+        }
+        return session;
+    }
+
+    public void save(final MapSession session) {
+        boolean[] added = new boolean[1];
+        sessions.compute(session.getId(), (id, previous) -> {
+            added[0] = previous == null;
+            index(id, SessionUtils.getPrincipal(session));
+            return session;
+        });
+
+        if (added[0] && sessions.size() > maxSessions) {
+            shrink();
+        }
+    }
+
+    public void remove(final String id) {
+        sessions.computeIfPresent(id, (k, session) -> {
+            unindex(k);
+            return null;
+        });
+    }
+
+    /**
+     * Returns the sessions authenticated for the given principal, unless expired.
+     *
+     * @param principal principal
+     * @return sessions authenticated for the given principal, keyed by id
+     */
+    public Map<String, MapSession> findByPrincipal(final String principal) {
+        return byPrincipal.getOrDefault(principal, Set.of()).stream().
+                map(this::find).
+                filter(session -> session != null && principal.equals(principals.get(session.getId()))).
+                collect(Collectors.toMap(MapSession::getId, session -> session));
+    }
+
+    public void removeByPrincipal(final String principal) {
+        Optional.ofNullable(byPrincipal.get(principal)).ifPresent(ids -> Set.copyOf(ids).forEach(this::remove));
+    }
+
+    /**
+     * @return unmodifiable view of the sessions held, possibly including expired ones not yet reaped
+     */
+    public Collection<MapSession> sessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes expired sessions.
+     */
+    public void reap() {
+        Instant now = Instant.now();
+        sessions.values().stream().
+                filter(session -> isExpired(session, now)).
+                map(MapSession::getId).
+                toList().
+                forEach(this::remove);
+    }
+
+    /**
+     * Brings the number of sessions held below the configured maximum, removing expired sessions first, then the
+     * least recently accessed ones; some headroom is left so that this is not performed for each new session.
+     */
+    protected void shrink() {
+        if (!shrinking.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            reap();
+
+            int excess = sessions.size() - (maxSessions - maxSessions / 10);
+            if (sessions.size() > maxSessions && excess > 0) {
+                LOG.debug("Evicting {} least recently accessed sessions", excess);
+
+                sessions.values().stream().
+                        sorted(Comparator.comparing(MapSession::getLastAccessedTime)).
+                        limit(excess).
+                        map(MapSession::getId).
+                        toList().
+                        forEach(this::remove);
+            }
+        } finally {
+            shrinking.set(false);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        return find(key.toString());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value == null) {
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        if (value instanceof final MapSession session && session.getId().equals(key)) {
+            save(session);
+        } else {
+            throw new IllegalArgumentException("Only " + MapSession.class.getSimpleName()
+                    + " instances, keyed by their id, can be stored");
+        }
+    }
+
+    @Override
+    public void evict(final Object key) {
+        remove(key.toString());
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return Optional.ofNullable(sessions.get(key.toString())).map(session -> {
+            remove(session.getId());
+            return true;
+        }).orElse(false);
+    }
+
+    @Override
+    public void clear() {
+        sessions.keySet().forEach(this::remove);
+    }
+
+    @Override
+    public void destroy() {
+        Optional.ofNullable(reaper).ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+}
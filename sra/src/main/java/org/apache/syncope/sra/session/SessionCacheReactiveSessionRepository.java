@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveFindByIndexNameSessionRepository;
+import reactor.core.publisher.Mono;
+
+public class SessionCacheReactiveSessionRepository implements ReactiveFindByIndexNameSessionRepository<MapSession> {
+
+    protected final SessionCache sessionCache;
+
+    protected final Duration maxInactiveInterval;
+
+    public SessionCacheReactiveSessionRepository(
+            final SessionCache sessionCache,
+            final Duration maxInactiveInterval) {
+
+        this.sessionCache = sessionCache;
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    @Override
+    public Mono<MapSession> createSession() {
+        return Mono.fromSupplier(() -> {
+            MapSession session = new MapSession();
+            session.setMaxInactiveInterval(maxInactiveInterval);
+            return session;
+        });
+    }
+
+    @Override
+    public Mono<Void> save(final MapSession session) {
+        return Mono.fromRunnable(() -> {
+            if (session.getId().equals(session.getOriginalId())) {
+                sessionCache.save(session);
+            } else {
+                // session id was changed: store a copy, which takes the new id as original
+                sessionCache.remove(session.getOriginalId());
+                sessionCache.save(new MapSession(session));
+            }
+        });
+    }
+
+    @Override
+    public Mono<MapSession> findById(final String id) {
+        return Mono.fromSupplier(() -> sessionCache.find(id));
+    }
+
+    @Override
+    public Mono<Void> deleteById(final String id) {
+        return Mono.fromRunnable(() -> sessionCache.remove(id));
+    }
+
+    @Override
+    public Mono<Map<String, MapSession>> findByIndexNameAndIndexValue(
+            final String indexName, final String indexValue) {
+
+        return Mono.fromSupplier(() -> FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(indexName)
+                ? sessionCache.findByPrincipal(indexValue)
+                : Map.of());
+    }
+}
@@ -18,8 +18,14 @@
  */
 package org.apache.syncope.sra.session;
 
+import org.apache.syncope.sra.security.cas.CASAuthenticationToken;
+import org.apache.syncope.sra.security.saml2.SAML2AuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
 import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.session.Session;
 
 public final class SessionUtils {
 
@@ -33,6 +39,31 @@ public final class SessionUtils {
                 switchIfEmpty(ServerWebExchangeMatcher.MatchResult.notMatch());
     }
 
+    public static String getPrincipal(final Authentication authentication) {
+        return switch (authentication) {
+            case SAML2AuthenticationToken saml2AuthenticationToken ->
+                saml2AuthenticationToken.getPrincipal().getUserProfile().getUsername();
+            case CASAuthenticationToken casAuthenticationToken ->
+                casAuthenticationToken.getPrincipal().getPrincipal().getName();
+            case OAuth2AuthenticationToken oauth2AuthenticationToken ->
+                oauth2AuthenticationToken.getPrincipal().getName();
+            default ->
+                authentication.getPrincipal().toString();
+        };
+    }
+
+    /**
+     * Returns the principal authenticated within the given session, if any.
+     *
+     * @param session session
+     * @return principal, or {@code null} if not authenticated
+     */
+    public static String getPrincipal(final Session session) {
+        SecurityContext ctx = session.getAttribute(
+                WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
+        return ctx == null || ctx.getAuthentication() == null ? null : getPrincipal(ctx.getAuthentication());
+    }
+
     private SessionUtils() {
         // private constructor for static utility class
     }
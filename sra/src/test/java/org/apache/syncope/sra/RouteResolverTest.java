@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.lib.types.SRARoutePredicate;
+import org.apache.syncope.common.lib.types.SRARoutePredicateCond;
+import org.apache.syncope.common.lib.types.SRARoutePredicateFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+public class RouteResolverTest {
+
+    private static final Map<String, AtomicInteger> EVALUATIONS = new ConcurrentHashMap<>();
+
+    private static SRARouteTO routeTO(final String key, final int order, final SRARoutePredicate... predicates) {
+        SRARouteTO routeTO = new SRARouteTO();
+        routeTO.setKey(key);
+        routeTO.setOrder(order);
+        routeTO.setTarget(URI.create("http://localhost"));
+        routeTO.getPredicates().addAll(List.of(predicates));
+        return routeTO;
+    }
+
+    private static SRARoutePredicate predicate(
+            final SRARoutePredicateCond cond, final SRARoutePredicateFactory factory, final String args) {
+
+        return new SRARoutePredicate.Builder().cond(cond).factory(factory).args(args).build();
+    }
+
+    private static Route route(final SRARouteTO routeTO, final String host, final String pathPrefix) {
+        return Route.async().id(routeTO.getKey()).order(routeTO.getOrder()).uri(routeTO.getTarget()).
+                predicate(exchange -> {
+                    EVALUATIONS.computeIfAbsent(routeTO.getKey(), k -> new AtomicInteger()).incrementAndGet();
+                    String requestHost = exchange.getRequest().getHeaders().getFirst(HttpHeaders.HOST);
+                    return (host == null || (requestHost != null && requestHost.startsWith(host)))
+                            && (pathPrefix == null || exchange.getRequest().getPath().value().startsWith(pathPrefix));
+                }).build();
+    }
+
+    private static Optional<String> resolve(final RouteResolver resolver, final ServerWebExchange exchange) {
+        return resolver.resolve(exchange).block().map(Route::getId);
+    }
+
+    @Test
+    public void resolve() {
+        SRARouteTO pub = routeTO("public", 0,
+                predicate(null, SRARoutePredicateFactory.PATH, "/public/**"));
+        SRARouteTO host = routeTO("host", 1,
+                predicate(null, SRARoutePredicateFactory.HOST, "sra.example.org"),
+                predicate(SRARoutePredicateCond.AND, SRARoutePredicateFactory.PATH, "/app/**"));
+        SRARouteTO or = routeTO("or", 2,
+                predicate(null, SRARoutePredicateFactory.PATH, "/other/**"),
+                predicate(SRARoutePredicateCond.OR, SRARoutePredicateFactory.PATH, "/app/**"));
+        List<SRARouteTO> routeTOs = List.of(or, host, pub);
+
+        RouteResolver resolver = new RouteResolver();
+        List<Route> routes = resolver.index(
+                List.of(route(or, null, "/other"), route(host, "sra.example.org", "/app"), route(pub, null, "/public")),
+                routeTOs);
+        assertEquals(3, routes.size());
+
+        EVALUATIONS.clear();
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/public/index.html").header(HttpHeaders.HOST, "localhost"));
+        assertEquals(Optional.of("public"), resolve(resolver, exchange));
+        assertEquals(1, EVALUATIONS.get("public").get());
+        assertTrue(!EVALUATIONS.containsKey("host") && !EVALUATIONS.containsKey("or"));
+
+        // resolution is cached on the exchange, and used by the routes returned to the gateway
+        for (Route route : routes) {
+            assertEquals(route.getId().equals("public"), route.getPredicate().apply(exchange).block());
+        }
+        assertEquals(1, EVALUATIONS.get("public").get());
+
+        EVALUATIONS.clear();
+        exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/app/index.html").header(HttpHeaders.HOST, "sra.example.org:8443"));
+        assertEquals(Optional.of("host"), resolve(resolver, exchange));
+        assertTrue(!EVALUATIONS.containsKey("public") && !EVALUATIONS.containsKey("or"));
+
+        EVALUATIONS.clear();
+        exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/app").header(HttpHeaders.HOST, "localhost"));
+        assertEquals(Optional.empty(), resolve(resolver, exchange));
+        assertEquals(1, EVALUATIONS.get("or").get());
+        assertTrue(!EVALUATIONS.containsKey("public") && !EVALUATIONS.containsKey("host"));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.client.lib.SyncopeClient;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.lib.types.SRARouteType;
+import org.apache.syncope.common.rest.api.service.SRARouteService;
+import org.apache.syncope.sra.security.AbstractServerLogoutSuccessHandler;
+import org.apache.syncope.sra.security.PublicRouteMatcher;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+public class RoutesChangedTest {
+
+    private static class TestServerLogoutSuccessHandler extends AbstractServerLogoutSuccessHandler {
+
+        @Override
+        public Mono<Void> onLogoutSuccess(final WebFilterExchange exchange, final Authentication authentication) {
+            return Mono.empty();
+        }
+
+        URI postLogout(final WebFilterExchange exchange) {
+            return getPostLogout(exchange);
+        }
+    }
+
+    private static SRARouteTO routeTO(final String key, final int order) {
+        SRARouteTO routeTO = new SRARouteTO();
+        routeTO.setKey(key);
+        routeTO.setOrder(order);
+        routeTO.setTarget(URI.create("http://localhost"));
+        return routeTO;
+    }
+
+    private static MockServerWebExchange exchange(final String routeKey) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/").header(HttpHeaders.ACCEPT, MediaType.TEXT_HTML_VALUE));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR, routeKey);
+        return exchange;
+    }
+
+    private static RouteProvider routeProvider(final SRARouteTO... routeTOs) {
+        RouteProvider routeProvider = mock(RouteProvider.class);
+        when(routeProvider.getRouteTOs()).thenReturn(List.of(routeTOs));
+        return routeProvider;
+    }
+
+    @Test
+    public void delta() {
+        SRARouteService service = mock(SRARouteService.class);
+        SyncopeClient client = mock(SyncopeClient.class);
+        when(client.getService(SRARouteService.class)).thenReturn(service);
+
+        ConfigurableApplicationContext ctx = mock(ConfigurableApplicationContext.class);
+        RouteProvider routeProvider = new RouteProvider(mock(ServiceOps.class), ctx, "anonymous", "anonymous", false);
+        routeProvider.client = client;
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+
+        // 1. all routes are added
+        when(service.list()).thenReturn(List.of(routeTO("a", 0), routeTO("b", 1)));
+        List<Route> first = routeProvider.fetch();
+        assertEquals(List.of("a", "b"), first.stream().map(Route::getId).toList());
+
+        verify(ctx).publishEvent(events.capture());
+        assertEquals(Set.of("a", "b"), ((RoutesChangedEvent) events.getValue()).getRouteKeys());
+
+        // 2. nothing changed: same routes are returned, no event is published
+        when(service.list()).thenReturn(List.of(routeTO("a", 0), routeTO("b", 1)));
+        List<Route> second = routeProvider.fetch();
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(1), second.get(1));
+
+        verify(ctx, times(1)).publishEvent(any(ApplicationEvent.class));
+
+        // 3. a is changed, b is removed, c is added
+        when(service.list()).thenReturn(List.of(routeTO("a", 2), routeTO("c", 3)));
+        List<Route> third = routeProvider.fetch();
+        assertEquals(List.of("a", "c"), third.stream().map(Route::getId).toList());
+        assertNotSame(first.get(0), third.get(0));
+        assertEquals(2, third.get(0).getOrder());
+
+        verify(ctx, times(2)).publishEvent(events.capture());
+        assertEquals(Set.of("a", "b", "c"), ((RoutesChangedEvent) events.getValue()).getRouteKeys());
+        assertEquals(List.of("a", "c"), routeProvider.getRouteTOs().stream().map(SRARouteTO::getKey).toList());
+    }
+
+    @Test
+    public void webExceptionHandler() {
+        SRARouteTO routeTO = routeTO("webExceptionHandler", 0);
+        routeTO.setError(URI.create("http://localhost/error1"));
+        SyncopeSRAWebExceptionHandler handler = new SyncopeSRAWebExceptionHandler(
+                routeProvider(routeTO), new SRAProperties());
+
+        MockServerWebExchange exchange = exchange(routeTO.getKey());
+        handler.handle(exchange, new NotFoundException("not found")).block();
+        assertEquals(routeTO.getError(), exchange.getResponse().getHeaders().getLocation());
+
+        routeTO.setError(URI.create("http://localhost/error2"));
+
+        // other routes changed: cached value is still used
+        handler.onApplicationEvent(new RoutesChangedEvent(this, Set.of("other")));
+        exchange = exchange(routeTO.getKey());
+        handler.handle(exchange, new NotFoundException("not found")).block();
+        assertEquals(URI.create("http://localhost/error1"), exchange.getResponse().getHeaders().getLocation());
+
+        // the route changed: cached value is evicted
+        handler.onApplicationEvent(new RoutesChangedEvent(this, Set.of(routeTO.getKey())));
+        exchange = exchange(routeTO.getKey());
+        handler.handle(exchange, new NotFoundException("not found")).block();
+        assertEquals(routeTO.getError(), exchange.getResponse().getHeaders().getLocation());
+    }
+
+    @Test
+    public void routeMatcher() {
+        SRARouteTO routeTO = routeTO("routeMatcher", 0);
+        routeTO.setType(SRARouteType.PUBLIC);
+        Route route = Route.async().id(routeTO.getKey()).uri(routeTO.getTarget()).predicate(exchange -> true).build();
+
+        RouteResolver routeResolver = mock(RouteResolver.class);
+        when(routeResolver.isIndexed()).thenReturn(true);
+        when(routeResolver.resolve(any())).thenReturn(Mono.just(Optional.of(route)));
+
+        PublicRouteMatcher matcher = new PublicRouteMatcher();
+        ReflectionTestUtils.setField(matcher, "routeProvider", routeProvider(routeTO));
+        ReflectionTestUtils.setField(matcher, "routeResolver", routeResolver);
+
+        assertTrue(matcher.matches(exchange(routeTO.getKey())).block().isMatch());
+
+        routeTO.setType(SRARouteType.PROTECTED);
+
+        // other routes changed: cached value is still used
+        matcher.onApplicationEvent(new RoutesChangedEvent(this, Set.of("other")));
+        assertTrue(matcher.matches(exchange(routeTO.getKey())).block().isMatch());
+
+        // the route changed: cached value is evicted
+        matcher.onApplicationEvent(new RoutesChangedEvent(this, Set.of(routeTO.getKey())));
+        assertFalse(matcher.matches(exchange(routeTO.getKey())).block().isMatch());
+    }
+
+    @Test
+    public void logoutSuccessHandler() {
+        SRARouteTO routeTO = routeTO("logoutSuccessHandler", 0);
+        routeTO.setPostLogout(URI.create("http://localhost/logout1"));
+
+        TestServerLogoutSuccessHandler handler = new TestServerLogoutSuccessHandler();
+        ReflectionTestUtils.setField(handler, "routeProvider", routeProvider(routeTO));
+        ReflectionTestUtils.setField(handler, "props", new SRAProperties());
+
+        WebFilterChain chain = mock(WebFilterChain.class);
+        assertEquals(routeTO.getPostLogout(),
+                handler.postLogout(new WebFilterExchange(exchange(routeTO.getKey()), chain)));
+
+        routeTO.setPostLogout(URI.create("http://localhost/logout2"));
+
+        // other routes changed: cached value is still used
+        handler.onApplicationEvent(new RoutesChangedEvent(this, Set.of("other")));
+        assertEquals(URI.create("http://localhost/logout1"),
+                handler.postLogout(new WebFilterExchange(exchange(routeTO.getKey()), chain)));
+
+        // the route changed: cached value is evicted
+        handler.onApplicationEvent(new RoutesChangedEvent(this, Set.of(routeTO.getKey())));
+        assertEquals(routeTO.getPostLogout(),
+                handler.postLogout(new WebFilterExchange(exchange(routeTO.getKey()), chain)));
+    }
+}
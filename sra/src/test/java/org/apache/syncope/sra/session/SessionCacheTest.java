@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.session.MapSession;
+
+public class SessionCacheTest {
+
+    private static MapSession session(final String principal) {
+        MapSession session = new MapSession();
+        if (principal != null) {
+            session.setAttribute(
+                    WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                    new SecurityContextImpl(new TestingAuthenticationToken(principal, null)));
+        }
+        return session;
+    }
+
+    @Test
+    public void findWithoutCopy() {
+        SessionCache cache = new SessionCache("test", 10, Duration.ZERO, Duration.ZERO);
+
+        MapSession session = session(null);
+        cache.save(session);
+        assertSame(session, cache.find(session.getId()));
+        assertSame(session, cache.get(session.getId(), MapSession.class));
+
+        cache.evict(session.getId());
+        assertNull(cache.find(session.getId()));
+    }
+
+    @Test
+    public void principalIndex() {
+        SessionCache cache = new SessionCache("test", 10, Duration.ZERO, Duration.ZERO);
+
+        MapSession session1 = session("rossini");
+        MapSession session2 = session("rossini");
+        MapSession session3 = session(null);
+        cache.save(session1);
+        cache.save(session2);
+        cache.save(session3);
+        assertEquals(2, cache.findByPrincipal("rossini").size());
+
+        // principal appears in session after login
+        session3.setAttribute(
+                WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                new SecurityContextImpl(new TestingAuthenticationToken("bellini", null)));
+        cache.save(session3);
+        assertEquals(1, cache.findByPrincipal("bellini").size());
+
+        cache.remove(session1.getId());
+        assertEquals(1, cache.findByPrincipal("rossini").size());
+
+        cache.removeByPrincipal("rossini");
+        assertTrue(cache.findByPrincipal("rossini").isEmpty());
+        assertNull(cache.find(session2.getId()));
+        assertNotNull(cache.find(session3.getId()));
+    }
+
+    @Test
+    public void expire() {
+        SessionCache cache = new SessionCache("test", 10, Duration.ofMinutes(5), Duration.ZERO);
+
+        MapSession idle = session("rossini");
+        idle.setMaxInactiveInterval(Duration.ofMinutes(1));
+        idle.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(2)));
+        cache.save(idle);
+
+        MapSession old = session("rossini");
+        old.setCreationTime(Instant.now().minus(Duration.ofMinutes(10)));
+        cache.save(old);
+
+        MapSession active = session("rossini");
+        cache.save(active);
+
+        assertNull(cache.find(idle.getId()));
+        assertNull(cache.find(old.getId()));
+        assertNotNull(cache.find(active.getId()));
+
+        cache.save(idle);
+        cache.reap();
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.findByPrincipal("rossini").size());
+    }
+
+    @Test
+    public void evictLeastRecentlyAccessed() {
+        SessionCache cache = new SessionCache("test", 10, Duration.ZERO, Duration.ZERO);
+
+        Instant now = Instant.now();
+        MapSession oldest = session(null);
+        oldest.setLastAccessedTime(now.minusSeconds(60));
+        cache.save(oldest);
+        for (int i = 0; i < 10; i++) {
+            MapSession session = session(null);
+            session.setLastAccessedTime(now.minusSeconds(i));
+            cache.save(session);
+        }
+
+        assertTrue(cache.size() <= 10);
+        assertNull(cache.find(oldest.getId()));
+    }
+}
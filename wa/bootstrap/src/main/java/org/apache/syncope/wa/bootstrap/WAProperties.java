@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.wa.bootstrap;
 
+import java.io.Serializable;
 import org.apache.syncope.common.lib.SyncopeProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -26,8 +27,76 @@ public class WAProperties extends SyncopeProperties {
 
     private static final long serialVersionUID = 7925827623055998239L;
 
+    public static class Audit implements Serializable {
+
+        private static final long serialVersionUID = -3165407203372841452L;
+
+        /**
+         * Maximum number of audit records waiting to be sent to Core; when exceeded, records are written to the
+         * spool file, if configured, or discarded otherwise.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Number of audit records sent to Core per request; reaching this number of waiting records triggers
+         * sending.
+         */
+        private int batchSize = 100;
+
+        /**
+         * How often, in seconds, waiting audit records are sent to Core.
+         */
+        private long flushInterval = 5;
+
+        /**
+         * File where audit records are kept while Core is not available, to be sent once available again; not used
+         * if not set.
+         */
+        private String spoolFile;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(final long flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public String getSpoolFile() {
+            return spoolFile;
+        }
+
+        public void setSpoolFile(final String spoolFile) {
+            this.spoolFile = spoolFile;
+        }
+    }
+
     private int contextRefreshDelay = 15;
 
+    /**
+     * Minimum interval, in seconds, between two alignments with Core triggered by lookups of unknown application
+     * definitions; lookups for unknown definitions within such interval are answered from the local copy.
+     */
+    private long missSyncInterval = 10;
+
+    private final Audit audit = new Audit();
+
     public int getContextRefreshDelay() {
         return contextRefreshDelay;
     }
@@ -35,4 +104,16 @@ public class WAProperties extends SyncopeProperties {
     public void setContextRefreshDelay(final int contextRefreshDelay) {
         this.contextRefreshDelay = contextRefreshDelay;
     }
+
+    public long getMissSyncInterval() {
+        return missSyncInterval;
+    }
+
+    public void setMissSyncInterval(final long missSyncInterval) {
+        this.missSyncInterval = missSyncInterval;
+    }
+
+    public Audit getAudit() {
+        return audit;
+    }
 }
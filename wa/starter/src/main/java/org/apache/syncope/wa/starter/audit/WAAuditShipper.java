@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.wa.starter.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.jackson.SyncopeJsonMapper;
+import org.apache.syncope.common.lib.to.AuditEventTO;
+import org.apache.syncope.common.rest.api.service.AuditService;
+import org.apache.syncope.wa.bootstrap.WAProperties;
+import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Sends audit records to Core in batches, from a background thread: records are queued and sent either when the
+ * configured batch size is reached or periodically; while Core is not available, records are kept in a spool file
+ * to be sent later.
+ */
+public class WAAuditShipper implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WAAuditShipper.class);
+
+    private static final JsonMapper MAPPER = new SyncopeJsonMapper();
+
+    protected final WARestClient waRestClient;
+
+    protected final int batchSize;
+
+    protected final BlockingQueue<AuditEventTO> queue;
+
+    protected final Path spoolFile;
+
+    protected final Object spoolLock = new Object();
+
+    protected final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    protected final ScheduledExecutorService executor;
+
+    public WAAuditShipper(final WARestClient waRestClient, final WAProperties.Audit props) {
+        this.waRestClient = waRestClient;
+        this.batchSize = Math.max(1, props.getBatchSize());
+        this.queue = new LinkedBlockingQueue<>(Math.max(batchSize, props.getQueueCapacity()));
+        this.spoolFile = Optional.ofNullable(props.getSpoolFile()).
+                filter(StringUtils::isNotBlank).map(Path::of).orElse(null);
+
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("WAAuditShipper-", 0).factory());
+        if (props.getFlushInterval() > 0) {
+            executor.scheduleWithFixedDelay(
+                    this::flush, props.getFlushInterval(), props.getFlushInterval(), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Queues the given audit record for sending, without waiting for Core.
+     *
+     * @param auditEvent audit record
+     */
+    public void ship(final AuditEventTO auditEvent) {
+        if (!queue.offer(auditEvent)) {
+            LOG.debug("Audit queue is full, spooling record");
+            spool(List.of(auditEvent));
+        }
+
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+                LOG.debug("Audit shipper is shutting down, record will be sent on destroy");
+            }
+        }
+    }
+
+    protected void spool(final List<AuditEventTO> auditEvents) {
+        if (spoolFile == null) {
+            LOG.warn("No audit spool file configured, discarding {} audit records", auditEvents.size());
+            return;
+        }
+
+        List<String> lines = new ArrayList<>(auditEvents.size());
+        auditEvents.forEach(auditEvent -> {
+            try {
+                lines.add(MAPPER.writeValueAsString(auditEvent));
+            } catch (Exception e) {
+                LOG.error("Could not serialize audit record {}, discarding", auditEvent, e);
+            }
+        });
+
+        synchronized (spoolLock) {
+            try {
+                Files.write(spoolFile, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                LOG.error("Could not write to audit spool file {}, discarding {} audit records",
+                        spoolFile, lines.size(), e);
+            }
+        }
+    }
+
+    protected Path sendingFile() {
+        return spoolFile.resolveSibling(spoolFile.getFileName() + ".sending");
+    }
+
+    /**
+     * Puts the given audit records, followed by the lines still to be read from the given reader, back in the spool
+     * file.
+     *
+     * @param batch audit records not sent
+     * @param reader spooled audit records not yet read
+     * @throws IOException if spool file cannot be read or written
+     */
+    protected void respool(final List<AuditEventTO> batch, final BufferedReader reader) throws IOException {
+        spool(batch);
+
+        synchronized (spoolLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spoolFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends spooled audit records to Core, in batches: the spool file is moved aside and streamed, so that records
+     * spooled in the meantime are not affected and the spool is never loaded in memory as a whole; whatever cannot be
+     * sent is spooled again.
+     *
+     * @return whether Core was reachable
+     */
+    protected boolean unspool() {
+        if (spoolFile == null) {
+            return true;
+        }
+
+        Path sending = sendingFile();
+        synchronized (spoolLock) {
+            // a leftover sending file is found when WA stopped while unspooling: resume from there
+            if (!Files.exists(sending)) {
+                if (!Files.exists(spoolFile)) {
+                    return true;
+                }
+
+                try {
+                    Files.move(spoolFile, sending, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    LOG.error("Could not move audit spool file {} to {}", spoolFile, sending, e);
+                    return true;
+                }
+            }
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(sending, StandardCharsets.UTF_8)) {
+            List<AuditEventTO> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (StringUtils.isNotBlank(line)) {
+                    try {
+                        batch.add(MAPPER.readValue(line, AuditEventTO.class));
+                    } catch (Exception e) {
+                        LOG.error("Could not read spooled audit record {}, discarding", line, e);
+                    }
+                }
+
+                if (batch.size() >= batchSize) {
+                    if (!send(batch)) {
+                        respool(batch, reader);
+                        Files.delete(sending);
+                        return false;
+                    }
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!batch.isEmpty() && !send(batch)) {
+                spool(batch);
+                Files.delete(sending);
+                return false;
+            }
+
+            Files.delete(sending);
+        } catch (IOException e) {
+            LOG.error("Could not process audit spool file {}", sending, e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Sends the given audit records to Core.
+     *
+     * @param auditEvents audit records
+     * @return whether Core was reachable
+     */
+    protected boolean send(final List<AuditEventTO> auditEvents) {
+        try {
+            waRestClient.getService(AuditService.class).create(auditEvents);
+        } catch (SyncopeClientException e) {
+            LOG.error("Core rejected {} audit records, discarding", auditEvents.size(), e);
+        } catch (Exception e) {
+            LOG.warn("Could not send {} audit records to Core", auditEvents.size(), e);
+            return false;
+        }
+        return true;
+    }
+
+    protected boolean sendAll(final List<AuditEventTO> auditEvents) {
+        for (int i = 0; i < auditEvents.size(); i += batchSize) {
+            if (!send(auditEvents.subList(i, Math.min(i + batchSize, auditEvents.size())))) {
+                spool(auditEvents.subList(i, auditEvents.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sends spooled and queued audit records to Core; whatever cannot be sent is spooled.
+     */
+    public void flush() {
+        flushRequested.set(false);
+
+        if (!waRestClient.isReady()) {
+            LOG.debug("Syncope client is not yet ready to store audit records");
+            return;
+        }
+
+        if (!unspool()) {
+            return;
+        }
+
+        List<AuditEventTO> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!send(batch)) {
+                queue.drainTo(batch);
+                spool(batch);
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<AuditEventTO> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        if (!pending.isEmpty()) {
+            if (waRestClient.isReady()) {
+                sendAll(pending);
+            } else {
+                spool(pending);
+            }
+        }
+    }
+}
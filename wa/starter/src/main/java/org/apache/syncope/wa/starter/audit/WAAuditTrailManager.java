@@ -23,27 +23,20 @@ import java.util.Map;
 import org.apache.commons.lang3.Strings;
 import org.apache.syncope.common.lib.to.AuditEventTO;
 import org.apache.syncope.common.lib.types.OpEvent;
-import org.apache.syncope.common.rest.api.service.AuditService;
-import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
 import org.apereo.inspektr.audit.AuditActionContext;
 
 public class WAAuditTrailManager extends AbstractAuditTrailManager {
 
-    private final WARestClient waRestClient;
+    private final WAAuditShipper auditShipper;
 
-    public WAAuditTrailManager(final WARestClient restClient) {
-        super(true);
-        this.waRestClient = restClient;
+    public WAAuditTrailManager(final WAAuditShipper auditShipper) {
+        super(false);
+        this.auditShipper = auditShipper;
     }
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to store audit record");
-            return;
-        }
-
         LOG.debug("Saving audit record {}", audit);
         try {
             String output = MAPPER.writeValueAsString(Map.of(
@@ -66,7 +59,7 @@ public class WAAuditTrailManager extends AbstractAuditTrailManager {
                     audit.getActionPerformed(),
                     result);
             auditEvent.setOpEvent(opEvent);
-            waRestClient.getService(AuditService.class).create(auditEvent);
+            auditShipper.ship(auditEvent);
         } catch (Exception e) {
             LOG.error("During serialization", e);
         }
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
@@ -44,6 +45,7 @@ import org.apache.syncope.wa.bootstrap.mapping.AttrRepoPropertySourceMapper;
 import org.apache.syncope.wa.bootstrap.mapping.AuthModulePropertySourceMapper;
 import org.apache.syncope.wa.starter.actuate.SyncopeCoreHealthIndicator;
 import org.apache.syncope.wa.starter.actuate.SyncopeWAInfoContributor;
+import org.apache.syncope.wa.starter.audit.WAAuditShipper;
 import org.apache.syncope.wa.starter.audit.WAAuditTrailManager;
 import org.apache.syncope.wa.starter.consent.WAConsentRepository;
 import org.apache.syncope.wa.starter.events.WAEventRepository;
@@ -260,12 +262,14 @@ public class WAContext {
             final ConfigurableApplicationContext ctx,
             final WARestClient waRestClient,
             final RegisteredServiceMapper registeredServiceMapper,
+            final WAProperties waProperties,
             @Qualifier("serviceRegistryListeners")
             final ObjectProvider<List<ServiceRegistryListener>> serviceRegistryListeners) {
 
         WAServiceRegistry registry = new WAServiceRegistry(
                 waRestClient, registeredServiceMapper, ctx,
-                Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+                Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new),
+                TimeUnit.SECONDS.toMillis(waProperties.getMissSyncInterval()));
         return plan -> plan.registerServiceRegistry(registry);
     }
 
@@ -315,9 +319,15 @@ public class WAContext {
         return new WASamlIdPMetadataCacheRefresher(samlIdPMetadataCache);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public WAAuditShipper waAuditShipper(final WARestClient waRestClient, final WAProperties waProperties) {
+        return new WAAuditShipper(waRestClient, waProperties.getAudit());
+    }
+
     @Bean
-    public AuditTrailExecutionPlanConfigurer auditConfigurer(final WARestClient waRestClient) {
-        return plan -> plan.registerAuditTrailManager(new WAAuditTrailManager(waRestClient));
+    public AuditTrailExecutionPlanConfigurer auditConfigurer(final WAAuditShipper waAuditShipper) {
+        return plan -> plan.registerAuditTrailManager(new WAAuditTrailManager(waAuditShipper));
     }
 
     @ConditionalOnMissingBean
@@ -19,21 +19,33 @@
 package org.apache.syncope.wa.starter.services;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.common.lib.to.ClientAppTO;
+import org.apache.syncope.common.lib.to.OIDCRPClientAppTO;
+import org.apache.syncope.common.lib.to.SAML2SPClientAppTO;
 import org.apache.syncope.common.lib.types.ClientAppType;
+import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
 import org.apereo.cas.services.AbstractServiceRegistry;
-import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServiceRegistryListener;
-import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 
+/**
+ * Serves registered services from a local copy, indexed by key, id and name; the local copy is kept current by
+ * exchanging digests with Core, so that only client applications actually changed are transferred and mapped.
+ * As ids and names are only unique per client application type, they are indexed by type, and looked up following
+ * {@link ClientAppType} order.
+ */
 public class WAServiceRegistry extends AbstractServiceRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(WAServiceRegistry.class);
@@ -42,15 +54,46 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
 
     protected final RegisteredServiceMapper registeredServiceMapper;
 
+    protected final Map<String, String> digests = new ConcurrentHashMap<>();
+
+    protected final Map<String, RegisteredService> byKey = new ConcurrentHashMap<>();
+
+    protected final Map<ClientAppType, Map<Long, String>> byId = new EnumMap<>(ClientAppType.class);
+
+    protected final Map<ClientAppType, Map<String, String>> byName = new EnumMap<>(ClientAppType.class);
+
+    protected final long missSyncInterval;
+
+    protected volatile String version;
+
+    protected volatile long lastMissSync;
+
     public WAServiceRegistry(
             final WARestClient waRestClient,
             final RegisteredServiceMapper registeredServiceMapper,
             final ConfigurableApplicationContext applicationContext,
-            final Collection<ServiceRegistryListener> serviceRegistryListeners) {
+            final Collection<ServiceRegistryListener> serviceRegistryListeners,
+            final long missSyncInterval) {
 
         super(applicationContext, serviceRegistryListeners);
         this.waRestClient = waRestClient;
         this.registeredServiceMapper = registeredServiceMapper;
+        this.missSyncInterval = missSyncInterval;
+
+        for (ClientAppType type : ClientAppType.values()) {
+            byId.put(type, new ConcurrentHashMap<>());
+            byName.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    protected static ClientAppType getType(final ClientAppTO clientAppTO) {
+        if (clientAppTO instanceof OIDCRPClientAppTO) {
+            return ClientAppType.OIDCRP;
+        }
+        if (clientAppTO instanceof SAML2SPClientAppTO) {
+            return ClientAppType.SAML2SP;
+        }
+        return ClientAppType.CASSP;
     }
 
     @Override
@@ -68,83 +111,142 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
         throw new UnsupportedOperationException("Bulk deleting registered services from WA is not supported");
     }
 
-    @Override
-    public Collection<RegisteredService> load() {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return List.of();
-        }
+    protected void unindex(final String key) {
+        Optional.ofNullable(byKey.remove(key)).ifPresent(service -> {
+            byId.values().forEach(ids -> ids.remove(service.getId(), key));
+            Optional.ofNullable(service.getName()).
+                    ifPresent(name -> byName.values().forEach(names -> names.remove(name, key)));
+        });
+    }
+
+    protected void index(final WAClientApp clientApp) {
+        ClientAppTO clientAppTO = clientApp.getClientAppTO();
+        unindex(clientAppTO.getKey());
 
-        LOG.info("Loading application definitions");
-        return waRestClient.getService(WAClientAppService.class).list().stream().
-                map(registeredServiceMapper::toRegisteredService).
-                filter(Objects::nonNull).
-                toList();
+        RegisteredService service = registeredServiceMapper.toRegisteredService(clientApp);
+        if (service != null) {
+            ClientAppType type = getType(clientAppTO);
+            byKey.put(clientAppTO.getKey(), service);
+            byId.get(type).put(service.getId(), clientAppTO.getKey());
+            Optional.ofNullable(service.getName()).ifPresent(name -> byName.get(type).put(name, clientAppTO.getKey()));
+        }
     }
 
-    @Override
-    public RegisteredService findServiceById(final long id) {
+    /**
+     * Aligns the local copy with the client applications currently available on Core.
+     *
+     * @return whether alignment was performed
+     */
+    protected synchronized boolean sync() {
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
+            return false;
         }
 
-        LOG.info("Searching for application definition by id {}", id);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, null));
+        WAClientAppSync sync = waRestClient.getService(WAClientAppService.class).sync(version, Map.copyOf(digests));
+        if (sync.isUnchanged()) {
+            LOG.debug("Application definitions still at version {}", version);
+            return true;
+        }
+
+        sync.getRemoved().forEach(key -> {
+            unindex(key);
+            digests.remove(key);
+        });
+        sync.getChanged().forEach(this::index);
+
+        digests.keySet().retainAll(sync.getDigests().keySet());
+        digests.putAll(sync.getDigests());
+
+        if (!sync.getVersion().equals(version)) {
+            LOG.info("Application definitions aligned to version {}: {} changed, {} removed",
+                    sync.getVersion(), sync.getChanged().size(), sync.getRemoved().size());
+        }
+        version = sync.getVersion();
+        return true;
     }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
+    /**
+     * Aligns the local copy with Core following the lookup of an unknown application definition, unless another
+     * such alignment took place less than {@link #missSyncInterval} milliseconds ago: this prevents lookups for
+     * non-existing definitions from flooding Core with alignment requests.
+     *
+     * @return whether alignment was performed
+     */
+    protected boolean syncOnMiss() {
+        if (System.currentTimeMillis() - lastMissSync < missSyncInterval) {
+            return false;
         }
 
-        LOG.info("Searching for application definition by id {} and type {}", id, clazz);
-        if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP));
+        synchronized (this) {
+            if (System.currentTimeMillis() - lastMissSync < missSyncInterval) {
+                return false;
+            }
+
+            boolean synced = sync();
+            if (synced) {
+                lastMissSync = System.currentTimeMillis();
+            }
+            return synced;
         }
-        if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP));
+    }
+
+    protected <V, T extends RegisteredService> T lookup(
+            final Map<ClientAppType, Map<V, String>> index, final V value, final Class<T> clazz) {
+
+        for (ClientAppType type : ClientAppType.values()) {
+            RegisteredService service = Optional.ofNullable(index.get(type).get(value)).map(byKey::get).orElse(null);
+            if (clazz.isInstance(service)) {
+                return clazz.cast(service);
+            }
         }
-        return (T) registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.CASSP));
+        return null;
     }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
+    protected <V, T extends RegisteredService> T find(
+            final Map<ClientAppType, Map<V, String>> index, final V value, final Class<T> clazz) {
+
+        if (value == null) {
             return null;
         }
 
-        LOG.info("Searching for application definition by name {} and type {}", name, clazz);
-        if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP));
+        T service = lookup(index, value, clazz);
+        if (service == null && syncOnMiss()) {
+            service = lookup(index, value, clazz);
         }
-        if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP));
-        }
-        return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                getService(WAClientAppService.class).read(name, ClientAppType.CASSP));
+        return service;
     }
 
     @Override
-    public RegisteredService findServiceByExactServiceName(final String name) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
+    public Collection<RegisteredService> load() {
+        LOG.debug("Loading application definitions");
+        if (!sync()) {
+            return List.of();
         }
+        return List.copyOf(byKey.values());
+    }
+
+    @Override
+    public RegisteredService findServiceById(final long id) {
+        LOG.debug("Searching for application definition by id {}", id);
+        return find(byId, id, RegisteredService.class);
+    }
+
+    @Override
+    public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
+        LOG.debug("Searching for application definition by id {} and type {}", id, clazz);
+        return find(byId, id, clazz);
+    }
+
+    @Override
+    public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
+        LOG.debug("Searching for application definition by name {} and type {}", name, clazz);
+        return find(byName, name, clazz);
+    }
 
-        LOG.info("Searching for application definition by name {}", name);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(name, null));
+    @Override
+    public RegisteredService findServiceByExactServiceName(final String name) {
+        LOG.debug("Searching for application definition by name {}", name);
+        return find(byName, name, RegisteredService.class);
     }
 }
@@ -43,6 +43,7 @@ import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
 import org.apache.syncope.common.lib.wa.ImpersonationAccount;
 import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.common.rest.api.beans.AuditQuery;
 import org.apache.syncope.common.rest.api.service.AttrRepoService;
 import org.apache.syncope.common.rest.api.service.AuditService;
@@ -183,6 +184,22 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
             return CLIENT_APPS.stream().filter(app -> Objects.equals(name, app.getClientAppTO().getName())).
                     findFirst().orElseThrow(() -> new NotFoundException("ClientApp with name " + name));
         }
+
+        @Override
+        public WAClientAppSync sync(final String version, final Map<String, String> digests) {
+            WAClientAppSync sync = new WAClientAppSync();
+            CLIENT_APPS.forEach(app -> {
+                String digest = String.valueOf(System.identityHashCode(app));
+                sync.getDigests().put(app.getClientAppTO().getKey(), digest);
+                if (!digest.equals(digests.get(app.getClientAppTO().getKey()))) {
+                    sync.getChanged().add(app);
+                }
+            });
+            digests.keySet().stream().filter(key -> !sync.getDigests().containsKey(key)).
+                    forEach(sync.getRemoved()::add);
+            sync.setVersion(String.valueOf(sync.getDigests().hashCode()));
+            return sync;
+        }
     }
 
     protected static class StubWAConfigService implements WAConfigService {
@@ -348,6 +365,11 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
         public void create(final AuditEventTO auditEvent) {
             // nothing to do
         }
+
+        @Override
+        public void create(final List<AuditEventTO> auditEvents) {
+            // nothing to do
+        }
     }
 
     @Autowired
@@ -20,7 +20,16 @@ package org.apache.syncope.wa.starter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Collection;
 import java.util.List;
@@ -44,9 +53,12 @@ import org.apache.syncope.common.lib.types.OIDCResponseType;
 import org.apache.syncope.common.lib.types.OIDCSubjectType;
 import org.apache.syncope.common.lib.types.SAML2SPNameId;
 import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.lib.wa.WAClientAppSync;
 import org.apache.syncope.common.rest.api.service.AuthModuleService;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import org.apache.syncope.wa.starter.services.WAServiceRegistry;
 import org.apereo.cas.services.AnyAuthenticationHandlerRegisteredServiceAuthenticationPolicyCriteria;
 import org.apereo.cas.services.ChainingAttributeReleasePolicy;
 import org.apereo.cas.services.DenyAllAttributeReleasePolicy;
@@ -61,11 +73,13 @@ import org.apereo.cas.util.RandomUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ConfigurableApplicationContext;
 
 public class WAServiceRegistryTest extends AbstractTest {
 
     private static OIDCRPClientAppTO buildOIDCRP() {
         OIDCRPClientAppTO oidcrpTO = new OIDCRPClientAppTO();
+        oidcrpTO.setKey(getUUIDString());
         oidcrpTO.setName("ExampleRP_" + getUUIDString());
         oidcrpTO.setClientAppId(RandomUtils.nextLong());
         oidcrpTO.setDescription("Example OIDC RP application");
@@ -82,6 +96,7 @@ public class WAServiceRegistryTest extends AbstractTest {
 
     private static SAML2SPClientAppTO buildSAML2SP() {
         SAML2SPClientAppTO saml2spto = new SAML2SPClientAppTO();
+        saml2spto.setKey(getUUIDString());
         saml2spto.setName("ExampleSAML2SP_" + getUUIDString());
         saml2spto.setClientAppId(RandomUtils.nextLong());
         saml2spto.setDescription("Example SAML 2.0 service provider");
@@ -222,6 +237,12 @@ public class WAServiceRegistryTest extends AbstractTest {
 
         found = servicesManager.findServiceBy(clientAppId);
         assertTrue(found.getAttributeReleasePolicy() instanceof DenyAllAttributeReleasePolicy);
+
+        // 6. remove one client app from mocked Core
+        SyncopeCoreTestingServer.CLIENT_APPS.removeLast();
+
+        load = servicesManager.load();
+        assertEquals(initialServices + 2, load.size());
     }
 
     @Test
@@ -275,4 +296,103 @@ public class WAServiceRegistryTest extends AbstractTest {
 
         assertNotNull(service.getTicketGrantingTicketExpirationPolicy());
     }
+
+    @Test
+    public void missSync() {
+        WAClientAppSync sync = new WAClientAppSync();
+        sync.setVersion("v1");
+        WAClientAppSync unchanged = new WAClientAppSync();
+        unchanged.setVersion("v1");
+        unchanged.setUnchanged(true);
+
+        WAClientAppService service = mock(WAClientAppService.class);
+        when(service.sync(isNull(), any())).thenReturn(sync);
+        when(service.sync(eq("v1"), any())).thenReturn(unchanged);
+
+        WARestClient restClient = mock(WARestClient.class);
+        when(restClient.isReady()).thenReturn(true);
+        when(restClient.getService(WAClientAppService.class)).thenReturn(service);
+
+        WAServiceRegistry registry = new WAServiceRegistry(
+                restClient,
+                mock(RegisteredServiceMapper.class),
+                mock(ConfigurableApplicationContext.class),
+                List.of(),
+                60_000L);
+
+        // 1. load always aligns with Core
+        assertTrue(registry.load().isEmpty());
+        verify(service).sync(isNull(), any());
+
+        // 2. the first lookup for an unknown definition aligns, sending the current version
+        assertNull(registry.findServiceById(RandomUtils.nextLong()));
+        verify(service).sync(eq("v1"), any());
+
+        // 3. further lookups for unknown definitions within the interval do not reach Core
+        for (int i = 0; i < 10; i++) {
+            assertNull(registry.findServiceById(RandomUtils.nextLong()));
+            assertNull(registry.findServiceByExactServiceName(getUUIDString()));
+        }
+        verify(service, times(1)).sync(eq("v1"), any());
+
+        // 4. load is not subject to the interval, and unchanged versions leave the local copy as it is
+        assertTrue(registry.load().isEmpty());
+        verify(service, times(2)).sync(eq("v1"), any());
+    }
+
+    @Test
+    public void sameIdAcrossTypes() {
+        long clientAppId = RandomUtils.nextLong();
+        String name = "Shared_" + getUUIDString();
+
+        WAClientApp oidcApp = new WAClientApp();
+        oidcApp.setClientAppTO(buildOIDCRP());
+        oidcApp.getClientAppTO().setClientAppId(clientAppId);
+        oidcApp.getClientAppTO().setName(name);
+        OidcRegisteredService oidc = new OidcRegisteredService();
+        oidc.setId(clientAppId);
+        oidc.setName(name);
+
+        WAClientApp samlApp = new WAClientApp();
+        samlApp.setClientAppTO(buildSAML2SP());
+        samlApp.getClientAppTO().setClientAppId(clientAppId);
+        samlApp.getClientAppTO().setName(name);
+        SamlRegisteredService saml = new SamlRegisteredService();
+        saml.setId(clientAppId);
+        saml.setName(name);
+
+        RegisteredServiceMapper mapper = mock(RegisteredServiceMapper.class);
+        when(mapper.toRegisteredService(oidcApp)).thenReturn(oidc);
+        when(mapper.toRegisteredService(samlApp)).thenReturn(saml);
+
+        // SAML 2.0 SP first, so that the OIDC RP would overwrite it if indexed by id or name alone
+        WAClientAppSync sync = new WAClientAppSync();
+        sync.setVersion("v1");
+        sync.getChanged().addAll(List.of(samlApp, oidcApp));
+
+        WAClientAppService service = mock(WAClientAppService.class);
+        when(service.sync(any(), any())).thenReturn(sync);
+
+        WARestClient restClient = mock(WARestClient.class);
+        when(restClient.isReady()).thenReturn(true);
+        when(restClient.getService(WAClientAppService.class)).thenReturn(service);
+
+        WAServiceRegistry registry = new WAServiceRegistry(
+                restClient,
+                mapper,
+                mock(ConfigurableApplicationContext.class),
+                List.of(),
+                60_000L);
+        assertEquals(2, registry.load().size());
+
+        // untyped lookups follow ClientAppType order: SAML2SP, CASSP, OIDCRP
+        assertSame(saml, registry.findServiceById(clientAppId));
+        assertSame(saml, registry.findServiceByExactServiceName(name));
+
+        // typed lookups find each application
+        assertSame(saml, registry.findServiceById(clientAppId, SamlRegisteredService.class));
+        assertSame(oidc, registry.findServiceById(clientAppId, OidcRegisteredService.class));
+        assertSame(saml, registry.findServiceByExactServiceName(name, SamlRegisteredService.class));
+        assertSame(oidc, registry.findServiceByExactServiceName(name, OidcRegisteredService.class));
+    }
 }
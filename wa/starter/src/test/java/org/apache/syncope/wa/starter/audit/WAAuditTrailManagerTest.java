@@ -18,19 +18,33 @@
  */
 package org.apache.syncope.wa.starter.audit;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.ws.rs.ProcessingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.apache.syncope.common.lib.to.AuditEventTO;
 import org.apache.syncope.common.rest.api.service.AuditService;
+import org.apache.syncope.wa.bootstrap.WAProperties;
 import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.AbstractTest;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.common.web.ClientInfo;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
 public class WAAuditTrailManagerTest extends AbstractTest {
 
@@ -46,14 +60,97 @@ public class WAAuditTrailManagerTest extends AbstractTest {
         return waRestClient;
     }
 
-    @Test
-    public void saveAuditRecord() {
-        AuditActionContext audit = new AuditActionContext(
+    private static WAProperties.Audit getProps(final Path spoolFile) {
+        WAProperties.Audit props = new WAProperties.Audit();
+        props.setFlushInterval(0);
+        props.setSpoolFile(spoolFile == null ? null : spoolFile.toString());
+        return props;
+    }
+
+    private static AuditActionContext getAudit() {
+        return new AuditActionContext(
                 "principal", "resourceOperatedUpon", "actionPerformed", "applicationCode",
                 LocalDateTime.now(),
                 new ClientInfo("clientIpAddress", "serverIpAddress", "userAgent", null));
-        WAAuditTrailManager auditTrailManager = new WAAuditTrailManager(getWaRestClient());
-        auditTrailManager.saveAuditRecord(audit);
-        verify(AUDIT_SERVICE).create(any(AuditEventTO.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void saveAuditRecord() throws Exception {
+        WAAuditShipper auditShipper = new WAAuditShipper(getWaRestClient(), getProps(null));
+        WAAuditTrailManager auditTrailManager = new WAAuditTrailManager(auditShipper);
+        auditTrailManager.saveAuditRecord(getAudit());
+        auditTrailManager.saveAuditRecord(getAudit());
+
+        auditShipper.flush();
+
+        ArgumentCaptor<List<AuditEventTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(AUDIT_SERVICE).create(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals("principal", captor.getValue().getFirst().getWho());
+
+        auditShipper.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void spool(@TempDir final Path tempDir) throws Exception {
+        Path spoolFile = tempDir.resolve("wa-audit.spool");
+
+        WAAuditShipper auditShipper = new WAAuditShipper(getWaRestClient(), getProps(spoolFile));
+        WAAuditTrailManager auditTrailManager = new WAAuditTrailManager(auditShipper);
+
+        // 1. Core not available: audit records are spooled
+        doThrow(new ProcessingException("unavailable")).when(AUDIT_SERVICE).create(anyList());
+        auditTrailManager.saveAuditRecord(getAudit());
+        auditShipper.flush();
+        assertTrue(Files.exists(spoolFile));
+        assertEquals(1, Files.readAllLines(spoolFile).size());
+
+        // 2. Core available again: spooled audit records are sent first
+        reset(AUDIT_SERVICE);
+        auditTrailManager.saveAuditRecord(getAudit());
+        auditShipper.flush();
+        assertFalse(Files.exists(spoolFile));
+
+        ArgumentCaptor<List<AuditEventTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(AUDIT_SERVICE, times(2)).create(captor.capture());
+        assertEquals(2, captor.getAllValues().stream().mapToInt(List::size).sum());
+
+        auditShipper.destroy();
+    }
+
+    @Test
+    public void unspoolInBatches(@TempDir final Path tempDir) throws Exception {
+        Path spoolFile = tempDir.resolve("wa-audit.spool");
+
+        // 1. Core not available: 5 audit records are spooled
+        WAAuditShipper auditShipper = new WAAuditShipper(getWaRestClient(), getProps(spoolFile));
+        WAAuditTrailManager auditTrailManager = new WAAuditTrailManager(auditShipper);
+        doThrow(new ProcessingException("unavailable")).when(AUDIT_SERVICE).create(anyList());
+        for (int i = 0; i < 5; i++) {
+            auditTrailManager.saveAuditRecord(getAudit());
+        }
+        auditShipper.flush();
+        auditShipper.destroy();
+        assertEquals(5, Files.readAllLines(spoolFile).size());
+
+        // 2. Core accepts the first batch only: the records not sent are spooled again
+        WAProperties.Audit props = getProps(spoolFile);
+        props.setBatchSize(2);
+        auditShipper = new WAAuditShipper(getWaRestClient(), props);
+        doNothing().doThrow(new ProcessingException("unavailable")).when(AUDIT_SERVICE).create(anyList());
+        auditShipper.flush();
+        verify(AUDIT_SERVICE, times(2)).create(anyList());
+        assertEquals(3, Files.readAllLines(spoolFile).size());
+        assertFalse(Files.exists(tempDir.resolve("wa-audit.spool.sending")));
+
+        // 3. Core available again: all spooled audit records are sent
+        reset(AUDIT_SERVICE);
+        auditShipper.flush();
+        verify(AUDIT_SERVICE, times(2)).create(anyList());
+        assertFalse(Files.exists(spoolFile));
+
+        auditShipper.destroy();
     }
 }